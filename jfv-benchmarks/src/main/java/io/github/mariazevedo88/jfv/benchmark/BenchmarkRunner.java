@@ -0,0 +1,36 @@
+package io.github.mariazevedo88.jfv.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Main class of the benchmarks jar. It accepts the same arguments of the JMH command line and always adds
+ * the GC profiler, so every benchmark reports the throughput and the gc.alloc.rate.norm (bytes allocated per operation).
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public final class BenchmarkRunner {
+
+	private BenchmarkRunner() {}
+
+	/**
+	 * Method that runs the benchmarks
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param args JMH arguments, such as a regex of the benchmarks to run or -p payloadSize=200
+	 *
+	 * @throws RunnerException
+	 * @throws CommandLineOptionException
+	 */
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+		CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+		new Runner(new OptionsBuilder().parent(commandLineOptions).addProfiler(GCProfiler.class).build()).run();
+	}
+}
@@ -0,0 +1,69 @@
+package io.github.mariazevedo88.jfv.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.mariazevedo88.jfv.service.CompiledProjection;
+import io.github.mariazevedo88.jfv.service.CustomJSONValidatorFiltersService;
+
+/**
+ * Benchmarks of the removeJSONObjectsFromString() and filterJSONObjectsFromString() methods, with lists of
+ * attributes and with a compiled projection, with payloads from 200 B to 5 MB.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FiltersBenchmark {
+
+	private static final String[] ATTRIBUTES = {"pf", "totalDiscount", "localDate"};
+	private static final CompiledProjection PROJECTION = CompiledProjection.compile("pf.name", "totalDiscount", "products[*].link.id");
+
+	@Param({"200", "20000", "5000000"})
+	private int payloadSize;
+
+	private CustomJSONValidatorFiltersService validator;
+	private String payload;
+
+	@Setup
+	public void setUp() {
+		validator = new CustomJSONValidatorFiltersService();
+		payload = JsonPayloads.buildFilterPayload(payloadSize);
+	}
+
+	@Benchmark
+	public String removeJSONObjectsFromString() {
+		return validator.removeJSONObjectsFromString(payload, ATTRIBUTES);
+	}
+
+	@Benchmark
+	public String filterJSONObjectsFromString() {
+		return validator.filterJSONObjectsFromString(payload, ATTRIBUTES);
+	}
+
+	@Benchmark
+	public String removeWithProjection() {
+		return validator.removeJSONObjectsFromString(payload, PROJECTION);
+	}
+
+	@Benchmark
+	public String filterWithProjection() {
+		return validator.filterJSONObjectsFromString(payload, PROJECTION);
+	}
+}
@@ -0,0 +1,198 @@
+package io.github.mariazevedo88.jfv.benchmark;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.JsonElement;
+
+import io.github.mariazevedo88.jfv.benchmark.JsonPayloads.PayloadType;
+import io.github.mariazevedo88.jfv.model.LazyJson;
+import io.github.mariazevedo88.jfv.model.RepairOutcome;
+import io.github.mariazevedo88.jfv.model.RepairResult;
+import io.github.mariazevedo88.jfv.model.enumeration.RepairEngineEnum;
+import io.github.mariazevedo88.jfv.model.enumeration.RepairRuleEnum;
+import io.github.mariazevedo88.jfv.service.CustomJSONFormatterService;
+import io.github.mariazevedo88.jfv.service.MappedRepairCache;
+import io.github.mariazevedo88.jfv.service.RepairCache;
+import io.github.mariazevedo88.jfv.service.RepairOptions;
+import io.github.mariazevedo88.jfv.service.RepairPipeline;
+
+/**
+ * Benchmarks of the checkValidityAndFormatObject() method, of the repair() method with a projection of
+ * three paths, of the repairTo() method, that writes the repaired JSON to a writer without building a tree, and of
+ * the repairToBytes() method against the decode, repair and encode of the same UTF-8 bytes, and of two attributes read
+ * from the tree and on demand with the repairLazy() method, and of the failure of a truncated payload reported with an
+ * exception on the RepairResult and with the repairWithOutcome() method, with valid, lightly malformed and heavily
+ * malformed payloads from 200 B to 5 MB, on both repair engines.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormatterBenchmark {
+
+	private static final RepairOptions PROJECTION = RepairOptions.builder().paths("id", "status", "paymentMethods[*].value")
+			.muteLog(true).build();
+	private static final RepairOptions WITHOUT_PARENTHESES = RepairOptions.builder().muteLog(true).muteException(true)
+			.rules(RepairPipeline.builder().disable(RepairRuleEnum.LEFT_PARENTHESES.name(), RepairRuleEnum.RIGHT_PARENTHESES.name()).build())
+			.build();
+	//a copy of the default pipeline, so the plans of the shapes are not replayed
+	private static final RepairOptions WITHOUT_PLANS = RepairOptions.builder().muteLog(true).muteException(true)
+			.rules(RepairPipeline.builder().build()).build();
+
+	@Param({"VALID", "LIGHTLY_MALFORMED", "HEAVILY_MALFORMED"})
+	private PayloadType payloadType;
+
+	@Param({"200", "20000", "5000000"})
+	private int payloadSize;
+
+	@Param({"REGEX", "TOKENIZER"})
+	private RepairEngineEnum repairEngine;
+
+	private CustomJSONFormatterService formatter;
+	private CustomJSONFormatterService cachedFormatter;
+	private CustomJSONFormatterService mappedFormatter;
+	private MappedRepairCache mappedCache;
+	private Path mappedFile;
+	private String payload;
+	private byte[] payloadBytes;
+	private String truncatedPayload;
+
+	@Setup
+	public void setUp() throws IOException {
+		formatter = new CustomJSONFormatterService(repairEngine);
+		cachedFormatter = new CustomJSONFormatterService(repairEngine, new RepairCache(1024, 256_000_000));
+		payload = JsonPayloads.build(payloadType, payloadSize);
+
+		//the cache on the memory keeps nothing, so the results are always read from the file
+		mappedFile = Files.createTempFile("jfv-benchmark", ".cache");
+		Files.delete(mappedFile);
+		mappedCache = new MappedRepairCache(mappedFile, 1024, 64 << 20);
+		mappedFormatter = new CustomJSONFormatterService(repairEngine, new RepairCache(1, 1, mappedCache));
+		payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+		truncatedPayload = payload.substring(0, payload.length() - 1);
+	}
+
+	@Benchmark
+	public JsonElement checkValidityAndFormatObject() throws IOException {
+		return formatter.checkValidityAndFormatObject(payload, true, true);
+	}
+
+	@Benchmark
+	public JsonElement checkValidityAndFormatObjectCached() throws IOException {
+		return cachedFormatter.checkValidityAndFormatObject(payload, true, true);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		mappedCache.close();
+		Files.deleteIfExists(mappedFile);
+	}
+
+	@Benchmark
+	public JsonElement checkValidityAndFormatObjectMappedCache() throws IOException {
+		return mappedFormatter.checkValidityAndFormatObject(payload, true, true);
+	}
+
+	@Benchmark
+	public JsonElement checkValidityAndFormatObjectWithoutPlans() throws IOException {
+		return formatter.checkValidityAndFormatObject(payload, WITHOUT_PLANS);
+	}
+
+	@Benchmark
+	public JsonElement checkValidityAndFormatObjectWithoutParenthesesRules() throws IOException {
+		return formatter.checkValidityAndFormatObject(payload, WITHOUT_PARENTHESES);
+	}
+
+	@Benchmark
+	public RepairResult repairWithProjection() throws IOException {
+		return formatter.repair(payload, PROJECTION);
+	}
+
+	@Benchmark
+	public long repairTo() throws IOException {
+		CountingWriter out = new CountingWriter();
+		formatter.repairTo(new StringReader(payload), out);
+		return out.count;
+	}
+
+	@Benchmark
+	public byte[] repairBytesAsString() throws IOException {
+		String json = new String(payloadBytes, StandardCharsets.UTF_8);
+		return formatter.checkValidityAndFormatObject(json, true, true).toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public byte[] repairToBytes() {
+		return formatter.repairToBytes(payloadBytes, 0, payloadBytes.length);
+	}
+
+	@Benchmark
+	public String readTwoAttributesFromTree() throws IOException {
+		JsonElement json = formatter.checkValidityAndFormatObject(payload, true, true);
+		return json.getAsJsonObject().get("id").getAsString() + json.getAsJsonObject().get("status").getAsString();
+	}
+
+	@Benchmark
+	public String readTwoAttributesOnDemand() throws IOException {
+		LazyJson json = formatter.repairLazy(payload, true);
+		return json.get("id").getAsString() + json.get("status").getAsString();
+	}
+
+	@Benchmark
+	public RepairResult repairFailureWithException() throws IOException {
+		return formatter.repair(truncatedPayload, true);
+	}
+
+	@Benchmark
+	public RepairOutcome repairFailureWithOutcome() throws IOException {
+		return formatter.repairWithOutcome(truncatedPayload, true);
+	}
+
+	/**
+	 * Writer that only counts the chars written
+	 */
+	private static final class CountingWriter extends Writer {
+
+		private long count;
+
+		@Override
+		public void write(char[] buffer, int offset, int length) {
+			count += length;
+		}
+
+		@Override
+		public void write(String text) {
+			count += text.length();
+		}
+
+		@Override
+		public void flush() {}
+
+		@Override
+		public void close() {}
+	}
+}
@@ -0,0 +1,80 @@
+package io.github.mariazevedo88.jfv.benchmark;
+
+import java.io.IOException;
+
+import io.github.mariazevedo88.jfv.benchmark.JsonPayloads.PayloadType;
+import io.github.mariazevedo88.jfv.model.CustomJSON;
+import io.github.mariazevedo88.jfv.model.enumeration.RepairEngineEnum;
+import io.github.mariazevedo88.jfv.service.CustomJSONFormatterService;
+
+/**
+ * Measure of the heap retained by many repaired JSONs kept in memory, as the JsonElement of the CustomJSON and as a
+ * TapeJson. It isn't a JMH benchmark: the documents are kept on an array and the used heap is read after a GC.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar io.github.mariazevedo88.jfv.benchmark.HeapFootprint [documents] [payloadSize]
+ * </pre>
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public final class HeapFootprint {
+
+	private HeapFootprint() {}
+
+	/**
+	 * Method that prints the heap retained by the documents on both models
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param args number of documents (default 10000) and size of each payload in chars (default 2000)
+	 *
+	 * @throws IOException
+	 */
+	public static void main(String[] args) throws IOException {
+
+		int documents = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+		int payloadSize = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+
+		String payload = JsonPayloads.build(PayloadType.LIGHTLY_MALFORMED, payloadSize);
+		CustomJSONFormatterService formatter = new CustomJSONFormatterService(RepairEngineEnum.TOKENIZER);
+		CustomJSON customJson = formatter.getCustomJson();
+
+		long tree = retainedHeap(documents, i -> {
+			formatter.checkValidityAndFormatObject(payload, true, true);
+			return customJson.getValidJson();
+		});
+		long tape = retainedHeap(documents, i -> formatter.repairToTape(payload, true));
+
+		System.out.printf("%d documents of %d chars%n", documents, payload.length());
+		System.out.printf("CustomJSON.getValidJson(): %,d bytes (%,d per document)%n", tree, tree / documents);
+		System.out.printf("TapeJson:                  %,d bytes (%,d per document)%n", tape, tape / documents);
+		System.out.printf("Reduction:                 %.1fx%n", (double) tree / tape);
+	}
+
+	private static long retainedHeap(int documents, IOFunction repair) throws IOException {
+
+		Object[] kept = new Object[documents];
+		long before = usedHeap();
+		for (int i = 0; i < documents; i++) kept[i] = repair.apply(i);
+		long after = usedHeap();
+
+		if(kept[documents - 1] == null) throw new IllegalStateException("Document not repaired.");
+		return after - before;
+	}
+
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) System.gc();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	/**
+	 * Function of the index of the document to the repaired document, that may throw IOException
+	 */
+	@FunctionalInterface
+	private interface IOFunction {
+		Object apply(int index) throws IOException;
+	}
+}
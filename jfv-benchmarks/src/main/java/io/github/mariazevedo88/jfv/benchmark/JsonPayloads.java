@@ -0,0 +1,102 @@
+package io.github.mariazevedo88.jfv.benchmark;
+
+/**
+ * Class that builds the payloads of the benchmarks, repeating the patterns of the CustomJSONFormatterTest
+ * class until the payload has the requested size.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public final class JsonPayloads {
+
+	/**
+	 * Kinds of payload of the formatter benchmarks
+	 */
+	public enum PayloadType {
+
+		/**
+		 * Strict JSON, with quotes on keys and values
+		 */
+		VALID,
+
+		/**
+		 * Only the quotes on keys and values are missing
+		 */
+		LIGHTLY_MALFORMED,
+
+		/**
+		 * Values with commas, parentheses, hours, decimal commas and uppercase words followed by colon
+		 */
+		HEAVILY_MALFORMED;
+	}
+
+	private static final String HEADER = "{id:267107086801,productCode:02-671070868,purchaseDate:2018-07-15,"
+			+ "lastUpdateTimestamp:2018-07-26 18:09:22,status:APPROVED,paymentMethods:[";
+
+	private static final String LIGHT_ITEM = "{sequential:%d,id:CREDIT_CARD,value:1216.03,installments:10,"
+			+ "deliveryAddress:{street:Rua Wanderlin Vieira,number:216,neighborhood:Cachoeira,city:Conselheiro Lafaiete,state:MG}}";
+
+	private static final String HEAVY_ITEM = "{sequential:%d,id:VOUCHER,value:70,53,reference:Em frente a padaria ( a casa nao tem porteiro, "
+			+ "ou campainha) ligar avisando que chegou, Recebimento 7:15 as 17:00,additionalInfo:Apto 666 , Bloco 1 ,,"
+			+ "neighborhood:Jardim Imperador (Zona Leste),observation:procurar fulano TELE: 35 981149567 .,city:Lavras}";
+
+	private static final String VALID_ITEM = "{\"sequential\":\"%d\",\"id\":\"CREDIT_CARD\",\"value\":\"1216.03\",\"installments\":\"10\","
+			+ "\"deliveryAddress\":{\"street\":\"Rua Wanderlin Vieira\",\"number\":\"216\",\"neighborhood\":\"Cachoeira\","
+			+ "\"city\":\"Conselheiro Lafaiete\",\"state\":\"MG\"}}";
+
+	private static final String VALID_HEADER = "{\"id\":\"267107086801\",\"productCode\":\"02-671070868\",\"purchaseDate\":\"2018-07-15\","
+			+ "\"lastUpdateTimestamp\":\"2018-07-26 18:09:22\",\"status\":\"APPROVED\",\"paymentMethods\":[";
+
+	private static final String FILTER_HEADER = "{pf:{cpf:11122233385,name:MARIANA DE AZEVEDO SANTOS},localDate:2019-02-01,"
+			+ "totalAmount:326.98,totalFreight:79.99,totalDiscount:0,products:[";
+
+	private static final String FILTER_ITEM = "{link:{id:BLABLABLA-%d,rel:sku},quantity:1,price:246.99,freight:79.99,discount:0}";
+
+	private JsonPayloads() {}
+
+	/**
+	 * Method that builds a payload of the formatter benchmarks with at least the given size in chars (the smallest one has one item)
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param type
+	 * @param size
+	 * @return String
+	 */
+	public static String build(PayloadType type, int size) {
+		switch(type) {
+			case VALID:
+				return build(VALID_HEADER, VALID_ITEM, size);
+			case LIGHTLY_MALFORMED:
+				return build(HEADER, LIGHT_ITEM, size);
+			default:
+				return build(HEADER, HEAVY_ITEM, size);
+		}
+	}
+
+	/**
+	 * Method that builds a payload of the filter and remove benchmarks with at least the given size in chars (the smallest one has one item)
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param size
+	 * @return String
+	 */
+	public static String buildFilterPayload(int size) {
+		return build(FILTER_HEADER, FILTER_ITEM, size);
+	}
+
+	private static String build(String header, String item, int size) {
+
+		StringBuilder payload = new StringBuilder(size + item.length() * 2).append(header);
+		int sequential = 1;
+		do {
+			if(sequential > 1) payload.append(',');
+			payload.append(String.format(item, sequential++));
+		}while(payload.length() + 2 < size);
+
+		return payload.append("]}").toString();
+	}
+}
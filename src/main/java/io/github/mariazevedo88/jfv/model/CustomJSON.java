@@ -11,6 +11,8 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonSyntaxException;
 
+import io.github.mariazevedo88.jfv.model.util.StrictJsonScanner;
+
 /**
  * Class that represents a CustomJSON
  * 
@@ -47,7 +49,8 @@ public class CustomJSON {
 	}
 
 	/**
-	 * Method that verify in a object is a valid or invalid JSON
+	 * Method that verify in a object is a valid or invalid JSON. Strings are valid only when
+	 * they are a strict JSON object or JSON array.
 	 * 
 	 * @author Mariana Azevedo
 	 * @since 10/02/2019
@@ -74,6 +77,12 @@ public class CustomJSON {
 			this.validJson = (JsonArray) json;
 			return true;
 		}
+		
+		//Strings that are already strict JSON don't need to be repaired, only parsed
+		if(json instanceof CharSequence && StrictJsonScanner.isValidJson((CharSequence) json)) {
+			this.validJson = JsonParser.parseString(json.toString());
+			return true;
+		}
 			
 		if(!muteLog) {
 			logger.info("Invalid json: " + json.toString());
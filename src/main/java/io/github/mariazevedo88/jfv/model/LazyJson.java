@@ -0,0 +1,292 @@
+package io.github.mariazevedo88.jfv.model;
+
+import java.util.Arrays;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+
+import io.github.mariazevedo88.jfv.model.util.StrictJsonScanner;
+
+/**
+ * Class that represents a valid JSON object or array that is read on demand. Instead of a tree, it keeps the text
+ * of the JSON and an index with the offsets of the keys and values of its members, built with one scan of the
+ * text. Only the values that are accessed are parsed, and nested objects and arrays can also be read on demand,
+ * with an index of their own. The whole tree is built only by the {@link #asJsonElement()} method.
+ *
+ * A LazyJson is immutable and can be shared by many threads.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public final class LazyJson {
+
+	private static final int OBJECT_MEMBER_SIZE = 4;
+	private static final int ARRAY_MEMBER_SIZE = 2;
+
+	private final String json;
+	private final int start;
+	private final int end;
+	private final boolean array;
+	private final int[] members;
+	private final int size;
+	private volatile JsonElement tree;
+
+	private LazyJson(String json, int start) {
+		this.json = json;
+		this.start = start;
+		this.array = json.charAt(start) == '[';
+
+		int memberSize = array ? ARRAY_MEMBER_SIZE : OBJECT_MEMBER_SIZE;
+		int[] offsets = new int[memberSize * 8];
+		int count = 0;
+
+		int index = skipWhitespaces(json, start + 1);
+		while(json.charAt(index) != '}' && json.charAt(index) != ']') {
+			if(count + memberSize > offsets.length) offsets = Arrays.copyOf(offsets, offsets.length * 2);
+
+			if(!array) {
+				offsets[count++] = index + 1;
+				index = skipString(json, index);
+				offsets[count++] = index - 1;
+				index = skipWhitespaces(json, skipWhitespaces(json, index) + 1);
+			}
+
+			offsets[count++] = index;
+			index = skipValue(json, index);
+			offsets[count++] = index;
+
+			index = skipWhitespaces(json, index);
+			if(json.charAt(index) == ',') index = skipWhitespaces(json, index + 1);
+		}
+
+		this.end = index + 1;
+		this.members = offsets;
+		this.size = count / memberSize;
+	}
+
+	/**
+	 * Method that indexes a strict JSON object or JSON array, such as the repaired JSONs
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param json
+	 * @return LazyJson
+	 * @throws JsonSyntaxException if the text isn't a strict JSON object or JSON array
+	 */
+	public static LazyJson parse(CharSequence json) {
+
+		if(json == null) throw new NullPointerException("JSON is null.");
+		if(!StrictJsonScanner.isValidJson(json)) {
+			throw new JsonSyntaxException("Error: JSON with more invalid characters than commas and quotes on keys and values.");
+		}
+
+		String text = json.toString();
+		return new LazyJson(text, skipWhitespaces(text, 0));
+	}
+
+	public boolean isJsonObject() {
+		return !array;
+	}
+
+	public boolean isJsonArray() {
+		return array;
+	}
+
+	/**
+	 * Method that return the number of attributes of the object, counting the repeated keys, or elements of the array
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return int
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Method that verifies if the object has the given attribute
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param key
+	 * @return boolean
+	 */
+	public boolean has(String key) {
+		return indexOf(key) >= 0;
+	}
+
+	/**
+	 * Method that parses only the value of the given attribute of the object
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param key
+	 * @return JsonElement, or null if the object doesn't have the attribute
+	 */
+	public JsonElement get(String key) {
+		int member = indexOf(key);
+		return member < 0 ? null : parseValue(member * OBJECT_MEMBER_SIZE + 2);
+	}
+
+	/**
+	 * Method that returns the object or array of the given attribute, read on demand too
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param key
+	 * @return LazyJson, or null if the object doesn't have the attribute
+	 * @throws IllegalStateException if the value of the attribute isn't an object nor an array
+	 */
+	public LazyJson getLazy(String key) {
+		int member = indexOf(key);
+		return member < 0 ? null : lazyValue(member * OBJECT_MEMBER_SIZE + 2);
+	}
+
+	/**
+	 * Method that parses only the given element of the array
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param index
+	 * @return JsonElement
+	 * @throws IndexOutOfBoundsException if the index is out of the array
+	 */
+	public JsonElement get(int index) {
+		return parseValue(elementOffset(index));
+	}
+
+	/**
+	 * Method that returns the object or array of the given element of the array, read on demand too
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param index
+	 * @return LazyJson
+	 * @throws IllegalStateException if the element isn't an object nor an array
+	 */
+	public LazyJson getLazy(int index) {
+		return lazyValue(elementOffset(index));
+	}
+
+	/**
+	 * Method that builds the whole tree of the JSON, only once
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return JsonElement
+	 */
+	public JsonElement asJsonElement() {
+		JsonElement result = tree;
+		if(result == null) {
+			result = JsonParser.parseString(toString());
+			tree = result;
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return json.substring(start, end);
+	}
+
+	/**
+	 * Method that returns the index of the last member with the given key (as on the tree, where the last value of
+	 * a repeated key is kept), or -1
+	 */
+	private int indexOf(String key) {
+
+		if(key == null) throw new NullPointerException("Key is null.");
+		if(array) throw new IllegalStateException("JSON is an array, not an object.");
+
+		for (int member = size - 1; member >= 0; member--) {
+			int keyStart = members[member * OBJECT_MEMBER_SIZE];
+			int keyEnd = members[member * OBJECT_MEMBER_SIZE + 1];
+			if(isSameKey(key, keyStart, keyEnd)) return member;
+		}
+		return -1;
+	}
+
+	private boolean isSameKey(String key, int keyStart, int keyEnd) {
+
+		for (int i = keyStart; i < keyEnd; i++) {
+			//keys with escapes are decoded before the comparison
+			if(json.charAt(i) == '\\') return key.equals(JsonParser.parseString(json.substring(keyStart - 1, keyEnd + 1)).getAsString());
+		}
+		return key.length() == keyEnd - keyStart && json.startsWith(key, keyStart);
+	}
+
+	private int elementOffset(int index) {
+		if(!array) throw new IllegalStateException("JSON is an object, not an array.");
+		if(index < 0 || index >= size) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+		return index * ARRAY_MEMBER_SIZE;
+	}
+
+	private JsonElement parseValue(int offset) {
+		return JsonParser.parseString(json.substring(members[offset], members[offset + 1]));
+	}
+
+	private LazyJson lazyValue(int offset) {
+		char first = json.charAt(members[offset]);
+		if(first != '{' && first != '[') throw new IllegalStateException("Value is not a JSON object or JSON array.");
+		return new LazyJson(json, members[offset]);
+	}
+
+	/**
+	 * Method that returns the index after the value that starts on the given index
+	 */
+	private static int skipValue(String json, int index) {
+
+		char first = json.charAt(index);
+		if(first == '"') return skipString(json, index);
+		if(first != '{' && first != '[') {
+			while(index < json.length() && !isEndOfLiteral(json.charAt(index))) index++;
+			return index;
+		}
+
+		int depth = 0;
+		do {
+			char next = json.charAt(index);
+			if(next == '"') {
+				index = skipString(json, index);
+				continue;
+			}
+			if(next == '{' || next == '[') depth++;
+			else if(next == '}' || next == ']') depth--;
+			index++;
+		}while(depth > 0);
+
+		return index;
+	}
+
+	/**
+	 * Method that returns the index after the double quote that closes the string started on the given index
+	 */
+	private static int skipString(String json, int index) {
+		for (index++; json.charAt(index) != '"'; index++) {
+			if(json.charAt(index) == '\\') index++;
+		}
+		return index + 1;
+	}
+
+	private static int skipWhitespaces(String json, int index) {
+		while(index < json.length() && isWhitespace(json.charAt(index))) index++;
+		return index;
+	}
+
+	private static boolean isEndOfLiteral(char next) {
+		return next == ',' || next == '}' || next == ']' || isWhitespace(next);
+	}
+
+	private static boolean isWhitespace(char next) {
+		return next == ' ' || next == '\t' || next == '\n' || next == '\r';
+	}
+}
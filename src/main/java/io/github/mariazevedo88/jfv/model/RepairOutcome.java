@@ -0,0 +1,115 @@
+package io.github.mariazevedo88.jfv.model;
+
+import com.google.gson.JsonElement;
+
+import io.github.mariazevedo88.jfv.model.enumeration.RepairOutcomeEnum;
+
+/**
+ * Class that represents the immutable outcome of the validation and repair of a JSON, without exceptions: a failure
+ * is described by its code, the offset of the character where the repair stopped and a short reason.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public final class RepairOutcome {
+
+	private final RepairOutcomeEnum code;
+	private final JsonElement validJson;
+	private final int errorOffset;
+
+	/**
+	 * Constructor of an outcome
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param code outcome of the repair
+	 * @param validJson JSON element, or null if the JSON could not be repaired
+	 * @param errorOffset offset of the character where the repair failed, or -1
+	 */
+	public RepairOutcome(RepairOutcomeEnum code, JsonElement validJson, int errorOffset) {
+		this.code = code;
+		this.validJson = validJson;
+		this.errorOffset = errorOffset;
+	}
+
+	/**
+	 * Method that return the outcome code
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return code
+	 */
+	public RepairOutcomeEnum getCode() {
+		return code;
+	}
+
+	/**
+	 * Method that return the valid JSON element, or null if the JSON could not be repaired
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return validJson
+	 */
+	public JsonElement getValidJson() {
+		return validJson;
+	}
+
+	/**
+	 * Method that return the offset of the character (or of the byte, for UTF-8 input) where the repair failed,
+	 * or -1 if it didn't fail or if the failure was on the repaired JSON
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return errorOffset
+	 */
+	public int getErrorOffset() {
+		return errorOffset;
+	}
+
+	/**
+	 * Method that return the short reason of the failure, or null
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return String
+	 */
+	public String getReason() {
+		return code.getReason();
+	}
+
+	/**
+	 * Method that verifies if there is a valid JSON element on the outcome
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return boolean
+	 */
+	public boolean isValid() {
+		return code.isValid();
+	}
+
+	/**
+	 * Method that verifies if the JSON was formatted by the repair engine, false if it was already valid or
+	 * couldn't be repaired
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return boolean
+	 */
+	public boolean isRepaired() {
+		return code == RepairOutcomeEnum.REPAIRED;
+	}
+
+	@Override
+	public String toString() {
+		return "RepairOutcome [code=" + code + ", validJson=" + validJson + ", errorOffset=" + errorOffset + ", reason=" + getReason() + "]";
+	}
+
+}
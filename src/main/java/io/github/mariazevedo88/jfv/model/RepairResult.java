@@ -0,0 +1,101 @@
+package io.github.mariazevedo88.jfv.model;
+
+import com.google.gson.JsonElement;
+
+/**
+ * Class that represents the immutable result of the validation and repair of a JSON,
+ * returned by the stateless API of the formatter.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public final class RepairResult {
+
+	private final JsonElement validJson;
+	private final boolean repaired;
+	private final RuntimeException error;
+
+	/**
+	 * Constructor of a result
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param validJson JSON element, or null if the JSON could not be repaired
+	 * @param repaired true if the JSON was formatted by the repair engine
+	 * @param error exception that stopped the repair, if any
+	 */
+	public RepairResult(JsonElement validJson, boolean repaired, RuntimeException error) {
+		this.validJson = validJson;
+		this.repaired = repaired;
+		this.error = error;
+	}
+
+	/**
+	 * Method that return the valid JSON element. The element is shared with the caller,
+	 * not copied, so it should not be modified when the result is shared across threads.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return validJson
+	 */
+	public JsonElement getValidJson() {
+		return validJson;
+	}
+
+	/**
+	 * Method that verifies if there is a valid JSON element on the result
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return boolean
+	 */
+	public boolean isValid() {
+		return validJson != null;
+	}
+
+	/**
+	 * Method that verifies if the JSON was formatted by the repair engine,
+	 * false if it was already valid
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return boolean
+	 */
+	public boolean isRepaired() {
+		return repaired;
+	}
+
+	/**
+	 * Method that return the exception that stopped the repair of the JSON, or null
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return error
+	 */
+	public RuntimeException getError() {
+		return error;
+	}
+
+	/**
+	 * Method that return the message of the error, or null
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return String
+	 */
+	public String getErrorMessage() {
+		return error == null ? null : error.getMessage();
+	}
+
+	@Override
+	public String toString() {
+		return "RepairResult [validJson=" + validJson + ", repaired=" + repaired + ", error=" + getErrorMessage() + "]";
+	}
+
+}
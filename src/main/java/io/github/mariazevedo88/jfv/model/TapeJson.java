@@ -0,0 +1,682 @@
+package io.github.mariazevedo88.jfv.model;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonWriter;
+
+import io.github.mariazevedo88.jfv.model.util.StrictJsonScanner;
+
+/**
+ * Class that represents a valid JSON object or array as a compact tape, to keep many repaired JSONs in memory with
+ * a fraction of the heap of a JsonElement. Each node of the JSON is one long of the tape, in the order of the text,
+ * and the keys, strings and numbers are kept, without escapes, in one array of UTF-8 bytes:
+ *
+ * <ul>
+ * <li>objects and arrays: type, number of members and index of the tape after their last member;</li>
+ * <li>keys, strings and numbers: type, length and offset of their bytes;</li>
+ * <li>true, false and null: only the type.</li>
+ * </ul>
+ *
+ * The members of an object are a key followed by its value, so there is no map: the attributes are found by a scan
+ * of the members, like the elements of an array. The nested values are views of the same tape, and the strings and
+ * Gson elements are only created when they are read. A TapeJson is immutable and can be shared by many threads.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public final class TapeJson implements Iterable<TapeJson> {
+
+	private static final int OBJECT = 1;
+	private static final int ARRAY = 2;
+	private static final int KEY = 3;
+	private static final int STRING = 4;
+	private static final int NUMBER = 5;
+	private static final int TRUE = 6;
+	private static final int FALSE = 7;
+	private static final int NULL = 8;
+
+	private static final int TYPE_SHIFT = 60;
+	private static final int LENGTH_SHIFT = 32;
+	private static final int MAX_LENGTH = (1 << 28) - 1;
+	private static final long OFFSET_MASK = 0xFFFFFFFFL;
+
+	private final long[] tape;
+	private final byte[] arena;
+	private final int index;
+
+	private TapeJson(long[] tape, byte[] arena, int index) {
+		this.tape = tape;
+		this.arena = arena;
+		this.index = index;
+	}
+
+	/**
+	 * Method that builds the tape of a strict JSON object or JSON array, such as the repaired JSONs
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param json
+	 * @return TapeJson
+	 * @throws JsonSyntaxException if the text isn't a strict JSON object or JSON array
+	 */
+	public static TapeJson parse(CharSequence json) {
+
+		if(json == null) throw new NullPointerException("JSON is null.");
+		if(!StrictJsonScanner.isValidJson(json)) {
+			throw new JsonSyntaxException("Error: JSON with more invalid characters than commas and quotes on keys and values.");
+		}
+
+		return new TapeBuilder(json.toString()).build();
+	}
+
+	public boolean isJsonObject() {
+		return type(index) == OBJECT;
+	}
+
+	public boolean isJsonArray() {
+		return type(index) == ARRAY;
+	}
+
+	public boolean isJsonPrimitive() {
+		int type = type(index);
+		return type != OBJECT && type != ARRAY && type != NULL;
+	}
+
+	public boolean isJsonNull() {
+		return type(index) == NULL;
+	}
+
+	/**
+	 * Method that return the number of attributes of the object, counting the repeated keys, or elements of the array
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return int
+	 * @throws IllegalStateException if the JSON isn't an object nor an array
+	 */
+	public int size() {
+		checkContainer();
+		return length(index);
+	}
+
+	/**
+	 * Method that verifies if the object has the given attribute
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param key
+	 * @return boolean
+	 */
+	public boolean has(String key) {
+		return indexOf(key) >= 0;
+	}
+
+	/**
+	 * Method that returns the value of the given attribute of the object. As on the tree, the last value of a
+	 * repeated key is returned.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param key
+	 * @return TapeJson, or null if the object doesn't have the attribute
+	 */
+	public TapeJson get(String key) {
+		int value = indexOf(key);
+		return value < 0 ? null : new TapeJson(tape, arena, value);
+	}
+
+	/**
+	 * Method that returns the given element of the array. The elements before it are skipped one by one, so the
+	 * iterator is the way to read all the elements.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param index
+	 * @return TapeJson
+	 * @throws IndexOutOfBoundsException if the index is out of the array
+	 */
+	public TapeJson get(int index) {
+
+		if(type(this.index) != ARRAY) throw new IllegalStateException("JSON is not a JSON array.");
+		if(index < 0 || index >= size()) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size());
+
+		int element = this.index + 1;
+		for (int i = 0; i < index; i++) element = skip(element);
+		return new TapeJson(tape, arena, element);
+	}
+
+	/**
+	 * Method that returns the keys of the object, in the order of the JSON and with the repeated ones
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return List of keys
+	 */
+	public List<String> keys() {
+
+		if(type(index) != OBJECT) throw new IllegalStateException("JSON is not a JSON object.");
+
+		List<String> keys = new ArrayList<>(size());
+		for (int key = index + 1; key < skip(index); key = skip(key + 1)) keys.add(decode(key));
+		return keys;
+	}
+
+	/**
+	 * Method that iterates over the values of the object, in the same order of the keys, or over the elements of the array
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return Iterator of TapeJson
+	 */
+	@Override
+	public Iterator<TapeJson> iterator() {
+
+		checkContainer();
+		return new Iterator<TapeJson>() {
+
+			private final int end = skip(index);
+			private int next = index + 1;
+
+			@Override
+			public boolean hasNext() {
+				return next < end;
+			}
+
+			@Override
+			public TapeJson next() {
+				if(!hasNext()) throw new NoSuchElementException();
+
+				int value = type(next) == KEY ? next + 1 : next;
+				next = skip(value);
+				return new TapeJson(tape, arena, value);
+			}
+		};
+	}
+
+	/**
+	 * Method that returns the string, number or boolean as a string
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return String
+	 * @throws IllegalStateException if the JSON isn't a primitive
+	 */
+	public String getAsString() {
+		int type = type(index);
+		if(type == TRUE || type == FALSE) return String.valueOf(type == TRUE);
+		if(type != STRING && type != NUMBER) throw new IllegalStateException("JSON is not a JSON primitive.");
+		return decode(index);
+	}
+
+	/**
+	 * Method that returns the number, or the string as a number, as Gson does. The number keeps the text of the
+	 * JSON and is only parsed when one of its values is read.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return Number
+	 * @throws IllegalStateException if the JSON isn't a number nor a string
+	 */
+	public Number getAsNumber() {
+		int type = type(index);
+		if(type != STRING && type != NUMBER) throw new IllegalStateException("JSON is not a JSON number nor a JSON string.");
+		return new TapeNumber(decode(index));
+	}
+
+	/**
+	 * Method that returns the boolean, or the string as a boolean, as Gson does
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return boolean
+	 */
+	public boolean getAsBoolean() {
+		int type = type(index);
+		return type == TRUE || (type != FALSE && Boolean.parseBoolean(getAsString()));
+	}
+
+	public long getAsLong() {
+		return getAsNumber().longValue();
+	}
+
+	public double getAsDouble() {
+		return getAsNumber().doubleValue();
+	}
+
+	/**
+	 * Method that builds the Gson tree of the JSON
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return JsonElement
+	 */
+	public JsonElement asJsonElement() {
+
+		int end = skip(index);
+		JsonElement[] parents = new JsonElement[8];
+		int[] parentEnds = new int[8];
+		int depth = 0;
+		String key = null;
+		JsonElement root = null;
+
+		for (int i = index; i < end; i++) {
+			while(depth > 0 && parentEnds[depth - 1] == i) depth--;
+
+			int type = type(i);
+			if(type == KEY) {
+				key = decode(i);
+				continue;
+			}
+
+			JsonElement element = toJsonElement(i);
+			if(depth == 0) root = element;
+			else if(parents[depth - 1].isJsonObject()) parents[depth - 1].getAsJsonObject().add(key, element);
+			else parents[depth - 1].getAsJsonArray().add(element);
+
+			if(type == OBJECT || type == ARRAY) {
+				if(depth == parents.length) {
+					parents = Arrays.copyOf(parents, depth * 2);
+					parentEnds = Arrays.copyOf(parentEnds, depth * 2);
+				}
+				parents[depth] = element;
+				parentEnds[depth++] = skip(i);
+			}
+		}
+
+		return root;
+	}
+
+	/**
+	 * Method that writes the JSON as a compact strict JSON, as the toString() of the Gson tree (the repeated keys are
+	 * written as they are)
+	 */
+	@Override
+	public String toString() {
+
+		StringWriter out = new StringWriter();
+		JsonWriter writer = new JsonWriter(out);
+		writer.setLenient(true);
+
+		try {
+			int end = skip(index);
+			int[] parents = new int[8];
+			int depth = 0;
+
+			for (int i = index; i < end; i++) {
+				while(depth > 0 && skip(parents[depth - 1]) == i) endContainer(writer, parents[--depth]);
+
+				switch(type(i)) {
+				case OBJECT:
+				case ARRAY:
+					if(type(i) == OBJECT) writer.beginObject();
+					else writer.beginArray();
+					if(depth == parents.length) parents = Arrays.copyOf(parents, depth * 2);
+					parents[depth++] = i;
+					break;
+				case KEY:
+					writer.name(decode(i));
+					break;
+				case STRING:
+					writer.value(decode(i));
+					break;
+				case NUMBER:
+					writer.jsonValue(decode(i));
+					break;
+				case NULL:
+					writer.nullValue();
+					break;
+				default:
+					writer.value(type(i) == TRUE);
+				}
+			}
+			while(depth > 0) endContainer(writer, parents[--depth]);
+		}catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		return out.toString();
+	}
+
+	private void endContainer(JsonWriter writer, int container) throws IOException {
+		if(type(container) == OBJECT) writer.endObject();
+		else writer.endArray();
+	}
+
+	private JsonElement toJsonElement(int i) {
+		switch(type(i)) {
+		case OBJECT:
+			return new JsonObject();
+		case ARRAY:
+			return new JsonArray(length(i));
+		case STRING:
+			return new JsonPrimitive(decode(i));
+		case NUMBER:
+			return new JsonPrimitive(new TapeNumber(decode(i)));
+		case NULL:
+			return JsonNull.INSTANCE;
+		default:
+			return new JsonPrimitive(type(i) == TRUE);
+		}
+	}
+
+	/**
+	 * Method that returns the index of the tape of the value of the last member with the given key, or -1
+	 */
+	private int indexOf(String key) {
+
+		if(key == null) throw new NullPointerException("Key is null.");
+		if(type(index) != OBJECT) throw new IllegalStateException("JSON is not a JSON object.");
+
+		byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+		int value = -1;
+		for (int i = index + 1; i < skip(index); i = skip(i + 1)) {
+			if(isSameKey(bytes, i)) value = i + 1;
+		}
+		return value;
+	}
+
+	private boolean isSameKey(byte[] key, int i) {
+
+		if(key.length != length(i)) return false;
+
+		int offset = offset(i);
+		for (int j = 0; j < key.length; j++) {
+			if(arena[offset + j] != key[j]) return false;
+		}
+		return true;
+	}
+
+	private void checkContainer() {
+		if(type(index) != OBJECT && type(index) != ARRAY) throw new IllegalStateException("JSON is not a JSON object or JSON array.");
+	}
+
+	private String decode(int i) {
+		return new String(arena, offset(i), length(i), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Method that returns the index of the tape after the node of the given index and its members
+	 */
+	private int skip(int i) {
+		int type = type(i);
+		return type == OBJECT || type == ARRAY ? offset(i) : i + 1;
+	}
+
+	private int type(int i) {
+		return (int) (tape[i] >>> TYPE_SHIFT);
+	}
+
+	private int length(int i) {
+		return (int) (tape[i] >>> LENGTH_SHIFT) & MAX_LENGTH;
+	}
+
+	private int offset(int i) {
+		return (int) (tape[i] & OFFSET_MASK);
+	}
+
+	/**
+	 * Class that builds the tape of a strict JSON, in one scan of the text
+	 */
+	private static final class TapeBuilder {
+
+		private final String json;
+		private long[] tape;
+		private int count;
+		private byte[] arena;
+		private int arenaSize;
+
+		private TapeBuilder(String json) {
+			this.json = json;
+			this.tape = new long[Math.max(16, json.length() / 8)];
+			this.arena = new byte[Math.max(16, json.length() / 2)];
+		}
+
+		private TapeJson build() {
+
+			int[] parents = new int[8];
+			int depth = 0;
+			boolean expectKey = false;
+
+			for (int i = 0; i < json.length(); ) {
+				char next = json.charAt(i);
+				switch(next) {
+				case '{':
+				case '[':
+					addValue(parents, depth, (long) (next == '{' ? OBJECT : ARRAY) << TYPE_SHIFT);
+					if(depth == parents.length) parents = Arrays.copyOf(parents, depth * 2);
+					parents[depth++] = count - 1;
+					expectKey = next == '{';
+					i++;
+					break;
+				case '}':
+				case ']':
+					int parent = parents[--depth];
+					tape[parent] = pack(type(parent), length(parent), count);
+					expectKey = false;
+					i++;
+					break;
+				case ',':
+					expectKey = type(parents[depth - 1]) == OBJECT;
+					i++;
+					break;
+				case '"':
+					int start = arenaSize;
+					i = decodeString(i);
+					if(expectKey) {
+						addMember(parents[depth - 1]);
+						add(pack(KEY, arenaSize - start, start));
+						expectKey = false;
+					}else {
+						addValue(parents, depth, pack(STRING, arenaSize - start, start));
+					}
+					break;
+				case 't':
+				case 'f':
+				case 'n':
+					addValue(parents, depth, (long) (next == 't' ? TRUE : next == 'f' ? FALSE : NULL) << TYPE_SHIFT);
+					i += next == 'f' ? 5 : 4;
+					break;
+				default:
+					if(next == '-' || (next >= '0' && next <= '9')) {
+						int end = i;
+						while(end < json.length() && isNumberChar(json.charAt(end))) end++;
+						ensureArena(end - i);
+						for (int j = i; j < end; j++) arena[arenaSize++] = (byte) json.charAt(j);
+						addValue(parents, depth, pack(NUMBER, end - i, arenaSize - (end - i)));
+						i = end;
+					}else {
+						//blanks and colons
+						i++;
+					}
+				}
+			}
+
+			return new TapeJson(Arrays.copyOf(tape, count), Arrays.copyOf(arena, arenaSize), 0);
+		}
+
+		/**
+		 * Method that adds a value to the tape, counting it as an element of its parent if the parent is an array
+		 */
+		private void addValue(int[] parents, int depth, long node) {
+			if(depth > 0 && type(parents[depth - 1]) == ARRAY) addMember(parents[depth - 1]);
+			add(node);
+		}
+
+		private void addMember(int parent) {
+			tape[parent] = pack(type(parent), length(parent) + 1, 0);
+		}
+
+		private void add(long node) {
+			if(count == tape.length) tape = Arrays.copyOf(tape, count * 2);
+			tape[count++] = node;
+		}
+
+		/**
+		 * Method that copies the string that starts on the given index to the arena, without the escapes and encoded
+		 * in UTF-8, and returns the index after it
+		 */
+		private int decodeString(int i) {
+
+			char high = 0;
+			for (i++; json.charAt(i) != '"'; ) {
+				char next = json.charAt(i);
+				if(next == '\\') {
+					next = unescape(i);
+					i += json.charAt(i + 1) == 'u' ? 6 : 2;
+				}else {
+					i++;
+				}
+
+				if(high != 0) {
+					if(Character.isLowSurrogate(next)) {
+						writeCodePoint(Character.toCodePoint(high, next));
+						high = 0;
+						continue;
+					}
+					writeCodePoint('?');
+					high = 0;
+				}
+
+				if(Character.isHighSurrogate(next)) high = next;
+				else writeCodePoint(Character.isLowSurrogate(next) ? '?' : next);
+			}
+			if(high != 0) writeCodePoint('?');
+
+			return i + 1;
+		}
+
+		private char unescape(int i) {
+			char escaped = json.charAt(i + 1);
+			switch(escaped) {
+			case 'b':
+				return '\b';
+			case 'f':
+				return '\f';
+			case 'n':
+				return '\n';
+			case 'r':
+				return '\r';
+			case 't':
+				return '\t';
+			case 'u':
+				return (char) Integer.parseInt(json.substring(i + 2, i + 6), 16);
+			default:
+				return escaped;
+			}
+		}
+
+		private void writeCodePoint(int codePoint) {
+			ensureArena(4);
+			if(codePoint < 0x80) {
+				arena[arenaSize++] = (byte) codePoint;
+			}else if(codePoint < 0x800) {
+				arena[arenaSize++] = (byte) (0xC0 | (codePoint >> 6));
+				arena[arenaSize++] = (byte) (0x80 | (codePoint & 0x3F));
+			}else if(codePoint < 0x10000) {
+				arena[arenaSize++] = (byte) (0xE0 | (codePoint >> 12));
+				arena[arenaSize++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+				arena[arenaSize++] = (byte) (0x80 | (codePoint & 0x3F));
+			}else {
+				arena[arenaSize++] = (byte) (0xF0 | (codePoint >> 18));
+				arena[arenaSize++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+				arena[arenaSize++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+				arena[arenaSize++] = (byte) (0x80 | (codePoint & 0x3F));
+			}
+		}
+
+		private void ensureArena(int length) {
+			if(arenaSize + length > arena.length) arena = Arrays.copyOf(arena, Math.max(arena.length * 2, arenaSize + length));
+		}
+
+		private int type(int i) {
+			return (int) (tape[i] >>> TYPE_SHIFT);
+		}
+
+		private int length(int i) {
+			return (int) (tape[i] >>> LENGTH_SHIFT) & MAX_LENGTH;
+		}
+
+		private static boolean isNumberChar(char next) {
+			return (next >= '0' && next <= '9') || next == '-' || next == '+' || next == '.' || next == 'e' || next == 'E';
+		}
+
+		private static long pack(int type, int length, int offset) {
+			if(length > MAX_LENGTH) throw new IllegalArgumentException("JSON too large for a TapeJson: more than " + MAX_LENGTH
+					+ " members or bytes on a node.");
+			return ((long) type << TYPE_SHIFT) | ((long) length << LENGTH_SHIFT) | (offset & OFFSET_MASK);
+		}
+	}
+
+	/**
+	 * Class of the numbers of the tape, that keeps the text of the number and parses it on demand
+	 */
+	private static final class TapeNumber extends Number {
+
+		private static final long serialVersionUID = 1L;
+
+		private final String value;
+
+		private TapeNumber(String value) {
+			this.value = value;
+		}
+
+		@Override
+		public int intValue() {
+			try {
+				return Integer.parseInt(value);
+			}catch(NumberFormatException e) {
+				return (int) longValue();
+			}
+		}
+
+		@Override
+		public long longValue() {
+			try {
+				return Long.parseLong(value);
+			}catch(NumberFormatException e) {
+				return new BigDecimal(value).longValue();
+			}
+		}
+
+		@Override
+		public float floatValue() {
+			return Float.parseFloat(value);
+		}
+
+		@Override
+		public double doubleValue() {
+			return Double.parseDouble(value);
+		}
+
+		@Override
+		public String toString() {
+			return value;
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package io.github.mariazevedo88.jfv.model.enumeration;
+
+/**
+ * Enum that lists the engines available to repair an invalid JSON.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ *
+ */
+public enum RepairEngineEnum {
+
+	/**
+	 * Chain of regular expressions applied over the whole string (original engine).
+	 */
+	REGEX,
+
+	/**
+	 * Lenient tokenizer that reads the input once and writes the quoted JSON in the same pass.
+	 */
+	TOKENIZER;
+
+}
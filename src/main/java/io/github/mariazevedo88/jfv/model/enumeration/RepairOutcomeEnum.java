@@ -0,0 +1,110 @@
+package io.github.mariazevedo88.jfv.model.enumeration;
+
+/**
+ * Enum that lists the outcomes of the validation and repair of a JSON, with a short reason for the failures.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ *
+ */
+public enum RepairOutcomeEnum {
+
+	/**
+	 * The JSON was already a strict JSON, and was only parsed.
+	 */
+	VALID(null, false),
+
+	/**
+	 * The JSON was repaired and parsed.
+	 */
+	REPAIRED(null, false),
+
+	NULL_INPUT("Object to validated is null.", false),
+
+	EMPTY_INPUT("Empty input.", false),
+
+	INVALID_START("JSON must start with an object or an array.", false),
+
+	TRAILING_CHARACTERS("Unexpected characters after the end of the JSON.", false),
+
+	UNCLOSED_OBJECT("Object without right key.", false),
+
+	UNCLOSED_ARRAY("Array without right bracket.", false),
+
+	UNCLOSED_STRING("String without closing quotes.", false),
+
+	KEY_WITHOUT_VALUE("Key without value.", false),
+
+	MISSING_COMMA_IN_OBJECT("Expected comma or right key after the value.", false),
+
+	MISSING_COMMA_IN_ARRAY("Expected comma or right bracket after the element.", false),
+
+	/**
+	 * The repaired JSON couldn't be parsed as a JSON object or JSON array.
+	 */
+	INVALID_OUTPUT("JSON with more invalid characters than commas and quotes on keys and values.", false),
+
+	/**
+	 * The JSON is larger than the maximum input length of the options.
+	 */
+	INPUT_TOO_LARGE("Input larger than the maximum length.", true),
+
+	/**
+	 * The objects and arrays are nested deeper than the maximum depth of the options.
+	 */
+	TOO_DEEP("Nesting deeper than the maximum depth.", true),
+
+	/**
+	 * The repair took more iterations than the maximum of the options.
+	 */
+	TOO_MANY_ITERATIONS("Repair took more iterations than the maximum.", true),
+
+	/**
+	 * The repair didn't finish before the timeout of the options.
+	 */
+	DEADLINE_EXCEEDED("Repair didn't finish before the deadline.", true);
+
+	private final String reason;
+	private final boolean limitExceeded;
+
+	RepairOutcomeEnum(String reason, boolean limitExceeded) {
+		this.reason = reason;
+		this.limitExceeded = limitExceeded;
+	}
+
+	/**
+	 * Method that return the short reason of the failure, or null if the JSON is valid
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return String
+	 */
+	public String getReason() {
+		return reason;
+	}
+
+	/**
+	 * Method that verifies if the outcome has a valid JSON
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return boolean
+	 */
+	public boolean isValid() {
+		return reason == null;
+	}
+
+	/**
+	 * Method that verifies if the repair gave up because of one of the limits of the options
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return boolean
+	 */
+	public boolean isLimitExceeded() {
+		return limitExceeded;
+	}
+}
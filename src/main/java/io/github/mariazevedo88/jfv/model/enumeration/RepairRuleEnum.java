@@ -0,0 +1,84 @@
+package io.github.mariazevedo88.jfv.model.enumeration;
+
+/**
+ * Enum that lists the default rules of the regex engine, applied in this order before the main regex. Each rule
+ * is a regular expression and its replacement.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ *
+ */
+public enum RepairRuleEnum {
+
+	/**
+	 * Correcting double commas with space
+	 */
+	DOUBLE_COMMAS_WITH_SPACE("\\s+,,", ","),
+
+	/**
+	 * Correcting decimal numbers with comma
+	 */
+	DECIMAL_WITH_COMMA("(\\d+)\\,(\\d+)", "$1.$2"),
+
+	/**
+	 * Correcting hours in the HH:mm:SS format
+	 */
+	HOURS_WITH_SECONDS("(\\d+)\\:(\\d+)\\:(\\d+)", "$1;;$2;;$3"),
+
+	/**
+	 * Correcting hours in the HH:mm format
+	 */
+	HOURS("(\\d+)\\:(\\d+)", "$1;;$2"),
+
+	/**
+	 * Correcting left parentheses wrongly placed
+	 */
+	LEFT_PARENTHESES("(\\()", ";"),
+
+	/**
+	 * Correcting right parentheses wrongly placed
+	 */
+	RIGHT_PARENTHESES("(\\))", ";"),
+
+	/**
+	 * Removing colon wrongly placed
+	 */
+	UPPERCASE_COLON("[A-Z]+:", ""),
+
+	/**
+	 * Key with empty value followed by a comma
+	 */
+	EMPTY_VALUE("(:,)", ":'',"),
+
+	/**
+	 * Key with empty value at the end of the object
+	 */
+	EMPTY_LAST_VALUE("(:})", ": ''}"),
+
+	/**
+	 * Empty field between two commas
+	 */
+	DOUBLE_COMMAS("(,,)", "'',"),
+
+	/**
+	 * Comma at the end of the object
+	 */
+	TRAILING_COMMA("(,})", "}");
+
+	private final String regex;
+	private final String replacement;
+
+	RepairRuleEnum(String regex, String replacement) {
+		this.regex = regex;
+		this.replacement = replacement;
+	}
+
+	public String getRegex() {
+		return regex;
+	}
+
+	public String getReplacement() {
+		return replacement;
+	}
+
+}
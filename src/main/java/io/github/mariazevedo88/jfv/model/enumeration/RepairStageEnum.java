@@ -0,0 +1,42 @@
+package io.github.mariazevedo88.jfv.model.enumeration;
+
+/**
+ * Enum that lists the stages of the repair of an invalid JSON that are timed by the metrics of the service.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ *
+ */
+public enum RepairStageEnum {
+
+	/**
+	 * Pipeline of rules of the regex engine, that fixes the malformed and empty fields.
+	 */
+	RULES,
+
+	/**
+	 * Main regex of the regex engine, that quotes the keys and values, and the fix of single quotes.
+	 */
+	MAIN_REGEX,
+
+	/**
+	 * Loop that fixes the fields with commas wrongly modified by the main regex, and the control delimiters.
+	 */
+	COMMA_FIX,
+
+	/**
+	 * Lenient tokenizer of the tokenizer engine.
+	 */
+	TOKENIZER,
+
+	/**
+	 * Replay of the plan of the shape of a JSON, instead of the regex engine.
+	 */
+	PLAN_REPLAY,
+
+	/**
+	 * Gson parse of the repaired JSON.
+	 */
+	PARSE;
+
+}
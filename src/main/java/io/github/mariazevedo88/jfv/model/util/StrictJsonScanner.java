@@ -0,0 +1,251 @@
+package io.github.mariazevedo88.jfv.model.util;
+
+/**
+ * Class with a strict (RFC 8259) scanner of JSON texts, that reads the characters only once
+ * and doesn't allocate objects. It is used by the model classes and by the validator service
+ * to check if a JSON can be parsed without repair.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public final class StrictJsonScanner {
+
+	/**
+	 * Maximum nesting of objects and arrays checked by the validator. Deeper texts are
+	 * considered invalid, so they follow the repair path.
+	 */
+	public static final int MAX_DEPTH = 512;
+
+	private static final int INVALID = -1;
+
+	private StrictJsonScanner() {}
+
+	/**
+	 * Method that verifies if a char sequence is a strict JSON object or JSON array,
+	 * with only whitespaces before and after it.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param json
+	 * @return boolean
+	 */
+	public static boolean isValidJson(CharSequence json) {
+		if(json == null) return false;
+		return isValidJson(json, null, 0, json.length());
+	}
+
+	/**
+	 * Method that verifies if a range of a char array is a strict JSON object or JSON array.
+	 * The array is read in place, without being copied or wrapped.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param json
+	 * @param offset
+	 * @param length
+	 * @return boolean
+	 */
+	public static boolean isValidJson(char[] json, int offset, int length) {
+		if(json == null) return false;
+		if(offset < 0 || length < 0 || offset > json.length - length) {
+			throw new IndexOutOfBoundsException("Invalid range: offset " + offset + ", length " + length);
+		}
+		return isValidJson(null, json, offset, offset + length);
+	}
+
+	private static boolean isValidJson(CharSequence text, char[] chars, int start, int end) {
+
+		int index = skipWhitespaces(text, chars, start, end);
+		if(index == end) return false;
+
+		char next = charAt(text, chars, index);
+		if(next == '{') {
+			index = readObject(text, chars, index, end, 1);
+		}else if(next == '[') {
+			index = readArray(text, chars, index, end, 1);
+		}else {
+			return false;
+		}
+
+		return index != INVALID && skipWhitespaces(text, chars, index, end) == end;
+	}
+
+	private static int readObject(CharSequence text, char[] chars, int index, int end, int depth) {
+
+		if(depth > MAX_DEPTH) return INVALID;
+
+		index = skipWhitespaces(text, chars, index + 1, end);
+		if(index < end && charAt(text, chars, index) == '}') return index + 1;
+
+		while(index < end) {
+			if(charAt(text, chars, index) != '"') return INVALID;
+
+			index = readString(text, chars, index, end);
+			if(index == INVALID) return INVALID;
+
+			index = skipWhitespaces(text, chars, index, end);
+			if(index == end || charAt(text, chars, index) != ':') return INVALID;
+
+			index = readValue(text, chars, index + 1, end, depth);
+			if(index == INVALID || index == end) return INVALID;
+
+			char next = charAt(text, chars, index);
+			if(next == '}') return index + 1;
+			if(next != ',') return INVALID;
+
+			index = skipWhitespaces(text, chars, index + 1, end);
+		}
+
+		return INVALID;
+	}
+
+	private static int readArray(CharSequence text, char[] chars, int index, int end, int depth) {
+
+		if(depth > MAX_DEPTH) return INVALID;
+
+		index = skipWhitespaces(text, chars, index + 1, end);
+		if(index < end && charAt(text, chars, index) == ']') return index + 1;
+
+		while(index < end) {
+			index = readValue(text, chars, index, end, depth);
+			if(index == INVALID || index == end) return INVALID;
+
+			char next = charAt(text, chars, index);
+			if(next == ']') return index + 1;
+			if(next != ',') return INVALID;
+
+			index++;
+		}
+
+		return INVALID;
+	}
+
+	/**
+	 * Method that reads a value with the whitespaces around it, returning the index after them.
+	 */
+	private static int readValue(CharSequence text, char[] chars, int index, int end, int depth) {
+
+		index = skipWhitespaces(text, chars, index, end);
+		if(index == end) return INVALID;
+
+		char next = charAt(text, chars, index);
+		switch(next) {
+			case '{':
+				index = readObject(text, chars, index, end, depth + 1);
+				break;
+			case '[':
+				index = readArray(text, chars, index, end, depth + 1);
+				break;
+			case '"':
+				index = readString(text, chars, index, end);
+				break;
+			case 't':
+				index = readWord(text, chars, index, end, "true");
+				break;
+			case 'f':
+				index = readWord(text, chars, index, end, "false");
+				break;
+			case 'n':
+				index = readWord(text, chars, index, end, "null");
+				break;
+			default:
+				index = readNumber(text, chars, index, end);
+		}
+
+		return index == INVALID ? INVALID : skipWhitespaces(text, chars, index, end);
+	}
+
+	private static int readString(CharSequence text, char[] chars, int index, int end) {
+
+		index++;
+		while(index < end) {
+			char next = charAt(text, chars, index++);
+			if(next == '"') return index;
+			if(next < ' ') return INVALID;
+
+			if(next == '\\') {
+				if(index == end) return INVALID;
+
+				char escaped = charAt(text, chars, index++);
+				if(escaped == 'u') {
+					if(end - index < 4) return INVALID;
+					for(int limit = index + 4; index < limit; index++) {
+						if(Character.digit(charAt(text, chars, index), 16) < 0) return INVALID;
+					}
+				}else if("\"\\/bfnrt".indexOf(escaped) < 0) {
+					return INVALID;
+				}
+			}
+		}
+
+		return INVALID;
+	}
+
+	private static int readWord(CharSequence text, char[] chars, int index, int end, String word) {
+
+		if(end - index < word.length()) return INVALID;
+		for(int i = 0; i < word.length(); i++) {
+			if(charAt(text, chars, index + i) != word.charAt(i)) return INVALID;
+		}
+
+		return index + word.length();
+	}
+
+	private static int readNumber(CharSequence text, char[] chars, int index, int end) {
+
+		if(charAt(text, chars, index) == '-') index++;
+
+		if(index < end && charAt(text, chars, index) == '0') {
+			index++;
+		}else {
+			index = readDigits(text, chars, index, end);
+			if(index == INVALID) return INVALID;
+		}
+
+		if(index < end && charAt(text, chars, index) == '.') {
+			index = readDigits(text, chars, index + 1, end);
+			if(index == INVALID) return INVALID;
+		}
+
+		if(index < end && (charAt(text, chars, index) == 'e' || charAt(text, chars, index) == 'E')) {
+			index++;
+			if(index < end && (charAt(text, chars, index) == '+' || charAt(text, chars, index) == '-')) index++;
+			index = readDigits(text, chars, index, end);
+		}
+
+		return index;
+	}
+
+	/**
+	 * Method that reads one or more digits, returning the index after them.
+	 */
+	private static int readDigits(CharSequence text, char[] chars, int index, int end) {
+
+		int start = index;
+		while(index < end && isDigit(charAt(text, chars, index))) index++;
+
+		return index == start ? INVALID : index;
+	}
+
+	private static int skipWhitespaces(CharSequence text, char[] chars, int index, int end) {
+		while(index < end && isWhitespace(charAt(text, chars, index))) index++;
+		return index;
+	}
+
+	/**
+	 * Method that returns a char of the array, when there is one, or of the char sequence
+	 */
+	private static char charAt(CharSequence text, char[] chars, int index) {
+		return chars != null ? chars[index] : text.charAt(index);
+	}
+
+	private static boolean isDigit(char next) {
+		return next >= '0' && next <= '9';
+	}
+
+	private static boolean isWhitespace(char next) {
+		return next == ' ' || next == '\t' || next == '\n' || next == '\r';
+	}
+}
@@ -0,0 +1,198 @@
+package io.github.mariazevedo88.jfv.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class with a projection of a JSON compiled from paths such as {@code person.name} or {@code payment[*].value}.
+ * The paths become a tree of attributes that is matched against the depth of each attribute of the string,
+ * so {@code payment[*].id} doesn't match the {@code id} of the root object. A projection is immutable and can be
+ * compiled once and shared by many threads, with the methods filterJSONObjectsFromString() and
+ * removeJSONObjectsFromString() of the class CustomJSONValidatorFiltersService.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public final class CompiledProjection {
+
+	private static final String ALL_ELEMENTS = "[*]";
+
+	private final List<String> paths;
+	private final Node root;
+	private final Node utf8Root;
+
+	private CompiledProjection(List<String> paths, Node root, Node utf8Root) {
+		this.paths = paths;
+		this.root = root;
+		this.utf8Root = utf8Root;
+	}
+
+	/**
+	 * Method that compiles a list of paths. Each path has attributes separated by dots, and each attribute
+	 * can be followed by [*] to select all the elements of an array (a path can also start with [*], when the
+	 * JSON is an array).
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param paths
+	 * @return CompiledProjection
+	 */
+	public static CompiledProjection compile(String... paths) {
+
+		if(paths == null) throw new NullPointerException("List of paths is null.");
+
+		Builder root = new Builder();
+		Builder utf8Root = new Builder();
+		boolean ascii = true;
+		for (String path : paths) {
+			if(path == null) throw new NullPointerException("Path is null.");
+			root.add(path);
+
+			//the UTF-8 bytes are read as chars, one char per byte
+			String utf8Path = new String(path.getBytes(StandardCharsets.UTF_8), StandardCharsets.ISO_8859_1);
+			utf8Root.add(utf8Path);
+			ascii &= utf8Path.equals(path);
+		}
+
+		Node compiled = root.build();
+		return new CompiledProjection(Collections.unmodifiableList(new ArrayList<>(Arrays.asList(paths))), compiled,
+				ascii ? compiled : utf8Root.build());
+	}
+
+	public List<String> getPaths() {
+		return paths;
+	}
+
+	Node getRoot() {
+		return root;
+	}
+
+	/**
+	 * Method that returns the tree of attributes to match against UTF-8 bytes that are read as chars
+	 */
+	Node getUtf8Root() {
+		return utf8Root;
+	}
+
+	@Override
+	public String toString() {
+		return "CompiledProjection [paths=" + paths + "]";
+	}
+
+	/**
+	 * Node of the tree of attributes. The attributes are found by their hash, computed from the chars
+	 * of the string without creating a new String.
+	 */
+	static final class Node {
+
+		private final String[] names;
+		private final int[] hashes;
+		private final Node[] children;
+		private final Node elements;
+		private final boolean selected;
+
+		private Node(String[] names, Node[] children, Node elements, boolean selected) {
+			this.names = names;
+			this.children = children;
+			this.elements = elements;
+			this.selected = selected;
+
+			hashes = new int[names.length];
+			for (int i = 0; i < names.length; i++) hashes[i] = names[i].hashCode();
+		}
+
+		/**
+		 * Method that returns the node of the attribute between the indexes start (inclusive)
+		 * and end (exclusive) of the string, or null if the attribute isn't in the projection
+		 */
+		Node getChild(CharSequence json, int start, int end) {
+
+			int hash = 0;
+			for (int i = start; i < end; i++) hash = 31 * hash + json.charAt(i);
+
+			for (int i = 0; i < names.length; i++) {
+				if(hashes[i] == hash && isSameName(names[i], json, start, end)) return children[i];
+			}
+			return null;
+		}
+
+		Node getElements() {
+			return elements;
+		}
+
+		boolean isSelected() {
+			return selected;
+		}
+
+		private static boolean isSameName(String name, CharSequence json, int start, int end) {
+			if(name.length() != end - start) return false;
+			for (int i = 0; i < name.length(); i++) {
+				if(name.charAt(i) != json.charAt(start + i)) return false;
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * Mutable node used only while the paths are compiled
+	 */
+	private static final class Builder {
+
+		private final Map<String, Builder> children = new LinkedHashMap<>();
+		private Builder elements;
+		private boolean selected;
+
+		private void add(String path) {
+
+			if(path.isEmpty()) throw new IllegalArgumentException("Path is empty.");
+
+			Builder node = this;
+			int i = 0;
+			while(i < path.length()) {
+
+				if(path.startsWith(ALL_ELEMENTS, i)) {
+					if(node.elements == null) node.elements = new Builder();
+					node = node.elements;
+					i += ALL_ELEMENTS.length();
+					continue;
+				}
+
+				if(i > 0) {
+					if(path.charAt(i) != '.' || i + 1 == path.length()) throw invalidPath(path);
+					i++;
+				}
+
+				int end = i;
+				while(end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+					if(path.charAt(end) == ']') throw invalidPath(path);
+					end++;
+				}
+				if(end == i) throw invalidPath(path);
+
+				node = node.children.computeIfAbsent(path.substring(i, end), name -> new Builder());
+				i = end;
+			}
+
+			node.selected = true;
+		}
+
+		private static IllegalArgumentException invalidPath(String path) {
+			return new IllegalArgumentException("Invalid path (use attributes separated by dots, followed or not by [*]): " + path);
+		}
+
+		private Node build() {
+
+			String[] names = children.keySet().toArray(new String[0]);
+			Node[] nodes = new Node[names.length];
+			for (int i = 0; i < names.length; i++) nodes[i] = children.get(names[i]).build();
+
+			return new Node(names, nodes, elements == null ? null : elements.build(), selected);
+		}
+	}
+}
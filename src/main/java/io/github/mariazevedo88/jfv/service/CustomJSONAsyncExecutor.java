@@ -0,0 +1,46 @@
+package io.github.mariazevedo88.jfv.service;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Class that chooses the default executor of the asynchronous methods of the formatter: a virtual thread
+ * per task on Java 21+, where blocking on a reader doesn't hold a platform thread, or the common fork-join
+ * pool on older versions. The virtual thread executor is looked up by reflection, so the library still runs on Java 8.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+final class CustomJSONAsyncExecutor {
+
+	private static final Logger logger = LogManager.getLogger(CustomJSONAsyncExecutor.class.getName());
+
+	private static final Executor DEFAULT_EXECUTOR = createDefaultExecutor();
+
+	private CustomJSONAsyncExecutor() {}
+
+	/**
+	 * Method that returns the default executor of the asynchronous methods
+	 *
+	 * @return Executor
+	 */
+	static Executor getDefaultExecutor() {
+		return DEFAULT_EXECUTOR;
+	}
+
+	private static Executor createDefaultExecutor() {
+		try {
+			Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (Executor) factory.invoke(null);
+		}catch(ReflectiveOperationException e) {
+			//before Java 21 (or Java 19 and 20 without preview features)
+			logger.debug("Virtual threads are not available, using the common fork-join pool.");
+			return ForkJoinPool.commonPool();
+		}
+	}
+}
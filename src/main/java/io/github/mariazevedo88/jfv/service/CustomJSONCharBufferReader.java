@@ -0,0 +1,34 @@
+package io.github.mariazevedo88.jfv.service;
+
+import java.io.Reader;
+import java.nio.CharBuffer;
+
+/**
+ * Reader of the characters of a buffer, such as the decoded characters of a chunk of a file or a char sequence
+ * wrapped by {@link CharBuffer#wrap(CharSequence)}, without copying them to a String
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+final class CustomJSONCharBufferReader extends Reader {
+
+	private final CharBuffer chars;
+
+	CustomJSONCharBufferReader(CharBuffer chars) {
+		this.chars = chars;
+	}
+
+	@Override
+	public int read(char[] buffer, int offset, int length) {
+		if(!chars.hasRemaining()) return -1;
+
+		int count = Math.min(length, chars.remaining());
+		chars.get(buffer, offset, count);
+		return count;
+	}
+
+	@Override
+	public void close() {
+		chars.position(chars.limit());
+	}
+}
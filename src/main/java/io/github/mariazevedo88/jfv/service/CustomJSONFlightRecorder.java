@@ -0,0 +1,71 @@
+package io.github.mariazevedo88.jfv.service;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import io.github.mariazevedo88.jfv.model.RepairResult;
+import io.github.mariazevedo88.jfv.model.enumeration.RepairEngineEnum;
+
+/**
+ * Class that records the Java Flight Recorder events of the repair, of the comma fix-up loop, of the filters and of
+ * the parse. The events are compiled only on JDK 11+ (src/main/java11) and looked up by reflection, so the library
+ * still runs on Java 8, where this recorder, that records nothing, is used instead.
+ *
+ * Each stage begins an event, which is null when the event is disabled on JFR (e.g. when there is no recording),
+ * and ends it only if it is not null, so the cost of a disabled event is a check of the event. The fields of the
+ * event are only computed when it exceeds the threshold of the JFR settings.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+class CustomJSONFlightRecorder {
+
+	private static final Logger logger = LogManager.getLogger(CustomJSONFlightRecorder.class.getName());
+
+	static final CustomJSONFlightRecorder RECORDER = createRecorder();
+
+	CustomJSONFlightRecorder() {}
+
+	Object beginRepair() {
+		return null;
+	}
+
+	/**
+	 * Method that ends the event of a call of checkValidityAndFormatObject()
+	 *
+	 * @param event
+	 * @param engine
+	 * @param json the JSON of the call, before it is read
+	 * @param result
+	 */
+	void endRepair(Object event, RepairEngineEnum engine, Object json, RepairResult result) {}
+
+	Object beginCommaFix() {
+		return null;
+	}
+
+	void endCommaFix(Object event, int inputLength, int iterations) {}
+
+	Object beginFilter() {
+		return null;
+	}
+
+	void endFilter(Object event, String operation, int inputLength, int outputLength) {}
+
+	Object beginParse() {
+		return null;
+	}
+
+	void endParse(Object event, int inputLength) {}
+
+	private static CustomJSONFlightRecorder createRecorder() {
+		try {
+			Class<?> events = Class.forName(CustomJSONFlightRecorder.class.getName() + "Events");
+			return (CustomJSONFlightRecorder) events.getDeclaredConstructor().newInstance();
+		}catch(ReflectiveOperationException | LinkageError e) {
+			//before Java 11, or on a runtime without the jdk.jfr module
+			logger.debug("Java Flight Recorder is not available, the events of the repair are not recorded.");
+			return new CustomJSONFlightRecorder();
+		}
+	}
+}
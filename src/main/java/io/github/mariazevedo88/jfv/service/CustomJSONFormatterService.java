@@ -1,25 +1,59 @@
 package io.github.mariazevedo88.jfv.service;
 
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
-import java.util.regex.Matcher;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.regex.Pattern;
-import java.util.regex.PatternSyntaxException;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
 
 import io.github.mariazevedo88.jfv.model.CustomJSON;
+import io.github.mariazevedo88.jfv.model.LazyJson;
+import io.github.mariazevedo88.jfv.model.RepairOutcome;
+import io.github.mariazevedo88.jfv.model.RepairResult;
+import io.github.mariazevedo88.jfv.model.TapeJson;
 import io.github.mariazevedo88.jfv.model.enumeration.DelimitersEnum;
+import io.github.mariazevedo88.jfv.model.enumeration.RepairEngineEnum;
+import io.github.mariazevedo88.jfv.model.enumeration.RepairOutcomeEnum;
+import io.github.mariazevedo88.jfv.model.enumeration.RepairStageEnum;
 
 /**
- * Class that verify a JSON and format in cases of invalid JSON
+ * Class that verify a JSON and format in cases of invalid JSON. The repair() method is stateless and thread-safe,
+ * while checkValidityAndFormatObject() also keeps the result on the CustomJSON of the service.
  * 
  * @author Mariana Azevedo
  * @since 10/02/2019
@@ -27,11 +61,59 @@ import io.github.mariazevedo88.jfv.model.enumeration.DelimitersEnum;
  */
 public class CustomJSONFormatterService {
 	
+	/**
+	 * Number of JSONs of a stream read and repaired together by repairAll()
+	 */
+	public static final int STREAM_CHUNK_SIZE = 8192;
+	
 	private static final Logger logger = LogManager.getLogger(CustomJSONFormatterService.class.getName());
+	private static final CustomJSONFlightRecorder recorder = CustomJSONFlightRecorder.RECORDER;
+	
+	private static final Pattern UNQUOTED_FIELD = Pattern.compile("(?<=\\{|, ?)([a-zA-Z]+?): ?(?![\\{\\[])(.+?)(?=,|})");
+	private static final Pattern QUOTES = Pattern.compile(DelimitersEnum.QUOTES.getValue());
+	private static final Pattern DOUBLE_SEMICOLON = Pattern.compile(DelimitersEnum.DOUBLE_SEMICOLON.getValue());
+	private static final Pattern SEMICOLON = Pattern.compile(DelimitersEnum.SEMICOLON.getValue());
+	private static final int READ_BUFFER_SIZE = 8192;
+	
 	private CustomJSON customJson;
+	private final RepairEngineEnum repairEngine;
+	private final RepairCache cache;
+	private final RepairMetrics metrics = new RepairMetrics();
+	private final CustomJSONRepairPlans plans = new CustomJSONRepairPlans(metrics);
+	private final ConcurrentMap<Integer, ForkJoinPool> pools = new ConcurrentHashMap<>();
 	
 	public CustomJSONFormatterService() {
-		customJson = new CustomJSON();
+		this(RepairEngineEnum.REGEX);
+	}
+	
+	/**
+	 * Constructor that selects the engine used to repair invalid JSONs
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param repairEngine
+	 */
+	public CustomJSONFormatterService(RepairEngineEnum repairEngine) {
+		this(repairEngine, null);
+	}
+	
+	/**
+	 * Constructor that selects the engine used to repair invalid JSONs and a cache of the results, used by the 
+	 * methods without options for the JSONs that are strings. The same cache should not be shared by services 
+	 * with different engines, that can repair the same JSON in different ways.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param repairEngine
+	 * @param cache cache of the results, or null
+	 */
+	public CustomJSONFormatterService(RepairEngineEnum repairEngine, RepairCache cache) {
+		if(repairEngine == null) throw new NullPointerException("Repair engine is null.");
+		this.customJson = new CustomJSON();
+		this.repairEngine = repairEngine;
+		this.cache = cache;
 	}
 	
 	/**
@@ -43,85 +125,91 @@ public class CustomJSONFormatterService {
      *  blank because we don’t want a blank between the colon and the value to be taken as part of the value)
      * (.+?): the value consists of at least one character, as few as possible (reluctant quantifier; or regex would try to take the rest of the string)
      * (?=,|}): after the value comes either a comma or a right curly brace (positive lookahead).
+     * 
+     * The regular expressions are compiled once, and each replacement counts as an iteration of the limits.
+     * The malformed and empty fields are fixed before the main regex by the rules of the pipeline.
      * 
 	 * @author Mariana Azevedo
 	 * @since 10/02/2019
 	 * 
 	 * @param invalidJson
-	 * @param muteException
+	 * @param limits
+	 * @param rules
+	 * @param metrics
 	 * 
 	 * @return String
 	 */
-	private static String getInvalidJsonToFormat(String invalidJson, boolean muteException) {
+	private static String getInvalidJsonToFormat(String invalidJson, CustomJSONRepairLimits limits, RepairPipeline rules, 
+			RepairMetrics metrics) {
+		
+		int tooDeep = limits.indexOfTooDeep(invalidJson);
+		if(tooDeep >= 0) throw new CustomJSONRepairLimitException(RepairOutcomeEnum.TOO_DEEP, tooDeep);
 		
-		invalidJson = fixMalformedFields(invalidJson); //format malformated fields before apply the main regex
-		invalidJson = fixEmptyFields(invalidJson); //format empty fields before apply the main regex
+		long start = System.nanoTime();
+		invalidJson = rules.apply(invalidJson, limits, metrics); //format malformated and empty fields before apply the main regex
+		start = metrics.record(RepairStageEnum.RULES, start);
 		
-		invalidJson = invalidJson.replaceAll("(?<=\\{|, ?)([a-zA-Z]+?): ?(?![\\{\\[])(.+?)(?=,|})", "\"$1\": \"$2\"");
-		invalidJson = fixFieldsWithSimpleQuotes(invalidJson);
+		invalidJson = limits.replaceAll(UNQUOTED_FIELD, invalidJson, "\"$1\": \"$2\"");
+		invalidJson = fixFieldsWithSimpleQuotes(invalidJson, limits);
+		start = metrics.record(RepairStageEnum.MAIN_REGEX, start);
 		
 		StringBuilder builderModified = new StringBuilder(invalidJson);
 		
-		builderModified = fixFieldsWithCommasWronglyModified(builderModified, muteException);
-		invalidJson = replaceControlDelimiters(builderModified);
+		builderModified = fixFieldsWithCommasWronglyModified(builderModified, limits);
+		invalidJson = replaceControlDelimiters(builderModified, limits);
+		metrics.record(RepairStageEnum.COMMA_FIX, start);
 		
 		return invalidJson;
 	}
 
 	/**
-	 * Method to clean a string with single quotes
-	 * 
-	 * @author Mariana Azevedo
-	 * @since 28/02/2019
+	 * Method to convert a invalid JSON with the lenient tokenizer, that reads the string only once
+	 * and applies the same corrections of the regex chain of getInvalidJsonToFormat() method.
+	 * UTF-8 bytes are repaired without decoding, and the repaired JSON is also made of UTF-8 bytes.
 	 * 
 	 * @param invalidJson
-	 * @return String
-	 */
-	private static String fixFieldsWithSimpleQuotes(String invalidJson) {
-		return invalidJson.replaceAll(DelimitersEnum.QUOTES.getValue(), DelimitersEnum.EMPTY_STRING.getValue());
-	}
-	
-	/**
-	 * Method to fix malformated values before apply the main regex
-	 * 
-	 * @author Mariana Azevedo
-	 * @since 02/04/2019
+	 * @param limits
+	 * @param metrics
 	 * 
-	 * @param invalidJson
-	 * @return String
+	 * @return CharSequence
 	 */
-	private static String fixMalformedFields(String invalidJson) {
+	private static CharSequence getInvalidJsonToFormatWithTokenizer(CharSequence invalidJson, CustomJSONRepairLimits limits, 
+			RepairMetrics metrics) {
 		
-		invalidJson = invalidJson.replaceAll("\\s+,,", ","); //correcting double commas with space
-		invalidJson = invalidJson.replaceAll("(\\d+)\\,(\\d+)", "$1.$2"); //correcting decimal numbers with comma
-		invalidJson = invalidJson.replaceAll("(\\d+)\\:(\\d+)\\:(\\d+)", "$1;;$2;;$3"); //correcting hours in the HH:mm:SS format
-		invalidJson = invalidJson.replaceAll("(\\d+)\\:(\\d+)", "$1;;$2"); //correcting hours in the HH:mm format
-		invalidJson = invalidJson.replaceAll("(\\()", ";"); //correcting left parentheses wrongly placed
-		invalidJson = invalidJson.replaceAll("(\\))", ";"); //correcting right parentheses wrongly placed
-		invalidJson = invalidJson.replaceAll("[A-Z]+:", ""); //removing colon wrongly placed
+		long start = System.nanoTime();
+		CustomJSONTokenizer tokenizer = new CustomJSONTokenizer(invalidJson, limits);
+		String validJson = tokenizer.repair();
+		metrics.record(RepairStageEnum.TOKENIZER, start);
 		
-		return invalidJson;
+		if(validJson == null) {
+			throw getTokenizerError(tokenizer);
+		}
+		
+		return invalidJson instanceof CustomJSONUtf8Sequence ? CustomJSONUtf8Sequence.wrapChars(validJson) : validJson;
+	}
+	
+	private static JsonParseException getTokenizerError(CustomJSONTokenizer tokenizer) {
+		if(tokenizer.getErrorCode().isLimitExceeded()) {
+			return new CustomJSONRepairLimitException(tokenizer.getErrorCode(), tokenizer.getErrorOffset());
+		}
+		return new JsonSyntaxException("Error: JSON with more invalid characters than commas and quotes on keys and values. " 
+				+ tokenizer.getErrorReason() + " Position: " + tokenizer.getErrorOffset());
 	}
 
 	/**
-	 * Method to fix json keys with empty values before apply the main regex
+	 * Method to clean a string with single quotes
 	 * 
 	 * @author Mariana Azevedo
 	 * @since 28/02/2019
 	 * 
 	 * @param invalidJson
+	 * @param limits
 	 * @return String
 	 */
-	private static String fixEmptyFields(String invalidJson) {
-		
-		invalidJson = invalidJson.replaceAll("(:,)", ":\'\',");
-		invalidJson = invalidJson.replaceAll("(:})", ": \'\'}");
-		invalidJson = invalidJson.replaceAll("(,,)", "\'\',");
-		invalidJson = invalidJson.replaceAll("(,})", "}");
-		
-		return invalidJson;
+	private static String fixFieldsWithSimpleQuotes(String invalidJson, CustomJSONRepairLimits limits) {
+		return limits.replaceAll(QUOTES, invalidJson, DelimitersEnum.EMPTY_STRING.getValue());
 	}
-
+	
 	/**
 	 * Method that replaces some control delimiters in the fix routine on fields with wrong commas
 	 * 
@@ -129,250 +217,1214 @@ public class CustomJSONFormatterService {
 	 * @since 17/02/2019
 	 * 
 	 * @param builderModified
+	 * @param limits
 	 * @return String
 	 */
-	private static String replaceControlDelimiters(StringBuilder builderModified) {
+	private static String replaceControlDelimiters(StringBuilder builderModified, CustomJSONRepairLimits limits) {
 		
-		String finalString = builderModified.toString().replaceAll(DelimitersEnum.DOUBLE_SEMICOLON.getValue(), DelimitersEnum.COLON.getValue());
-		finalString = finalString.replaceAll(DelimitersEnum.SEMICOLON.getValue(), DelimitersEnum.COMMA.getValue());
+		String finalString = limits.replaceAll(DOUBLE_SEMICOLON, builderModified.toString(), DelimitersEnum.COLON.getValue());
+		finalString = limits.replaceAll(SEMICOLON, finalString, DelimitersEnum.COMMA.getValue());
 		
 		return finalString;
 	}
 	
 	/**
-	 * Method that fix invalid fields wrongly converted by the regex of getInvalidJsonToFormat() method
+	 * Method that fix invalid fields wrongly converted by the regex of getInvalidJsonToFormat() method.
+	 * 
+	 * The string is read only once: for each comma, the text until the next comma is looked ahead for a colon (key:).
+	 * If there is one, the comma separates two fields. Otherwise, the comma and the text that follows it belong to the value 
+	 * of the previous field, which is reassembled with the quotes in the right place. The cost is linear in the size of the string.
+	 * Each comma counts as an iteration of the limits.
 	 * 
 	 * @author Mariana Azevedo
 	 * @since 17/02/2019
 	 * 
 	 * @param builderModified
-	 * @param muteException
+	 * @param limits
 	 * @return StringBuilder
 	 */
-	private static StringBuilder fixFieldsWithCommasWronglyModified(StringBuilder builderModified, boolean muteException){
+	private static StringBuilder fixFieldsWithCommasWronglyModified(StringBuilder builderModified, CustomJSONRepairLimits limits){
+		
+		int length = builderModified.length();
+		if(length == 0) {
+			throw new JsonParseException("Error: JSON with more invalid characters than commas and quotes on keys and values.");
+		}
 		
-		String [] invalidJsonValues = builderModified.toString().split(DelimitersEnum.COMMA.getValue());
-		boolean hasInvalidValues = true;
+		Object event = recorder.beginCommaFix();
+		StringBuilder builderFixed = new StringBuilder(length);
+		boolean hasPreviousField = false;
+		int start = 0;
+		int iterations = 0;
 		
-		while(hasInvalidValues) {
-			builderModified = cleanInvalidJsonValues(invalidJsonValues, builderModified, muteException);
+		try {
+			while(start < length) {
+				
+				RepairOutcomeEnum exceeded = limits.next();
+				if(exceeded != null) throw new CustomJSONRepairLimitException(exceeded, start);
+				
+				int end = indexOfComma(builderModified, start, length);
+				iterations++;
 			
-			if(builderModified.length() == 0) {
-				if(muteException) {
-					hasInvalidValues = false;
-				}else {
-					throw new JsonParseException("Error: JSON with more invalid characters than commas and quotes on keys and values.");
-				}
-			}else {
-				invalidJsonValues = builderModified.toString().split(DelimitersEnum.COMMA.getValue());
-				if(!CustomJSONValidatorFiltersService.isStringHasInvalidJsonValues(invalidJsonValues)) {
-					hasInvalidValues = false;
+				if(hasColon(builderModified, start, end)) {
+					if(builderFixed.length() > 0) builderFixed.append(DelimitersEnum.COMMA.getValue());
+					builderFixed.append(builderModified, start, end);
+					hasPreviousField = true;
+				}else if(end > start) {
+					if(!hasPreviousField) {
+						throw new StringIndexOutOfBoundsException("String is an empty object or has an invalid structure "
+								+ "(key without value or vice-versa): " + builderModified.substring(start, end));
+					}
+					appendToPreviousField(builderFixed, builderModified, start, end);
 				}
+				
+				start = end + 1;
 			}
+		}finally {
+			if(event != null) recorder.endCommaFix(event, length, iterations);
 		}
 		
-		return builderModified;
+		return builderFixed;
 	}
 	
 	/**
-	 * Method that clean fields wrongly separated with commas and append these strings.
+	 * Method that appends a text wrongly separated with commas to the value of the previous field, 
+	 * moving the closing quotes of the value to the end of the text.
 	 * 
 	 * @author Mariana Azevedo
 	 * @since 17/02/2019
 	 * 
-	 * @param invalidJsonValues
-	 * @param builder
-	 * @param muteException
-	 * @return StringBuilder
+	 * @param builderFixed
+	 * @param builderModified
+	 * @param start
+	 * @param end
 	 */
-	private static StringBuilder cleanInvalidJsonValues(String[] invalidJsonValues, StringBuilder builder, boolean muteException) {
-		
-		StringBuilder builderModified = new StringBuilder(builder);
-		String previousField = DelimitersEnum.EMPTY_STRING.getValue();
-		boolean isClean = false;
-		
-		List<String> collection = Arrays.stream(invalidJsonValues).collect(Collectors.toList());
-		for(String stringAnalyzed : collection) {
-			if(stringAnalyzed.contains(DelimitersEnum.COLON.getValue())) {
-				previousField = stringAnalyzed;
-			}else{
-				if(!stringAnalyzed.isEmpty()) {
-					isClean = cleanWrongQuotesOnFields(builderModified, previousField, stringAnalyzed, muteException);
-					if(isClean) builderModified = new StringBuilder(DelimitersEnum.EMPTY_STRING.getValue());
-					break;
-				}
-			}
+	private static void appendToPreviousField(StringBuilder builderFixed, StringBuilder builderModified, int start, int end) {
+		
+		int lastIndex = builderFixed.length() - 1;
+		if(builderFixed.charAt(lastIndex) == '"') {
+			builderFixed.setCharAt(lastIndex, ',');
+		}else {
+			builderFixed.append(DelimitersEnum.COMMA.getValue());
 		}
 		
-		return builderModified;
+		//If the field that has commas in the middle, but is at the end of the object, 
+		//treat so that the quotes are in the right place
+		int valueEnd = end;
+		while(valueEnd > start && isRightKeyOrBracket(builderModified.charAt(valueEnd-1))) valueEnd--;
+		
+		builderFixed.append(builderModified, start, valueEnd).append(DelimitersEnum.RIGHT_DOUBLE_QUOTE_WITH_ESCAPE.getValue());
+		builderFixed.append(builderModified, valueEnd, end);
 	}
-
+	
+	private static boolean isRightKeyOrBracket(char next) {
+		return next == '}' || next == ']';
+	}
+	
+	/**
+	 * Method that returns the index of the next comma of the string, or its length if there are no more commas.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param builder
+	 * @param start
+	 * @param length
+	 * @return int
+	 */
+	private static int indexOfComma(StringBuilder builder, int start, int length) {
+		int index = start;
+		while(index < length && builder.charAt(index) != ',') index++;
+		return index;
+	}
+	
+	/**
+	 * Method that verifies if a part of the string has a colon, that is, if it is a key and value set.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param builder
+	 * @param start
+	 * @param end
+	 * @return boolean
+	 */
+	private static boolean hasColon(StringBuilder builder, int start, int end) {
+		for(int i = start; i < end; i++) {
+			if(builder.charAt(i) == ':') return true;
+		}
+		return false;
+	}
+	
 	/**
-	 * Method that traverses a string array and identifies whether the string is a valid key and value set. 
-	 * If it is not and is part of a whole word broken by commas, it applies treatment to clean and reassemble 
-	 * the string by concatenating with the section previously treated.
+	 * Method that checks JSON validity and format if needed. The result is also kept on the
+	 * CustomJSON of the service, so this method is not thread-safe: use the repair() method 
+	 * to share the same service between threads.
 	 * 
 	 * @author Mariana Azevedo
 	 * @since 17/02/2019
 	 * 
-	 * @param builderModified
-	 * @param previousField
-	 * @param stringToBeAnalyzed
+	 * @param json
+	 * @param muteLog
 	 * @param muteException
 	 * 
-	 * @return boolean
+	 * @return JsonElement
+	 * 
+	 * @throws IOException
 	 */
-	private static boolean cleanWrongQuotesOnFields(StringBuilder builderModified, String previousField, String stringToBeAnalyzed, 
-			boolean muteException) {
-		
-		StringBuilder stringBuilderToBeReplaced = new StringBuilder(previousField);
-		int lastIndexOf = previousField.length();
-		boolean isClean = false;
+	public JsonElement checkValidityAndFormatObject(Object json, boolean muteLog, boolean muteException) throws IOException {
 		
-		try {
-			if(stringBuilderToBeReplaced.lastIndexOf(DelimitersEnum.RIGHT_DOUBLE_QUOTE_WITH_ESCAPE.getValue()) == lastIndexOf-1) {
-				stringBuilderToBeReplaced = stringBuilderToBeReplaced.deleteCharAt(lastIndexOf-1);
-				stringBuilderToBeReplaced.insert(lastIndexOf-1, DelimitersEnum.SEMICOLON.getValue());
-			}
-		}catch(StringIndexOutOfBoundsException exception){
-			if(!muteException) {
-				throw new StringIndexOutOfBoundsException("String is an empty object or has an invalid structure (key without value or vice-versa): " + stringToBeAnalyzed);
-			}else {
-				isClean = true;
-				logger.error("String is an empty object or has an invalid structure (key without value or vice-versa): " + stringToBeAnalyzed);
-			}
-		}
+		Object event = recorder.beginRepair();
+		RepairResult result = repair(json, muteLog);
+		if(event != null) recorder.endRepair(event, repairEngine, json, result);
 		
-		if(!isClean) {
-			if(stringToBeAnalyzed.contains(DelimitersEnum.RIGHT_KEY.getValue())){
-				//If the field that has commas in the middle, but is at the end of the object, 
-				//treat so that the quotes are in the right place
-				int lastIndexOfString = stringToBeAnalyzed.length();
-				String stringModified = new StringBuilder(stringToBeAnalyzed).deleteCharAt(lastIndexOfString-1).toString(); 
-				stringBuilderToBeReplaced.append(stringModified).append(DelimitersEnum.RIGHT_KEY_WITH_ESCAPE.getValue());
-			}else{
-				stringBuilderToBeReplaced.append(stringToBeAnalyzed).append(DelimitersEnum.RIGHT_DOUBLE_QUOTE_WITH_ESCAPE.getValue());
-			}
-			
-			Pattern pattern = Pattern.compile(stringToBeAnalyzed, Pattern.LITERAL);
-			replaceStringBasedOnAPattern(builderModified, pattern, DelimitersEnum.EMPTY_STRING.getValue());
-			
-			try {
-				pattern = Pattern.compile(previousField);
-				replaceStringBasedOnAPattern(builderModified, pattern, stringBuilderToBeReplaced.toString());
-			}catch (PatternSyntaxException e){
-				splitPatternToNearowTheSearch(builderModified, previousField, stringBuilderToBeReplaced);
-			}
-			
-			pattern = Pattern.compile(DelimitersEnum.DOUBLE_COMMA.getValue());
-			replaceStringBasedOnAPattern(builderModified, pattern, DelimitersEnum.COMMA.getValue());
+		if(result.getError() != null && !muteException) {
+			throw result.getError();
 		}
 		
-		return isClean;
+		this.customJson.setValidJson(result.getValidJson());
+		return result.getValidJson();
 	}
-
+	
 	/**
-	 * Method to cut a string to approximate the search and avoid cases of PatternSyntaxException
+	 * Method that checks JSON validity and format if needed, with the given options instead of the muteLog and 
+	 * muteException parameters. The result is also kept on the CustomJSON of the service, so this method is not 
+	 * thread-safe.
 	 * 
 	 * @author Mariana Azevedo
-	 * @since 01/03/2019
+	 * @since 18/10/2026
 	 * 
-	 * @param builderModified
-	 * @param previousField
-	 * @param stringBuilderToBeReplaced
+	 * @param json
+	 * @param options
+	 * 
+	 * @return JsonElement
+	 * 
+	 * @throws IOException
 	 */
-	private static void splitPatternToNearowTheSearch(StringBuilder builderModified, String previousField,
-			StringBuilder stringBuilderToBeReplaced) {
+	public JsonElement checkValidityAndFormatObject(Object json, RepairOptions options) throws IOException {
 		
-		String[] patternSplit = previousField.split(DelimitersEnum.COLON.getValue());
-		String[] stringBuilderReplaceToSplit = stringBuilderToBeReplaced.toString().split(DelimitersEnum.COLON.getValue());
+		Object event = recorder.beginRepair();
+		RepairResult result = repair(json, options);
+		if(event != null) recorder.endRepair(event, repairEngine, json, result);
+		
+		if(result.getError() != null && !options.isMuteException()) {
+			throw result.getError();
+		}
 		
-		Pattern pattern = Pattern.compile(patternSplit[patternSplit.length-1]);
-		replaceStringBasedOnAPattern(builderModified, pattern, stringBuilderReplaceToSplit[stringBuilderReplaceToSplit.length-1]);
+		this.customJson.setValidJson(result.getValidJson());
+		return result.getValidJson();
 	}
 	
-
 	/**
-	 * Method that replaces a string based on a pattern.
+	 * Method that checks JSON validity and format if needed, without keeping any state on the service.
+	 * The errors are returned in the result instead of thrown, so the same service can be shared 
+	 * by many threads without locks.
 	 * 
 	 * @author Mariana Azevedo
-	 * @since 17/02/2019
+	 * @since 18/10/2026
 	 * 
-	 * @param builderModified
-	 * @param pattern
-	 * @param replacement
+	 * @param json
+	 * @param muteLog
+	 * 
+	 * @return RepairResult
+	 * 
+	 * @throws IOException
+	 */
+	public RepairResult repair(Object json, boolean muteLog) throws IOException {
+		return repairObject(readJson(json), muteLog);
+	}
+	
+	/**
+	 * Method that checks JSON validity and format if needed, with the given options, without keeping any state on 
+	 * the service. When the options have a projection, only the selected paths are repaired and parsed: the other 
+	 * attributes are skipped, only finding where they end, so the cost of a large JSON is close to the cost of the 
+	 * selected attributes. 
+	 * 
+	 * When the options have limits, the repair gives up as soon as it exceeds one of them, and the error of the result
+	 * is a JsonParseException with the reason and the position where it stopped. The deadline starts with the call.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param json
+	 * @param options
+	 * 
+	 * @return RepairResult
+	 * 
+	 * @throws IOException
 	 */
-	private static void replaceStringBasedOnAPattern(StringBuilder builderModified, Pattern pattern, String replacement) {
+	public RepairResult repair(Object json, RepairOptions options) throws IOException {
 		
-		Matcher matcher = pattern.matcher(builderModified);
-		int start = 0;
-		while (matcher.find(start)) {
-			builderModified.replace(matcher.start(), matcher.end(), replacement);
+		if(options == null) throw new NullPointerException("Repair options are null.");
+		
+		CustomJSONRepairLimits limits = CustomJSONRepairLimits.start(options);
+		json = readJson(json, options.getMaxInputLength());
+		if(isTooLarge(json, options)) {
+			return logResult(new RepairResult(null, false, 
+					new CustomJSONRepairLimitException(RepairOutcomeEnum.INPUT_TOO_LARGE, options.getMaxInputLength())), options.isMuteLog());
 		}
+		
+		return repairObject(project(json, options), options.isMuteLog(), limits, options.getRules());
+	}
+	
+	/**
+	 * Method that verifies if the JSON read is longer than the maximum input length of the options
+	 * 
+	 * @param json
+	 * @param options
+	 * 
+	 * @return boolean
+	 */
+	private static boolean isTooLarge(Object json, RepairOptions options) {
+		return json instanceof CharSequence && ((CharSequence) json).length() > options.getMaxInputLength();
+	}
+	
+	/**
+	 * Method that keeps only the paths of the projection of the options, if there is one
+	 * 
+	 * @param json
+	 * @param options
+	 * 
+	 * @return Object
+	 */
+	private static Object project(Object json, RepairOptions options) {
+		
+		if(json == null || options.getProjection() == null) return json;
+		
+		CharSequence text = json instanceof CharSequence ? (CharSequence) json : json.toString();
+		String filtered = CustomJSONProjector.filter(text, options.getProjection());
+		return text instanceof CustomJSONUtf8Sequence ? CustomJSONUtf8Sequence.wrapChars(filtered) : filtered;
 	}
 	
 	/**
-	 * Method that checks JSON validity and format if needed.
+	 * Method that checks JSON validity and format if needed, and returns an outcome code instead of an exception: 
+	 * when the JSON can't be repaired, the outcome has the offset of the character where the repair stopped and a 
+	 * short reason, and no exception is created, what keeps the cost of the bad JSONs of a feed close to the cost 
+	 * of the good ones. The corrections are always the ones of the tokenizer engine, that reports its failures 
+	 * without exceptions.
 	 * 
 	 * @author Mariana Azevedo
-	 * @since 17/02/2019
+	 * @since 18/10/2026
 	 * 
 	 * @param json
 	 * @param muteLog
-	 * @param muteException
 	 * 
-	 * @return JsonElement
+	 * @return RepairOutcome
 	 * 
 	 * @throws IOException
 	 */
-	public JsonElement checkValidityAndFormatObject(Object json, boolean muteLog, boolean muteException) throws IOException {
+	public RepairOutcome repairWithOutcome(Object json, boolean muteLog) throws IOException {
+		return repairWithOutcome(readJson(json), muteLog, CustomJSONRepairLimits.NONE);
+	}
+	
+	/**
+	 * Method that checks JSON validity and format if needed, with the given options, and returns an outcome code 
+	 * instead of an exception, as the repairWithOutcome(Object, boolean) method. When the repair exceeds one of the 
+	 * limits of the options, it gives up and returns the code of the limit, without interrupting the thread.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param json
+	 * @param options
+	 * 
+	 * @return RepairOutcome
+	 * 
+	 * @throws IOException
+	 */
+	public RepairOutcome repairWithOutcome(Object json, RepairOptions options) throws IOException {
 		
-		String jsonToTest = null;
-		BufferedReader reader = null;
+		if(options == null) throw new NullPointerException("Repair options are null.");
 		
-		if(json instanceof BufferedReader){
-			reader = (BufferedReader) json;
-			json = reader.readLine();
+		CustomJSONRepairLimits limits = CustomJSONRepairLimits.start(options);
+		json = readJson(json, options.getMaxInputLength());
+		if(isTooLarge(json, options)) {
+			return logOutcome(new RepairOutcome(RepairOutcomeEnum.INPUT_TOO_LARGE, null, options.getMaxInputLength()), options.isMuteLog());
 		}
 		
-		if(json == null) {
-			if(!muteException) {
-				throw new NullPointerException("Object to validated is null.");
-			}else {
-				this.customJson.setValidJson(null);
-				return customJson.getValidJson();
-			}
+		return repairWithOutcome(project(json, options), options.isMuteLog(), limits);
+	}
+	
+	/**
+	 * Method that checks JSON validity and format if needed, for objects that are not readers, and returns an outcome code.
+	 * 
+	 * @param json
+	 * @param muteLog
+	 * @param limits
+	 * 
+	 * @return RepairOutcome
+	 */
+	private RepairOutcome repairWithOutcome(Object json, boolean muteLog, CustomJSONRepairLimits limits) {
+		
+		metrics.call();
+		if(json == null) return logOutcome(failure(new RepairOutcome(RepairOutcomeEnum.NULL_INPUT, null, -1)), muteLog);
+		
+		if(json instanceof JsonObject || json instanceof JsonArray) {
+			return new RepairOutcome(RepairOutcomeEnum.VALID, (JsonElement) json, -1);
 		}
 		
-		if(!customJson.isValidJson(json, muteLog)) {
-			
-			jsonToTest = getInvalidJsonToFormat(json.toString(), muteException);
-			customJson.parseJSONObject(jsonToTest, muteException);
-			
-			if(reader != null){
-				reader.close();
-			}
+		CharSequence text = json instanceof CharSequence ? (CharSequence) json : json.toString();
+		if(CustomJSONStrictValidatorService.isValidJson(text)) {
+			metrics.fastPath();
+			int tooDeep = limits.indexOfTooDeep(text);
+			if(tooDeep >= 0) return logOutcome(failure(new RepairOutcome(RepairOutcomeEnum.TOO_DEEP, null, tooDeep)), muteLog);
+			return logOutcome(new RepairOutcome(RepairOutcomeEnum.VALID, parseJson(text), -1), muteLog);
 		}
 		
-		if(this.customJson.getValidJson() != null) {
-			if(!muteLog) logger.info("Valid json: " + this.customJson);
-		}else {
-			if(!muteLog) 
-				logger.warn("JsonParseException: JSON with more invalid characters than commas and quotes on keys and values.");
+		if(!muteLog) logger.info("Invalid json: " + text);
+		metrics.repair();
+		
+		long start = System.nanoTime();
+		CustomJSONTokenizer tokenizer = new CustomJSONTokenizer(text, limits);
+		String validJson = tokenizer.repair();
+		start = metrics.record(RepairStageEnum.TOKENIZER, start);
+		if(validJson == null) {
+			return logOutcome(failure(new RepairOutcome(tokenizer.getErrorCode(), null, tokenizer.getErrorOffset())), muteLog);
+		}
+		
+		//the lenient parser is not used: it reports its failures with exceptions
+		CharSequence repaired = text instanceof CustomJSONUtf8Sequence ? CustomJSONUtf8Sequence.wrapChars(validJson) : validJson;
+		if(!CustomJSONStrictValidatorService.isValidJson(repaired)) {
+			return logOutcome(failure(new RepairOutcome(RepairOutcomeEnum.INVALID_OUTPUT, null, -1)), muteLog);
 		}
 		
-		return customJson.getValidJson();
+		JsonElement element = parseJson(repaired);
+		metrics.record(RepairStageEnum.PARSE, start);
+		return logOutcome(new RepairOutcome(RepairOutcomeEnum.REPAIRED, element, -1), muteLog);
+	}
+	
+	private RepairOutcome failure(RepairOutcome outcome) {
+		metrics.failure();
+		return outcome;
 	}
 	
 	/**
-	 * Method that return a customJson object
+	 * Method that reads a JSON from the reader and writes the repaired JSON to the writer, without building the whole 
+	 * string or a tree of the JSON: only the member being read and a small buffer of the output are kept in memory. 
+	 * The corrections are the ones of the tokenizer engine, that reads the input once. The streams are not closed, 
+	 * and the writer is not flushed.
 	 * 
 	 * @author Mariana Azevedo
-	 * @since 18/08/2019
+	 * @since 18/10/2026
 	 * 
-	 * @return customJson
+	 * @param in
+	 * @param out
+	 * 
+	 * @throws IOException
+	 * @throws JsonSyntaxException if the JSON can't be repaired. Part of the JSON may have been written already.
 	 */
-	public CustomJSON getCustomJson() {
-		return customJson;
+	public void repairTo(Reader in, Writer out) throws IOException {
+		
+		if(in == null) throw new NullPointerException("Reader is null.");
+		if(out == null) throw new NullPointerException("Writer is null.");
+		
+		CustomJSONTokenizer tokenizer = new CustomJSONTokenizer(in, out);
+		if(!tokenizer.repairTo()) {
+			throw getTokenizerError(tokenizer);
+		}
+	}
+	
+	/**
+	 * Method that reads a JSON in UTF-8 from the input stream and writes the repaired JSON in UTF-8 to the output stream,
+	 * as in {@link #repairTo(Reader, Writer)}. The streams are not closed, and the output stream is flushed at the end.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param in
+	 * @param out
+	 * 
+	 * @throws IOException
+	 */
+	public void repairTo(InputStream in, OutputStream out) throws IOException {
+		
+		if(in == null) throw new NullPointerException("Input stream is null.");
+		if(out == null) throw new NullPointerException("Output stream is null.");
+		
+		Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		try {
+			repairTo(new InputStreamReader(in, StandardCharsets.UTF_8), writer);
+		}finally {
+			writer.flush();
+		}
+	}
+	
+	/**
+	 * Method that checks JSON validity and format if needed, as the repair() method, reading a range of UTF-8 bytes 
+	 * without decoding them to a String. Byte arrays and ByteBuffers can also be passed whole to the repair() method.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param json
+	 * @param offset
+	 * @param length
+	 * @param muteLog
+	 * 
+	 * @return RepairResult
+	 */
+	public RepairResult repair(byte[] json, int offset, int length, boolean muteLog) {
+		return repairObject(json == null ? null : CustomJSONUtf8Sequence.wrap(json, offset, length), muteLog);
+	}
+	
+	/**
+	 * Method that repairs a range of UTF-8 bytes and returns the repaired JSON as UTF-8 bytes, without decoding
+	 * them to a String nor building a tree of the JSON. The corrections are the ones of the tokenizer engine, and
+	 * a strict JSON is returned as it is.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param json
+	 * @param offset
+	 * @param length
+	 * 
+	 * @return byte[]
+	 * 
+	 * @throws JsonSyntaxException if the JSON can't be repaired
+	 */
+	public byte[] repairToBytes(byte[] json, int offset, int length) {
+		if(json == null) throw new NullPointerException("JSON is null.");
+		return repairToBytes(CustomJSONUtf8Sequence.wrap(json, offset, length));
+	}
+	
+	/**
+	 * Method that repairs the UTF-8 bytes of a buffer, from its position to its limit, and returns the repaired JSON 
+	 * as UTF-8 bytes, as the repairToBytes(byte[], int, int) method. The position of the buffer is not changed.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param json
+	 * 
+	 * @return byte[]
+	 * 
+	 * @throws JsonSyntaxException if the JSON can't be repaired
+	 */
+	public byte[] repairToBytes(ByteBuffer json) {
+		if(json == null) throw new NullPointerException("JSON is null.");
+		return repairToBytes(CustomJSONUtf8Sequence.wrap(json));
 	}
+	
+	private byte[] repairToBytes(CustomJSONUtf8Sequence json) {
+		
+		metrics.call();
+		if(CustomJSONStrictValidatorService.isValidJson(json)) {
+			metrics.fastPath();
+			return json.toByteArray();
+		}
+		
+		metrics.repair();
+		long start = System.nanoTime();
+		CustomJSONTokenizer tokenizer = new CustomJSONTokenizer(json);
+		String validJson = tokenizer.repair();
+		metrics.record(RepairStageEnum.TOKENIZER, start);
+		if(validJson == null) {
+			metrics.failure();
+			throw getTokenizerError(tokenizer);
+		}
+		
+		return CustomJSONUtf8Sequence.toBytes(validJson);
+	}
+	
+	/**
+	 * Method that reads the JSON of a reader, that is closed after the read. Byte arrays and ByteBuffers are wrapped
+	 * as UTF-8 char sequences, without copying them, and other objects are returned as they are.
+	 * 
+	 * @param json
+	 * 
+	 * @return Object
+	 * 
+	 * @throws IOException
+	 */
+	private Object readJson(Object json) throws IOException {
+		return readJson(json, Integer.MAX_VALUE);
+	}
+	
+	/**
+	 * Method that reads a JSON as the readJson(Object) method, but reads at most maxLength + 1 chars of a reader, 
+	 * so a longer line is rejected by the maximum input length without being kept whole in memory.
+	 * 
+	 * @param json
+	 * @param maxLength
+	 * 
+	 * @return Object
+	 * 
+	 * @throws IOException
+	 */
+	private Object readJson(Object json, int maxLength) throws IOException {
+		
+		if(json instanceof BufferedReader){
+			BufferedReader reader = (BufferedReader) json;
+			json = maxLength == Integer.MAX_VALUE ? reader.readLine() : readLine(reader, maxLength);
+			reader.close();
+		}else if(json instanceof byte[]) {
+			json = CustomJSONUtf8Sequence.wrap((byte[]) json, 0, ((byte[]) json).length);
+		}else if(json instanceof ByteBuffer) {
+			json = CustomJSONUtf8Sequence.wrap((ByteBuffer) json);
+		}
+		
+		return json;
+	}
+	
+	/**
+	 * Method that reads a line of the reader, as readLine(), that stops after maxLength + 1 chars. The reader may be 
+	 * read after the end of the line, so it must be closed after the call.
+	 * 
+	 * @param reader
+	 * @param maxLength
+	 * 
+	 * @return String
+	 * 
+	 * @throws IOException
+	 */
+	private static String readLine(BufferedReader reader, int maxLength) throws IOException {
+		
+		StringBuilder line = new StringBuilder();
+		char[] buffer = new char[(int) Math.min(READ_BUFFER_SIZE, maxLength + 1L)];
+		
+		while(line.length() <= maxLength) {
+			int read = reader.read(buffer, 0, buffer.length);
+			if(read < 0) return line.length() == 0 ? null : line.toString();
+			
+			for(int i = 0; i < read; i++) {
+				if(buffer[i] == '\n' || buffer[i] == '\r') return line.append(buffer, 0, i).toString();
+			}
+			line.append(buffer, 0, read);
+		}
+		
+		//only the chars needed to reject the line are kept
+		line.setLength(maxLength + 1);
+		return line.toString();
+	}
+	
+	/**
+	 * Method that checks JSON validity and format if needed, for objects that are not readers. When the service 
+	 * has a cache, the results of the strings are read from it and kept on it.
+	 * 
+	 * @param json
+	 * @param muteLog
+	 * 
+	 * @return RepairResult
+	 */
+	private RepairResult repairObject(Object json, boolean muteLog) {
+		
+		if(cache == null || !(json instanceof String)) {
+			return repairObject(json, muteLog, CustomJSONRepairLimits.NONE, RepairPipeline.DEFAULT);
+		}
+		
+		RepairResult result = cache.get((String) json);
+		if(result != null) {
+			metrics.call();
+			return logResult(result, muteLog);
+		}
+		
+		result = repairObject(json, muteLog, CustomJSONRepairLimits.NONE, RepairPipeline.DEFAULT);
+		cache.put((String) json, result);
+		return result;
+	}
+	
+	/**
+	 * Method that checks JSON validity and format if needed, for objects that are not readers, with the given rules, 
+	 * giving up when the repair exceeds one of the limits.
+	 * 
+	 * @param json
+	 * @param muteLog
+	 * @param limits
+	 * @param rules
+	 * 
+	 * @return RepairResult
+	 */
+	private RepairResult repairObject(Object json, boolean muteLog, CustomJSONRepairLimits limits, RepairPipeline rules) {
+		
+		metrics.call();
+		if(json == null) {
+			metrics.failure();
+			return new RepairResult(null, false, new NullPointerException("Object to validated is null."));
+		}
+		
+		if(json instanceof JsonObject || json instanceof JsonArray) {
+			return new RepairResult((JsonElement) json, false, null);
+		}
+		
+		if(json instanceof CharSequence && CustomJSONStrictValidatorService.isValidJson((CharSequence) json)) {
+			metrics.fastPath();
+			int tooDeep = limits.indexOfTooDeep((CharSequence) json);
+			if(tooDeep >= 0) {
+				metrics.failure();
+				return logResult(new RepairResult(null, false, new CustomJSONRepairLimitException(RepairOutcomeEnum.TOO_DEEP, tooDeep)), muteLog);
+			}
+			return logResult(new RepairResult(parseJson((CharSequence) json), false, null), muteLog);
+		}
+		
+		if(!muteLog) logger.info("Invalid json: " + json.toString());
+		metrics.repair();
+		
+		try {
+			CharSequence validJson = formatInvalidJson(json, limits, rules);
+			long start = System.nanoTime();
+			JsonElement element = parseJsonObjectOrArray(validJson);
+			metrics.record(RepairStageEnum.PARSE, start);
+			return logResult(new RepairResult(element, true, null), muteLog);
+		}catch(RuntimeException e) {
+			metrics.failure();
+			return logResult(new RepairResult(null, true, e), muteLog);
+		}
+	}
+	
+	/**
+	 * Method that formats an invalid JSON with the engine of the service. The strings repaired by the regex engine 
+	 * with the default rules and without limits replay the plan of their shape, when the service already learned it.
+	 * 
+	 * @param json
+	 * @param limits
+	 * @param rules
+	 * 
+	 * @return CharSequence
+	 */
+	private CharSequence formatInvalidJson(Object json, CustomJSONRepairLimits limits, RepairPipeline rules) {
+		if(repairEngine == RepairEngineEnum.TOKENIZER && json instanceof CharSequence) {
+			return getInvalidJsonToFormatWithTokenizer((CharSequence) json, limits, metrics);
+		}
+		if(json instanceof String && limits == CustomJSONRepairLimits.NONE && rules == RepairPipeline.DEFAULT) {
+			return plans.repair((String) json, text -> getInvalidJsonToFormat(text, limits, rules, metrics));
+		}
+		return getInvalidJsonToFormat(json.toString(), limits, rules, metrics);
+	}
+	
+	/**
+	 * Method that checks JSON validity and format if needed, and returns a JSON that is read on demand instead of a tree:
+	 * only the attributes that are accessed are parsed. The repaired JSONs of the tokenizer engine and the valid JSONs 
+	 * are only indexed. The ones of the regex engine, that may need the lenient parser, are parsed once to be indexed.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param json
+	 * @param muteLog
+	 * 
+	 * @return LazyJson
+	 * 
+	 * @throws IOException
+	 * @throws JsonSyntaxException if the JSON can't be repaired
+	 */
+	public LazyJson repairLazy(Object json, boolean muteLog) throws IOException {
+		return repairAndParse(json, muteLog, LazyJson::parse);
+	}
+	
+	/**
+	 * Method that checks JSON validity and format if needed, and returns the JSON as a compact tape instead of a tree: 
+	 * the nodes are kept on an array of longs and the keys, strings and numbers on an array of UTF-8 bytes, what uses 
+	 * a fraction of the heap of the JsonElement. It's meant for the repaired JSONs that are kept in memory.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param json
+	 * @param muteLog
+	 * 
+	 * @return TapeJson
+	 * 
+	 * @throws IOException
+	 * @throws JsonSyntaxException if the JSON can't be repaired
+	 */
+	public TapeJson repairToTape(Object json, boolean muteLog) throws IOException {
+		return repairAndParse(json, muteLog, TapeJson::parse);
+	}
+	
+	/**
+	 * Method that checks JSON validity and format if needed, and parses the strict JSON with the given parser. The 
+	 * repaired JSONs of the tokenizer engine and the valid JSONs are parsed directly. The ones of the regex engine, 
+	 * that may need the lenient parser, are parsed by it first.
+	 * 
+	 * @param json
+	 * @param muteLog
+	 * @param parser parser of strict JSONs, that throws JsonSyntaxException for the other ones
+	 * 
+	 * @return T
+	 * 
+	 * @throws IOException
+	 */
+	private <T> T repairAndParse(Object json, boolean muteLog, Function<String, T> parser) throws IOException {
+		
+		json = readJson(json);
+		if(json == null) throw new NullPointerException("Object to validated is null.");
+		
+		if(json instanceof JsonElement) return parser.apply(json.toString());
+		
+		metrics.call();
+		CharSequence text = json instanceof CharSequence ? (CharSequence) json : json.toString();
+		boolean strict = CustomJSONStrictValidatorService.isValidJson(text);
+		T result;
+		if(strict) {
+			metrics.fastPath();
+			result = parse(text, true, parser);
+		}else {
+			if(!muteLog) logger.info("Invalid json: " + text);
+			metrics.repair();
+			try {
+				text = formatInvalidJson(text, CustomJSONRepairLimits.NONE, RepairPipeline.DEFAULT);
+				long start = System.nanoTime();
+				result = parse(text, false, parser);
+				metrics.record(RepairStageEnum.PARSE, start);
+			}catch(RuntimeException e) {
+				metrics.failure();
+				throw e;
+			}
+		}
+		
+		if(!muteLog) logger.info("Valid json: " + result);
+		return result;
+	}
+	
+	/**
+	 * Method that parses a strict or repaired JSON with the parser, and with the lenient parser before it when
+	 * the JSON may not be strict
+	 */
+	private <T> T parse(CharSequence text, boolean strict, Function<String, T> parser) {
+		
+		if(strict || repairEngine == RepairEngineEnum.TOKENIZER) {
+			try {
+				return parser.apply(text.toString());
+			}catch(JsonSyntaxException e) {
+				return parser.apply(toStrictJson(text));
+			}
+		}
+		
+		return parser.apply(toStrictJson(text));
+	}
+	
+	/**
+	 * Method that parses a repaired JSON that is not strict (e.g. with single quotes) with the lenient parser, 
+	 * and returns it as a strict JSON
+	 * 
+	 * @param json
+	 * 
+	 * @return String
+	 */
+	private static String toStrictJson(CharSequence json) {
+		
+		JsonElement validJson = parseJsonObjectOrArray(json);
+		if(validJson == null) throw new JsonSyntaxException("Error: JSON with more invalid characters than commas and quotes on keys and values.");
+		
+		return validJson.toString();
+	}
+	
+	/**
+	 * Method that checks JSON validity and format if needed on the default executor: a virtual thread per task on 
+	 * Java 21+, or the common fork-join pool on older versions. Readers are read on the executor, not on the caller's 
+	 * thread. The result is not kept on the CustomJSON of the service, and the future completes exceptionally with the 
+	 * error of the repair when the exceptions are not muted.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param json
+	 * @param muteLog
+	 * @param muteException
+	 * 
+	 * @return CompletableFuture<JsonElement>
+	 */
+	public CompletableFuture<JsonElement> checkValidityAndFormatObjectAsync(Object json, boolean muteLog, boolean muteException) {
+		return checkValidityAndFormatObjectAsync(json, muteLog, muteException, CustomJSONAsyncExecutor.getDefaultExecutor());
+	}
+	
+	/**
+	 * Method that checks JSON validity and format if needed on the given executor.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param json
+	 * @param muteLog
+	 * @param muteException
+	 * @param executor
+	 * 
+	 * @return CompletableFuture<JsonElement>
+	 */
+	public CompletableFuture<JsonElement> checkValidityAndFormatObjectAsync(Object json, boolean muteLog, boolean muteException, 
+			Executor executor) {
+		
+		if(executor == null) throw new NullPointerException("Executor is null.");
+		
+		return CompletableFuture.supplyAsync(() -> {
+			RepairResult result;
+			try {
+				result = repair(json, muteLog);
+			}catch(IOException e) {
+				throw new CompletionException(e);
+			}
+			
+			if(result.getError() != null && !muteException) throw result.getError();
+			return result.getValidJson();
+		}, executor);
+	}
+	
+	/**
+	 * Method that repairs a batch of JSONs on the common fork-join pool. The results are in the same order
+	 * of the JSONs, and a JSON that can not be repaired only has the error on its own result.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param jsons
+	 * @return List<RepairResult>
+	 */
+	public List<RepairResult> repairAll(List<?> jsons) {
+		return repairAll(jsons, ForkJoinPool.getCommonPoolParallelism());
+	}
+	
+	/**
+	 * Method that repairs a batch of JSONs with at most the given number of threads. The fork-join pool of each 
+	 * parallelism is created on the first call and kept by the service, so many small batches don't pay for the 
+	 * creation of its threads, that finish by themselves when the pool is idle.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param jsons
+	 * @param parallelism
+	 * @return List<RepairResult>
+	 */
+	public List<RepairResult> repairAll(List<?> jsons, int parallelism) {
+		
+		if(jsons == null) throw new NullPointerException("List of JSONs is null.");
+		if(parallelism < 1) throw new IllegalArgumentException("Parallelism must be greater than zero: " + parallelism);
+		
+		return repairAll(jsons, getPool(parallelism));
+	}
+	
+	/**
+	 * Method that repairs a batch of JSONs on the given fork-join pool, that is not shut down.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param jsons
+	 * @param pool
+	 * @return List<RepairResult>
+	 */
+	public List<RepairResult> repairAll(List<?> jsons, ForkJoinPool pool) {
+		
+		if(jsons == null) throw new NullPointerException("List of JSONs is null.");
+		if(pool == null) throw new NullPointerException("Fork-join pool is null.");
+		
+		List<?> inputs = jsons instanceof RandomAccess ? jsons : new ArrayList<>(jsons);
+		RepairResult[] results = new RepairResult[inputs.size()];
+		
+		//about 8 tasks per thread, so the work can be stolen when some JSONs are slower than others
+		int threshold = Math.max(1, inputs.size() / (pool.getParallelism() * 8));
+		pool.invoke(new CustomJSONRepairTask(this, inputs, results, 0, inputs.size(), threshold));
+		
+		return Collections.unmodifiableList(Arrays.asList(results));
+	}
+	
+	/**
+	 * Method that returns the common fork-join pool, for its parallelism, or the pool of the service with 
+	 * the parallelism
+	 */
+	private ForkJoinPool getPool(int parallelism) {
+		if(parallelism == ForkJoinPool.getCommonPoolParallelism()) return ForkJoinPool.commonPool();
+		return pools.computeIfAbsent(parallelism, ForkJoinPool::new);
+	}
+	
+	/**
+	 * Method that repairs a stream of JSONs on the common fork-join pool, keeping the order of the stream. The 
+	 * stream is read in chunks of {@link #STREAM_CHUNK_SIZE} JSONs, each one repaired in parallel, so only a chunk 
+	 * of the JSONs is held at a time. The results, however, are all kept and returned after the last JSON of the 
+	 * stream, so large inputs should be repaired record by record with repairRecords(), or with repairFile().
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param jsons
+	 * @return List<RepairResult>
+	 */
+	public List<RepairResult> repairAll(Stream<?> jsons) {
+		
+		if(jsons == null) throw new NullPointerException("Stream of JSONs is null.");
+		
+		List<RepairResult> results = new ArrayList<>();
+		List<Object> chunk = new ArrayList<>();
+		Iterator<?> iterator = jsons.iterator();
+		while(iterator.hasNext()) {
+			chunk.add(iterator.next());
+			if(chunk.size() == STREAM_CHUNK_SIZE || !iterator.hasNext()) {
+				results.addAll(repairAll(chunk, ForkJoinPool.commonPool()));
+				chunk.clear();
+			}
+		}
+		
+		return Collections.unmodifiableList(results);
+	}
+	
+	/**
+	 * Method that repairs the records of a reader with many JSONs (one per line, or concatenated objects) 
+	 * on demand, while the iterator is consumed. A record that can not be repaired only has the error on its 
+	 * own result, and the iteration continues on the next record. The reader is not closed.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param reader
+	 * @return Iterator<RepairResult>
+	 */
+	public Iterator<RepairResult> repairRecords(Reader reader) {
+		
+		CustomJSONRecordReader records = new CustomJSONRecordReader(reader);
+		return new Iterator<RepairResult>() {
+			
+			@Override
+			public boolean hasNext() {
+				return records.hasNext();
+			}
+			
+			@Override
+			public RepairResult next() {
+				return repairObject(records.next(), true);
+			}
+		};
+	}
+	
+	/**
+	 * Method that repairs the records of a reader with many JSONs, sending each result to the consumer.
+	 * The reader is not closed.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param reader
+	 * @param consumer
+	 * @return long number of records
+	 * 
+	 * @throws IOException
+	 */
+	public long repairRecords(Reader reader, Consumer<RepairResult> consumer) throws IOException {
+		
+		if(consumer == null) throw new NullPointerException("Consumer of results is null.");
+		
+		CustomJSONRecordReader records = new CustomJSONRecordReader(reader);
+		long count = 0;
+		
+		try {
+			while(records.hasNext()) {
+				consumer.accept(repairObject(records.next(), true));
+				count++;
+			}
+		}catch(UncheckedIOException e) {
+			throw e.getCause();
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Method that repairs the records of an UTF-8 input stream with many JSONs, sending each result to the consumer.
+	 * The stream is not closed.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param input
+	 * @param consumer
+	 * @return long number of records
+	 * 
+	 * @throws IOException
+	 */
+	public long repairRecords(InputStream input, Consumer<RepairResult> consumer) throws IOException {
+		if(input == null) throw new NullPointerException("Input stream of JSONs is null.");
+		return repairRecords(new InputStreamReader(input, StandardCharsets.UTF_8), consumer);
+	}
+	
+	/**
+	 * Method that repairs an UTF-8 file with many JSONs (one per line, or concatenated objects) into the destination
+	 * file, with one valid JSON per line in the same order. The source file is memory-mapped in chunks that end on 
+	 * line breaks, and each chunk is repaired on its own thread of a fork-join pool. The JSONs that can not be 
+	 * repaired are logged and skipped.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param source
+	 * @param destination
+	 * @return long number of JSONs written
+	 * 
+	 * @throws IOException
+	 */
+	public long repairFile(Path source, Path destination) throws IOException {
+		return repairFile(source, destination, ForkJoinPool.getCommonPoolParallelism());
+	}
+	
+	/**
+	 * Method that repairs an UTF-8 file with many JSONs into the destination file, with at most the given number of threads.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param source
+	 * @param destination
+	 * @param parallelism
+	 * @return long number of JSONs written
+	 * 
+	 * @throws IOException
+	 */
+	public long repairFile(Path source, Path destination, int parallelism) throws IOException {
+		
+		if(source == null) throw new NullPointerException("Source file is null.");
+		if(destination == null) throw new NullPointerException("Destination file is null.");
+		if(parallelism < 1) throw new IllegalArgumentException("Parallelism must be greater than zero: " + parallelism);
+		
+		return CustomJSONMappedFile.repair(this, source, destination, parallelism);
+	}
+	
+	/**
+	 * Method that parses a repaired JSON, returning null if it is not a JSON object or JSON array.
+	 * 
+	 * @param json
+	 * @return JsonElement
+	 */
+	private static JsonElement parseJsonObjectOrArray(CharSequence json) {
+		
+		JsonElement res;
+		try {
+			res = parseJson(json);
+		}catch(JsonSyntaxException e) {
+			throw new JsonSyntaxException("Error: JSON with more invalid characters than commas and quotes on keys and values.");
+		}
+		
+		return res.isJsonObject() || res.isJsonArray() ? res : null;
+	}
+	
+	/**
+	 * Method that parses a char sequence without copying it to a String. UTF-8 bytes are decoded while they are parsed.
+	 * 
+	 * @param json
+	 * @return JsonElement
+	 */
+	private static JsonElement parseJson(CharSequence json) {
+		
+		Object event = recorder.beginParse();
+		try {
+			if(json instanceof String) return JsonParser.parseString((String) json);
+			
+			CharBuffer chars = json instanceof CustomJSONUtf8Sequence ? ((CustomJSONUtf8Sequence) json).decode() : CharBuffer.wrap(json);
+			return JsonParser.parseReader(new CustomJSONCharBufferReader(chars));
+		}finally {
+			if(event != null) recorder.endParse(event, json.length());
+		}
+	}
+	
+	private static RepairResult logResult(RepairResult result, boolean muteLog) {
+		
+		if(!muteLog) {
+			if(result.isValid()) {
+				logger.info("Valid json: " + result.getValidJson());
+			}else if(result.getError() != null) {
+				logger.warn(result.getError().getClass().getSimpleName() + ": " + result.getErrorMessage());
+			}else {
+				logger.warn("JsonParseException: JSON with more invalid characters than commas and quotes on keys and values.");
+			}
+		}
+		
+		return result;
+	}
+	
+	private static RepairOutcome logOutcome(RepairOutcome outcome, boolean muteLog) {
+		
+		if(!muteLog) {
+			if(outcome.isValid()) {
+				logger.info("Valid json: " + outcome.getValidJson());
+			}else {
+				logger.warn(outcome.getCode() + ": " + outcome.getReason() + " Position: " + outcome.getErrorOffset());
+			}
+		}
+		
+		return outcome;
+	}
+	
+	/**
+	 * Method that return a customJson object
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/08/2019
+	 * 
+	 * @return customJson
+	 */
+	public CustomJSON getCustomJson() {
+		return customJson;
+	}
+	
+	/**
+	 * Method that return the engine used to repair invalid JSONs
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @return repairEngine
+	 */
+	public RepairEngineEnum getRepairEngine() {
+		return repairEngine;
+	}
+	
+	/**
+	 * Method that return the cache of the results of the service, or null
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @return RepairCache
+	 */
+	public RepairCache getRepairCache() {
+		return cache;
+	}
+	
+	/**
+	 * Method that returns the metrics of the repair of the service, that can be registered on JMX
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @return RepairMetrics
+	 */
+	public RepairMetrics getMetrics() {
+		return metrics;
+	}
+	
+	/**
+	 * Method that returns how many strings were already strict JSONs, so they were only
+	 * parsed, without the repair of the engine
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @return long
+	 */
+	public long getFastPathCount() {
+		return metrics.getFastPathCount();
+	}
+	
+	/**
+	 * Method that returns how many invalid JSONs were sent to the repair engine
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @return long
+	 */
+	public long getRepairCount() {
+		return metrics.getRepairCount();
+	}
+	
+	/**
+	 * Method that returns how many invalid JSONs were repaired by the plan of their shape, 
+	 * without the rules of the regex engine
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @return long
+	 */
+	public long getReplayCount() {
+		return plans.getReplayCount();
+	}
+
 }
@@ -0,0 +1,190 @@
+package io.github.mariazevedo88.jfv.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Class with an Aho-Corasick automaton over a set of attributes, so every attribute is found with
+ * one scan of the JSON, whatever the number of attributes. The automaton is a dense table indexed by
+ * the state and by the class of the char (the distinct chars of the attributes, plus one class for
+ * all the other chars), so each char costs one array read.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+final class CustomJSONKeyMatcher {
+
+	static final int ROOT = 0;
+
+	private static final int ASCII_SIZE = 128;
+	private static final int[] NO_MATCHES = new int[0];
+
+	private final int[] keyLengths;
+	private final int[] asciiClasses = new int[ASCII_SIZE];
+	private final char[] otherChars;
+	private final int alphabetSize;
+	private final int[] transitions;
+	private final int[][] matches;
+
+	CustomJSONKeyMatcher(String[] keys) {
+
+		if(keys == null) throw new NullPointerException("List of attributes is null.");
+
+		keyLengths = new int[keys.length];
+		otherChars = buildAlphabet(keys);
+		alphabetSize = countAsciiClasses() + otherChars.length + 1;
+
+		List<int[]> trie = new ArrayList<>();
+		List<int[]> outputs = new ArrayList<>();
+		trie.add(new int[alphabetSize]);
+		outputs.add(NO_MATCHES);
+
+		for (int key = 0; key < keys.length; key++) {
+			addKey(keys[key], key, trie, outputs);
+		}
+
+		int[] failures = new int[trie.size()];
+		int[] queue = new int[trie.size()];
+		int head = 0;
+		int tail = 0;
+
+		for (int next : trie.get(ROOT)) {
+			if(next != ROOT) queue[tail++] = next;
+		}
+
+		while(head < tail) {
+			int state = queue[head++];
+			int[] row = trie.get(state);
+			int[] failureRow = trie.get(failures[state]);
+			outputs.set(state, merge(outputs.get(state), outputs.get(failures[state])));
+
+			for (int c = 1; c < alphabetSize; c++) {
+				if(row[c] == ROOT) {
+					row[c] = failureRow[c];
+				}else {
+					failures[row[c]] = failureRow[c];
+					queue[tail++] = row[c];
+				}
+			}
+		}
+
+		transitions = new int[trie.size() * alphabetSize];
+		for (int state = 0; state < trie.size(); state++) {
+			System.arraycopy(trie.get(state), 0, transitions, state * alphabetSize, alphabetSize);
+		}
+		matches = outputs.toArray(new int[0][]);
+	}
+
+	/**
+	 * Method that returns the state of the automaton after reading a char
+	 *
+	 * @param state
+	 * @param c
+	 * @return int
+	 */
+	int next(int state, char c) {
+		return transitions[state * alphabetSize + classOf(c)];
+	}
+
+	/**
+	 * Method that returns the indexes of the attributes that end on the given state, in the order of
+	 * the list of attributes. The array is shared, so it must not be modified.
+	 *
+	 * @param state
+	 * @return int[]
+	 */
+	int[] matches(int state) {
+		return matches[state];
+	}
+
+	int keyLength(int key) {
+		return keyLengths[key];
+	}
+
+	int size() {
+		return keyLengths.length;
+	}
+
+	/**
+	 * Method that gives a class to each distinct ASCII char of the attributes and returns the other
+	 * chars sorted, to be found by binary search. Empty attributes never match.
+	 */
+	private char[] buildAlphabet(String[] keys) {
+
+		TreeSet<Character> others = new TreeSet<>();
+		for (int key = 0; key < keys.length; key++) {
+			if(keys[key] == null) throw new NullPointerException("Attribute to filter or remove is null.");
+			keyLengths[key] = keys[key].length();
+
+			for (int i = 0; i < keys[key].length(); i++) {
+				char c = keys[key].charAt(i);
+				if(c < ASCII_SIZE) {
+					asciiClasses[c] = -1;
+				}else {
+					others.add(c);
+				}
+			}
+		}
+
+		char[] sorted = new char[others.size()];
+		int i = 0;
+		for (Character c : others) sorted[i++] = c;
+		return sorted;
+	}
+
+	private int countAsciiClasses() {
+		int classes = 0;
+		for (int c = 0; c < ASCII_SIZE; c++) {
+			if(asciiClasses[c] != 0) asciiClasses[c] = ++classes;
+		}
+		return classes;
+	}
+
+	private int classOf(char c) {
+		if(c < ASCII_SIZE) return asciiClasses[c];
+
+		int index = Arrays.binarySearch(otherChars, c);
+		return index < 0 ? 0 : alphabetSize - otherChars.length + index;
+	}
+
+	private void addKey(String key, int index, List<int[]> trie, List<int[]> outputs) {
+
+		if(key.isEmpty()) return;
+
+		int state = ROOT;
+		for (int i = 0; i < key.length(); i++) {
+			int c = classOf(key.charAt(i));
+			int[] row = trie.get(state);
+			if(row[c] == ROOT) {
+				row[c] = trie.size();
+				trie.add(new int[alphabetSize]);
+				outputs.add(NO_MATCHES);
+			}
+			state = row[c];
+		}
+
+		outputs.set(state, merge(outputs.get(state), new int[] {index}));
+	}
+
+	/**
+	 * Method that merges two sorted arrays of attribute indexes
+	 */
+	private static int[] merge(int[] first, int[] second) {
+
+		if(second.length == 0) return first;
+		if(first.length == 0) return second;
+
+		int[] merged = new int[first.length + second.length];
+		int i = 0;
+		int j = 0;
+		int k = 0;
+		while(i < first.length && j < second.length) {
+			merged[k++] = first[i] < second[j] ? first[i++] : second[j++];
+		}
+		while(i < first.length) merged[k++] = first[i++];
+		while(j < second.length) merged[k++] = second[j++];
+		return merged;
+	}
+}
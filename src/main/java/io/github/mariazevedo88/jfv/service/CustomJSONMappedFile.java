@@ -0,0 +1,184 @@
+package io.github.mariazevedo88.jfv.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import io.github.mariazevedo88.jfv.model.RepairResult;
+
+/**
+ * Class that repairs a large UTF-8 file with many JSONs. The file is split in chunks that end on line breaks,
+ * each chunk is memory-mapped and repaired on its own thread, and the valid JSONs are written to the destination
+ * file, one per line, in the same order of the source file.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+final class CustomJSONMappedFile {
+
+	private static final Logger logger = LogManager.getLogger(CustomJSONMappedFile.class.getName());
+
+	static final int MIN_CHUNK_SIZE = 1 << 20;
+	static final int MAX_CHUNK_SIZE = 8 << 20;
+
+	private static final int BOUNDARY_BUFFER_SIZE = 8192;
+
+	private CustomJSONMappedFile() {}
+
+	/**
+	 * Method that repairs the source file into the destination file, returning the number of JSONs written.
+	 * The JSONs that can not be repaired are logged and skipped.
+	 *
+	 * @param formatter
+	 * @param source
+	 * @param destination
+	 * @param parallelism
+	 * @return long
+	 *
+	 * @throws IOException
+	 */
+	static long repair(CustomJSONFormatterService formatter, Path source, Path destination, int parallelism) throws IOException {
+
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try(FileChannel input = FileChannel.open(source, StandardOpenOption.READ);
+			FileChannel output = FileChannel.open(destination, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+					StandardOpenOption.WRITE)){
+
+			long size = input.size();
+			long chunkSize = Math.min(MAX_CHUNK_SIZE, Math.max(MIN_CHUNK_SIZE, size / (parallelism * 4L)));
+
+			//at most two chunks per thread are waiting to be written, so the memory doesn't depend on the file size
+			Deque<Future<Chunk>> pending = new ArrayDeque<>();
+			long written = 0;
+			long start = 0;
+
+			while(start < size) {
+				long end = findChunkEnd(input, start + chunkSize, size);
+				MappedChunk task = new MappedChunk(formatter, input.map(MapMode.READ_ONLY, start, end - start));
+				pending.addLast(pool.submit(task::repair));
+				start = end;
+
+				if(pending.size() >= parallelism * 2) written += write(output, pending.removeFirst());
+			}
+
+			while(!pending.isEmpty()) written += write(output, pending.removeFirst());
+			return written;
+		}finally {
+			pool.shutdownNow();
+		}
+	}
+
+	/**
+	 * Method that returns the index after the first line break from the position, or the size of the file.
+	 */
+	private static long findChunkEnd(FileChannel input, long position, long size) throws IOException {
+
+		ByteBuffer buffer = ByteBuffer.allocate(BOUNDARY_BUFFER_SIZE);
+		while(position < size) {
+			buffer.clear();
+			int read = input.read(buffer, position);
+
+			for(int i = 0; i < read; i++) {
+				if(buffer.get(i) == '\n') return position + i + 1;
+			}
+			position += read;
+		}
+
+		return size;
+	}
+
+	private static long write(FileChannel output, Future<Chunk> future) throws IOException {
+
+		Chunk chunk;
+		try {
+			chunk = future.get();
+		}catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Repair of the file was interrupted.", e);
+		}catch(ExecutionException e) {
+			throw new IOException("Error on the repair of a chunk of the file.", e.getCause());
+		}
+
+		ByteBuffer buffer = ByteBuffer.wrap(chunk.bytes.toByteArray());
+		while(buffer.hasRemaining()) output.write(buffer);
+
+		return chunk.records;
+	}
+
+	/**
+	 * Repair of the records of one memory-mapped chunk of the file
+	 */
+	private static final class MappedChunk {
+
+		private final CustomJSONFormatterService formatter;
+		private final ByteBuffer mapped;
+
+		MappedChunk(CustomJSONFormatterService formatter, ByteBuffer mapped) {
+			this.formatter = formatter;
+			this.mapped = mapped;
+		}
+
+		Chunk repair() throws IOException {
+
+			//a chunk ends on a line break, so it never ends in the middle of an UTF-8 character
+			CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder().onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE);
+			CharBuffer chars = decoder.decode(mapped);
+
+			Chunk chunk = new Chunk(mapped.capacity());
+			try(Writer writer = new OutputStreamWriter(chunk.bytes, StandardCharsets.UTF_8)){
+				formatter.repairRecords(new CustomJSONCharBufferReader(chars), result -> write(writer, chunk, result));
+			}
+
+			return chunk;
+		}
+
+		private static void write(Writer writer, Chunk chunk, RepairResult result) {
+
+			if(!result.isValid()) {
+				logger.warn("JSON of the file skipped: " + result.getErrorMessage());
+				return;
+			}
+
+			try {
+				writer.write(result.getValidJson().toString());
+				writer.write('\n');
+				chunk.records++;
+			}catch(IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	/**
+	 * Repaired JSONs of one chunk, to be written in order
+	 */
+	private static final class Chunk {
+
+		private final ByteArrayOutputStream bytes;
+		private long records;
+
+		Chunk(int size) {
+			this.bytes = new ByteArrayOutputStream(size);
+		}
+	}
+}
@@ -0,0 +1,356 @@
+package io.github.mariazevedo88.jfv.service;
+
+import io.github.mariazevedo88.jfv.service.CompiledProjection.Node;
+
+/**
+ * Class that applies a compiled projection to a string that looks like a json, with one scan of the string.
+ * The values out of the projection are skipped only finding where they end, tracking the keys and brackets
+ * opened after them. A comma ends a value only when the tokenizer would also read it as a field separator, so
+ * the fragments after a comma without a key (e.g. the "perto da praca" of "reference:Ao lado, perto da praca"),
+ * or with a colon of an hour (7:15) or of an uppercase label (TELE:), are part of the previous value. Double quotes
+ * are only considered when they start a key or a value. An instance is used by one call only.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+final class CustomJSONProjector {
+
+	private static final int ASCII_SIZE = 128;
+	private static final byte PLAIN = 0;
+	private static final byte SPACE = 1;
+	private static final byte QUOTE = 2;
+	private static final byte OPEN = 3;
+	private static final byte CLOSE = 4;
+	private static final byte COMMA = 5;
+	private static final byte COLON = 6;
+	private static final byte[] CHAR_CLASSES = new byte[ASCII_SIZE];
+
+	static {
+		CHAR_CLASSES[' '] = SPACE;
+		CHAR_CLASSES['\t'] = SPACE;
+		CHAR_CLASSES['\n'] = SPACE;
+		CHAR_CLASSES['\r'] = SPACE;
+		CHAR_CLASSES['"'] = QUOTE;
+		CHAR_CLASSES['{'] = OPEN;
+		CHAR_CLASSES['['] = OPEN;
+		CHAR_CLASSES['}'] = CLOSE;
+		CHAR_CLASSES[']'] = CLOSE;
+		CHAR_CLASSES[','] = COMMA;
+		CHAR_CLASSES[':'] = COLON;
+	}
+
+	private final CharSequence json;
+	private final int length;
+	private final boolean remove;
+	private final StringBuilder output;
+	private int copyFrom;
+
+	private CustomJSONProjector(CharSequence json, boolean remove) {
+		this.json = json;
+		this.length = json.length();
+		this.remove = remove;
+		this.output = new StringBuilder(remove ? length : 64);
+	}
+
+	/**
+	 * Method that returns a string with only the attributes of the projection, keeping the objects
+	 * and arrays that contain them. Objects without any attribute of the projection are removed,
+	 * except the elements of arrays, that are kept as empty objects.
+	 *
+	 * @param json
+	 * @param projection
+	 * @return String
+	 */
+	static String filter(CharSequence json, CompiledProjection projection) {
+		return new CustomJSONProjector(json, false).project(getRoot(json, projection));
+	}
+
+	/**
+	 * Method that returns the string without the attributes of the projection, and without the commas
+	 * that separated them from the other attributes
+	 *
+	 * @param json
+	 * @param projection
+	 * @return String
+	 */
+	static String remove(CharSequence json, CompiledProjection projection) {
+		return new CustomJSONProjector(json, true).project(getRoot(json, projection));
+	}
+
+	private static Node getRoot(CharSequence json, CompiledProjection projection) {
+		return json instanceof CustomJSONUtf8Sequence ? projection.getUtf8Root() : projection.getRoot();
+	}
+
+	private String project(Node root) {
+
+		int i = skipSpaces(0);
+		if(i < length && json.charAt(i) == '{') {
+			projectObject(root, i);
+		}else if(i < length && json.charAt(i) == '[' && root.getElements() != null) {
+			projectArray(root.getElements(), i);
+		}else if(!remove) {
+			output.append("{}");
+		}
+
+		if(remove) output.append(json, copyFrom, length);
+		return output.toString();
+	}
+
+	/**
+	 * Method that projects the object that starts on the given index
+	 *
+	 * @return int index after the end of the object
+	 */
+	private int projectObject(Node node, int i) {
+
+		int open = output.length();
+		if(!remove) output.append('{');
+		i++;
+
+		while(true) {
+
+			i = skipSpaces(i);
+			if(i >= length) return closeProjection('}', length);
+
+			char next = json.charAt(i);
+			if(next == '}' || next == ']') return closeProjection('}', i + 1);
+			if(next == ',') {
+				i++;
+				continue;
+			}
+
+			int colon = findColon(i);
+			if(colon < 0) {
+				i = findDelimiter(i);
+				continue;
+			}
+
+			Node child = node.getChild(json, keyStart(i), keyEnd(i, colon));
+			if(child == null) {
+				i = findEndOfMember(colon + 1);
+			}else if(child.isSelected()) {
+				int end = findEndOfMember(colon + 1);
+				selectMember(open, i, end);
+				i = end;
+			}else {
+				i = projectNestedValue(child, open, i, skipSpaces(colon + 1));
+			}
+		}
+	}
+
+	/**
+	 * Method that projects the array that starts on the given index
+	 *
+	 * @return int index after the end of the array
+	 */
+	private int projectArray(Node elements, int i) {
+
+		int open = output.length();
+		if(!remove) output.append('[');
+		i++;
+
+		while(true) {
+
+			i = skipSpaces(i);
+			if(i >= length) return closeProjection(']', length);
+
+			char next = json.charAt(i);
+			if(next == ']' || next == '}') return closeProjection(']', i + 1);
+
+			if(next == ',') {
+				i++;
+			}else if(elements.isSelected()) {
+				int end = findDelimiter(i);
+				selectMember(open, i, end);
+				i = end;
+			}else if(next == '{' || (next == '[' && elements.getElements() != null)) {
+				if(!remove) appendSeparator(open);
+				i = findDelimiter(next == '{' ? projectObject(elements, i) : projectArray(elements.getElements(), i));
+			}else {
+				i = findDelimiter(i);
+			}
+		}
+	}
+
+	/**
+	 * Method that projects the value of an attribute that only contains attributes of the projection.
+	 * On the filter, the attribute is removed if nothing of its value was selected.
+	 *
+	 * @return int index of the end of the attribute
+	 */
+	private int projectNestedValue(Node child, int open, int memberStart, int valueStart) {
+
+		if(valueStart >= length) return length;
+
+		char first = json.charAt(valueStart);
+		if(first != '{' && (first != '[' || child.getElements() == null)) return findEndOfMember(valueStart);
+
+		int mark = output.length();
+		if(!remove) {
+			appendSeparator(open);
+			output.append(json, memberStart, valueStart);
+		}
+
+		int keyLength = output.length();
+		int end = first == '{' ? projectObject(child, valueStart) : projectArray(child.getElements(), valueStart);
+		if(!remove && output.length() == keyLength + 2) output.setLength(mark);
+
+		return findEndOfMember(end);
+	}
+
+	private int closeProjection(char close, int end) {
+		if(!remove) output.append(close);
+		return end;
+	}
+
+	/**
+	 * Method that copies a selected attribute or element to the filter, or cuts it from the string on the remove
+	 */
+	private void selectMember(int open, int start, int end) {
+
+		if(!remove) {
+			appendSeparator(open);
+			output.append(json, start, trimEndOfValue(start, end));
+			return;
+		}
+
+		output.append(json, copyFrom, start);
+		if(end < length && json.charAt(end) == ',') {
+			copyFrom = skipSpaces(end + 1);
+			return;
+		}
+
+		copyFrom = end;
+		int last = trimEnd(0, output.length(), output);
+		if(last > 0 && output.charAt(last - 1) == ',') output.setLength(last - 1);
+	}
+
+	private void appendSeparator(int open) {
+		if(output.length() > open + 1) output.append(',');
+	}
+
+	/**
+	 * Method that finds the end of the value of an attribute: the next comma, right key or right bracket out of
+	 * the keys and brackets opened by the value, skipping the commas that don't separate fields
+	 */
+	private int findEndOfMember(int i) {
+
+		int end = findDelimiter(i);
+		while(end < length && json.charAt(end) == ',') {
+			if(CustomJSONTokenizer.isFieldSeparator(json, end + 1)) return end;
+			end = findDelimiter(end + 1);
+		}
+		return end;
+	}
+
+	/**
+	 * Method that finds the next comma, right key or right bracket out of the keys, brackets and double quotes
+	 * opened after the given index
+	 */
+	private int findDelimiter(int i) {
+
+		int depth = 0;
+		boolean startOfToken = true;
+
+		for (; i < length; i++) {
+			char next = json.charAt(i);
+
+			switch(next < ASCII_SIZE ? CHAR_CLASSES[next] : PLAIN) {
+				case PLAIN:
+					startOfToken = false;
+					break;
+				case QUOTE:
+					if(startOfToken) i = skipString(i);
+					startOfToken = false;
+					break;
+				case OPEN:
+					depth++;
+					startOfToken = true;
+					break;
+				case CLOSE:
+					if(depth-- == 0) return i;
+					startOfToken = false;
+					break;
+				case COMMA:
+					if(depth == 0) return i;
+					startOfToken = true;
+					break;
+				case COLON:
+					startOfToken = true;
+					break;
+				default:
+					break;
+			}
+		}
+		return length;
+	}
+
+	/**
+	 * Method that returns the index of the colon of the attribute that starts on the given index,
+	 * or -1 if the fragment has no colon
+	 */
+	private int findColon(int start) {
+
+		int i = json.charAt(start) == '"' ? skipString(start) + 1 : start;
+
+		for (; i < length; i++) {
+			char next = json.charAt(i);
+			byte charClass = next < ASCII_SIZE ? CHAR_CLASSES[next] : PLAIN;
+			if(charClass == COLON) return i;
+			if(charClass >= OPEN) break;
+		}
+		return -1;
+	}
+
+	private int keyStart(int i) {
+		return json.charAt(i) == '"' ? i + 1 : i;
+	}
+
+	private int keyEnd(int i, int colon) {
+		if(json.charAt(i) == '"') return Math.min(skipString(i), colon);
+		return trimEnd(i, colon);
+	}
+
+	/**
+	 * Method that returns the index of the double quote that closes the string started on the given index
+	 */
+	private int skipString(int i) {
+		for (i++; i < length; i++) {
+			char next = json.charAt(i);
+			if(next == '\\') i++;
+			else if(next == '"') return i;
+		}
+		return length;
+	}
+
+	private int skipSpaces(int i) {
+		while(i < length && isSpace(json.charAt(i))) i++;
+		return i;
+	}
+
+	private static boolean isSpace(char next) {
+		return next < ASCII_SIZE && CHAR_CLASSES[next] == SPACE;
+	}
+
+	/**
+	 * Method that removes the blanks after a quoted string, an object or an array, or before a double comma,
+	 * keeping the other ones at the end of an unquoted value, that are part of the value for the repair
+	 */
+	private int trimEndOfValue(int start, int end) {
+		int last = trimEnd(start, end);
+		if(last == start) return end;
+		if(end + 1 < length && json.charAt(end) == ',' && json.charAt(end + 1) == ',') return last;
+
+		char close = json.charAt(last - 1);
+		return close == '"' || close == '}' || close == ']' ? last : end;
+	}
+
+	private int trimEnd(int start, int end) {
+		return trimEnd(start, end, json);
+	}
+
+	private static int trimEnd(int start, int end, CharSequence chars) {
+		while(end > start && isSpace(chars.charAt(end - 1))) end--;
+		return end;
+	}
+}
@@ -0,0 +1,112 @@
+package io.github.mariazevedo88.jfv.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Class that splits the records of a reader with many JSONs, such as NDJSON files or concatenated
+ * objects ({...}{...}). A record ends on a line break or when the object or array that started it
+ * is closed, so a malformed record never consumes the next line. Only the current record is kept in memory.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+final class CustomJSONRecordReader implements Iterator<String> {
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private final Reader reader;
+	private final char[] buffer = new char[BUFFER_SIZE];
+	private final StringBuilder record = new StringBuilder();
+
+	private int position;
+	private int limit;
+	private String nextRecord;
+
+	CustomJSONRecordReader(Reader reader) {
+		if(reader == null) throw new NullPointerException("Reader of JSONs is null.");
+		this.reader = reader;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if(nextRecord == null) nextRecord = readRecord();
+		return nextRecord != null;
+	}
+
+	@Override
+	public String next() {
+		if(!hasNext()) throw new NoSuchElementException("There are no more JSONs on the reader.");
+
+		String current = nextRecord;
+		nextRecord = null;
+		return current;
+	}
+
+	/**
+	 * Method that reads the next record, skipping blank lines and the commas between records.
+	 * Braces and brackets inside double quotes don't change the depth of the record.
+	 */
+	private String readRecord() {
+
+		int next = read();
+		while(next != -1 && isSeparator(next)) next = read();
+		if(next == -1) return null;
+
+		record.setLength(0);
+		int depth = 0;
+		boolean quoted = false;
+		boolean escaped = false;
+
+		while(next != -1 && next != '\n' && next != '\r') {
+
+			record.append((char) next);
+
+			if(quoted) {
+				if(escaped) {
+					escaped = false;
+				}else if(next == '\\') {
+					escaped = true;
+				}else if(next == '"') {
+					quoted = false;
+				}
+			}else if(next == '"') {
+				quoted = true;
+			}else if(next == '{' || next == '[') {
+				depth++;
+			}else if((next == '}' || next == ']') && --depth == 0) {
+				break;
+			}
+
+			next = read();
+		}
+
+		return record.toString();
+	}
+
+	private int read() {
+
+		if(position == limit) {
+			try {
+				limit = reader.read(buffer, 0, BUFFER_SIZE);
+			}catch(IOException e) {
+				throw new UncheckedIOException(e);
+			}
+
+			position = 0;
+			if(limit <= 0) {
+				limit = 0;
+				return -1;
+			}
+		}
+
+		return buffer[position++];
+	}
+
+	private static boolean isSeparator(int next) {
+		return next == ',' || next == ' ' || next == '\t' || next == '\n' || next == '\r';
+	}
+}
@@ -0,0 +1,48 @@
+package io.github.mariazevedo88.jfv.service;
+
+import java.util.regex.Pattern;
+
+/**
+ * Class of a rule that replaces all the matches of a regular expression compiled once
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+final class CustomJSONRegexRule implements RepairRule {
+
+	private final String name;
+	private final Pattern pattern;
+	private final String replacement;
+
+	CustomJSONRegexRule(String name, Pattern pattern, String replacement) {
+		this.name = name;
+		this.pattern = pattern;
+		this.replacement = replacement;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public String apply(String json) {
+		return pattern.matcher(json).replaceAll(replacement);
+	}
+
+	/**
+	 * Method that applies the rule counting each match as an iteration of the limits
+	 *
+	 * @param json
+	 * @param limits
+	 * @return String
+	 */
+	String apply(String json, CustomJSONRepairLimits limits) {
+		return limits.replaceAll(pattern, json, replacement);
+	}
+
+	@Override
+	public String toString() {
+		return "RepairRule [name=" + name + ", regex=" + pattern + ", replacement=" + replacement + "]";
+	}
+}
@@ -0,0 +1,26 @@
+package io.github.mariazevedo88.jfv.service;
+
+import com.google.gson.JsonParseException;
+
+import io.github.mariazevedo88.jfv.model.enumeration.RepairOutcomeEnum;
+
+/**
+ * Exception of a repair that gave up because it exceeded one of the limits of the repair options. It doesn't fill
+ * its stack trace, since the limit is the cause of the failure, not the code that was running.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+final class CustomJSONRepairLimitException extends JsonParseException {
+
+	private static final long serialVersionUID = 1L;
+
+	CustomJSONRepairLimitException(RepairOutcomeEnum code, int offset) {
+		super("Error: repair gave up. " + code.getReason() + " Position: " + offset);
+	}
+
+	@Override
+	public synchronized Throwable fillInStackTrace() {
+		return this;
+	}
+}
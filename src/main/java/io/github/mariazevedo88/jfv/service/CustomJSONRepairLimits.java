@@ -0,0 +1,177 @@
+package io.github.mariazevedo88.jfv.service;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import io.github.mariazevedo88.jfv.model.enumeration.RepairOutcomeEnum;
+
+/**
+ * Class that keeps the limits of a single repair call: the deadline, computed when the call starts, and the
+ * iterations done so far. The repair engines call it inside their loops, so a repair that exceeds a limit gives up
+ * cooperatively, without interrupting the thread. The clock is read only once every {@value #CLOCK_INTERVAL}
+ * iterations.
+ *
+ * An instance holds the state of a single call and must not be shared between threads, except {@link #NONE}.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+final class CustomJSONRepairLimits {
+
+	static final int CLOCK_INTERVAL = 64;
+
+	/**
+	 * Limits of a repair without limits, that doesn't keep any state
+	 */
+	static final CustomJSONRepairLimits NONE = new CustomJSONRepairLimits(Integer.MAX_VALUE, Long.MAX_VALUE, 0, false);
+
+	private final int maxDepth;
+	private final long maxIterations;
+	private final long deadline;
+	private final boolean hasDeadline;
+	private long iterations;
+
+	private CustomJSONRepairLimits(int maxDepth, long maxIterations, long deadline, boolean hasDeadline) {
+		this.maxDepth = maxDepth;
+		this.maxIterations = maxIterations;
+		this.deadline = deadline;
+		this.hasDeadline = hasDeadline;
+	}
+
+	/**
+	 * Method that starts the limits of a repair call with the given options
+	 *
+	 * @param options
+	 * @return CustomJSONRepairLimits
+	 */
+	static CustomJSONRepairLimits start(RepairOptions options) {
+
+		if(!options.hasLimits()) return NONE;
+
+		boolean hasDeadline = options.getTimeout() != null;
+		long deadline = hasDeadline ? System.nanoTime() + options.getTimeout().toNanos() : 0;
+		return new CustomJSONRepairLimits(options.getMaxDepth(), options.getMaxIterations(), deadline, hasDeadline);
+	}
+
+	int getMaxDepth() {
+		return maxDepth;
+	}
+
+	/**
+	 * Method that counts one iteration of the repair, and returns the limit exceeded by it, or null
+	 *
+	 * @return RepairOutcomeEnum
+	 */
+	RepairOutcomeEnum next() {
+
+		if(this == NONE) return null;
+
+		iterations++;
+		if(iterations > maxIterations) return RepairOutcomeEnum.TOO_MANY_ITERATIONS;
+		if(hasDeadline && iterations % CLOCK_INTERVAL == 0 && isAfterDeadline()) return RepairOutcomeEnum.DEADLINE_EXCEEDED;
+		return null;
+	}
+
+	/**
+	 * Method that returns the offset of the first object or array of the text nested deeper than the maximum depth,
+	 * or -1. The brackets inside double quotes are ignored. It's used by the engines that don't count the depth
+	 * while they read, as the regex engine, and on the valid JSONs, that are parsed without repair.
+	 *
+	 * @param text
+	 * @return int
+	 */
+	int indexOfTooDeep(CharSequence text) {
+
+		if(maxDepth == Integer.MAX_VALUE) return -1;
+
+		int depth = 0;
+		boolean quoted = false;
+		for (int i = 0; i < text.length(); i++) {
+			char next = text.charAt(i);
+			if(quoted) {
+				if(next == '\\') i++; //escaped char
+				else if(next == '"') quoted = false;
+			}else if(next == '"') quoted = true;
+			else if((next == '{' || next == '[') && ++depth > maxDepth) return i;
+			else if(next == '}' || next == ']') depth--;
+		}
+		return -1;
+	}
+
+	/**
+	 * Method that replaces all the matches of the pattern, as {@link Matcher#replaceAll(String)}, counting each match
+	 * as an iteration. With a deadline, it is also checked while the regular expression reads the text.
+	 *
+	 * @param pattern
+	 * @param text
+	 * @param replacement
+	 * @return String
+	 * @throws CustomJSONRepairLimitException if a limit is exceeded
+	 */
+	String replaceAll(Pattern pattern, String text, String replacement) {
+
+		if(this == NONE) return pattern.matcher(text).replaceAll(replacement);
+
+		Matcher matcher = pattern.matcher(hasDeadline ? new DeadlineSequence(text) : text);
+		if(!matcher.find()) return text;
+
+		StringBuffer result = new StringBuffer(text.length() + 16);
+		do {
+			RepairOutcomeEnum exceeded = next();
+			if(exceeded != null) throw new CustomJSONRepairLimitException(exceeded, matcher.start());
+			matcher.appendReplacement(result, replacement);
+		}while(matcher.find());
+
+		matcher.appendTail(result);
+		return result.toString();
+	}
+
+	private boolean isAfterDeadline() {
+		return System.nanoTime() - deadline > 0;
+	}
+
+	/**
+	 * Char sequence of a text that checks the deadline once every 4096 chars read, so a regular expression that
+	 * backtracks for a long time on the same match also gives up
+	 */
+	private final class DeadlineSequence implements CharSequence {
+
+		private final String text;
+		private final int offset;
+		private final int length;
+		private int reads;
+
+		private DeadlineSequence(String text) {
+			this(text, 0, text.length());
+		}
+
+		private DeadlineSequence(String text, int offset, int length) {
+			this.text = text;
+			this.offset = offset;
+			this.length = length;
+		}
+
+		@Override
+		public char charAt(int index) {
+			if((++reads & 0xFFF) == 0 && isAfterDeadline()) {
+				throw new CustomJSONRepairLimitException(RepairOutcomeEnum.DEADLINE_EXCEEDED, offset + index);
+			}
+			return text.charAt(offset + index);
+		}
+
+		@Override
+		public int length() {
+			return length;
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return new DeadlineSequence(text, offset + start, end - start);
+		}
+
+		@Override
+		public String toString() {
+			return text.substring(offset, offset + length);
+		}
+	}
+}
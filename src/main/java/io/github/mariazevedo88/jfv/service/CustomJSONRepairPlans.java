@@ -0,0 +1,367 @@
+package io.github.mariazevedo88.jfv.service;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import io.github.mariazevedo88.jfv.model.enumeration.RepairStageEnum;
+
+/**
+ * Class that memoizes the repair of the regex engine per shape of JSON. Producers often send records with the same
+ * keys and structure, and only the values change. The shape (signature) of a record has its keys, its delimiters and
+ * the kind of each value, so records with the same shape are repaired in the same way: the repaired JSON is a sequence
+ * of constant segments, with the values between them. This sequence is the plan of the shape.
+ *
+ * The plan is learned on the second record of a shape, by repairing a copy of it with unique markers in place of the
+ * values, and is kept only if it gives the same JSON the engine gave to the record. Only records whose values have
+ * no characters that the rules of the engine change (commas, parentheses, quotes, brackets...) have a shape; the
+ * others are always repaired by the engine.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+final class CustomJSONRepairPlans {
+
+	static final int MAX_PLANS = 256;
+	static final int MAX_VALUES = 1024;
+
+	private static final Object SEEN = new Object();
+	private static final Object UNPLANNABLE = new Object();
+
+	//kinds of values on the signature, with flags for a digit on the first and on the last char
+	private static final char STRING_VALUE = '\u0001';
+	private static final char NUMBER_VALUE = '\u0005';
+	private static final int FIRST_DIGIT = 1;
+	private static final int LAST_DIGIT = 2;
+
+	private final ConcurrentHashMap<String, Object> plans = new ConcurrentHashMap<>();
+	private final LongAdder replayCount = new LongAdder();
+	private final RepairMetrics metrics;
+
+	CustomJSONRepairPlans(RepairMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Method that repairs the JSON by replaying the plan of its shape, or with the engine. The engine is also
+	 * called to learn the plan, on the second record of a shape.
+	 *
+	 * @param json
+	 * @param engine
+	 * @return String
+	 */
+	String repair(String json, Function<String, String> engine) {
+
+		long start = System.nanoTime();
+		Shape shape = Shape.of(json);
+		if(shape == null) return engine.apply(json);
+
+		Object plan = plans.get(shape.signature);
+		if(plan instanceof Plan) {
+			replayCount.increment();
+			String repaired = ((Plan) plan).replay(json, shape);
+			metrics.record(RepairStageEnum.PLAN_REPLAY, start);
+			return repaired;
+		}
+
+		String repaired = engine.apply(json);
+		if(plan == null) {
+			if(plans.size() < MAX_PLANS) plans.putIfAbsent(shape.signature, SEEN);
+		}else if(plan == SEEN) {
+			plans.replace(shape.signature, SEEN, learn(json, shape, repaired, engine));
+		}
+		return repaired;
+	}
+
+	long getReplayCount() {
+		return replayCount.sum();
+	}
+
+	/**
+	 * Method that learns the plan of a shape by repairing a copy of the record with markers in place of the values,
+	 * and verifies it with the JSON repaired by the engine
+	 *
+	 * @param json
+	 * @param shape
+	 * @param repaired
+	 * @param engine
+	 * @return Object the plan, or UNPLANNABLE
+	 */
+	private static Object learn(String json, Shape shape, String repaired, Function<String, String> engine) {
+
+		String[] markers = new String[shape.size];
+		StringBuilder copy = new StringBuilder(json.length() + shape.size * 12);
+		int last = 0;
+		for (int i = 0; i < shape.size; i++) {
+			markers[i] = marker(i, shape.kinds[i]);
+			copy.append(json, last, shape.starts[i]).append(markers[i]);
+			last = shape.ends[i];
+		}
+		copy.append(json, last, json.length());
+
+		String template;
+		try {
+			template = engine.apply(copy.toString());
+		}catch(RuntimeException e) {
+			return UNPLANNABLE;
+		}
+
+		String[] segments = new String[shape.size + 1];
+		int cursor = 0;
+		for (int i = 0; i < shape.size; i++) {
+			int index = template.indexOf(markers[i], cursor);
+			if(index < 0) return UNPLANNABLE;
+			segments[i] = template.substring(cursor, index);
+			cursor = index + markers[i].length();
+		}
+		segments[shape.size] = template.substring(cursor);
+
+		Plan plan = new Plan(segments);
+		return plan.replay(json, shape).equals(repaired) ? plan : UNPLANNABLE;
+	}
+
+	/**
+	 * Method that returns a unique marker of the same kind of the value: a number, or a string with digits
+	 * at the same ends of the value
+	 */
+	private static String marker(int index, char kind) {
+
+		String number = String.format("%04d", index);
+		if(kind >= NUMBER_VALUE) {
+			return (kind - NUMBER_VALUE == LAST_DIGIT ? "-7" : "7") + "0000" + number;
+		}
+
+		int flags = kind - STRING_VALUE;
+		return ((flags & FIRST_DIGIT) != 0 ? "1" : "") + "jfv" + number + "q" + ((flags & LAST_DIGIT) != 0 ? "1" : "");
+	}
+
+	/**
+	 * Constant segments of the repaired JSONs of a shape, with the values between them
+	 */
+	private static final class Plan {
+
+		private final String[] segments;
+		private final int length;
+
+		private Plan(String[] segments) {
+			this.segments = segments;
+			int sum = 0;
+			for (String segment : segments) sum += segment.length();
+			this.length = sum;
+		}
+
+		private String replay(String json, Shape shape) {
+			StringBuilder builder = new StringBuilder(length + json.length());
+			for (int i = 0; i < shape.size; i++) {
+				builder.append(segments[i]).append(json, shape.starts[i], shape.ends[i]);
+			}
+			return builder.append(segments[shape.size]).toString();
+		}
+	}
+
+	/**
+	 * Signature of a JSON, with the offsets of its values
+	 */
+	static final class Shape {
+
+		private final String signature;
+		private final int[] starts;
+		private final int[] ends;
+		private final char[] kinds;
+		private final int size;
+
+		private Shape(String signature, int[] starts, int[] ends, char[] kinds, int size) {
+			this.signature = signature;
+			this.starts = starts;
+			this.ends = ends;
+			this.kinds = kinds;
+			this.size = size;
+		}
+
+		/**
+		 * Method that reads the shape of a JSON with unquoted keys and values, or returns null if the JSON has
+		 * another format, or values that the engine could change
+		 *
+		 * @param json
+		 * @return Shape
+		 */
+		static Shape of(String json) {
+
+			int length = json.length();
+			if(length == 0 || (json.charAt(0) != '{' && json.charAt(0) != '[')) return null;
+
+			StringBuilder signature = new StringBuilder(64);
+			StringBuilder containers = new StringBuilder();
+			int[] starts = new int[16];
+			int[] ends = new int[16];
+			char[] kinds = new char[16];
+			int size = 0;
+
+			int i = 0;
+			boolean lastKeyDigit = false;
+			boolean expectKey = false;
+			boolean afterValue = false;
+			while(i < length) {
+
+				char next = json.charAt(i);
+				if(afterValue) {
+					if(next == ',') {
+						expectKey = containers.charAt(containers.length() - 1) == '{';
+						afterValue = false;
+					}else if(!close(next, containers)) {
+						return null;
+					}
+					signature.append(next);
+					i++;
+					continue;
+				}
+
+				if(expectKey) {
+					if(next == '}' && signature.charAt(signature.length() - 1) == '{') {
+						close(next, containers);
+						signature.append(next);
+						afterValue = true;
+						expectKey = false;
+						i++;
+						continue;
+					}
+					int end = i;
+					while(end < length && isKeyChar(json.charAt(end))) end++;
+					if(end == i || end >= length || json.charAt(end) != ':') return null;
+
+					signature.append(json, i, end + 1);
+					lastKeyDigit = isDigit(json.charAt(end - 1));
+					expectKey = false;
+					i = end + 1;
+					continue;
+				}
+
+				if(next == '{' || next == '[') {
+					containers.append(next);
+					signature.append(next);
+					expectKey = next == '{';
+					lastKeyDigit = false;
+					i++;
+					if(next == '[' && i < length && json.charAt(i) == ']') {
+						close(']', containers);
+						signature.append(']');
+						afterValue = true;
+						i++;
+					}
+					continue;
+				}
+
+				int end = endOfValue(json, i);
+				if(end < 0 || (lastKeyDigit && isDigit(next))) return null;
+
+				if(isLiteral(json, i, end)) {
+					signature.append(json, i, end);
+				}else {
+					if(size == MAX_VALUES) return null;
+					if(size == starts.length) {
+						starts = Arrays.copyOf(starts, size * 2);
+						ends = Arrays.copyOf(ends, size * 2);
+						kinds = Arrays.copyOf(kinds, size * 2);
+					}
+
+					int flags = (isDigit(next) ? FIRST_DIGIT : 0) | (isDigit(json.charAt(end - 1)) ? LAST_DIGIT : 0);
+					char kind = isJsonNumber(json, i, end) ? (char) (NUMBER_VALUE + (flags == LAST_DIGIT ? LAST_DIGIT : 0))
+							: (char) (STRING_VALUE + flags);
+					starts[size] = i;
+					ends[size] = end;
+					kinds[size++] = kind;
+					signature.append(kind);
+				}
+				lastKeyDigit = false;
+				afterValue = true;
+				i = end;
+			}
+
+			if(containers.length() > 0 || !afterValue) return null;
+			return new Shape(signature.toString(), starts, ends, kinds, size);
+		}
+
+		private static boolean close(char next, StringBuilder containers) {
+
+			if(containers.length() == 0) return false;
+			char open = containers.charAt(containers.length() - 1);
+			if((open == '{' && next != '}') || (open == '[' && next != ']')) return false;
+
+			containers.setLength(containers.length() - 1);
+			return true;
+		}
+
+		/**
+		 * Method that returns the end of an unquoted value, or -1 if the value is empty, starts or ends with a blank,
+		 * or has a character that the rules of the engine change. Colons are accepted only between digits (hours),
+		 * at most two of them.
+		 */
+		private static int endOfValue(String json, int start) {
+
+			int colons = 0;
+			int end = start;
+			int length = json.length();
+			for (; end < length; end++) {
+				char next = json.charAt(end);
+				if(next == ',' || next == '}' || next == ']') break;
+				if(next == ':') {
+					if(++colons > 2 || end == start || !isDigit(json.charAt(end - 1)) || end + 1 >= length || !isDigit(json.charAt(end + 1))) {
+						return -1;
+					}
+				}else if(next < 0x20 || next == '(' || next == ')' || next == '\'' || next == '"' || next == ';'
+						|| next == '{' || next == '[' || next == '\\') {
+					return -1;
+				}
+			}
+
+			if(end == start || end == length || json.charAt(start) == ' ' || json.charAt(end - 1) == ' ') return -1;
+			return end;
+		}
+
+		private static boolean isLiteral(String json, int start, int end) {
+			int size = end - start;
+			return (size == 4 && (json.startsWith("true", start) || json.startsWith("null", start)))
+					|| (size == 5 && json.startsWith("false", start));
+		}
+
+		/**
+		 * Method that verifies if a value is a number in the JSON format, as the tokenizer does
+		 */
+		private static boolean isJsonNumber(String json, int start, int end) {
+
+			int index = start;
+			if(index < end && json.charAt(index) == '-') index++;
+			if(index >= end || !isDigit(json.charAt(index))) return false;
+
+			if(json.charAt(index) == '0') {
+				index++;
+			}else {
+				while(index < end && isDigit(json.charAt(index))) index++;
+			}
+
+			if(index < end && json.charAt(index) == '.') {
+				index++;
+				if(index >= end || !isDigit(json.charAt(index))) return false;
+				while(index < end && isDigit(json.charAt(index))) index++;
+			}
+
+			if(index < end && (json.charAt(index) == 'e' || json.charAt(index) == 'E')) {
+				index++;
+				if(index < end && (json.charAt(index) == '+' || json.charAt(index) == '-')) index++;
+				if(index >= end || !isDigit(json.charAt(index))) return false;
+				while(index < end && isDigit(json.charAt(index))) index++;
+			}
+
+			return index == end;
+		}
+
+		private static boolean isKeyChar(char next) {
+			return (next >= 'a' && next <= 'z') || (next >= 'A' && next <= 'Z') || isDigit(next) || next == '_';
+		}
+
+		private static boolean isDigit(char next) {
+			return next >= '0' && next <= '9';
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package io.github.mariazevedo88.jfv.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+import io.github.mariazevedo88.jfv.model.RepairResult;
+
+/**
+ * Fork-join task that repairs a range of a batch of JSONs, splitting it in halves while the
+ * range is bigger than the threshold, so idle workers can steal the other half.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+final class CustomJSONRepairTask extends RecursiveAction {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient CustomJSONFormatterService formatter;
+	private final transient List<?> jsons;
+	private final RepairResult[] results;
+	private final int start;
+	private final int end;
+	private final int threshold;
+
+	CustomJSONRepairTask(CustomJSONFormatterService formatter, List<?> jsons, RepairResult[] results, int start, int end, int threshold) {
+		this.formatter = formatter;
+		this.jsons = jsons;
+		this.results = results;
+		this.start = start;
+		this.end = end;
+		this.threshold = threshold;
+	}
+
+	@Override
+	protected void compute() {
+
+		if(end - start <= threshold) {
+			for(int i = start; i < end; i++) {
+				results[i] = repair(jsons.get(i));
+			}
+			return;
+		}
+
+		int middle = (start + end) >>> 1;
+		invokeAll(new CustomJSONRepairTask(formatter, jsons, results, start, middle, threshold),
+				new CustomJSONRepairTask(formatter, jsons, results, middle, end, threshold));
+	}
+
+	/**
+	 * Method that repairs one JSON of the batch, keeping any failure on its own result.
+	 */
+	private RepairResult repair(Object json) {
+		try {
+			return formatter.repair(json, true);
+		}catch(IOException e) {
+			return new RepairResult(null, false, new UncheckedIOException(e));
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package io.github.mariazevedo88.jfv.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * Class that exposes the characters of a reader as a sequence with absolute indexes, keeping in memory only
+ * the characters after the last released index. The characters are read on demand by {@link #fill(int)},
+ * and the buffer is compacted, or grown, only when it is full.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+final class CustomJSONStreamWindow implements CharSequence {
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private final Reader reader;
+	private char[] buffer = new char[BUFFER_SIZE];
+	private int base;
+	private int limit;
+	private int mark;
+	private boolean endOfInput;
+
+	CustomJSONStreamWindow(Reader reader) {
+		this.reader = reader;
+	}
+
+	/**
+	 * Method that reads the reader until the given index is available or the input ends
+	 *
+	 * @param index
+	 * @return int index after the last character read
+	 */
+	int fill(int index) {
+
+		while(index >= limit && !endOfInput) {
+			if(limit - base == buffer.length) compact();
+
+			int read;
+			try {
+				read = reader.read(buffer, limit - base, buffer.length - (limit - base));
+			}catch(IOException e) {
+				throw new UncheckedIOException(e);
+			}
+
+			if(read < 0) endOfInput = true;
+			else limit += read;
+		}
+		return limit;
+	}
+
+	/**
+	 * Method that marks the characters before the given index as not needed anymore
+	 *
+	 * @param index
+	 */
+	void release(int index) {
+		mark = index;
+	}
+
+	private void compact() {
+
+		if(mark > base) {
+			System.arraycopy(buffer, mark - base, buffer, 0, limit - mark);
+			base = mark;
+		}
+		//the buffer grows when the characters still needed fill more than half of it
+		if(limit - base > buffer.length / 2) buffer = Arrays.copyOf(buffer, buffer.length * 2);
+	}
+
+	@Override
+	public char charAt(int index) {
+		return buffer[index - base];
+	}
+
+	@Override
+	public int length() {
+		return limit;
+	}
+
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		return new String(buffer, start - base, end - start);
+	}
+
+	@Override
+	public String toString() {
+		return new String(buffer, mark - base, limit - mark);
+	}
+}
@@ -0,0 +1,51 @@
+package io.github.mariazevedo88.jfv.service;
+
+import io.github.mariazevedo88.jfv.model.util.StrictJsonScanner;
+
+/**
+ * Class with a strict (RFC 8259) validator of JSON texts, that scans the characters only once
+ * and doesn't allocate objects, to be used before the repair of a JSON.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public final class CustomJSONStrictValidatorService {
+
+	/**
+	 * Maximum nesting of objects and arrays checked by the validator. Deeper texts are
+	 * considered invalid, so they follow the repair path.
+	 */
+	public static final int MAX_DEPTH = StrictJsonScanner.MAX_DEPTH;
+
+	private CustomJSONStrictValidatorService() {}
+
+	/**
+	 * Method that verifies if a char sequence is a strict JSON object or JSON array,
+	 * with only whitespaces before and after it.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param json
+	 * @return boolean
+	 */
+	public static boolean isValidJson(CharSequence json) {
+		return StrictJsonScanner.isValidJson(json);
+	}
+
+	/**
+	 * Method that verifies if a range of a char array is a strict JSON object or JSON array.
+	 * The array is not copied, only wrapped.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param json
+	 * @param offset
+	 * @param length
+	 * @return boolean
+	 */
+	public static boolean isValidJson(char[] json, int offset, int length) {
+		return StrictJsonScanner.isValidJson(json, offset, length);
+	}
+}
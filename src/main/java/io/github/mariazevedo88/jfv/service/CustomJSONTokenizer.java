@@ -0,0 +1,720 @@
+package io.github.mariazevedo88.jfv.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+import io.github.mariazevedo88.jfv.model.enumeration.RepairOutcomeEnum;
+
+/**
+ * Lenient tokenizer that reads a JSON-like string once and writes the quoted JSON in the same pass.
+ * It is the single-pass alternative to the chain of regular expressions of {@link CustomJSONFormatterService},
+ * applying the same corrections while the input is read:
+ *
+ * - keys and values without quotation marks are quoted, values are always written as strings;
+ * - commas are separators only when followed by a key (key:), another comma or a closing delimiter,
+ *   otherwise they belong to the value;
+ * - decimal numbers with comma (1,5) are written with dot;
+ * - hours in the HH:mm and HH:mm:ss formats are kept inside the value;
+ * - parentheses wrongly placed are replaced by commas;
+ * - uppercase words followed by a colon (TELE:) are removed from the value;
+ * - empty values, double commas and trailing commas are accepted.
+ *
+ * The tokenizer also reads from a Reader and writes to a Writer: the input is kept only from the member being read,
+ * and the output is written each time it reaches {@value #FLUSH_SIZE} characters, so the memory depends on the
+ * size of the members and not on the size of the JSON.
+ *
+ * A tokenizer instance holds the state of a single call and must not be shared between threads.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+final class CustomJSONTokenizer {
+
+	static final int FLUSH_SIZE = 8192;
+
+	private final CharSequence input;
+	private final CustomJSONRepairLimits limits;
+	private final CustomJSONStreamWindow window;
+	private final Writer writer;
+	private final StringBuilder output;
+	private char[] chunk;
+	private int length;
+
+	private int position;
+	private int depth;
+	private int errorOffset = -1;
+	private RepairOutcomeEnum errorCode;
+
+	CustomJSONTokenizer(CharSequence input) {
+		this(input, CustomJSONRepairLimits.NONE);
+	}
+
+	CustomJSONTokenizer(CharSequence input, CustomJSONRepairLimits limits) {
+		this.input = input;
+		this.limits = limits;
+		this.window = null;
+		this.writer = null;
+		this.length = input.length();
+		this.output = new StringBuilder(length + (length >> 2) + 16);
+	}
+
+	CustomJSONTokenizer(Reader reader, Writer writer) {
+		this.window = new CustomJSONStreamWindow(reader);
+		this.input = window;
+		this.limits = CustomJSONRepairLimits.NONE;
+		this.writer = writer;
+		this.output = new StringBuilder(FLUSH_SIZE * 2);
+	}
+
+	/**
+	 * Method that reads the whole input and returns the repaired JSON, or null if the input
+	 * could not be repaired. In this case, {@link #getErrorOffset()} and {@link #getErrorReason()}
+	 * describe the failure.
+	 *
+	 * @return String
+	 */
+	String repair() {
+		return read() ? output.toString() : null;
+	}
+
+	/**
+	 * Method that reads the whole reader and writes the repaired JSON to the writer, returning false if the input
+	 * could not be repaired. In this case, part of the JSON may have been written already.
+	 *
+	 * @return boolean
+	 * @throws IOException
+	 */
+	boolean repairTo() throws IOException {
+		try {
+			if(!read()) return false;
+			writeOutput();
+			return true;
+		}catch(UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	private boolean read() {
+
+		skipWhitespaces();
+		if(!has(position)) return failed(RepairOutcomeEnum.EMPTY_INPUT);
+
+		char next = input.charAt(position);
+		if(next != '{' && next != '[') return failed(RepairOutcomeEnum.INVALID_START);
+		if(!readStructure(next)) return false;
+
+		skipWhitespaces();
+		return !has(position) || failed(RepairOutcomeEnum.TRAILING_CHARACTERS);
+	}
+
+	/**
+	 * Method that returns the offset of the character where the repair failed, or -1
+	 *
+	 * @return int
+	 */
+	int getErrorOffset() {
+		return errorOffset;
+	}
+
+	/**
+	 * Method that returns the outcome of the repair failure, or null
+	 *
+	 * @return RepairOutcomeEnum
+	 */
+	RepairOutcomeEnum getErrorCode() {
+		return errorCode;
+	}
+
+	/**
+	 * Method that returns a short description of the repair failure, or null
+	 *
+	 * @return String
+	 */
+	String getErrorReason() {
+		return errorCode == null ? null : errorCode.getReason();
+	}
+
+	private boolean readStructure(char next) {
+
+		if(++depth > limits.getMaxDepth()) return failed(RepairOutcomeEnum.TOO_DEEP);
+		boolean read = next == '{' ? readObject() : readArray();
+		depth--;
+		return read;
+	}
+
+	/**
+	 * Method that reads an object, from the left key to the matching right key
+	 *
+	 * @return boolean
+	 */
+	private boolean readObject() {
+
+		position++;
+		output.append('{');
+		boolean first = true;
+
+		while(true) {
+			if(!checkpoint()) return false;
+			skipWhitespaces();
+			if(!has(position)) return failed(RepairOutcomeEnum.UNCLOSED_OBJECT);
+
+			char next = input.charAt(position);
+			if(next == '}') {
+				position++;
+				output.append('}');
+				return true;
+			}
+
+			if(next == ',') { //empty fields, double and trailing commas
+				position++;
+				continue;
+			}
+
+			if(!first) output.append(',');
+			
+			boolean quotedKey = next == '"';
+			if(!readKey() || !readMemberValue(quotedKey)) return false;
+			first = false;
+
+			skipWhitespaces();
+			if(!has(position)) return failed(RepairOutcomeEnum.UNCLOSED_OBJECT);
+
+			next = input.charAt(position);
+			if(next != ',' && next != '}') return failed(RepairOutcomeEnum.MISSING_COMMA_IN_OBJECT);
+		}
+	}
+
+	/**
+	 * Method that reads an array, from the left bracket to the matching right bracket
+	 *
+	 * @return boolean
+	 */
+	private boolean readArray() {
+
+		position++;
+		output.append('[');
+		boolean first = true;
+
+		while(true) {
+			if(!checkpoint()) return false;
+			skipWhitespaces();
+			if(!has(position)) return failed(RepairOutcomeEnum.UNCLOSED_ARRAY);
+
+			char next = input.charAt(position);
+			if(next == ']') {
+				position++;
+				output.append(']');
+				return true;
+			}
+
+			if(next == ',') {
+				position++;
+				continue;
+			}
+
+			if(!first) output.append(',');
+			if(!readElement(next)) return false;
+			first = false;
+
+			skipWhitespaces();
+			if(!has(position)) return failed(RepairOutcomeEnum.UNCLOSED_ARRAY);
+
+			next = input.charAt(position);
+			if(next != ',' && next != ']') return failed(RepairOutcomeEnum.MISSING_COMMA_IN_ARRAY);
+		}
+	}
+
+	/**
+	 * Method that reads a key, with or without quotes, and the colon that follows it
+	 *
+	 * @return boolean
+	 */
+	private boolean readKey() {
+
+		if(input.charAt(position) == '"') {
+			if(!copyQuotedString()) return false;
+		}else {
+			int start = position;
+			while(has(position) && !isStructural(input.charAt(position))) position++;
+
+			if(!has(position) || input.charAt(position) != ':') {
+				position = start;
+				return failed(RepairOutcomeEnum.KEY_WITHOUT_VALUE);
+			}
+
+			int end = position;
+			while(end > start && isWhitespace(input.charAt(end-1))) end--;
+
+			output.append('"');
+			appendEscaped(start, end);
+			output.append('"');
+		}
+
+		skipWhitespaces();
+		if(!has(position) || input.charAt(position) != ':') return failed(RepairOutcomeEnum.KEY_WITHOUT_VALUE);
+
+		position++;
+		output.append(':');
+		return true;
+	}
+
+	/**
+	 * Method that reads the value of a key. Objects, arrays and quoted strings are read as they are,
+	 * as well as numbers, booleans and null after a quoted key. Any other value is read as a string 
+	 * until the comma that separates it from the next key.
+	 *
+	 * @param quotedKey
+	 * @return boolean
+	 */
+	private boolean readMemberValue(boolean quotedKey) {
+
+		int afterColon = position;
+		skipWhitespaces();
+		if(!has(position)) return failed(RepairOutcomeEnum.KEY_WITHOUT_VALUE);
+
+		char next = input.charAt(position);
+		if(next == '{' || next == '[') return readStructure(next);
+		if(next == '"') return copyQuotedString();
+		if(quotedKey && copyJsonLiteral()) return true;
+
+		//as in the main regex (: ?), only one blank after the colon is not part of the value
+		position = afterColon;
+		boolean blankSkipped = input.charAt(position) == ' ';
+		if(blankSkipped) position++;
+
+		output.append('"');
+		int valueStart = output.length();
+		readUnquotedValue();
+		if(blankSkipped && output.length() == valueStart) output.append(' ');
+		output.append('"');
+
+		return true;
+	}
+
+	/**
+	 * Method that copies a number, a boolean or null that is followed by a comma (that is not a decimal comma) 
+	 * or a right key
+	 *
+	 * @return boolean
+	 */
+	private boolean copyJsonLiteral() {
+
+		int start = position;
+		int end = start;
+		while(has(end) && !isStructural(input.charAt(end)) && !isWhitespace(input.charAt(end))) end++;
+
+		int index = end;
+		while(has(index) && isWhitespace(input.charAt(index))) index++;
+
+		if(!has(index) || (input.charAt(index) != ',' && input.charAt(index) != '}') || !isJsonLiteral(start, end)) {
+			return false;
+		}
+
+		position = index;
+		if(isDecimalComma()) {
+			position = start;
+			return false;
+		}
+
+		output.append(input, start, end);
+		return true;
+	}
+
+	/**
+	 * Method that reads an unquoted value until the right key or the comma that separates it from the next field,
+	 * applying the corrections of malformed fields on the way
+	 */
+	private void readUnquotedValue() {
+
+		while(has(position)) {
+
+			char next = input.charAt(position);
+			switch(next) {
+				case '}':
+					return;
+				case ',':
+					if(isDecimalComma()) {
+						output.append('.');
+						position++;
+					}else if(isFieldSeparator(input, position + 1)) {
+						return;
+					}else {
+						output.append(',');
+						position++;
+					}
+					break;
+				case '(':
+				case ')':
+					output.append(',');
+					position++;
+					break;
+				case ':':
+					output.append(':');
+					position++;
+					break;
+				case '\'':
+					if(has(position + 1) && input.charAt(position+1) == '\'') {
+						position += 2;
+					}else {
+						output.append(next);
+						position++;
+					}
+					break;
+				default:
+					if(isWhitespace(next)) {
+						readWhitespacesOfValue();
+					}else if(isUppercase(next)) {
+						readUppercaseWordOfValue();
+					}else {
+						position = appendEscaped(position);
+					}
+			}
+		}
+	}
+
+	/**
+	 * Method that keeps the blanks of a value, except the ones before a double comma
+	 */
+	private void readWhitespacesOfValue() {
+
+		int start = position;
+		while(has(position) && isWhitespace(input.charAt(position))) position++;
+
+		if(has(position + 1) && input.charAt(position) == ',' && input.charAt(position+1) == ',') return;
+		appendEscaped(start, position);
+	}
+
+	/**
+	 * Method that removes an uppercase word followed by a colon (colon wrongly placed) or keeps the word otherwise
+	 */
+	private void readUppercaseWordOfValue() {
+
+		int start = position;
+		while(has(position) && isUppercase(input.charAt(position))) position++;
+
+		if(has(position) && input.charAt(position) == ':') {
+			position++;
+			return;
+		}
+
+		output.append(input, start, position);
+	}
+
+	/**
+	 * Method that reads an element of an array. Unquoted elements are written as JSON literals
+	 * when they are numbers, booleans or null, and as strings otherwise.
+	 *
+	 * @param next
+	 * @return boolean
+	 */
+	private boolean readElement(char next) {
+
+		if(next == '{' || next == '[') return readStructure(next);
+		if(next == '"') return copyQuotedString();
+
+		int start = position;
+		while(has(position)) {
+			char current = input.charAt(position);
+			if(current == ',' || current == ']' || current == '}') break;
+			position++;
+		}
+
+		int end = position;
+		while(end > start && isWhitespace(input.charAt(end-1))) end--;
+
+		if(isJsonLiteral(start, end)) {
+			output.append(input, start, end);
+		}else {
+			output.append('"');
+			appendEscaped(start, end);
+			output.append('"');
+		}
+
+		return true;
+	}
+
+	/**
+	 * Method that copies a quoted string as it is, escaping only the control characters
+	 *
+	 * @return boolean
+	 */
+	private boolean copyQuotedString() {
+
+		int start = position;
+		output.append('"');
+		position++;
+
+		while(has(position)) {
+			char next = input.charAt(position);
+			if(next == '"') {
+				output.append('"');
+				position++;
+				return true;
+			}
+
+			if(next == '\\' && has(position + 1)) {
+				output.append(next).append(input.charAt(position+1));
+				position += 2;
+			}else {
+				position = appendEscaped(position);
+			}
+		}
+
+		position = start;
+		return failed(RepairOutcomeEnum.UNCLOSED_STRING);
+	}
+
+	/**
+	 * Method that verifies if the comma in the current position is between two digits (decimal number with comma)
+	 *
+	 * @return boolean
+	 */
+	private boolean isDecimalComma() {
+		return has(position + 1) && isDigit(input.charAt(position-1))
+				&& isDigit(input.charAt(position+1));
+	}
+
+	/**
+	 * Method that looks ahead of a comma to verify if it separates two fields: it does when it is followed by
+	 * a key (key:), a quoted key, another comma, a left or right key or bracket, or by the end of the input.
+	 * It is also how {@link CustomJSONProjector} finds where the values end, so a projection keeps the same
+	 * values of the repair.
+	 *
+	 * @param input
+	 * @param index index after the comma
+	 * @return boolean
+	 */
+	static boolean isFieldSeparator(CharSequence input, int index) {
+
+		while(has(input, index) && isWhitespace(input.charAt(index))) index++;
+		if(!has(input, index)) return true;
+
+		char next = input.charAt(index);
+		if(isStructural(next)) return next != ':';
+
+		while(has(input, index) && !isStructural(input.charAt(index)) && !isWhitespace(input.charAt(index))) index++;
+
+		int end = index;
+		while(has(input, index) && isWhitespace(input.charAt(index))) index++;
+		if(!has(input, index) || input.charAt(index) != ':') return false;
+
+		//uppercase words followed by colon are removed and hours keep their colons
+		char last = input.charAt(end-1);
+		boolean colonRightAfterKey = end == index;
+		if(colonRightAfterKey && isUppercase(last)) return false;
+
+		return !(colonRightAfterKey && isDigit(last) && has(input, index + 1) && isDigit(input.charAt(index+1)));
+	}
+
+	private static boolean has(CharSequence input, int index) {
+		if(index < input.length()) return true;
+		return input instanceof CustomJSONStreamWindow && index < ((CustomJSONStreamWindow) input).fill(index);
+	}
+
+	/**
+	 * Method that verifies if an unquoted element is a number, a boolean or null
+	 *
+	 * @param start
+	 * @param end
+	 * @return boolean
+	 */
+	private boolean isJsonLiteral(int start, int end) {
+
+		int size = end - start;
+		if(size == 4 && regionMatches(start, "true")) return true;
+		if(size == 4 && regionMatches(start, "null")) return true;
+		if(size == 5 && regionMatches(start, "false")) return true;
+
+		return isJsonNumber(start, end);
+	}
+
+	/**
+	 * Method that verifies if an unquoted element is a number in the JSON format (-0.5e10, 12, 3.14...)
+	 *
+	 * @param start
+	 * @param end
+	 * @return boolean
+	 */
+	private boolean isJsonNumber(int start, int end) {
+
+		int index = start;
+		if(index < end && input.charAt(index) == '-') index++;
+		if(index >= end || !isDigit(input.charAt(index))) return false;
+
+		if(input.charAt(index) == '0') {
+			index++;
+		}else {
+			while(index < end && isDigit(input.charAt(index))) index++;
+		}
+
+		if(index < end && input.charAt(index) == '.') {
+			index++;
+			if(index >= end || !isDigit(input.charAt(index))) return false;
+			while(index < end && isDigit(input.charAt(index))) index++;
+		}
+
+		if(index < end && (input.charAt(index) == 'e' || input.charAt(index) == 'E')) {
+			index++;
+			if(index < end && (input.charAt(index) == '+' || input.charAt(index) == '-')) index++;
+			if(index >= end || !isDigit(input.charAt(index))) return false;
+			while(index < end && isDigit(input.charAt(index))) index++;
+		}
+
+		return index == end;
+	}
+
+	private boolean regionMatches(int start, String literal) {
+		for(int i = 0; i < literal.length(); i++) {
+			if(input.charAt(start+i) != literal.charAt(i)) return false;
+		}
+		return true;
+	}
+
+	private void appendEscaped(int start, int end) {
+		int index = start;
+		while(index < end) index = appendEscaped(index);
+	}
+
+	/**
+	 * Method that appends the character of a value in the given index escaping quotes, backslashes 
+	 * (when they do not start a valid escape sequence) and control characters
+	 *
+	 * @param index
+	 * @return int index of the next character to be read
+	 */
+	private int appendEscaped(int index) {
+
+		char next = input.charAt(index);
+		switch(next) {
+			case '"':
+				output.append("\\\"");
+				break;
+			case '\\':
+				if(isEscapeSequence(index)) {
+					output.append(next).append(input.charAt(index+1));
+					return index + 2;
+				}
+				output.append("\\\\");
+				break;
+			case '\n':
+				output.append("\\n");
+				break;
+			case '\r':
+				output.append("\\r");
+				break;
+			case '\t':
+				output.append("\\t");
+				break;
+			default:
+				if(next < 0x20) {
+					output.append(String.format("\\u%04x", (int) next));
+				}else {
+					output.append(next);
+				}
+		}
+		
+		return index + 1;
+	}
+
+	/**
+	 * Method that verifies if the backslash in the given index starts a valid escape sequence
+	 *
+	 * @param index
+	 * @return boolean
+	 */
+	private boolean isEscapeSequence(int index) {
+
+		if(!has(index + 1)) return false;
+
+		char next = input.charAt(index+1);
+		if(next != 'u') return "\"\\/bfnrt".indexOf(next) >= 0;
+		if(!has(index + 5)) return false;
+
+		for(int i = index + 2; i < index + 6; i++) {
+			if(Character.digit(input.charAt(i), 16) < 0) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Method that verifies if there is a character in the given index, reading more characters of the reader if needed
+	 *
+	 * @param index
+	 * @return boolean
+	 */
+	private boolean has(int index) {
+		if(index < length) return true;
+		if(window == null) return false;
+
+		length = window.fill(index);
+		return index < length;
+	}
+
+	/**
+	 * Method called before each member of objects and arrays, when the characters already read are not 
+	 * needed anymore: the reader window is released until the current position and the output is written
+	 * once it is large enough. It's also where the iterations and the deadline of the limits are checked.
+	 *
+	 * @return boolean false if a limit was exceeded
+	 */
+	private boolean checkpoint() {
+
+		RepairOutcomeEnum exceeded = limits.next();
+		if(exceeded != null) return failed(exceeded);
+
+		if(window == null) return true;
+		window.release(position);
+
+		if(output.length() < FLUSH_SIZE) return true;
+		try {
+			writeOutput();
+		}catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return true;
+	}
+
+	/**
+	 * Method that writes the output to the writer through a reused array, and clears it
+	 *
+	 * @throws IOException
+	 */
+	private void writeOutput() throws IOException {
+
+		int size = output.length();
+		if(chunk == null || chunk.length < size) chunk = new char[Math.max(size, FLUSH_SIZE * 2)];
+
+		output.getChars(0, size, chunk, 0);
+		writer.write(chunk, 0, size);
+		output.setLength(0);
+	}
+
+	private void skipWhitespaces() {
+		while(has(position) && isWhitespace(input.charAt(position))) position++;
+	}
+
+	private boolean failed(RepairOutcomeEnum code) {
+		errorOffset = position;
+		errorCode = code;
+		return false;
+	}
+
+	private static boolean isStructural(char next) {
+		return next == '{' || next == '}' || next == '[' || next == ']' || next == ',' || next == ':' || next == '"';
+	}
+
+	private static boolean isWhitespace(char next) {
+		return next == ' ' || next == '\t' || next == '\n' || next == '\r';
+	}
+
+	private static boolean isDigit(char next) {
+		return next >= '0' && next <= '9';
+	}
+
+	private static boolean isUppercase(char next) {
+		return next >= 'A' && next <= 'Z';
+	}
+
+}
@@ -0,0 +1,132 @@
+package io.github.mariazevedo88.jfv.service;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Class that exposes the bytes of an UTF-8 JSON as a char sequence without decoding them: each byte is a char
+ * from 0 to 255. The delimiters of a JSON (keys, brackets, commas, colons, quotes and blanks) are ASCII, and
+ * the bytes of the other UTF-8 characters are always greater than 127, so the validator, the tokenizer and the
+ * projector can read the bytes directly and their output, made of the same chars, is still UTF-8.
+ * The bytes are decoded only when the JSON is parsed or logged.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+final class CustomJSONUtf8Sequence implements CharSequence {
+
+	private final byte[] array;
+	private final ByteBuffer buffer;
+	private final int offset;
+	private final int length;
+
+	private CustomJSONUtf8Sequence(byte[] array, ByteBuffer buffer, int offset, int length) {
+		this.array = array;
+		this.buffer = buffer;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	/**
+	 * Method that wraps a range of a byte array, without copying it
+	 *
+	 * @param json
+	 * @param offset
+	 * @param length
+	 * @return CustomJSONUtf8Sequence
+	 */
+	static CustomJSONUtf8Sequence wrap(byte[] json, int offset, int length) {
+		if(offset < 0 || length < 0 || offset > json.length - length) {
+			throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length + ") out of bounds for length "
+					+ json.length);
+		}
+		return new CustomJSONUtf8Sequence(json, null, offset, length);
+	}
+
+	/**
+	 * Method that wraps the remaining bytes of a buffer, from its position to its limit, without copying them
+	 * and without changing the position of the buffer
+	 *
+	 * @param json
+	 * @return CustomJSONUtf8Sequence
+	 */
+	static CustomJSONUtf8Sequence wrap(ByteBuffer json) {
+		if(json.hasArray()) return new CustomJSONUtf8Sequence(json.array(), null, json.arrayOffset() + json.position(), json.remaining());
+		return new CustomJSONUtf8Sequence(null, json, json.position(), json.remaining());
+	}
+
+	/**
+	 * Method that wraps the output of the tokenizer or of the projector for a sequence of bytes, where each char is a byte
+	 *
+	 * @param chars
+	 * @return CustomJSONUtf8Sequence
+	 */
+	static CustomJSONUtf8Sequence wrapChars(String chars) {
+		byte[] bytes = toBytes(chars);
+		return new CustomJSONUtf8Sequence(bytes, null, 0, bytes.length);
+	}
+
+	/**
+	 * Method that returns the bytes of a string where each char is a byte
+	 *
+	 * @param chars
+	 * @return byte[]
+	 */
+	static byte[] toBytes(String chars) {
+		return chars.getBytes(StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * Method that returns a copy of the bytes of the sequence
+	 *
+	 * @return byte[]
+	 */
+	byte[] toByteArray() {
+		if(array != null) return Arrays.copyOfRange(array, offset, offset + length);
+
+		byte[] bytes = new byte[length];
+		toByteBuffer().get(bytes);
+		return bytes;
+	}
+
+	/**
+	 * Method that decodes the bytes of the sequence, replacing the malformed UTF-8 characters
+	 *
+	 * @return CharBuffer
+	 */
+	CharBuffer decode() {
+		return StandardCharsets.UTF_8.decode(toByteBuffer());
+	}
+
+	private ByteBuffer toByteBuffer() {
+		if(array != null) return ByteBuffer.wrap(array, offset, length);
+
+		ByteBuffer view = buffer.duplicate();
+		view.limit(offset + length);
+		view.position(offset);
+		return view;
+	}
+
+	@Override
+	public char charAt(int index) {
+		byte next = array != null ? array[offset + index] : buffer.get(offset + index);
+		return (char) (next & 0xFF);
+	}
+
+	@Override
+	public int length() {
+		return length;
+	}
+
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		return new CustomJSONUtf8Sequence(array, buffer, offset + start, end - start);
+	}
+
+	@Override
+	public String toString() {
+		return array != null ? new String(array, offset, length, StandardCharsets.UTF_8) : decode().toString();
+	}
+}
@@ -14,6 +14,8 @@ import io.github.mariazevedo88.jfv.model.enumeration.DelimitersEnum;
  */
 public class CustomJSONValidatorFiltersService {
 	
+	private static final CustomJSONFlightRecorder recorder = CustomJSONFlightRecorder.RECORDER;
+	
 	/**
 	 * Method that verifies with string still has a invalid values or keys.
 	 * 
@@ -29,49 +31,64 @@ public class CustomJSONValidatorFiltersService {
 	}
 	
 	/**
-	 * Method that remove a json object/json array pattern from the string
+	 * Method that finds where the value of an attribute ends: on the first comma out of the keys and brackets
+	 * opened after the attribute (the comma is part of the value), or before the right key that closes the
+	 * object of the attribute.
 	 * 
 	 * @author Mariana Azevedo
-	 * @since 12/04/2019
+	 * @since 18/10/2026
 	 * 
 	 * @param invalidJson
-	 * @param jsonObjectPattern
-	 * @return String
+	 * @param from index after the attribute
+	 * @return int index after the end of the value
 	 */
-	private String removeJSONObjectFromString(String invalidJson, String jsonObjectPattern) {
+	private int findEndOfValue(String invalidJson, int from) {
 		
-		StringBuilder builderModified = new StringBuilder(invalidJson);
-		int lastIndexOf = builderModified.indexOf(jsonObjectPattern) + jsonObjectPattern.length();
+		int keys = 0;
+		int brackets = 0;
 		
-		int numberLeftKeys = 0;
-		int numberRightKeys = 0;
-		int numberLeftBrackets = 0;
-		int numberRightBrackets = 0;
-		
-		for (int i = lastIndexOf; i < builderModified.length(); i++) {
-			
-			String next = builderModified.substring(i,i+1);
+		for (int i = from; i < invalidJson.length(); i++) {
 			
-			numberLeftKeys = checkNumberOfLeftKeys(numberLeftKeys, next);
-			numberRightKeys = checkIfExpressionisARightKey(numberRightKeys, next);
-			numberLeftBrackets = checkIfExpressionIsALeftBracket(numberLeftBrackets, next);
-			numberRightBrackets = checkIfExpressionIsARightBracket(numberRightBrackets, next);
+			char next = invalidJson.charAt(i);
 			
-			if(checkIfJsonHasEqualNumberExpressionsBeforeComma(numberLeftKeys, numberRightKeys, numberLeftBrackets, 
-					numberRightBrackets, next) || checkIfLastKeyIsARightKey(numberLeftKeys, numberRightKeys, next)) {
-				
-				if (next.equals(DelimitersEnum.COMMA.getValue())) jsonObjectPattern = jsonObjectPattern.concat(next);
-				break;
+			if(next == '{') {
+				keys++;
+			}else if(next == '}') {
+				if(--keys < 0) return i;
+			}else if(next == '[') {
+				brackets++;
+			}else if(next == ']') {
+				brackets--;
+			}else if(next == ',' && keys == 0 && brackets == 0) {
+				return i + 1;
 			}
-			
-			jsonObjectPattern = jsonObjectPattern.concat(next);
 		}
-
-		return builderModified.toString().replace(jsonObjectPattern, "");
+		
+		return invalidJson.length();
 	}
-
+	
 	/**
-	 * Method that filter a json object/json array pattern from the string
+	 * Method that returns the first attribute of the list, among the ones that end on the current char,
+	 * that was not found yet.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 * 
+	 * @param keys
+	 * @param found
+	 * @return int index of the attribute, or -1
+	 */
+	private int firstKeyNotFound(int[] keys, boolean[] found) {
+		for (int key : keys) {
+			if(!found[key]) return key;
+		}
+		return -1;
+	}
+	
+	/**
+	 * Method that remove a list of json object/json array patterns from the string. All the patterns
+	 * are found in one scan of the string: each one removes its first occurrence out of the values
+	 * already removed, from the pattern to the end of its value.
 	 * 
 	 * @author Mariana Azevedo
 	 * @since 12/04/2019
@@ -80,159 +97,72 @@ public class CustomJSONValidatorFiltersService {
 	 * @param jsonObjectPattern
 	 * @return String
 	 */
-	private String filterJSONObjectFromString(String invalidJson, String jsonObjectPattern) {
+	public String removeJSONObjectsFromString(String invalidJson, String[] jsonObjectPattern) {
+		
+		Object event = recorder.beginFilter();
+		String jsonModified = removeKeys(invalidJson, jsonObjectPattern);
+		if(event != null) recorder.endFilter(event, "remove", invalidJson.length(), jsonModified.length());
 		
-		StringBuilder builderModified = new StringBuilder(invalidJson);
-		int lastIndexOf = builderModified.indexOf(jsonObjectPattern) + jsonObjectPattern.length();
+		return jsonModified;
+	}
+	
+	private String removeKeys(String invalidJson, String[] jsonObjectPattern) {
+		
+		CustomJSONKeyMatcher matcher = new CustomJSONKeyMatcher(jsonObjectPattern);
+		boolean[] removed = new boolean[matcher.size()];
+		int pending = matcher.size();
 		
-		int numberLeftKeys = 0;
-		int numberRightKeys = 0;
-		int numberLeftBrackets = 0;
-		int numberRightBrackets = 0;
+		StringBuilder jsonModified = new StringBuilder(invalidJson.length());
+		int copyFrom = 0;
+		int state = CustomJSONKeyMatcher.ROOT;
+		int i = 0;
 		
-		for (int i = lastIndexOf; i < builderModified.length(); i++) {
+		while(i < invalidJson.length() && pending > 0) {
 			
-			String next = builderModified.substring(i,i+1);
-
-			numberLeftKeys = checkNumberOfLeftKeys(numberLeftKeys, next);
-			numberRightKeys = checkIfExpressionisARightKey(numberRightKeys, next);
-			numberLeftBrackets = checkIfExpressionIsALeftBracket(numberLeftBrackets, next);
-			numberRightBrackets = checkIfExpressionIsARightBracket(numberRightBrackets, next);
+			state = matcher.next(state, invalidJson.charAt(i));
+			int key = firstKeyNotFound(matcher.matches(state), removed);
 			
-			if(checkIfJsonHasEqualNumberExpressionsBeforeComma(numberLeftKeys, numberRightKeys, numberLeftBrackets,
-					numberRightBrackets, next) || checkIfLastKeyIsARightKey(numberLeftKeys, numberRightKeys, next)) {
-				
-				if (next.equals(DelimitersEnum.COMMA.getValue())) jsonObjectPattern = jsonObjectPattern.concat(next);
-				break;
+			if(key < 0) {
+				i++;
+				continue;
 			}
 			
-			jsonObjectPattern = jsonObjectPattern.concat(next);
-			
+			removed[key] = true;
+			pending--;
+			jsonModified.append(invalidJson, copyFrom, i + 1 - matcher.keyLength(key));
+			copyFrom = i = findEndOfValue(invalidJson, i + 1);
+			state = CustomJSONKeyMatcher.ROOT;
 		}
-
-		return new StringBuilder(jsonObjectPattern).toString();
-	}
-	
-	/**
-	 * Method that checks if the last character of json is a right key and if the 
-	 * expression has more right keys than left keys.
-	 * 
-	 * @author Mariana Azevedo
-	 * @since 27/05/2019
-	 *  
-	 * @param numberLeftKeys
-	 * @param numberRightKeys
-	 * @param next
-	 * @return boolean
-	 */
-	private boolean checkIfLastKeyIsARightKey(int numberLeftKeys, int numberRightKeys, String next) {
-		return next.equals(DelimitersEnum.RIGHT_KEY.getValue()) && hasMoreRightKeys(numberLeftKeys, numberRightKeys);
-	}
-
-	/**
-	 * Method that checks if the json has a equal number of right keys and left keys or left brackets and right brackets,
-	 * before a comma. If the test is true, it means that the analysis has reached the end of the original string.
-	 * 
-	 * @author Mariana Azevedo
-	 * @since 27/05/2019
-	 * 
-	 * @param numberLeftKeys
-	 * @param numberRightKeys
-	 * @param numberLeftBrackets
-	 * @param numberRightBrackets
-	 * @param next
-	 * @return boolean
-	 */
-	private boolean checkIfJsonHasEqualNumberExpressionsBeforeComma(int numberLeftKeys, int numberRightKeys, int numberLeftBrackets, 
-			int numberRightBrackets, String next) {
 		
-		return next.equals(DelimitersEnum.COMMA.getValue()) && hasEqualNumberOfKeysOrBrackets(numberLeftKeys, numberRightKeys) 
-				&& hasEqualNumberOfKeysOrBrackets(numberLeftBrackets, numberRightBrackets);
-	}
-
-	/**
-	 * Method that checks if the expression to be read is a right bracket.
-	 * 
-	 * @author Mariana Azevedo
-	 * @since 27/05/2019
-	 * 
-	 * @param numberRightBrackets
-	 * @param next
-	 * @return int
-	 */
-	private int checkIfExpressionIsARightBracket(int numberRightBrackets, String next) {
-		if(next.equals(DelimitersEnum.RIGHT_BRACKETS.getValue())) numberRightBrackets++;
-		return numberRightBrackets;
-	}
-
-	/**
-	 * Method that checks if the expression to be read is a left bracket.
-	 * 
-	 * @author Mariana Azevedo
-	 * @since 27/05/2019
-	 * 
-	 * @param numberLeftBrackets
-	 * @param next
-	 * @return int
-	 */
-	private int checkIfExpressionIsALeftBracket(int numberLeftBrackets, String next) {
-		if(next.equals(DelimitersEnum.LEFT_BRACKETS.getValue())) numberLeftBrackets++;
-		return numberLeftBrackets;
-	}
-
-	/**
-	 * Method that checks if the expression to be read is a right key.
-	 * 
-	 * @author Mariana Azevedo
-	 * @since 27/05/2019
-	 * 
-	 * @param numberRightKeys
-	 * @param next
-	 * @return int
-	 */
-	private int checkIfExpressionisARightKey(int numberRightKeys, String next) {
-		if(next.equals(DelimitersEnum.RIGHT_KEY.getValue())) numberRightKeys++;
-		return numberRightKeys;
-	}
-
-	/**
-	 * Method that checks if the expression to be read is a left key.
-	 * 
-	 * @author Mariana Azevedo
-	 * @since 27/05/2019
-	 * 
-	 * @param numberLeftKeys
-	 * @param next
-	 * @return int
-	 */
-	private int checkNumberOfLeftKeys(int numberLeftKeys, String next) {
-		if(next.equals(DelimitersEnum.LEFT_KEY.getValue())) numberLeftKeys++;
-		return numberLeftKeys;
+		return jsonModified.append(invalidJson, copyFrom, invalidJson.length()).toString();
 	}
 	
 	/**
-	 * Method that remove a list of json object/json array patterns from the string
+	 * Method that remove the paths of a compiled projection from the string (e.g. payment[*].value removes
+	 * the value of each payment, and not the values of other objects). The same projection can be used
+	 * by many threads.
 	 * 
 	 * @author Mariana Azevedo
-	 * @since 12/04/2019
+	 * @since 18/10/2026
 	 * 
 	 * @param invalidJson
-	 * @param jsonObjectPattern
+	 * @param projection
 	 * @return String
 	 */
-	public String removeJSONObjectsFromString(String invalidJson, String[] jsonObjectPattern) {
+	public String removeJSONObjectsFromString(String invalidJson, CompiledProjection projection) {
+		if(projection == null) throw new NullPointerException("Projection is null.");
 		
-		String jsonModified = invalidJson;
-		
-		for(String attribute : jsonObjectPattern) {
-			jsonModified = removeJSONObjectFromString(jsonModified, attribute);
-		}
+		Object event = recorder.beginFilter();
+		String jsonModified = CustomJSONProjector.remove(invalidJson, projection);
+		if(event != null) recorder.endFilter(event, "remove", invalidJson.length(), jsonModified.length());
 		
 		return jsonModified;
 	}
 	
 	/**
-	 * Method that filter a list of json object/json array pattern from the string
+	 * Method that filter a list of json object/json array pattern from the string. All the patterns
+	 * are found in one scan of the string, which also finds where their values end, tracking the keys
+	 * and brackets opened since the start of the string. Patterns that aren't in the string are ignored.
 	 * 
 	 * @author Mariana Azevedo
 	 * @since 12/04/2019
@@ -243,46 +173,105 @@ public class CustomJSONValidatorFiltersService {
 	 */
 	public String filterJSONObjectsFromString(String invalidJson, String[] jsonObjectPattern) {
 		
-		String jsonModified = "";
+		Object event = recorder.beginFilter();
+		String jsonModified = filterKeys(invalidJson, jsonObjectPattern);
+		if(event != null) recorder.endFilter(event, "filter", invalidJson.length(), jsonModified.length());
+		
+		return jsonModified;
+	}
+	
+	private String filterKeys(String invalidJson, String[] jsonObjectPattern) {
+		
+		CustomJSONKeyMatcher matcher = new CustomJSONKeyMatcher(jsonObjectPattern);
+		int[] starts = new int[matcher.size()];
+		int[] ends = new int[matcher.size()];
+		int[] baseKeys = new int[matcher.size()];
+		int[] baseBrackets = new int[matcher.size()];
+		boolean[] found = new boolean[matcher.size()];
+		int[] open = new int[matcher.size()];
+		int numberOpen = 0;
+		int pending = matcher.size();
 		
-		for(String attribute : jsonObjectPattern) {
-			String filterResult = filterJSONObjectFromString(invalidJson, attribute);
-			jsonModified = jsonModified.concat(filterResult).concat(DelimitersEnum.COMMA.getValue());
+		int keys = 0;
+		int brackets = 0;
+		int state = CustomJSONKeyMatcher.ROOT;
+		
+		for (int i = 0; i < invalidJson.length() && (pending > 0 || numberOpen > 0); i++) {
+			
+			char next = invalidJson.charAt(i);
+			
+			if(next == '{') keys++;
+			else if(next == '[') brackets++;
+			else if(next == ']') brackets--;
+			else if(next == '}') keys--;
+			
+			if(numberOpen > 0 && (next == '}' || next == ',')) {
+				for (int j = numberOpen - 1; j >= 0; j--) {
+					int key = open[j];
+					if(next == '}' && keys < baseKeys[key]) {
+						ends[key] = i;
+					}else if(next == ',' && keys == baseKeys[key] && brackets == baseBrackets[key]) {
+						ends[key] = i + 1;
+					}else {
+						continue;
+					}
+					open[j] = open[--numberOpen];
+				}
+			}
+			
+			state = matcher.next(state, next);
+			for (int key : matcher.matches(state)) {
+				if(found[key]) continue;
+				
+				found[key] = true;
+				pending--;
+				starts[key] = i + 1 - matcher.keyLength(key);
+				ends[key] = invalidJson.length();
+				baseKeys[key] = keys;
+				baseBrackets[key] = brackets;
+				open[numberOpen++] = key;
+			}
 		}
 		
-		if(!jsonModified.startsWith(DelimitersEnum.LEFT_KEY.getValue())) jsonModified = DelimitersEnum.LEFT_KEY.getValue().concat(jsonModified);
-		if(!jsonModified.endsWith(DelimitersEnum.RIGHT_KEY.getValue())) jsonModified = jsonModified.concat(DelimitersEnum.RIGHT_KEY.getValue());
+		int length = 2;
+		int first = -1;
+		for (int key = matcher.size() - 1; key >= 0; key--) {
+			if(!found[key]) continue;
+			length += ends[key] - starts[key] + 1;
+			first = key;
+		}
 		
-		return jsonModified;
-	}
-
-	/**
-	 * Method that verifies with string has more right keys
-	 * 
-	 * @author Mariana Azevedo
-	 * @since 12/04/2019
-	 * 
-	 * @param numberLeftKeys
-	 * @param numberRightKeys
-	 * @return boolean
-	 */
-	private boolean hasMoreRightKeys(int numberLeftKeys, int numberRightKeys) {
-		return numberLeftKeys < numberRightKeys;
+		StringBuilder jsonModified = new StringBuilder(length);
+		if(first < 0 || invalidJson.charAt(starts[first]) != '{') jsonModified.append(DelimitersEnum.LEFT_KEY.getValue());
+		
+		for (int key = 0; key < matcher.size(); key++) {
+			if(found[key]) jsonModified.append(invalidJson, starts[key], ends[key]).append(DelimitersEnum.COMMA.getValue());
+		}
+		jsonModified.append(DelimitersEnum.RIGHT_KEY.getValue());
+		
+		return jsonModified.toString();
 	}
-
+	
 	/**
-	 * Method that verifies with string has an equal number of left and right keys
-	 * or left and right brackets
+	 * Method that filter the paths of a compiled projection from the string, keeping the objects and arrays
+	 * that contain them (e.g. payment[*].value returns {payment:[{value:188},{value:70}]}). The same
+	 * projection can be used by many threads.
 	 * 
 	 * @author Mariana Azevedo
-	 * @since 12/04/2019
+	 * @since 18/10/2026
 	 * 
-	 * @param numberLeft
-	 * @param numberRight
-	 * @return boolean
+	 * @param invalidJson
+	 * @param projection
+	 * @return String
 	 */
-	private boolean hasEqualNumberOfKeysOrBrackets(int numberLeft, int numberRight) {
-		return numberLeft == numberRight;
+	public String filterJSONObjectsFromString(String invalidJson, CompiledProjection projection) {
+		if(projection == null) throw new NullPointerException("Projection is null.");
+		
+		Object event = recorder.beginFilter();
+		String jsonModified = CustomJSONProjector.filter(invalidJson, projection);
+		if(event != null) recorder.endFilter(event, "filter", invalidJson.length(), jsonModified.length());
+		
+		return jsonModified;
 	}
 
 }
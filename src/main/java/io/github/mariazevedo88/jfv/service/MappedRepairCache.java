@@ -0,0 +1,364 @@
+package io.github.mariazevedo88.jfv.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import io.github.mariazevedo88.jfv.model.RepairResult;
+
+/**
+ * Class with a cache of the results of the repair on a memory-mapped file, so the results survive the restarts of the
+ * application (replays and backfills of the same archives), and can be shared by the processes of the same host.
+ * The file has a header, an open-addressing table of slots (hash of the JSON, offset and length of the entry) and a
+ * data region written as a ring: when it is full, the writer goes back to its start and overwrites the oldest entries.
+ * Each entry keeps the JSON, to verify the collisions, the repaired JSON and a CRC32 of both.
+ *
+ * Only one process writes at a time, with a lock on the header of the file. The readers don't lock: an entry that is
+ * overwritten or is being written fails the verification of the JSON or of the CRC, and is a miss. Only the results
+ * with a valid JSON are kept, and a write is dropped, and counted, when the lock can not be taken. The cache is used
+ * as the second level of a {@link RepairCache}, and its file should be used by a single engine and version of the
+ * library, since they can repair the same JSON in different ways.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public final class MappedRepairCache implements Closeable {
+
+	private static final Logger logger = LogManager.getLogger(MappedRepairCache.class.getName());
+
+	private static final int MAGIC = 0x4A465643; //JFVC
+	private static final int VERSION = 1;
+
+	private static final int HEADER_SIZE = 64;
+	private static final int SLOT_COUNT_POSITION = 8;
+	private static final int DATA_CAPACITY_POSITION = 12;
+	private static final int WRITE_OFFSET_POSITION = 16;
+
+	private static final int SLOT_SIZE = 16;
+	private static final int MAX_PROBES = 8;
+
+	//hash, length of the JSON, length of the repaired JSON and repaired flag, before the bytes; CRC after them
+	private static final int ENTRY_HEADER_SIZE = 17;
+	private static final int CRC_SIZE = 8;
+
+	private final Path file;
+	private final FileChannel channel;
+	private final MappedByteBuffer buffer;
+	private final int slotCount;
+	private final int dataCapacity;
+	private final int dataStart;
+	private volatile boolean closed;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+	private final LongAdder droppedWriteCount = new LongAdder();
+
+	/**
+	 * Constructor that opens the cache on the file, or creates it with the number of slots and the capacity of data.
+	 * An existing cache keeps its own sizes.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param file
+	 * @param slotCount maximum number of results
+	 * @param dataCapacity bytes of the data region, where the JSONs and the repaired JSONs are kept
+	 *
+	 * @throws IOException if the file can not be mapped, or is not a cache of results
+	 */
+	public MappedRepairCache(Path file, int slotCount, int dataCapacity) throws IOException {
+
+		if(slotCount < 1) throw new IllegalArgumentException("Slot count must be greater than zero: " + slotCount);
+		if(dataCapacity < 1024) throw new IllegalArgumentException("Data capacity must be at least 1024 bytes: " + dataCapacity);
+		if(HEADER_SIZE + (long) slotCount * SLOT_SIZE + dataCapacity > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Cache file must be smaller than 2 GB: " + slotCount + " slots, " + dataCapacity + " bytes.");
+		}
+
+		this.file = file;
+		this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try {
+			this.buffer = map(slotCount, dataCapacity);
+		}catch(IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+
+		this.slotCount = buffer.getInt(SLOT_COUNT_POSITION);
+		this.dataCapacity = buffer.getInt(DATA_CAPACITY_POSITION);
+		this.dataStart = HEADER_SIZE + this.slotCount * SLOT_SIZE;
+	}
+
+	/**
+	 * Method that maps the file, writing the header of a new cache or verifying the header of an existing one,
+	 * while it holds the lock of the header
+	 */
+	private MappedByteBuffer map(int slotCount, int dataCapacity) throws IOException {
+
+		FileLock lock = channel.lock(0, HEADER_SIZE, false);
+		try {
+			long size = channel.size();
+			if(size == 0) {
+				MappedByteBuffer mapped = channel.map(MapMode.READ_WRITE, 0, HEADER_SIZE + (long) slotCount * SLOT_SIZE + dataCapacity);
+				mapped.putInt(4, VERSION);
+				mapped.putInt(SLOT_COUNT_POSITION, slotCount);
+				mapped.putInt(DATA_CAPACITY_POSITION, dataCapacity);
+				mapped.putInt(0, MAGIC);
+				return mapped;
+			}
+
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+			channel.read(header, 0);
+			if(size < HEADER_SIZE || header.getInt(0) != MAGIC || header.getInt(4) != VERSION
+					|| size != HEADER_SIZE + (long) header.getInt(SLOT_COUNT_POSITION) * SLOT_SIZE + header.getInt(DATA_CAPACITY_POSITION)) {
+				throw new IOException("File is not a cache of repaired JSONs: " + file);
+			}
+			return channel.map(MapMode.READ_WRITE, 0, size);
+		}finally {
+			lock.release();
+		}
+	}
+
+	/**
+	 * Method that returns the result of the JSON, parsed from the file, or null if it is not on the cache
+	 *
+	 * @param json
+	 * @param hash hash of the JSON, as calculated by the RepairCache
+	 * @return RepairResult
+	 */
+	RepairResult get(String json, long hash) {
+
+		hash = slotHash(hash);
+		if(!closed) {
+			byte[] key = json.getBytes(StandardCharsets.UTF_8);
+			int first = firstSlot(hash);
+			for (int probe = 0; probe < MAX_PROBES; probe++) {
+				int slot = slotPosition(first, probe);
+				long slotHash = buffer.getLong(slot);
+				if(slotHash == 0) break;
+
+				RepairResult result = slotHash == hash ? read(buffer.getInt(slot + 8), buffer.getInt(slot + 12), hash, key) : null;
+				if(result != null) {
+					hitCount.increment();
+					return result;
+				}
+			}
+		}
+
+		missCount.increment();
+		return null;
+	}
+
+	/**
+	 * Method that writes the result of the JSON on the file, if it has a valid JSON and is lighter than a quarter
+	 * of the data region. The write is dropped, and counted, if another cache of the same process on the same file
+	 * holds the lock, or if the lock fails.
+	 *
+	 * @param json
+	 * @param hash hash of the JSON, as calculated by the RepairCache
+	 * @param result
+	 */
+	void put(String json, long hash, RepairResult result) {
+
+		JsonElement validJson = result.getValidJson();
+		if(closed || validJson == null) return;
+
+		hash = slotHash(hash);
+		byte[] key = json.getBytes(StandardCharsets.UTF_8);
+		byte[] value = validJson.toString().getBytes(StandardCharsets.UTF_8);
+		int length = ENTRY_HEADER_SIZE + key.length + value.length + CRC_SIZE;
+		if(length > dataCapacity / 4) return;
+
+		ByteBuffer entry = ByteBuffer.allocate(length);
+		entry.putLong(hash).putInt(key.length).putInt(value.length).put((byte) (result.isRepaired() ? 1 : 0)).put(key).put(value);
+		CRC32 crc = new CRC32();
+		crc.update(entry.array(), 0, length - CRC_SIZE);
+		entry.putLong(crc.getValue());
+
+		synchronized (this) {
+			FileLock lock = null;
+			try {
+				lock = channel.lock(0, HEADER_SIZE, false);
+				write(hash, entry.array());
+			}catch(IOException | OverlappingFileLockException e) {
+				droppedWriteCount.increment();
+				logger.debug("Result not written on the cache " + file + ": " + e);
+			}finally {
+				release(lock);
+			}
+		}
+	}
+
+	private void release(FileLock lock) {
+		if(lock == null) return;
+		try {
+			lock.release();
+		}catch(IOException e) {
+			logger.debug("Lock of the cache " + file + " not released: " + e);
+		}
+	}
+
+	/**
+	 * Method that writes the entry at the end of the ring, and its slot: the first one that is empty, of the same JSON,
+	 * or with an entry that was overwritten. If all the slots of the probe are used, the first one is evicted.
+	 */
+	private void write(long hash, byte[] entry) {
+
+		long writeOffset = buffer.getLong(WRITE_OFFSET_POSITION);
+		int offset = writeOffset + entry.length > dataCapacity ? 0 : (int) writeOffset;
+
+		int first = firstSlot(hash);
+		int target = slotPosition(first, 0);
+		boolean evicted = true;
+		for (int probe = 0; probe < MAX_PROBES; probe++) {
+			int slot = slotPosition(first, probe);
+			long slotHash = buffer.getLong(slot);
+			if(slotHash == 0 || slotHash == hash || isOverwritten(slot, offset, entry.length)) {
+				target = slot;
+				evicted = false;
+				break;
+			}
+		}
+		if(evicted) evictionCount.increment();
+
+		ByteBuffer data = buffer.duplicate();
+		((Buffer) data).position(dataStart + offset);
+		data.put(entry);
+
+		//the offset and the length are written before the hash, so a reader that sees the hash reads the new entry
+		buffer.putInt(target + 8, offset);
+		buffer.putInt(target + 12, entry.length);
+		buffer.putLong(target, hash);
+		buffer.putLong(WRITE_OFFSET_POSITION, offset + entry.length);
+	}
+
+	/**
+	 * Method that verifies if the entry of the slot is (or will be) overwritten by the entry written at the offset
+	 */
+	private boolean isOverwritten(int slot, int offset, int length) {
+		int entryOffset = buffer.getInt(slot + 8);
+		int entryLength = buffer.getInt(slot + 12);
+		return (entryOffset < offset + length && entryOffset + entryLength > offset)
+				|| entryOffset < 0 || entryOffset + entryLength > dataCapacity
+				|| buffer.getLong(dataStart + entryOffset) != buffer.getLong(slot);
+	}
+
+	/**
+	 * Method that reads the entry, returning null if it is not the one of the JSON, or if it fails the CRC
+	 */
+	private RepairResult read(int offset, int length, long hash, byte[] key) {
+
+		if(offset < 0 || length < ENTRY_HEADER_SIZE + CRC_SIZE || offset + length > dataCapacity) return null;
+
+		byte[] entry = new byte[length];
+		ByteBuffer data = buffer.duplicate();
+		((Buffer) data).position(dataStart + offset);
+		data.get(entry);
+
+		ByteBuffer view = ByteBuffer.wrap(entry);
+		int keyLength = view.getInt(8);
+		int valueLength = view.getInt(12);
+		if(view.getLong(0) != hash || keyLength != key.length || valueLength < 0
+				|| ENTRY_HEADER_SIZE + keyLength + valueLength + CRC_SIZE != length) {
+			return null;
+		}
+
+		CRC32 crc = new CRC32();
+		crc.update(entry, 0, length - CRC_SIZE);
+		if(crc.getValue() != view.getLong(length - CRC_SIZE)) return null;
+
+		for (int i = 0; i < keyLength; i++) {
+			if(entry[ENTRY_HEADER_SIZE + i] != key[i]) return null;
+		}
+
+		try {
+			String validJson = new String(entry, ENTRY_HEADER_SIZE + keyLength, valueLength, StandardCharsets.UTF_8);
+			return new RepairResult(JsonParser.parseString(validJson), entry[16] == 1, null);
+		}catch(JsonParseException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Method that remaps the hash 0, which marks the empty slots, to 1
+	 */
+	private static long slotHash(long hash) {
+		return hash == 0 ? 1 : hash;
+	}
+
+	private int firstSlot(long hash) {
+		return (int) ((hash >>> 1) % slotCount);
+	}
+
+	private int slotPosition(int first, int probe) {
+		return HEADER_SIZE + ((first + probe) % slotCount) * SLOT_SIZE;
+	}
+
+	/**
+	 * Method that writes the changes of the file to the disk and closes it. The results are not read or written
+	 * after the cache is closed.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if(closed) return;
+		closed = true;
+		buffer.force();
+		channel.close();
+	}
+
+	public Path getFile() {
+		return file;
+	}
+
+	public int getSlotCount() {
+		return slotCount;
+	}
+
+	public int getDataCapacity() {
+		return dataCapacity;
+	}
+
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	public long getDroppedWriteCount() {
+		return droppedWriteCount.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "MappedRepairCache [file=" + file + ", slotCount=" + slotCount + ", dataCapacity=" + dataCapacity + ", hitCount="
+				+ getHitCount() + ", missCount=" + getMissCount() + ", evictionCount=" + getEvictionCount()
+				+ ", droppedWriteCount=" + getDroppedWriteCount() + "]";
+	}
+}
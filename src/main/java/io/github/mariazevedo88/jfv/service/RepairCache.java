@@ -0,0 +1,304 @@
+package io.github.mariazevedo88.jfv.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.gson.JsonElement;
+
+import io.github.mariazevedo88.jfv.model.RepairResult;
+import io.github.mariazevedo88.jfv.model.TapeJson;
+
+/**
+ * Class with a bounded cache of the results of the repair, for the JSONs that are received many times (retries,
+ * fan-out). The results are kept by a 64-bit hash of the JSON, and the JSON itself is kept to verify the collisions.
+ * The cache is split in stripes, each one with its own lock and its own LRU order, so the threads that read different
+ * JSONs rarely wait for each other. The size and the weight (the length of the JSONs, in chars) are bounded per stripe:
+ * when a stripe is full, its least recently used results are evicted.
+ *
+ * Only the results with a valid JSON object or array are kept, as an immutable {@link TapeJson}, that takes a fraction
+ * of the heap of a JsonElement. The JsonElement of a result is mutable, so each hit builds a new one from the tape:
+ * a cost linear in the size of the JSON, about twice a deep copy of the tree and half of a parse. The results with an
+ * error are not kept, so each call gets its own exception. A cache can be shared by many formatters with the same
+ * engine.
+ * A {@link MappedRepairCache} can be the second level of the cache: the misses are read from its file, and the
+ * results with a valid JSON are also written on it, so they survive the restarts of the application.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public final class RepairCache {
+
+	private static final int STRIPES = 16;
+	private static final long K1 = 0x9E3779B97F4A7C15L;
+	private static final long K2 = 0xC2B2AE3D27D4EB4FL;
+
+	private final Stripe[] stripes;
+	private final int maximumSize;
+	private final long maximumWeight;
+	private final MappedRepairCache mappedCache;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	/**
+	 * Constructor of a cache
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param maximumSize maximum number of results
+	 * @param maximumWeight maximum sum of the lengths of the JSONs, in chars
+	 */
+	public RepairCache(int maximumSize, long maximumWeight) {
+		this(maximumSize, maximumWeight, null);
+	}
+
+	/**
+	 * Constructor of a cache with a second level on a memory-mapped file
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param maximumSize maximum number of results
+	 * @param maximumWeight maximum sum of the lengths of the JSONs, in chars
+	 * @param mappedCache cache of the results on a file, or null
+	 */
+	public RepairCache(int maximumSize, long maximumWeight, MappedRepairCache mappedCache) {
+
+		if(maximumSize < 1) throw new IllegalArgumentException("Maximum size must be greater than zero: " + maximumSize);
+		if(maximumWeight < 1) throw new IllegalArgumentException("Maximum weight must be greater than zero: " + maximumWeight);
+
+		this.maximumSize = maximumSize;
+		this.maximumWeight = maximumWeight;
+		this.mappedCache = mappedCache;
+
+		//each stripe keeps at least 8 results, so the small caches have a single LRU order
+		int count = Math.min(STRIPES, Integer.highestOneBit(Math.max(1, maximumSize / 8)));
+		this.stripes = new Stripe[count];
+		for (int i = 0; i < count; i++) {
+			stripes[i] = new Stripe(maximumSize / count, Math.max(1, maximumWeight / count));
+		}
+	}
+
+	/**
+	 * Method that returns a new result of the JSON, or null if it is not on the cache nor on its file
+	 *
+	 * @param json
+	 * @return RepairResult
+	 */
+	RepairResult get(String json) {
+
+		long hash = hash(json);
+		Entry entry = stripeOf(hash).get(hash);
+		if(entry == null || !entry.json.equals(json)) {
+			missCount.increment();
+			return mappedCache == null ? null : load(json, hash);
+		}
+
+		hitCount.increment();
+		return new RepairResult(entry.validJson.asJsonElement(), entry.repaired, null);
+	}
+
+	/**
+	 * Method that keeps the result of the JSON, if it has a valid JSON object or array. A JSON heavier than a stripe
+	 * is not kept.
+	 *
+	 * @param json
+	 * @param result
+	 */
+	void put(String json, RepairResult result) {
+		long hash = hash(json);
+		keep(json, hash, result);
+		if(mappedCache != null) mappedCache.put(json, hash, result);
+	}
+
+	/**
+	 * Method that reads the result of the JSON from the file, keeping it on the memory
+	 */
+	private RepairResult load(String json, long hash) {
+		RepairResult result = mappedCache.get(json, hash);
+		if(result != null) keep(json, hash, result);
+		return result;
+	}
+
+	private void keep(String json, long hash, RepairResult result) {
+		JsonElement validJson = result.getValidJson();
+		if(validJson == null || !(validJson.isJsonObject() || validJson.isJsonArray())) return;
+
+		Entry entry = new Entry(json, TapeJson.parse(validJson.toString()), result.isRepaired());
+		evictionCount.add(stripeOf(hash).put(hash, entry));
+	}
+
+	/**
+	 * Method that removes all the results
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 */
+	public void clear() {
+		for (Stripe stripe : stripes) stripe.clear();
+	}
+
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	public long getMaximumWeight() {
+		return maximumWeight;
+	}
+
+	public MappedRepairCache getMappedCache() {
+		return mappedCache;
+	}
+
+	/**
+	 * Method that return the number of results on the cache
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return int
+	 */
+	public int size() {
+		int size = 0;
+		for (Stripe stripe : stripes) size += stripe.size();
+		return size;
+	}
+
+	/**
+	 * Method that return the sum of the lengths of the JSONs on the cache
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return long
+	 */
+	public long getWeight() {
+		long weight = 0;
+		for (Stripe stripe : stripes) weight += stripe.weight();
+		return weight;
+	}
+
+	@Override
+	public String toString() {
+		return "RepairCache [size=" + size() + ", weight=" + getWeight() + ", hitCount=" + getHitCount() + ", missCount="
+				+ getMissCount() + ", evictionCount=" + getEvictionCount() + "]";
+	}
+
+	/**
+	 * Method that returns a 64-bit hash of the chars, read four at a time
+	 *
+	 * @param json
+	 * @return long
+	 */
+	static long hash(CharSequence json) {
+
+		int length = json.length();
+		long hash = K1 ^ length;
+		int i = 0;
+		for (; i + 3 < length; i += 4) {
+			long block = json.charAt(i) | (long) json.charAt(i+1) << 16 | (long) json.charAt(i+2) << 32 | (long) json.charAt(i+3) << 48;
+			hash = Long.rotateLeft(hash ^ block * K2, 31) * K1;
+		}
+		for (; i < length; i++) {
+			hash = Long.rotateLeft(hash ^ json.charAt(i) * K2, 31) * K1;
+		}
+
+		//final mix of MurmurHash3
+		hash ^= hash >>> 33;
+		hash *= 0xFF51AFD7ED558CCDL;
+		hash ^= hash >>> 33;
+		hash *= 0xC4CEB9FE1A85EC53L;
+		return hash ^ hash >>> 33;
+	}
+
+	private Stripe stripeOf(long hash) {
+		return stripes[(int) hash & (stripes.length - 1)];
+	}
+
+	/**
+	 * Result of a JSON on the cache
+	 */
+	private static final class Entry {
+
+		private final String json;
+		private final TapeJson validJson;
+		private final boolean repaired;
+
+		private Entry(String json, TapeJson validJson, boolean repaired) {
+			this.json = json;
+			this.validJson = validJson;
+			this.repaired = repaired;
+		}
+	}
+
+	/**
+	 * Part of the cache with its own lock, and with the entries in access order
+	 */
+	private static final class Stripe {
+
+		private final int maximumSize;
+		private final long maximumWeight;
+		private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+		private long weight;
+
+		private Stripe(int maximumSize, long maximumWeight) {
+			this.maximumSize = maximumSize;
+			this.maximumWeight = maximumWeight;
+		}
+
+		private synchronized Entry get(long hash) {
+			return entries.get(hash);
+		}
+
+		/**
+		 * Method that puts the entry, replacing the one with the same hash, and returns the number of entries evicted
+		 */
+		private synchronized int put(long hash, Entry entry) {
+
+			int entryWeight = entry.json.length();
+			if(entryWeight > maximumWeight) return 0;
+
+			Entry previous = entries.put(hash, entry);
+			if(previous != null) weight -= previous.json.length();
+			weight += entryWeight;
+
+			int evicted = 0;
+			Iterator<Map.Entry<Long, Entry>> eldest = entries.entrySet().iterator();
+			while(entries.size() > maximumSize || weight > maximumWeight) {
+				weight -= eldest.next().getValue().json.length();
+				eldest.remove();
+				evicted++;
+			}
+			return evicted;
+		}
+
+		private synchronized void clear() {
+			entries.clear();
+			weight = 0;
+		}
+
+		private synchronized int size() {
+			return entries.size();
+		}
+
+		private synchronized long weight() {
+			return weight;
+		}
+	}
+}
@@ -0,0 +1,246 @@
+package io.github.mariazevedo88.jfv.service;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import io.github.mariazevedo88.jfv.model.enumeration.RepairStageEnum;
+
+/**
+ * Class with the metrics of the repair of a service: how many JSONs were checked, were already strict, were repaired
+ * or failed, how many times each rule of the pipeline changed a JSON, and the latencies of each stage of the repair,
+ * in histograms of power-of-two buckets. The counters are LongAdders, so the threads of the service don't contend
+ * on them, and the JSONs of the fast path are only counted, not timed. The metrics can be registered as an MXBean
+ * on the platform MBean server.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public final class RepairMetrics implements RepairMetricsMXBean {
+
+	static final int BUCKETS = 32;
+
+	private static final String DOMAIN = "io.github.mariazevedo88.jfv";
+
+	private final LongAdder callCount = new LongAdder();
+	private final LongAdder fastPathCount = new LongAdder();
+	private final LongAdder repairCount = new LongAdder();
+	private final LongAdder failureCount = new LongAdder();
+	private final ConcurrentHashMap<String, LongAdder> ruleHitCounts = new ConcurrentHashMap<>();
+	private final Stage[] stages = new Stage[RepairStageEnum.values().length];
+
+	private volatile ObjectName objectName;
+
+	RepairMetrics() {
+		for (int i = 0; i < stages.length; i++) stages[i] = new Stage();
+	}
+
+	void call() {
+		callCount.increment();
+	}
+
+	void fastPath() {
+		fastPathCount.increment();
+	}
+
+	void repair() {
+		repairCount.increment();
+	}
+
+	void failure() {
+		failureCount.increment();
+	}
+
+	void ruleHit(String rule) {
+		LongAdder hits = ruleHitCounts.get(rule);
+		if(hits == null) hits = ruleHitCounts.computeIfAbsent(rule, name -> new LongAdder());
+		hits.increment();
+	}
+
+	/**
+	 * Method that records the latency of the stage, from the start to now, and returns now, so it can be
+	 * the start of the next stage
+	 *
+	 * @param stage
+	 * @param start value of System.nanoTime() at the start of the stage
+	 * @return long
+	 */
+	long record(RepairStageEnum stage, long start) {
+		long now = System.nanoTime();
+		stages[stage.ordinal()].record(now - start);
+		return now;
+	}
+
+	/**
+	 * Method that registers the metrics on the platform MBean server, with the name as the name property of the
+	 * object name, e.g. io.github.mariazevedo88.jfv:type=RepairMetrics,name="orders"
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param name
+	 * @return ObjectName
+	 *
+	 * @throws JMException if the name is already registered
+	 */
+	public synchronized ObjectName register(String name) throws JMException {
+		if(objectName != null) throw new IllegalStateException("Metrics are already registered as " + objectName);
+
+		ObjectName registered = new ObjectName(DOMAIN + ":type=RepairMetrics,name=" + ObjectName.quote(name));
+		ManagementFactory.getPlatformMBeanServer().registerMBean(this, registered);
+		objectName = registered;
+		return registered;
+	}
+
+	/**
+	 * Method that removes the metrics from the platform MBean server, if they are registered
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @throws JMException
+	 */
+	public synchronized void unregister() throws JMException {
+		if(objectName == null) return;
+		ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+		objectName = null;
+	}
+
+	public ObjectName getObjectName() {
+		return objectName;
+	}
+
+	@Override
+	public long getCallCount() {
+		return callCount.sum();
+	}
+
+	@Override
+	public long getFastPathCount() {
+		return fastPathCount.sum();
+	}
+
+	@Override
+	public long getRepairCount() {
+		return repairCount.sum();
+	}
+
+	@Override
+	public long getFailureCount() {
+		return failureCount.sum();
+	}
+
+	@Override
+	public Map<String, Long> getRuleHitCounts() {
+		Map<String, Long> counts = new TreeMap<>();
+		ruleHitCounts.forEach((rule, hits) -> counts.put(rule, hits.sum()));
+		return counts;
+	}
+
+	@Override
+	public Map<String, Long> getStageCounts() {
+		Map<String, Long> counts = new LinkedHashMap<>();
+		for (RepairStageEnum stage : RepairStageEnum.values()) counts.put(stage.name(), stages[stage.ordinal()].count());
+		return counts;
+	}
+
+	@Override
+	public Map<String, Long> getStageTotalNanos() {
+		Map<String, Long> totals = new LinkedHashMap<>();
+		for (RepairStageEnum stage : RepairStageEnum.values()) totals.put(stage.name(), stages[stage.ordinal()].totalNanos.sum());
+		return totals;
+	}
+
+	@Override
+	public Map<String, Long> getStageMaxNanos() {
+		Map<String, Long> maximums = new LinkedHashMap<>();
+		for (RepairStageEnum stage : RepairStageEnum.values()) maximums.put(stage.name(), stages[stage.ordinal()].maxNanos.get());
+		return maximums;
+	}
+
+	@Override
+	public Map<String, long[]> getStageHistograms() {
+		Map<String, long[]> histograms = new LinkedHashMap<>();
+		for (RepairStageEnum stage : RepairStageEnum.values()) histograms.put(stage.name(), stages[stage.ordinal()].histogram());
+		return histograms;
+	}
+
+	@Override
+	public long percentileNanos(String stage, double percentile) {
+
+		if(percentile < 0 || percentile > 100) throw new IllegalArgumentException("Percentile must be from 0 to 100: " + percentile);
+
+		long[] histogram = stages[RepairStageEnum.valueOf(stage).ordinal()].histogram();
+		long count = 0;
+		for (long bucket : histogram) count += bucket;
+		if(count == 0) return 0;
+
+		long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+		int i = 0;
+		long seen = histogram[0];
+		while(seen < rank) seen += histogram[++i];
+		return i == BUCKETS - 1 ? Long.MAX_VALUE : 1L << (i + 1);
+	}
+
+	@Override
+	public void reset() {
+		callCount.reset();
+		fastPathCount.reset();
+		repairCount.reset();
+		failureCount.reset();
+		ruleHitCounts.clear();
+		for (Stage stage : stages) stage.reset();
+	}
+
+	@Override
+	public String toString() {
+		return "RepairMetrics [callCount=" + getCallCount() + ", fastPathCount=" + getFastPathCount() + ", repairCount="
+				+ getRepairCount() + ", failureCount=" + getFailureCount() + ", stageCounts=" + getStageCounts() + "]";
+	}
+
+	/**
+	 * Latencies of a stage: the total, the maximum, and the histogram, whose sum is the number of latencies
+	 */
+	private static final class Stage {
+
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+		private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+		private Stage() {
+			for (int i = 0; i < BUCKETS; i++) buckets[i] = new LongAdder();
+		}
+
+		private void record(long nanos) {
+			if(nanos < 0) nanos = 0;
+			buckets[Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(nanos | 1))].increment();
+			totalNanos.add(nanos);
+			maxNanos.accumulate(nanos);
+		}
+
+		private long count() {
+			long count = 0;
+			for (LongAdder bucket : buckets) count += bucket.sum();
+			return count;
+		}
+
+		private long[] histogram() {
+			long[] histogram = new long[BUCKETS];
+			for (int i = 0; i < BUCKETS; i++) histogram[i] = buckets[i].sum();
+			return histogram;
+		}
+
+		private void reset() {
+			totalNanos.reset();
+			maxNanos.reset();
+			for (LongAdder bucket : buckets) bucket.reset();
+		}
+	}
+}
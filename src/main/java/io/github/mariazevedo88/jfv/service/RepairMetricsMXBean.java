@@ -0,0 +1,61 @@
+package io.github.mariazevedo88.jfv.service;
+
+import java.util.Map;
+
+/**
+ * Interface of the metrics of the repair exposed on JMX. The maps are keyed by the names of the stages of
+ * {@link io.github.mariazevedo88.jfv.model.enumeration.RepairStageEnum} and of the rules of the pipeline.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public interface RepairMetricsMXBean {
+
+	long getCallCount();
+
+	long getFastPathCount();
+
+	long getRepairCount();
+
+	long getFailureCount();
+
+	Map<String, Long> getRuleHitCounts();
+
+	Map<String, Long> getStageCounts();
+
+	Map<String, Long> getStageTotalNanos();
+
+	Map<String, Long> getStageMaxNanos();
+
+	/**
+	 * Method that returns the histogram of the latencies of each stage: the bucket i counts the latencies from
+	 * 2^i to 2^(i+1) nanoseconds, and the last one counts the longer ones
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return Map
+	 */
+	Map<String, long[]> getStageHistograms();
+
+	/**
+	 * Method that returns the upper bound, in nanoseconds, of the bucket of the histogram of the stage where the
+	 * percentile of its latencies is, or zero if the stage was not timed
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param stage
+	 * @param percentile from 0 to 100
+	 * @return long
+	 */
+	long percentileNanos(String stage, double percentile);
+
+	/**
+	 * Method that sets all the counters and histograms to zero
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 */
+	void reset();
+}
@@ -0,0 +1,261 @@
+package io.github.mariazevedo88.jfv.service;
+
+import java.time.Duration;
+
+/**
+ * Class that represents the immutable options of the repair of a JSON. The options are created
+ * by a builder and can be shared by many threads and calls.
+ *
+ * The limits of the options bound the time of a repair on huge or adversarial JSONs: when one of them is exceeded,
+ * the repair gives up. By default, there are no limits.
+ *
+ * The options replace the muteLog and muteException parameters of the service methods, and select the pipeline of
+ * rules of the regex engine.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public final class RepairOptions {
+
+	/**
+	 * Options of a repair of the whole JSON, with logs
+	 */
+	public static final RepairOptions DEFAULT = builder().build();
+
+	private final CompiledProjection projection;
+	private final boolean muteLog;
+	private final boolean muteException;
+	private final RepairPipeline rules;
+	private final int maxInputLength;
+	private final int maxDepth;
+	private final long maxIterations;
+	private final Duration timeout;
+
+	private RepairOptions(Builder builder) {
+		this.projection = builder.projection;
+		this.muteLog = builder.muteLog;
+		this.muteException = builder.muteException;
+		this.rules = builder.rules;
+		this.maxInputLength = builder.maxInputLength;
+		this.maxDepth = builder.maxDepth;
+		this.maxIterations = builder.maxIterations;
+		this.timeout = builder.timeout;
+	}
+
+	/**
+	 * Method that creates a builder of options
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return Builder
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Method that return the projection of the paths to repair, or null if the whole JSON is repaired
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return CompiledProjection
+	 */
+	public CompiledProjection getProjection() {
+		return projection;
+	}
+
+	public boolean isMuteLog() {
+		return muteLog;
+	}
+
+	public boolean isMuteException() {
+		return muteException;
+	}
+
+	/**
+	 * Method that return the pipeline of rules of the regex engine
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return RepairPipeline
+	 */
+	public RepairPipeline getRules() {
+		return rules;
+	}
+
+	public int getMaxInputLength() {
+		return maxInputLength;
+	}
+
+	public int getMaxDepth() {
+		return maxDepth;
+	}
+
+	public long getMaxIterations() {
+		return maxIterations;
+	}
+
+	/**
+	 * Method that return the maximum time of each repair, or null if there is no deadline
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return Duration
+	 */
+	public Duration getTimeout() {
+		return timeout;
+	}
+
+	/**
+	 * Method that verifies if the options have any limit
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return boolean
+	 */
+	public boolean hasLimits() {
+		return maxInputLength != Integer.MAX_VALUE || maxDepth != Integer.MAX_VALUE || maxIterations != Long.MAX_VALUE || timeout != null;
+	}
+
+	@Override
+	public String toString() {
+		String limits = !hasLimits() ? "" : ", maxInputLength=" + maxInputLength + ", maxDepth=" + maxDepth 
+				+ ", maxIterations=" + maxIterations + ", timeout=" + timeout;
+		return "RepairOptions [projection=" + projection + ", muteLog=" + muteLog + (muteException ? ", muteException=true" : "") 
+				+ (rules != RepairPipeline.DEFAULT ? ", rules=" + rules.getRuleNames() : "") + limits + "]";
+	}
+
+	/**
+	 * Builder of the repair options
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 */
+	public static final class Builder {
+
+		private CompiledProjection projection;
+		private boolean muteLog;
+		private boolean muteException;
+		private RepairPipeline rules = RepairPipeline.DEFAULT;
+		private int maxInputLength = Integer.MAX_VALUE;
+		private int maxDepth = Integer.MAX_VALUE;
+		private long maxIterations = Long.MAX_VALUE;
+		private Duration timeout;
+
+		private Builder() {}
+
+		/**
+		 * Method that selects the paths to repair. The attributes out of the projection are not
+		 * repaired, only skipped, and are not on the repaired JSON.
+		 *
+		 * @param projection compiled projection, or null to repair the whole JSON
+		 * @return Builder
+		 */
+		public Builder projection(CompiledProjection projection) {
+			this.projection = projection;
+			return this;
+		}
+
+		/**
+		 * Method that compiles and selects the paths to repair, such as person.name or payment[*].value
+		 *
+		 * @param paths
+		 * @return Builder
+		 */
+		public Builder paths(String... paths) {
+			return projection(CompiledProjection.compile(paths));
+		}
+
+		public Builder muteLog(boolean muteLog) {
+			this.muteLog = muteLog;
+			return this;
+		}
+
+		/**
+		 * Method that selects if the methods that return the valid JSON also throw the errors of the repair, 
+		 * or return null
+		 *
+		 * @param muteException
+		 * @return Builder
+		 */
+		public Builder muteException(boolean muteException) {
+			this.muteException = muteException;
+			return this;
+		}
+
+		/**
+		 * Method that selects the pipeline of rules that the regex engine applies before the main regex. The 
+		 * tokenizer engine has the corrections of the default rules built in, and doesn't use the pipeline.
+		 *
+		 * @param rules
+		 * @return Builder
+		 */
+		public Builder rules(RepairPipeline rules) {
+			if(rules == null) throw new NullPointerException("Repair pipeline is null.");
+			this.rules = rules;
+			return this;
+		}
+
+		/**
+		 * Method that sets the maximum length of the JSON, in chars (or in bytes, for UTF-8 input). Larger JSONs
+		 * are not read by the repair.
+		 *
+		 * @param maxInputLength
+		 * @return Builder
+		 */
+		public Builder maxInputLength(int maxInputLength) {
+			if(maxInputLength < 1) throw new IllegalArgumentException("Maximum input length must be greater than zero: " + maxInputLength);
+			this.maxInputLength = maxInputLength;
+			return this;
+		}
+
+		/**
+		 * Method that sets the maximum nesting of objects and arrays of the JSON
+		 *
+		 * @param maxDepth
+		 * @return Builder
+		 */
+		public Builder maxDepth(int maxDepth) {
+			if(maxDepth < 1) throw new IllegalArgumentException("Maximum depth must be greater than zero: " + maxDepth);
+			this.maxDepth = maxDepth;
+			return this;
+		}
+
+		/**
+		 * Method that sets the maximum number of iterations of the repair: the members and elements read by the 
+		 * tokenizer engine, or the matches replaced by the regular expressions of the regex engine
+		 *
+		 * @param maxIterations
+		 * @return Builder
+		 */
+		public Builder maxIterations(long maxIterations) {
+			if(maxIterations < 1) throw new IllegalArgumentException("Maximum iterations must be greater than zero: " + maxIterations);
+			this.maxIterations = maxIterations;
+			return this;
+		}
+
+		/**
+		 * Method that sets the maximum time of each repair, counted from the start of the call. The deadline is 
+		 * checked inside the loops of the repair, so the thread is never interrupted.
+		 *
+		 * @param timeout timeout, or null for no deadline
+		 * @return Builder
+		 */
+		public Builder timeout(Duration timeout) {
+			if(timeout != null && (timeout.isNegative() || timeout.isZero())) {
+				throw new IllegalArgumentException("Timeout must be greater than zero: " + timeout);
+			}
+			this.timeout = timeout;
+			return this;
+		}
+
+		public RepairOptions build() {
+			return new RepairOptions(this);
+		}
+	}
+}
@@ -0,0 +1,206 @@
+package io.github.mariazevedo88.jfv.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.github.mariazevedo88.jfv.model.enumeration.RepairOutcomeEnum;
+import io.github.mariazevedo88.jfv.model.enumeration.RepairRuleEnum;
+
+/**
+ * Class with the immutable pipeline of rules that the regex engine applies, in order, before the main regex. The
+ * default pipeline has the rules of {@link RepairRuleEnum}, named after them. A pipeline is built once, with the
+ * rules enabled, disabled, reordered or added by its builder, and can be shared by many threads and calls. The
+ * disabled rules are not on the pipeline, so they have no cost.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public final class RepairPipeline {
+
+	/**
+	 * Pipeline with all the rules of {@link RepairRuleEnum}
+	 */
+	public static final RepairPipeline DEFAULT = builder().build();
+
+	private final RepairRule[] rules;
+	private final List<String> ruleNames;
+
+	private RepairPipeline(RepairRule[] rules) {
+		this.rules = rules;
+
+		List<String> names = new ArrayList<>(rules.length);
+		for (RepairRule rule : rules) names.add(rule.getName());
+		this.ruleNames = Collections.unmodifiableList(names);
+	}
+
+	/**
+	 * Method that creates a builder with all the rules of {@link RepairRuleEnum} enabled
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return Builder
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Method that return the names of the enabled rules, in the order they are applied
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return List<String>
+	 */
+	public List<String> getRuleNames() {
+		return ruleNames;
+	}
+
+	/**
+	 * Method that applies the rules to the JSON, in order
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param json
+	 * @return String
+	 */
+	public String apply(String json) {
+		return apply(json, CustomJSONRepairLimits.NONE, null);
+	}
+
+	/**
+	 * Method that applies the rules to the JSON, in order. Each match of the regex rules, and each call of the
+	 * other rules, counts as an iteration of the limits. The rules that change the JSON are counted as hits
+	 * on the metrics.
+	 *
+	 * @param json
+	 * @param limits
+	 * @param metrics metrics of the service, or null
+	 * @return String
+	 */
+	String apply(String json, CustomJSONRepairLimits limits, RepairMetrics metrics) {
+
+		for (RepairRule rule : rules) {
+			String fixed;
+			if(rule instanceof CustomJSONRegexRule) {
+				fixed = ((CustomJSONRegexRule) rule).apply(json, limits);
+			}else {
+				RepairOutcomeEnum exceeded = limits.next();
+				if(exceeded != null) throw new CustomJSONRepairLimitException(exceeded, 0);
+
+				fixed = rule.apply(json);
+				if(fixed == null) throw new NullPointerException("Repair rule " + rule.getName() + " returned null.");
+			}
+
+			//the regexes return the same string when they don't match
+			if(metrics != null && fixed != json && !fixed.equals(json)) metrics.ruleHit(rule.getName());
+			json = fixed;
+		}
+
+		return json;
+	}
+
+	@Override
+	public String toString() {
+		return "RepairPipeline [rules=" + ruleNames + "]";
+	}
+
+	/**
+	 * Builder of a pipeline, that starts with all the rules of {@link RepairRuleEnum} enabled
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 */
+	public static final class Builder {
+
+		private final Map<String, RepairRule> rules = new LinkedHashMap<>();
+		private final Set<String> disabled = new HashSet<>();
+
+		private Builder() {
+			for (RepairRuleEnum rule : RepairRuleEnum.values()) {
+				add(RepairRule.regex(rule.name(), rule.getRegex(), rule.getReplacement()));
+			}
+		}
+
+		/**
+		 * Method that adds a rule at the end of the pipeline
+		 *
+		 * @param rule
+		 * @return Builder
+		 */
+		public Builder add(RepairRule rule) {
+			if(rule == null) throw new NullPointerException("Repair rule is null.");
+			if(rules.containsKey(rule.getName())) throw new IllegalArgumentException("Repair rule already added: " + rule.getName());
+			rules.put(rule.getName(), rule);
+			return this;
+		}
+
+		/**
+		 * Method that disables the rules with the given names, that are not applied
+		 *
+		 * @param names
+		 * @return Builder
+		 */
+		public Builder disable(String... names) {
+			disabled.addAll(checkNames(names));
+			return this;
+		}
+
+		/**
+		 * Method that enables again the rules with the given names
+		 *
+		 * @param names
+		 * @return Builder
+		 */
+		public Builder enable(String... names) {
+			disabled.removeAll(checkNames(names));
+			return this;
+		}
+
+		/**
+		 * Method that reorders the rules: the rules with the given names are applied first, in the given order,
+		 * and the other rules after them, in their current order
+		 *
+		 * @param names
+		 * @return Builder
+		 */
+		public Builder order(String... names) {
+
+			Map<String, RepairRule> ordered = new LinkedHashMap<>();
+			for (String name : checkNames(names)) ordered.put(name, rules.get(name));
+			ordered.putAll(rules);
+
+			rules.clear();
+			rules.putAll(ordered);
+			return this;
+		}
+
+		public RepairPipeline build() {
+
+			List<RepairRule> enabled = new ArrayList<>(rules.size());
+			for (RepairRule rule : rules.values()) {
+				if(!disabled.contains(rule.getName())) enabled.add(rule);
+			}
+			return new RepairPipeline(enabled.toArray(new RepairRule[0]));
+		}
+
+		private List<String> checkNames(String... names) {
+
+			if(names == null) throw new NullPointerException("List of rule names is null.");
+
+			List<String> checked = Arrays.asList(names);
+			for (String name : checked) {
+				if(!rules.containsKey(name)) throw new IllegalArgumentException("Repair rule not found: " + name);
+			}
+			return checked;
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package io.github.mariazevedo88.jfv.service;
+
+import java.util.regex.Pattern;
+
+/**
+ * Interface of a rule of the regex engine, that corrects a malformed JSON before the main regex. The rules are
+ * added to a {@link RepairPipeline}, that runs them in order, and may be called by many threads at the same time.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public interface RepairRule {
+
+	/**
+	 * Method that return the name of the rule, unique in a pipeline
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @return String
+	 */
+	String getName();
+
+	/**
+	 * Method that applies the rule to the JSON, and returns the corrected JSON
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param json
+	 * @return String
+	 */
+	String apply(String json);
+
+	/**
+	 * Method that creates a rule that replaces all the matches of a regular expression, compiled once.
+	 * The matches replaced count as iterations of the limits of the repair options.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param name
+	 * @param regex
+	 * @param replacement replacement, as in {@link java.util.regex.Matcher#replaceAll(String)}
+	 * @return RepairRule
+	 */
+	static RepairRule regex(String name, String regex, String replacement) {
+		if(name == null) throw new NullPointerException("Rule name is null.");
+		if(replacement == null) throw new NullPointerException("Replacement is null.");
+		return new CustomJSONRegexRule(name, Pattern.compile(regex), replacement);
+	}
+}
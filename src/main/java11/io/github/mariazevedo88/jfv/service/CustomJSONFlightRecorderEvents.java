@@ -0,0 +1,185 @@
+package io.github.mariazevedo88.jfv.service;
+
+import java.nio.ByteBuffer;
+
+import io.github.mariazevedo88.jfv.model.RepairResult;
+import io.github.mariazevedo88.jfv.model.enumeration.RepairEngineEnum;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Java Flight Recorder events of the repair. They are enabled and thresholded by the JFR settings, by their names
+ * (e.g. io.github.mariazevedo88.jfv.Repair), and only the repairs slower than 10 ms are recorded by default. The
+ * stages of a repair are recorded on the same thread inside its event, so a slow repair can be traced to its stage.
+ *
+ * Available on Java 11+ only.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+final class CustomJSONFlightRecorderEvents extends CustomJSONFlightRecorder {
+
+	@Override
+	Object beginRepair() {
+		RepairEvent event = new RepairEvent();
+		if(!event.isEnabled()) return null;
+		event.begin();
+		return event;
+	}
+
+	@Override
+	void endRepair(Object event, RepairEngineEnum engine, Object json, RepairResult result) {
+		RepairEvent repair = (RepairEvent) event;
+		repair.end();
+		if(!repair.shouldCommit()) return;
+
+		repair.engine = engine.name();
+		repair.inputLength = lengthOf(json);
+		repair.repaired = result.isRepaired();
+		repair.error = result.getError() == null ? null : result.getError().getClass().getName();
+		repair.commit();
+	}
+
+	@Override
+	Object beginCommaFix() {
+		CommaFixEvent event = new CommaFixEvent();
+		if(!event.isEnabled()) return null;
+		event.begin();
+		return event;
+	}
+
+	@Override
+	void endCommaFix(Object event, int inputLength, int iterations) {
+		CommaFixEvent commaFix = (CommaFixEvent) event;
+		commaFix.end();
+		if(!commaFix.shouldCommit()) return;
+
+		commaFix.inputLength = inputLength;
+		commaFix.iterations = iterations;
+		commaFix.commit();
+	}
+
+	@Override
+	Object beginFilter() {
+		FilterEvent event = new FilterEvent();
+		if(!event.isEnabled()) return null;
+		event.begin();
+		return event;
+	}
+
+	@Override
+	void endFilter(Object event, String operation, int inputLength, int outputLength) {
+		FilterEvent filter = (FilterEvent) event;
+		filter.end();
+		if(!filter.shouldCommit()) return;
+
+		filter.operation = operation;
+		filter.inputLength = inputLength;
+		filter.outputLength = outputLength;
+		filter.commit();
+	}
+
+	@Override
+	Object beginParse() {
+		ParseEvent event = new ParseEvent();
+		if(!event.isEnabled()) return null;
+		event.begin();
+		return event;
+	}
+
+	@Override
+	void endParse(Object event, int inputLength) {
+		ParseEvent parse = (ParseEvent) event;
+		parse.end();
+		if(!parse.shouldCommit()) return;
+
+		parse.inputLength = inputLength;
+		parse.commit();
+	}
+
+	/**
+	 * Method that returns the length of a JSON of checkValidityAndFormatObject(), or -1 for a reader
+	 *
+	 * @param json
+	 * @return int
+	 */
+	private static int lengthOf(Object json) {
+		if(json instanceof CharSequence) return ((CharSequence) json).length();
+		if(json instanceof byte[]) return ((byte[]) json).length;
+		if(json instanceof ByteBuffer) return ((ByteBuffer) json).remaining();
+		return -1;
+	}
+
+	@Name("io.github.mariazevedo88.jfv.Repair")
+	@Label("JSON Repair")
+	@Description("Call of checkValidityAndFormatObject()")
+	@Category("JSON Formatter Validator")
+	@StackTrace(false)
+	@Threshold("10 ms")
+	static final class RepairEvent extends Event {
+
+		@Label("Engine")
+		String engine;
+
+		@Label("Input Length")
+		@Description("Length of the JSON, in chars or in bytes, or -1 for a reader")
+		int inputLength;
+
+		@Label("Repaired")
+		boolean repaired;
+
+		@Label("Error")
+		String error;
+	}
+
+	@Name("io.github.mariazevedo88.jfv.CommaFix")
+	@Label("JSON Comma Fix")
+	@Description("Loop that fixes the fields with commas wrongly modified by the main regex")
+	@Category("JSON Formatter Validator")
+	@StackTrace(false)
+	@Threshold("10 ms")
+	static final class CommaFixEvent extends Event {
+
+		@Label("Input Length")
+		int inputLength;
+
+		@Label("Iterations")
+		@Description("Parts of the JSON between commas")
+		int iterations;
+	}
+
+	@Name("io.github.mariazevedo88.jfv.Filter")
+	@Label("JSON Filter")
+	@Description("Call of removeJSONObjectsFromString() or filterJSONObjectsFromString()")
+	@Category("JSON Formatter Validator")
+	@StackTrace(false)
+	@Threshold("10 ms")
+	static final class FilterEvent extends Event {
+
+		@Label("Operation")
+		String operation;
+
+		@Label("Input Length")
+		int inputLength;
+
+		@Label("Output Length")
+		int outputLength;
+	}
+
+	@Name("io.github.mariazevedo88.jfv.Parse")
+	@Label("JSON Parse")
+	@Description("Parse of a strict or repaired JSON with Gson")
+	@Category("JSON Formatter Validator")
+	@StackTrace(false)
+	@Threshold("10 ms")
+	static final class ParseEvent extends Event {
+
+		@Label("Input Length")
+		int inputLength;
+	}
+}
@@ -0,0 +1,433 @@
+package io.github.mariazevedo88.jfv.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+
+import io.github.mariazevedo88.jfv.model.RepairResult;
+
+/**
+ * Reactive stage that repairs the JSONs of an upstream publisher and publishes the results, in the same order,
+ * to its subscribers. The JSONs are requested from upstream only up to the demand of the slowest subscriber, and
+ * never more than its buffer can hold, so the results are published without blocking and a slow subscriber
+ * throttles the upstream reads.
+ *
+ * The JSONs are repaired in parallel, in batches, with the repairAll() method of the formatter, on a fork-join pool
+ * apart from the executor that delivers the results, so the repairs and the deliveries don't compete for the same
+ * threads. A batch is repaired when it is full, when upstream has no more requested JSONs to send or when the
+ * subscribers consumed all the results, so a slow upstream does not delay the JSONs already received. A single thread
+ * repairs and publishes the batches at a time, without holding the lock of the processor, so the signals of upstream
+ * and of the subscribers are not blocked by a repair. The upstream subscription is cancelled when the last subscriber
+ * cancels, and its error is published after the results consumed by the subscribers with demand.
+ *
+ * Available on Java 9+ only.
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ */
+public class CustomJSONRepairProcessor extends SubmissionPublisher<RepairResult> implements Flow.Processor<String, RepairResult> {
+
+	public static final int DEFAULT_BATCH_SIZE = 256;
+
+	private final CustomJSONFormatterService formatter;
+	private final int batchSize;
+	private final ForkJoinPool repairPool;
+	private final boolean ownsRepairPool;
+
+	//held while the results of a batch are offered, so a new subscriber starts between two batches
+	private final Object publishLock = new Object();
+
+	//guards all the fields below, including the counters of the subscribers
+	private final Object lock = new Object();
+	private final List<DemandSubscriber> subscribers = new ArrayList<>();
+
+	private Flow.Subscription subscription;
+	private List<String> batch;
+	private long outstanding;
+	private long published;
+	private boolean completed;
+	private boolean cancelled;
+	private Throwable error;
+	private boolean draining;
+	private boolean missed;
+
+	/**
+	 * Constructor of a processor with the default batch size, that publishes on the common fork-join pool and
+	 * repairs the JSONs on a fork-join pool of its own
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param formatter
+	 */
+	public CustomJSONRepairProcessor(CustomJSONFormatterService formatter) {
+		this(formatter, DEFAULT_BATCH_SIZE, ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+	}
+
+	/**
+	 * Constructor of a processor that repairs the JSONs on a fork-join pool of its own, shut down when the 
+	 * processor is closed
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param formatter service used to repair the JSONs
+	 * @param batchSize maximum number of JSONs repaired together
+	 * @param executor executor that delivers the results to the subscribers
+	 * @param maxBufferCapacity maximum number of results buffered for each subscriber
+	 */
+	public CustomJSONRepairProcessor(CustomJSONFormatterService formatter, int batchSize, Executor executor, int maxBufferCapacity) {
+		this(formatter, batchSize, null, executor, maxBufferCapacity);
+	}
+
+	/**
+	 * Constructor of a processor that repairs the JSONs on the given fork-join pool, that is not shut down
+	 *
+	 * @author Mariana Azevedo
+	 * @since 18/10/2026
+	 *
+	 * @param formatter service used to repair the JSONs
+	 * @param batchSize maximum number of JSONs repaired together
+	 * @param repairPool pool where the batches are repaired, or null for a pool of the processor
+	 * @param executor executor that delivers the results to the subscribers
+	 * @param maxBufferCapacity maximum number of results buffered for each subscriber
+	 */
+	public CustomJSONRepairProcessor(CustomJSONFormatterService formatter, int batchSize, ForkJoinPool repairPool, Executor executor, 
+			int maxBufferCapacity) {
+		super(executor, maxBufferCapacity);
+
+		if(formatter == null) throw new NullPointerException("Formatter is null.");
+		if(batchSize < 1) throw new IllegalArgumentException("Batch size must be greater than zero: " + batchSize);
+
+		this.formatter = formatter;
+		this.batchSize = batchSize;
+		this.batch = new ArrayList<>(batchSize);
+		this.ownsRepairPool = repairPool == null;
+		this.repairPool = ownsRepairPool ? new ForkJoinPool(ForkJoinPool.getCommonPoolParallelism()) : repairPool;
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super RepairResult> subscriber) {
+
+		if(subscriber == null) throw new NullPointerException("Subscriber is null.");
+
+		synchronized(publishLock) {
+			DemandSubscriber demandSubscriber;
+			synchronized(lock) {
+				demandSubscriber = new DemandSubscriber(subscriber, published);
+				//a duplicate subscribe is rejected by the publisher, so only the first one is counted
+				if(!subscribers.contains(demandSubscriber)) subscribers.add(demandSubscriber);
+			}
+			super.subscribe(demandSubscriber);
+		}
+	}
+
+	@Override
+	public boolean isSubscribed(Flow.Subscriber<? super RepairResult> subscriber) {
+		if(subscriber == null) throw new NullPointerException("Subscriber is null.");
+		return super.isSubscribed(new DemandSubscriber(subscriber, 0));
+	}
+
+	@Override
+	public List<Flow.Subscriber<? super RepairResult>> getSubscribers() {
+		List<Flow.Subscriber<? super RepairResult>> delegates = new ArrayList<>();
+		for(Flow.Subscriber<? super RepairResult> subscriber : super.getSubscribers()) {
+			delegates.add(((DemandSubscriber) subscriber).subscriber);
+		}
+		return delegates;
+	}
+
+	@Override
+	public void onSubscribe(Flow.Subscription subscription) {
+
+		synchronized(lock) {
+			if(this.subscription != null || cancelled) {
+				subscription.cancel();
+				return;
+			}
+			this.subscription = subscription;
+		}
+		drain();
+	}
+
+	@Override
+	public void onNext(String json) {
+
+		if(json == null) throw new NullPointerException("JSON of the publisher is null.");
+
+		synchronized(lock) {
+			batch.add(json);
+			if(outstanding > 0) outstanding--;
+		}
+		drain();
+	}
+
+	@Override
+	public void onError(Throwable throwable) {
+
+		synchronized(lock) {
+			completed = true;
+			error = throwable;
+		}
+		drain();
+	}
+
+	@Override
+	public void onComplete() {
+
+		synchronized(lock) {
+			completed = true;
+		}
+		drain();
+	}
+
+	/**
+	 * Method that publishes the batch, if it is ready, and then completes the stream or requests more JSONs
+	 * from upstream. It is called on each signal of upstream and of the subscribers, but runs on a single thread
+	 * at a time: a call made while it runs, on any thread, only makes it run again. The lock is held only to read 
+	 * and update the state, never while a batch is repaired or a signal is sent.
+	 */
+	private void drain() {
+
+		synchronized(lock) {
+			if(draining) {
+				missed = true;
+				return;
+			}
+			draining = true;
+		}
+
+		boolean done = false;
+		try {
+			while(!done) {
+				List<String> ready = takeBatch();
+				if(ready != null) publishBatch(ready);
+				done = completeOrRequest();
+			}
+		}finally {
+			if(!done) {
+				synchronized(lock) {
+					draining = false;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Method that takes the batch, replacing it by an empty one, if it must be published now
+	 */
+	private List<String> takeBatch() {
+
+		synchronized(lock) {
+			missed = false;
+			if(cancelled || batch.isEmpty()) return null;
+			if(!completed && batch.size() < batchSize && outstanding > 0 && !isIdle()) return null;
+
+			List<String> ready = batch;
+			batch = new ArrayList<>(batchSize);
+			return ready;
+		}
+	}
+
+	/**
+	 * Method that repairs a batch and offers its results. The requests to upstream keep the results within the 
+	 * free buffers of the subscribers, so no result is dropped.
+	 */
+	private void publishBatch(List<String> jsons) {
+
+		List<RepairResult> results = formatter.repairAll(jsons, repairPool);
+
+		synchronized(publishLock) {
+			synchronized(lock) {
+				published += results.size();
+			}
+			for(RepairResult result : results) offer(result, null);
+		}
+	}
+
+	/**
+	 * Method that closes the processor, when the stream is over, or requests more JSONs from upstream. It returns 
+	 * false when drain() must run again, because of a signal received meanwhile.
+	 */
+	private boolean completeOrRequest() {
+
+		Flow.Subscription upstream = null;
+		long credit = 0;
+		boolean close = false;
+		Throwable closeError = null;
+
+		synchronized(lock) {
+			if(cancelled) {
+				close = true;
+			}else if(completed) {
+				//JSONs received while the previous batch was published
+				if(!batch.isEmpty()) return false;
+
+				close = error == null || isDrained();
+				closeError = error;
+			}else {
+				upstream = subscription;
+				credit = requestCredit();
+			}
+		}
+
+		if(close) {
+			if(closeError == null) close();
+			else closeExceptionally(closeError);
+			if(ownsRepairPool) repairPool.shutdown();
+		}else if(credit > 0) {
+			upstream.request(credit);
+		}
+
+		synchronized(lock) {
+			if(missed) return false;
+			draining = false;
+			return true;
+		}
+	}
+
+	/**
+	 * Method that returns how many JSONs to request from upstream: the ones that the subscribers can still receive, 
+	 * in requests of at least a batch while other JSONs are pending, to not request them one by one.
+	 */
+	private long requestCredit() {
+
+		if(subscription == null || subscribers.isEmpty()) return 0;
+
+		long credit = Long.MAX_VALUE;
+		for(DemandSubscriber subscriber : subscribers) {
+			credit = Math.min(credit, subscriber.credit());
+		}
+
+		credit -= outstanding + batch.size();
+		if(credit <= 0 || (credit < batchSize && outstanding > 0)) return 0;
+
+		outstanding += credit;
+		return credit;
+	}
+
+	private boolean isIdle() {
+		for(DemandSubscriber subscriber : subscribers) {
+			if(subscriber.lag() > 0) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Method that checks if the subscribers consumed all the results that they requested, so that the error,
+	 * which drops the results not consumed yet, can be published.
+	 */
+	private boolean isDrained() {
+		for(DemandSubscriber subscriber : subscribers) {
+			if(subscriber.lag() > 0 && subscriber.requested > subscriber.delivered) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Method that removes a subscriber that cancelled or was completed. When no subscriber is left, the
+	 * processor is closed and the upstream subscription is cancelled.
+	 */
+	private void leave(DemandSubscriber subscriber) {
+
+		Flow.Subscription upstream;
+		synchronized(lock) {
+			subscribers.remove(subscriber);
+			if(!subscribers.isEmpty() || completed || cancelled) return;
+
+			cancelled = true;
+			upstream = subscription;
+		}
+
+		drain();
+		if(upstream != null) upstream.cancel();
+	}
+
+	/**
+	 * Subscriber that counts the demand and the results consumed by a subscriber of the processor, so that
+	 * the processor requests from upstream only what the subscribers can receive.
+	 */
+	private final class DemandSubscriber implements Flow.Subscriber<RepairResult>, Flow.Subscription {
+
+		private final Flow.Subscriber<? super RepairResult> subscriber;
+		private final long firstResult;
+
+		private Flow.Subscription subscription;
+		private long requested;
+		private long delivered;
+
+		DemandSubscriber(Flow.Subscriber<? super RepairResult> subscriber, long firstResult) {
+			this.subscriber = subscriber;
+			this.firstResult = firstResult;
+		}
+
+		long lag() {
+			return published - firstResult - delivered;
+		}
+
+		long credit() {
+			long sent = published - firstResult;
+			return Math.min(requested - sent, getMaxBufferCapacity() - (sent - delivered));
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+			subscriber.onSubscribe(this);
+		}
+
+		@Override
+		public void onNext(RepairResult result) {
+			try {
+				subscriber.onNext(result);
+			}finally {
+				synchronized(lock) {
+					delivered++;
+				}
+				drain();
+			}
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			leave(this);
+			subscriber.onError(throwable);
+		}
+
+		@Override
+		public void onComplete() {
+			leave(this);
+			subscriber.onComplete();
+		}
+
+		@Override
+		public void request(long n) {
+			subscription.request(n);
+			if(n <= 0) return;
+
+			synchronized(lock) {
+				requested = requested + n < 0 ? Long.MAX_VALUE : requested + n;
+			}
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			subscription.cancel();
+			leave(this);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof DemandSubscriber && subscriber.equals(((DemandSubscriber) obj).subscriber);
+		}
+
+		@Override
+		public int hashCode() {
+			return subscriber.hashCode();
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package io.github.mariazevedo88.jfv.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import com.google.gson.JsonElement;
+
+import io.github.mariazevedo88.jfv.service.CustomJSONFormatterService;
+
+/**
+ * Test class of the asynchronous methods of the formatter
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ *
+ */
+@DisplayName("CustomJSONAsyncTest")
+@TestInstance(Lifecycle.PER_CLASS)
+@TestMethodOrder(OrderAnnotation.class)
+public class CustomJSONAsyncTest {
+
+	private CustomJSONFormatterService formatter;
+	private ExecutorService executor;
+
+	@BeforeAll
+	public void setUp() {
+		formatter = new CustomJSONFormatterService();
+		executor = Executors.newSingleThreadExecutor();
+	}
+
+	@Test
+	@DisplayName("Should get a valid JSON of a malformed String on the default executor")
+	@Order(1)
+	public void shouldGetValidJsonOnDefaultExecutor() throws Exception {
+		JsonElement json = formatter.checkValidityAndFormatObjectAsync("{id:1,reference:Ao lado, perto da praca}", true, false).get();
+		assertEquals("Ao lado, perto da praca", json.getAsJsonObject().get("reference").getAsString());
+		assertNull(formatter.getCustomJson().getValidJson());
+	}
+
+	@Test
+	@DisplayName("Should read a BufferedReader on the executor, not on the caller's thread")
+	@Order(2)
+	public void shouldReadBufferedReaderOnExecutor() throws Exception {
+		Thread[] readerThread = new Thread[1];
+		BufferedReader reader = new BufferedReader(new StringReader("{id:1}")) {
+			@Override
+			public String readLine() throws IOException {
+				readerThread[0] = Thread.currentThread();
+				return super.readLine();
+			}
+		};
+
+		JsonElement json = formatter.checkValidityAndFormatObjectAsync(reader, true, false, executor).get();
+		assertEquals("1", json.getAsJsonObject().get("id").getAsString());
+		assertNotSame(Thread.currentThread(), readerThread[0]);
+	}
+
+	@Test
+	@DisplayName("Should complete exceptionally with the error of the repair, or with null muting exception")
+	@Order(3)
+	public void shouldCompleteExceptionallyWithErrorOfRepair() throws Exception {
+		ExecutionException exception = assertThrows(ExecutionException.class,
+				() -> formatter.checkValidityAndFormatObjectAsync("{blablablabla}", true, false, executor).get());
+		assertTrue(exception.getCause() instanceof StringIndexOutOfBoundsException);
+
+		assertNull(formatter.checkValidityAndFormatObjectAsync("{blablablabla}", true, true, executor).get());
+	}
+
+	@Test
+	@DisplayName("Should complete exceptionally with the IOException of a reader")
+	@Order(4)
+	public void shouldCompleteExceptionallyWithIOExceptionOfReader() throws IOException {
+		BufferedReader closedReader = new BufferedReader(new StringReader("{id:1}"));
+		closedReader.close();
+
+		ExecutionException exception = assertThrows(ExecutionException.class,
+				() -> formatter.checkValidityAndFormatObjectAsync(closedReader, true, true, executor).get());
+		assertTrue(exception.getCause() instanceof IOException);
+	}
+
+	@Test
+	@DisplayName("Should throws NullPointerException if the executor is null")
+	@Order(5)
+	public void shouldThrowsNullPointerExceptionIfExecutorIsNull() {
+		assertThrows(NullPointerException.class, () -> formatter.checkValidityAndFormatObjectAsync("{id:1}", true, false, null));
+	}
+
+	@AfterAll
+	public void tearDown() {
+		executor.shutdown();
+		formatter = null;
+	}
+}
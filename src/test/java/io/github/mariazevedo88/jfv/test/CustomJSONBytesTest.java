@@ -0,0 +1,180 @@
+package io.github.mariazevedo88.jfv.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+
+import io.github.mariazevedo88.jfv.model.RepairResult;
+import io.github.mariazevedo88.jfv.model.enumeration.RepairEngineEnum;
+import io.github.mariazevedo88.jfv.service.CustomJSONFormatterService;
+import io.github.mariazevedo88.jfv.service.RepairOptions;
+
+/**
+ * Test class of the repair of UTF-8 bytes, byte buffers and char sequences without converting them to a String
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ *
+ */
+@DisplayName("CustomJSONBytesTest")
+@TestInstance(Lifecycle.PER_CLASS)
+@TestMethodOrder(OrderAnnotation.class)
+public class CustomJSONBytesTest {
+
+	private static final String ORDER = "{cidade:São Paulo,endereço:{rua:Avenida Paulista, 1000,número:1,5},tags:[café, ação, 12],obs:preço 10€ 😀}";
+
+	private CustomJSONFormatterService formatter;
+	private CustomJSONFormatterService tokenizerFormatter;
+
+	@BeforeAll
+	public void setUp() {
+		formatter = new CustomJSONFormatterService();
+		tokenizerFormatter = new CustomJSONFormatterService(RepairEngineEnum.TOKENIZER);
+	}
+
+	@ParameterizedTest
+	@MethodSource("io.github.mariazevedo88.jfv.test.CustomJSONTokenizerTest#malformedJsons")
+	@DisplayName("Should repair UTF-8 bytes as the Strings, with both engines")
+	@Order(1)
+	public void shouldRepairBytesAsStrings(String malformedJson) throws IOException {
+		byte[] bytes = malformedJson.getBytes(StandardCharsets.UTF_8);
+
+		assertEquals(formatter.repair(malformedJson, true).getValidJson(), formatter.repair(bytes, true).getValidJson());
+		assertEquals(tokenizerFormatter.repair(malformedJson, true).getValidJson(), tokenizerFormatter.repair(bytes, true).getValidJson());
+		assertEquals(tokenizerFormatter.repair(malformedJson, true).getValidJson(),
+				JsonParser.parseString(new String(tokenizerFormatter.repairToBytes(bytes, 0, bytes.length), StandardCharsets.UTF_8)));
+	}
+
+	@Test
+	@DisplayName("Should repair a range of an array of UTF-8 bytes and return UTF-8 bytes")
+	@Order(2)
+	public void shouldRepairRangeOfBytes() {
+		byte[] order = ORDER.getBytes(StandardCharsets.UTF_8);
+		byte[] record = new byte[order.length + 6];
+		System.arraycopy(order, 0, record, 3, order.length);
+
+		byte[] repaired = tokenizerFormatter.repairToBytes(record, 3, order.length);
+		JsonObject json = JsonParser.parseString(new String(repaired, StandardCharsets.UTF_8)).getAsJsonObject();
+
+		assertEquals("São Paulo", json.get("cidade").getAsString());
+		assertEquals("Avenida Paulista, 1000", json.getAsJsonObject("endereço").get("rua").getAsString());
+		assertEquals("1.5", json.getAsJsonObject("endereço").get("número").getAsString());
+		assertEquals("ação", json.getAsJsonArray("tags").get(1).getAsString());
+		assertEquals("preço 10€ 😀", json.get("obs").getAsString());
+
+		RepairResult result = tokenizerFormatter.repair(record, 3, order.length, true);
+		assertTrue(result.isRepaired());
+		assertEquals(json, result.getValidJson());
+	}
+
+	@Test
+	@DisplayName("Should repair heap, direct and read-only ByteBuffers without changing their position")
+	@Order(3)
+	public void shouldRepairByteBuffers() throws IOException {
+		byte[] order = ORDER.getBytes(StandardCharsets.UTF_8);
+		JsonElement expected = tokenizerFormatter.repair(ORDER, true).getValidJson();
+
+		ByteBuffer direct = ByteBuffer.allocateDirect(order.length + 2);
+		direct.put((byte) ' ').put(order).put((byte) ' ');
+		direct.position(1);
+		direct.limit(order.length + 1);
+
+		ByteBuffer heap = ByteBuffer.wrap(order);
+		for (ByteBuffer buffer : new ByteBuffer[] {heap, direct, heap.asReadOnlyBuffer(), direct.asReadOnlyBuffer()}) {
+			int position = buffer.position();
+			assertEquals(expected, JsonParser.parseString(new String(tokenizerFormatter.repairToBytes(buffer), StandardCharsets.UTF_8)));
+			assertEquals(expected, tokenizerFormatter.repair(buffer, true).getValidJson());
+			assertEquals(position, buffer.position());
+		}
+	}
+
+	@Test
+	@DisplayName("Should return the bytes of a strict JSON as they are, on the fast path")
+	@Order(4)
+	public void shouldReturnBytesOfStrictJson() throws IOException {
+		CustomJSONFormatterService service = new CustomJSONFormatterService();
+		byte[] json = "{\"cidade\":\"São Paulo\",\"tags\":[\"café\",1]}".getBytes(StandardCharsets.UTF_8);
+
+		assertArrayEquals(json, service.repairToBytes(json, 0, json.length));
+
+		ByteBuffer direct = ByteBuffer.allocateDirect(json.length);
+		direct.put(json).flip();
+		assertArrayEquals(json, service.repairToBytes(direct));
+
+		RepairResult result = service.repair(json, true);
+		assertEquals("São Paulo", result.getValidJson().getAsJsonObject().get("cidade").getAsString());
+		assertEquals(3, service.getFastPathCount());
+		assertEquals(0, service.getRepairCount());
+	}
+
+	@Test
+	@DisplayName("Should repair bytes with a projection and char sequences that are not Strings")
+	@Order(5)
+	public void shouldRepairBytesWithProjectionAndCharSequences() throws IOException {
+		RepairOptions options = RepairOptions.builder().paths("cidade", "endereço.número").muteLog(true).build();
+		JsonObject json = tokenizerFormatter.repair(ORDER.getBytes(StandardCharsets.UTF_8), options).getValidJson().getAsJsonObject();
+
+		assertEquals("São Paulo", json.get("cidade").getAsString());
+		assertEquals("1.5", json.getAsJsonObject("endereço").get("número").getAsString());
+		assertEquals(2, json.size());
+
+		StringBuilder builder = new StringBuilder(ORDER);
+		assertEquals(tokenizerFormatter.repair(ORDER, true).getValidJson(), tokenizerFormatter.repair(builder, true).getValidJson());
+		assertEquals(JsonParser.parseString("{\"id\":1}"), formatter.repair(new StringBuilder("{\"id\":1}"), true).getValidJson());
+	}
+
+	@Test
+	@DisplayName("Should throws JsonSyntaxException if the bytes can't be repaired, and return the error on the result")
+	@Order(6)
+	public void shouldThrowsJsonSyntaxExceptionIfBytesCantBeRepaired() {
+		byte[] invalid = "{id:1,payment:[{value:2}".getBytes(StandardCharsets.UTF_8);
+
+		JsonSyntaxException e = assertThrows(JsonSyntaxException.class, () -> formatter.repairToBytes(invalid, 0, invalid.length));
+		assertTrue(e.getMessage().endsWith("Array without right bracket. Position: 24"));
+		assertThrows(JsonSyntaxException.class, () -> formatter.repairToBytes(ByteBuffer.wrap(invalid)));
+		assertTrue(tokenizerFormatter.repair(invalid, 0, invalid.length, true).getError() instanceof JsonSyntaxException);
+	}
+
+	@Test
+	@DisplayName("Should throws NullPointerException if the bytes are null and IndexOutOfBoundsException if the range is invalid")
+	@Order(7)
+	public void shouldThrowsExceptionIfBytesAreNullOrRangeIsInvalid() {
+		byte[] json = "{id:1}".getBytes(StandardCharsets.UTF_8);
+
+		assertThrows(NullPointerException.class, () -> formatter.repairToBytes(null, 0, 0));
+		assertThrows(NullPointerException.class, () -> formatter.repairToBytes((ByteBuffer) null));
+		assertTrue(formatter.repair((byte[]) null, 0, 0, true).getError() instanceof NullPointerException);
+
+		assertThrows(IndexOutOfBoundsException.class, () -> formatter.repairToBytes(json, -1, 2));
+		assertThrows(IndexOutOfBoundsException.class, () -> formatter.repairToBytes(json, 0, -1));
+		assertThrows(IndexOutOfBoundsException.class, () -> formatter.repair(json, 4, 3, true));
+	}
+
+	@AfterAll
+	public void tearDown() {
+		formatter = null;
+		tokenizerFormatter = null;
+	}
+}
@@ -0,0 +1,182 @@
+package io.github.mariazevedo88.jfv.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.google.gson.JsonElement;
+
+import io.github.mariazevedo88.jfv.model.RepairResult;
+import io.github.mariazevedo88.jfv.model.enumeration.RepairEngineEnum;
+import io.github.mariazevedo88.jfv.service.CustomJSONFormatterService;
+import io.github.mariazevedo88.jfv.service.RepairCache;
+
+/**
+ * Test class of the cache of the results of the repair
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ *
+ */
+@DisplayName("CustomJSONCacheTest")
+@TestInstance(Lifecycle.PER_CLASS)
+@TestMethodOrder(OrderAnnotation.class)
+public class CustomJSONCacheTest {
+
+	private CustomJSONFormatterService formatter;
+	private CustomJSONFormatterService tokenizerFormatter;
+
+	@BeforeAll
+	public void setUp() {
+		formatter = new CustomJSONFormatterService();
+		tokenizerFormatter = new CustomJSONFormatterService(RepairEngineEnum.TOKENIZER, new RepairCache(1000, 1_000_000));
+	}
+
+	@ParameterizedTest
+	@MethodSource("io.github.mariazevedo88.jfv.test.CustomJSONTokenizerTest#malformedJsons")
+	@DisplayName("Should return the same JSON from the cache")
+	@Order(1)
+	public void shouldReturnSameJSONFromCache(String malformedJson) throws IOException {
+		CustomJSONFormatterService cached = new CustomJSONFormatterService(RepairEngineEnum.REGEX, new RepairCache(10, 100_000));
+
+		RepairResult miss = cached.repair(malformedJson, true);
+		RepairResult hit = cached.repair(malformedJson, true);
+
+		assertEquals(formatter.repair(malformedJson, true).getValidJson(), miss.getValidJson());
+		assertEquals(miss.getValidJson(), hit.getValidJson());
+		assertEquals(miss.isRepaired(), hit.isRepaired());
+
+		//the results with an error are repaired again
+		long hits = miss.getValidJson() == null ? 0 : 1;
+		assertEquals(hits, cached.getRepairCache().getHitCount());
+		assertEquals(2 - hits, cached.getRepairCache().getMissCount());
+		assertEquals(2 - hits, cached.getFastPathCount() + cached.getRepairCount());
+	}
+
+	@Test
+	@DisplayName("Should return a new JSON on each hit, and not keep the errors")
+	@Order(2)
+	public void shouldReturnNewJSONOnEachHit() throws IOException {
+		RepairCache cache = tokenizerFormatter.getRepairCache();
+
+		JsonElement first = tokenizerFormatter.checkValidityAndFormatObject("{id:1,status:OK}", true, true);
+		first.getAsJsonObject().addProperty("status", "CHANGED");
+		JsonElement second = tokenizerFormatter.checkValidityAndFormatObject("{id:1,status:OK}", true, true);
+		JsonElement third = tokenizerFormatter.checkValidityAndFormatObject("{id:1,status:OK}", true, true);
+
+		assertEquals("OK", second.getAsJsonObject().get("status").getAsString());
+		assertNotSame(second, third);
+		assertEquals(second, third);
+		assertEquals(2, cache.getHitCount());
+		assertEquals(1, tokenizerFormatter.getRepairCount());
+
+		RepairResult error = tokenizerFormatter.repair("{id}", true);
+		assertNull(error.getValidJson());
+		assertNotSame(error.getError(), tokenizerFormatter.repair("{id}", true).getError());
+		assertEquals(2, cache.getHitCount());
+		assertEquals(3, tokenizerFormatter.getRepairCount());
+		assertEquals(1, cache.size());
+		assertEquals(16, cache.getWeight());
+	}
+
+	@Test
+	@DisplayName("Should evict the least recently used results when the cache is full")
+	@Order(3)
+	public void shouldEvictLeastRecentlyUsedResults() throws IOException {
+		CustomJSONFormatterService cached = new CustomJSONFormatterService(RepairEngineEnum.TOKENIZER, new RepairCache(3, 1000));
+		RepairCache cache = cached.getRepairCache();
+
+		cached.repair("{a:1}", true);
+		cached.repair("{b:1}", true);
+		cached.repair("{c:1}", true);
+		cached.repair("{a:1}", true); //hit, so {b:1} is the least recently used
+		cached.repair("{d:1}", true);
+
+		assertEquals(1, cache.getEvictionCount());
+		assertEquals(3, cache.size());
+		cached.repair("{a:1}", true);
+		assertEquals(2, cache.getHitCount());
+		cached.repair("{b:1}", true);
+		assertEquals(2, cache.getHitCount());
+		assertEquals(5, cache.getMissCount());
+		assertTrue(cache.toString().startsWith("RepairCache [size=3, weight=15, hitCount=2, missCount=5, evictionCount=2"));
+
+		cache.clear();
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.getWeight());
+	}
+
+	@Test
+	@DisplayName("Should bound the weight of the cache by the length of the JSONs")
+	@Order(4)
+	public void shouldBoundWeightOfCache() throws IOException {
+		CustomJSONFormatterService cached = new CustomJSONFormatterService(RepairEngineEnum.TOKENIZER, new RepairCache(8, 10));
+		RepairCache cache = cached.getRepairCache();
+
+		cached.repair("{name:Mariana}", true); //heavier than the cache, not kept
+		assertEquals(0, cache.size());
+
+		cached.repair("{id:1}", true);
+		cached.repair("{id:2}", true);
+		assertEquals(1, cache.size());
+		assertEquals(6, cache.getWeight());
+		assertEquals(1, cache.getEvictionCount());
+		assertEquals(10, cache.getMaximumWeight());
+		assertEquals(8, cache.getMaximumSize());
+
+		//only strings are cached
+		cached.repair("{id:2}".getBytes(StandardCharsets.UTF_8), true);
+		assertEquals(3, cache.getMissCount());
+	}
+
+	@Test
+	@DisplayName("Should share the cache between threads")
+	@Order(5)
+	public void shouldShareCacheBetweenThreads() throws IOException {
+		CustomJSONFormatterService cached = new CustomJSONFormatterService(RepairEngineEnum.REGEX, new RepairCache(1000, 1_000_000));
+
+		List<String> jsons = new ArrayList<>();
+		for (int i = 0; i < 2000; i++) jsons.add("{id:" + (i % 50) + ",status:OK}");
+		List<RepairResult> results = cached.repairAll(jsons);
+
+		for (int i = 0; i < jsons.size(); i++) {
+			assertEquals(formatter.repair(jsons.get(i), true).getValidJson(), results.get(i).getValidJson());
+		}
+		assertEquals(2000, cached.getRepairCache().getHitCount() + cached.getRepairCache().getMissCount());
+		assertEquals(50, cached.getRepairCache().size());
+	}
+
+	@Test
+	@DisplayName("Should validate the bounds of the cache")
+	@Order(6)
+	public void shouldValidateBoundsOfCache() {
+		assertThrows(IllegalArgumentException.class, () -> new RepairCache(0, 10));
+		assertThrows(IllegalArgumentException.class, () -> new RepairCache(10, 0));
+		assertNull(formatter.getRepairCache());
+	}
+
+	@AfterAll
+	public void tearDown() {
+		formatter = null;
+		tokenizerFormatter = null;
+	}
+}
@@ -0,0 +1,129 @@
+package io.github.mariazevedo88.jfv.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import com.google.gson.JsonObject;
+
+import io.github.mariazevedo88.jfv.service.CustomJSONFormatterService;
+import io.github.mariazevedo88.jfv.service.CustomJSONValidatorFiltersService;
+
+/**
+ * Test class of the single scan filter and remove of many attributes
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ *
+ */
+@DisplayName("CustomJSONFiltersTest")
+@TestInstance(Lifecycle.PER_CLASS)
+@TestMethodOrder(OrderAnnotation.class)
+public class CustomJSONFiltersTest {
+
+	private static final String ORDER = "{pf:{cpf:11122233385,name:MARIANA DE AZEVEDO SANTOS},localDate:2019-02-01,"
+			+ "totalAmount:326.98,totalDiscount:0,products:[{link:{id:BLABLABLA-1,rel:sku},quantity:1},{link:{id:BLABLABLA-2,rel:sku},quantity:2}]}";
+
+	private CustomJSONValidatorFiltersService validator;
+	private CustomJSONFormatterService formatter;
+
+	@BeforeAll
+	public void setUp() {
+		validator = new CustomJSONValidatorFiltersService();
+		formatter = new CustomJSONFormatterService();
+	}
+
+	@Test
+	@DisplayName("Should remove many attributes, in any order, with one scan")
+	@Order(1)
+	public void shouldRemoveManyAttributes() {
+		String expected = "{localDate:2019-02-01,totalDiscount:0,}";
+
+		assertEquals(expected, validator.removeJSONObjectsFromString(ORDER, new String[] {"pf", "totalAmount", "products"}));
+		assertEquals(expected, validator.removeJSONObjectsFromString(ORDER, new String[] {"products", "pf", "totalAmount"}));
+	}
+
+	@Test
+	@DisplayName("Should remove the next occurrence of an attribute that is repeated on the list")
+	@Order(2)
+	public void shouldRemoveNextOccurrenceOfRepeatedAttribute() {
+		assertEquals("{pf:{cpf:11122233385,name:MARIANA DE AZEVEDO SANTOS},localDate:2019-02-01,totalAmount:326.98,totalDiscount:0,"
+				+ "products:[{quantity:1},{quantity:2}]}",
+				validator.removeJSONObjectsFromString(ORDER, new String[] {"link", "link"}));
+	}
+
+	@Test
+	@DisplayName("Should ignore attributes inside values already removed and attributes that aren't in the string")
+	@Order(3)
+	public void shouldIgnoreAttributesInsideRemovedValues() {
+		assertEquals("{localDate:2019-02-01,totalAmount:326.98,totalDiscount:0,products:[{link:{rel:sku},quantity:1},"
+				+ "{link:{id:BLABLABLA-2,rel:sku},quantity:2}]}",
+				validator.removeJSONObjectsFromString(ORDER, new String[] {"pf", "cpf", "id", "customer"}));
+		assertEquals(ORDER, validator.removeJSONObjectsFromString(ORDER, new String[] {"customer", ""}));
+	}
+
+	@Test
+	@DisplayName("Should filter many attributes, including attributes inside the values of other ones")
+	@Order(4)
+	public void shouldFilterManyAttributes() throws IOException {
+		String filtered = validator.filterJSONObjectsFromString(ORDER, new String[] {"totalDiscount", "name", "products", "customer"});
+
+		assertEquals("{totalDiscount:0,,name:MARIANA DE AZEVEDO SANTOS,products:[{link:{id:BLABLABLA-1,rel:sku},quantity:1},"
+				+ "{link:{id:BLABLABLA-2,rel:sku},quantity:2}],}", filtered);
+
+		JsonObject json = formatter.checkValidityAndFormatObject(filtered, false, false).getAsJsonObject();
+		assertEquals("MARIANA DE AZEVEDO SANTOS", json.get("name").getAsString());
+		assertEquals(2, json.get("products").getAsJsonArray().size());
+	}
+
+	@Test
+	@DisplayName("Should filter attributes with chars out of ASCII and return an empty object if no attribute is found")
+	@Order(5)
+	public void shouldFilterAttributesOutOfAscii() {
+		String json = "{endereço:{cidade:São Paulo},número:216,preço:10}";
+
+		assertEquals("{endereço:{cidade:São Paulo},,preço:10,}", validator.filterJSONObjectsFromString(json, new String[] {"endereço", "preço"}));
+		assertEquals("{número:216,}", validator.removeJSONObjectsFromString(json, new String[] {"preço", "endereço"}));
+		assertEquals("{}", validator.filterJSONObjectsFromString(json, new String[] {"customer"}));
+		assertEquals("{}", validator.filterJSONObjectsFromString(json, new String[0]));
+	}
+
+	@Test
+	@DisplayName("Should filter and remove many attributes from a large string")
+	@Order(6)
+	public void shouldFilterAndRemoveFromLargeString() {
+		StringBuilder json = new StringBuilder("{products:[");
+		for (int i = 0; i < 100_000; i++) json.append("{link:{id:BLABLABLA-").append(i).append(",rel:sku},quantity:1},");
+		json.append("{quantity:1}],pf:{cpf:11122233385},totalDiscount:0}");
+
+		String[] attributes = {"totalDiscount", "pf", "products"};
+		assertEquals("{totalDiscount:0}", validator.removeJSONObjectsFromString(json.toString(), new String[] {"pf", "products"}));
+		assertTrue(validator.filterJSONObjectsFromString(json.toString(), attributes).endsWith("{quantity:1}],,}"));
+	}
+
+	@Test
+	@DisplayName("Should throws NullPointerException if the list of attributes or an attribute is null")
+	@Order(7)
+	public void shouldThrowsNullPointerExceptionIfAttributeIsNull() {
+		assertThrows(NullPointerException.class, () -> validator.filterJSONObjectsFromString(ORDER, (String[]) null));
+		assertThrows(NullPointerException.class, () -> validator.removeJSONObjectsFromString(ORDER, new String[] {"pf", null}));
+	}
+
+	@AfterAll
+	public void tearDown() {
+		validator = null;
+		formatter = null;
+	}
+}
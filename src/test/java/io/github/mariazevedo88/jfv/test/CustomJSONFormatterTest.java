@@ -1,5 +1,6 @@
 package io.github.mariazevedo88.jfv.test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -180,12 +181,11 @@ public class CustomJSONFormatterTest{
 	}
 	
 	@Test
-	@DisplayName("Should throws StringIndexOutOfBoundsException if parameter in CustomJSONFormatter is an empty JSONObject")
+	@DisplayName("Should get an empty JSONObject if parameter in CustomJSONFormatter is an empty JSONObject")
 	@Order(14)
-	public void shouldThrowsStringIndexOutOfBoundsExceptionFromEmptyObjectAsString() throws IOException {
-		assertThrows(StringIndexOutOfBoundsException.class,()->{
-			formatter.checkValidityAndFormatObject("{}", false, false);
-	    });
+	public void shouldGetEmptyJSONObjectFromEmptyObjectAsString() throws IOException {
+		JsonElement json = formatter.checkValidityAndFormatObject("{}", false, false);
+		assertEquals(new JsonObject(), json);
 	}
 	
 	@Test
@@ -227,12 +227,11 @@ public class CustomJSONFormatterTest{
 	}
 	
 	@Test
-	@DisplayName("Should throws StringIndexOutOfBoundsException from empty Array as a String")
+	@DisplayName("Should get an empty JSONArray from empty Array as a String")
 	@Order(19)
-	public void shouldThrowsStringIndexOutOfBoundsExceptionFromEmptyArrayAsString() throws IOException {
-		assertThrows(StringIndexOutOfBoundsException.class,()->{
-			formatter.checkValidityAndFormatObject("[]", false, false);
-	    });
+	public void shouldGetEmptyJSONArrayFromEmptyArrayAsString() throws IOException {
+		JsonElement json = formatter.checkValidityAndFormatObject("[]", false, false);
+		assertEquals(new JsonArray(), json);
 	}
 	
 	@Test
@@ -422,7 +421,7 @@ public class CustomJSONFormatterTest{
 	@DisplayName("Should not throws StringIndexOutOfBoundsException with mute exception flag")
 	@Order(37)
 	public void shouldNotThrowsStringIndexOutOfBoundsExceptionWithMuteExceptionFlag() throws IOException {
-		JsonElement json = formatter.checkValidityAndFormatObject("[]", false, true);
+		JsonElement json = formatter.checkValidityAndFormatObject("{blablablabla}", false, true);
 		assertNull(json);
 	}
 	
@@ -530,6 +529,39 @@ public class CustomJSONFormatterTest{
 		assertNotNull(formatter.getCustomJson().getValidJson());
 	}
 	
+	@Test
+	@DisplayName("Should keep all commas of a value with many commas in a malformed String")
+	@Order(45)
+	public void shouldGetValidJSONOfStringWithManyCommasOnValue() throws IOException {
+		StringBuilder reference = new StringBuilder("Entregar");
+		for(int i = 0; i < 40; i++) reference.append(", bloco ").append(i);
+		
+		String jsonWithManyCommas = "{id:1,address:{reference:" + reference + ",city:Lavras}}";
+		JsonElement json = formatter.checkValidityAndFormatObject(jsonWithManyCommas, false, false);
+		assertEquals(reference.toString(), json.getAsJsonObject().getAsJsonObject("address").get("reference").getAsString());
+		assertEquals("Lavras", json.getAsJsonObject().getAsJsonObject("address").get("city").getAsString());
+	}
+	
+	@Test
+	@DisplayName("Should keep the values of a malformed String with Dot before commas")
+	@Order(46)
+	public void shouldKeepValuesOfStringWithDotBeforeCommas() throws IOException {
+		String jsonWithDotBeforeComma = "{billingAddress:{additionalInfo:Bloco B, pru00e9dio vermelho.,city:Sao Paulo},totalAmount:169.89,paymentMethods:[{value:169.89,installments:2}]}";
+		JsonElement json = formatter.checkValidityAndFormatObject(jsonWithDotBeforeComma, false, false);
+		assertEquals("Bloco B, pru00e9dio vermelho.", json.getAsJsonObject().getAsJsonObject("billingAddress").get("additionalInfo").getAsString());
+		assertEquals("169.89", json.getAsJsonObject().get("totalAmount").getAsString());
+	}
+	
+	@Test
+	@DisplayName("Should close the quotes of a value with commas at the end of nested objects")
+	@Order(47)
+	public void shouldGetValidJSONOfStringWithCommasOnValueAtTheEndOfNestedObjects() throws IOException {
+		String jsonWithCommasAtTheEnd = "{customer:{address:{reference:Ao lado, perto da praca}},id:1}";
+		JsonElement json = formatter.checkValidityAndFormatObject(jsonWithCommasAtTheEnd, false, false);
+		assertEquals("Ao lado, perto da praca", json.getAsJsonObject().getAsJsonObject("customer").getAsJsonObject("address").get("reference").getAsString());
+		assertEquals("1", json.getAsJsonObject().get("id").getAsString());
+	}
+	
 	@AfterAll
 	public void tearDown() {
 		formatter = null;
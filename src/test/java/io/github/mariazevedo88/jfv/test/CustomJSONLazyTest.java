@@ -0,0 +1,186 @@
+package io.github.mariazevedo88.jfv.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map.Entry;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSyntaxException;
+
+import io.github.mariazevedo88.jfv.model.LazyJson;
+import io.github.mariazevedo88.jfv.model.enumeration.RepairEngineEnum;
+import io.github.mariazevedo88.jfv.service.CustomJSONFormatterService;
+
+/**
+ * Test class of the JSONs read on demand, without building the whole tree
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ *
+ */
+@DisplayName("CustomJSONLazyTest")
+@TestInstance(Lifecycle.PER_CLASS)
+@TestMethodOrder(OrderAnnotation.class)
+public class CustomJSONLazyTest {
+
+	private static final String ORDER = "{id:267111784501,status:APPROVED,deliveryAddress:{street:Rua Wanderlin Vieira,number:216,"
+			+ "city:Conselheiro Lafaiete,reference:Ao lado, perto da praca},paymentMethods:[{sequential:1,id:CREDIT_CARD,value:1216.03},"
+			+ "{sequential:2,id:VOUCHER,value:70,53}],tags:[1, true, null, Rua B]}";
+
+	private CustomJSONFormatterService formatter;
+	private CustomJSONFormatterService tokenizerFormatter;
+
+	@BeforeAll
+	public void setUp() {
+		formatter = new CustomJSONFormatterService();
+		tokenizerFormatter = new CustomJSONFormatterService(RepairEngineEnum.TOKENIZER);
+	}
+
+	@ParameterizedTest
+	@MethodSource("io.github.mariazevedo88.jfv.test.CustomJSONTokenizerTest#malformedJsons")
+	@DisplayName("Should read each attribute on demand as the tree of the repair, with both engines")
+	@Order(1)
+	public void shouldReadAttributesAsTreeOfRepair(String malformedJson) throws IOException {
+		for (CustomJSONFormatterService service : new CustomJSONFormatterService[] {formatter, tokenizerFormatter}) {
+			JsonObject tree = service.repair(malformedJson, true).getValidJson().getAsJsonObject();
+			LazyJson lazyJson = service.repairLazy(malformedJson, true);
+
+			for (Entry<String, JsonElement> member : tree.entrySet()) {
+				assertEquals(member.getValue(), lazyJson.get(member.getKey()));
+			}
+			assertEquals(tree, lazyJson.asJsonElement());
+		}
+	}
+
+	@Test
+	@DisplayName("Should read nested objects and arrays on demand")
+	@Order(2)
+	public void shouldReadNestedObjectsAndArrays() throws IOException {
+		LazyJson order = tokenizerFormatter.repairLazy(ORDER, true);
+
+		assertTrue(order.isJsonObject());
+		assertEquals(new JsonPrimitive("267111784501"), order.get("id"));
+		assertEquals("APPROVED", order.get("status").getAsString());
+		assertTrue(order.has("deliveryAddress"));
+		assertFalse(order.has("customer"));
+		assertNull(order.get("customer"));
+		assertNull(order.getLazy("customer"));
+
+		LazyJson address = order.getLazy("deliveryAddress");
+		assertEquals("Conselheiro Lafaiete", address.get("city").getAsString());
+		assertEquals("Ao lado, perto da praca", address.get("reference").getAsString());
+
+		LazyJson payments = order.getLazy("paymentMethods");
+		assertTrue(payments.isJsonArray());
+		assertEquals(2, payments.size());
+		assertEquals("70.53", payments.getLazy(1).get("value").getAsString());
+		assertEquals(JsonParser.parseString("{\"sequential\":\"1\",\"id\":\"CREDIT_CARD\",\"value\":\"1216.03\"}"), payments.get(0));
+
+		LazyJson tags = order.getLazy("tags");
+		assertEquals(4, tags.size());
+		assertTrue(tags.get(1).getAsBoolean());
+		assertTrue(tags.get(2).isJsonNull());
+		assertEquals("Rua B", tags.get(3).getAsString());
+	}
+
+	@Test
+	@DisplayName("Should index strict JSONs with blanks, escapes, repeated keys and delimiters inside strings")
+	@Order(3)
+	public void shouldIndexStrictJsons() {
+		String json = " { \"a\\\"b\" : \"x}\" , \"list\" : [ [ 1 , 2 ] , { } , \"]\" , -1.5e3 ] ,\"id\":1, \"empty\":{},"
+				+ "\"caf\\u00e9\":true, \"id\" : 2 } ";
+		LazyJson lazyJson = LazyJson.parse(json);
+
+		assertEquals(6, lazyJson.size());
+		assertEquals("x}", lazyJson.get("a\"b").getAsString());
+		assertEquals(2, lazyJson.get("id").getAsInt());
+		assertTrue(lazyJson.get("café").getAsBoolean());
+		assertEquals(0, lazyJson.getLazy("empty").size());
+		assertEquals("{}", lazyJson.getLazy("empty").toString());
+
+		LazyJson list = lazyJson.getLazy("list");
+		assertEquals(4, list.size());
+		assertEquals(2, list.getLazy(0).get(1).getAsInt());
+		assertEquals("]", list.get(2).getAsString());
+		assertEquals(-1500, list.get(3).getAsInt());
+		assertEquals("[ [ 1 , 2 ] , { } , \"]\" , -1.5e3 ]", list.toString());
+
+		assertEquals(json.trim(), lazyJson.toString());
+		assertSame(lazyJson.asJsonElement(), lazyJson.asJsonElement());
+		assertEquals(0, LazyJson.parse("[]").size());
+	}
+
+	@Test
+	@DisplayName("Should read on demand JSONs from readers, UTF-8 bytes and trees")
+	@Order(4)
+	public void shouldReadOnDemandFromOtherInputs() throws IOException {
+		CustomJSONFormatterService service = new CustomJSONFormatterService(RepairEngineEnum.TOKENIZER);
+
+		assertEquals("São Paulo", service.repairLazy("{cidade:São Paulo}".getBytes(StandardCharsets.UTF_8), false).get("cidade").getAsString());
+		assertEquals("São Paulo", service.repairLazy("{\"cidade\":\"São Paulo\"}".getBytes(StandardCharsets.UTF_8), false).get("cidade")
+				.getAsString());
+		assertEquals(1, service.repairLazy(new BufferedReader(new StringReader("{id:1}")), true).get("id").getAsInt());
+		assertEquals(1, service.repairLazy(JsonParser.parseString("{\"id\":1}"), true).get("id").getAsInt());
+
+		assertEquals(1, service.getFastPathCount());
+		assertEquals(2, service.getRepairCount());
+	}
+
+	@Test
+	@DisplayName("Should throws JsonSyntaxException if the JSON can't be repaired or isn't strict")
+	@Order(5)
+	public void shouldThrowsJsonSyntaxExceptionIfJSONIsInvalid() {
+		assertThrows(JsonSyntaxException.class, () -> tokenizerFormatter.repairLazy("{id:1,payment:[{value:2}", true));
+		assertThrows(JsonSyntaxException.class, () -> tokenizerFormatter.repairLazy("blablabla", true));
+		assertThrows(JsonSyntaxException.class, () -> LazyJson.parse("{id:1}"));
+		assertThrows(JsonSyntaxException.class, () -> LazyJson.parse("\"id\""));
+	}
+
+	@Test
+	@DisplayName("Should throws exceptions if the JSON or the key are null, or the access doesn't match the JSON")
+	@Order(6)
+	public void shouldThrowsExceptionsIfAccessIsInvalid() {
+		LazyJson object = LazyJson.parse("{\"id\":1,\"list\":[1]}");
+		LazyJson array = object.getLazy("list");
+
+		assertThrows(NullPointerException.class, () -> formatter.repairLazy(null, true));
+		assertThrows(NullPointerException.class, () -> LazyJson.parse(null));
+		assertThrows(NullPointerException.class, () -> object.get(null));
+		assertThrows(IllegalStateException.class, () -> object.getLazy("id"));
+		assertThrows(IllegalStateException.class, () -> object.get(0));
+		assertThrows(IllegalStateException.class, () -> array.get("id"));
+		assertThrows(IllegalStateException.class, () -> array.getLazy(0));
+		assertThrows(IndexOutOfBoundsException.class, () -> array.get(1));
+		assertThrows(IndexOutOfBoundsException.class, () -> array.get(-1));
+	}
+
+	@AfterAll
+	public void tearDown() {
+		formatter = null;
+		tokenizerFormatter = null;
+	}
+}
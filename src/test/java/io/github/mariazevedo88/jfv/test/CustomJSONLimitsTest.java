@@ -0,0 +1,237 @@
+package io.github.mariazevedo88.jfv.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.google.gson.JsonParseException;
+
+import io.github.mariazevedo88.jfv.model.RepairOutcome;
+import io.github.mariazevedo88.jfv.model.RepairResult;
+import io.github.mariazevedo88.jfv.model.enumeration.RepairEngineEnum;
+import io.github.mariazevedo88.jfv.model.enumeration.RepairOutcomeEnum;
+import io.github.mariazevedo88.jfv.service.CustomJSONFormatterService;
+import io.github.mariazevedo88.jfv.service.RepairOptions;
+
+/**
+ * Test class of the limits of the repair: deadline, input length, depth and iterations
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ *
+ */
+@DisplayName("CustomJSONLimitsTest")
+@TestInstance(Lifecycle.PER_CLASS)
+@TestMethodOrder(OrderAnnotation.class)
+public class CustomJSONLimitsTest {
+
+	private CustomJSONFormatterService formatter;
+	private CustomJSONFormatterService tokenizerFormatter;
+	private String largeJson;
+
+	@BeforeAll
+	public void setUp() {
+		formatter = new CustomJSONFormatterService();
+		tokenizerFormatter = new CustomJSONFormatterService(RepairEngineEnum.TOKENIZER);
+
+		StringBuilder builder = new StringBuilder("{");
+		for (int i = 0; i < 500; i++) builder.append("key").append(i).append(":value").append(i).append(',');
+		largeJson = builder.append("id:1}").toString();
+	}
+
+	@ParameterizedTest
+	@MethodSource("io.github.mariazevedo88.jfv.test.CustomJSONTokenizerTest#malformedJsons")
+	@DisplayName("Should repair the same JSON with limits that are not exceeded")
+	@Order(1)
+	public void shouldRepairSameJSONWithLimitsNotExceeded(String malformedJson) throws IOException {
+		RepairOptions options = RepairOptions.builder().muteLog(true).maxInputLength(100_000).maxDepth(64)
+				.maxIterations(100_000).timeout(Duration.ofMinutes(1)).build();
+
+		assertEquals(formatter.repair(malformedJson, true).getValidJson(), formatter.repair(malformedJson, options).getValidJson());
+		assertEquals(tokenizerFormatter.repair(malformedJson, true).getValidJson(), tokenizerFormatter.repair(malformedJson, options).getValidJson());
+		assertEquals(formatter.repairWithOutcome(malformedJson, true).getValidJson(), formatter.repairWithOutcome(malformedJson, options).getValidJson());
+	}
+
+	@Test
+	@DisplayName("Should give up when the JSON is longer than the maximum input length")
+	@Order(2)
+	public void shouldGiveUpWhenJSONIsTooLarge() throws IOException {
+		RepairOptions options = RepairOptions.builder().muteLog(true).maxInputLength(6).build();
+
+		RepairResult result = tokenizerFormatter.repair("{id:10}", options);
+		assertNull(result.getValidJson());
+		assertFalse(result.isRepaired());
+		assertTrue(result.getError() instanceof JsonParseException);
+		assertEquals("Error: repair gave up. Input larger than the maximum length. Position: 6", result.getError().getMessage());
+
+		RepairOutcome outcome = formatter.repairWithOutcome("{id:10}".getBytes(StandardCharsets.UTF_8), options);
+		assertEquals(RepairOutcomeEnum.INPUT_TOO_LARGE, outcome.getCode());
+		assertEquals(6, outcome.getErrorOffset());
+		assertTrue(outcome.getCode().isLimitExceeded());
+
+		assertEquals(RepairOutcomeEnum.INPUT_TOO_LARGE, formatter.repairWithOutcome(new BufferedReader(new StringReader("{id:10}")), options).getCode());
+		assertEquals(RepairOutcomeEnum.REPAIRED, formatter.repairWithOutcome("{id:1}", options).getCode());
+		assertEquals("1", formatter.repair("{id:1}", options).getValidJson().getAsJsonObject().get("id").getAsString());
+	}
+
+	@Test
+	@DisplayName("Should give up when the JSON is nested deeper than the maximum depth, on both engines")
+	@Order(3)
+	public void shouldGiveUpWhenJSONIsTooDeep() throws IOException {
+		RepairOptions options = RepairOptions.builder().muteLog(true).maxDepth(2).build();
+
+		assertEquals("Error: repair gave up. Nesting deeper than the maximum depth. Position: 6",
+				formatter.repair("{a:{b:{c:1}}}", options).getError().getMessage());
+		assertEquals("Error: repair gave up. Nesting deeper than the maximum depth. Position: 6",
+				tokenizerFormatter.repair("{a:{b:{c:1}}}", options).getError().getMessage());
+
+		RepairOutcome outcome = formatter.repairWithOutcome("{a:{b:[1]}}", options);
+		assertEquals(RepairOutcomeEnum.TOO_DEEP, outcome.getCode());
+		assertEquals(6, outcome.getErrorOffset());
+
+		//the valid JSONs are not repaired, but are also checked before they are parsed
+		assertEquals(RepairOutcomeEnum.TOO_DEEP, formatter.repairWithOutcome("{\"a\":{\"b\":{\"c\":1}}}", options).getCode());
+		assertEquals("Error: repair gave up. Nesting deeper than the maximum depth. Position: 10",
+				formatter.repair("{\"a\":{\"b\":{\"c\":1}}}", options).getError().getMessage());
+
+		//brackets inside strings are not nesting
+		assertEquals(RepairOutcomeEnum.VALID, formatter.repairWithOutcome("{\"a\":\"{{\\\"[[\",\"b\":[1]}", options).getCode());
+		assertNull(formatter.repair("{a:{b:1}}", options).getError());
+	}
+
+	@Test
+	@DisplayName("Should give up when the repair takes more iterations than the maximum, on both engines")
+	@Order(4)
+	public void shouldGiveUpWhenRepairTakesTooManyIterations() throws IOException {
+		RepairOptions options = RepairOptions.builder().muteLog(true).maxIterations(2).build();
+
+		assertEquals("Error: repair gave up. Repair took more iterations than the maximum. Position: 9",
+				formatter.repair("{a:1,b:2,c:3}", options).getError().getMessage());
+		assertEquals("Error: repair gave up. Repair took more iterations than the maximum. Position: 5",
+				tokenizerFormatter.repair("{a:1,b:2,c:3}", options).getError().getMessage());
+
+		RepairOutcome outcome = formatter.repairWithOutcome("{a:1,b:2,c:3}", options);
+		assertEquals(RepairOutcomeEnum.TOO_MANY_ITERATIONS, outcome.getCode());
+		assertEquals(5, outcome.getErrorOffset());
+		assertEquals("Repair took more iterations than the maximum.", outcome.getReason());
+		assertEquals(RepairOutcomeEnum.TOO_MANY_ITERATIONS, formatter.repairWithOutcome("[1,2,3,]", options).getCode());
+
+		//the main regex has one match, and the comma fix-up gives up on the first field
+		assertEquals("Error: repair gave up. Repair took more iterations than the maximum. Position: 0",
+				formatter.repair("{id:1}", RepairOptions.builder().muteLog(true).maxIterations(1).build()).getError().getMessage());
+	}
+
+	@Test
+	@DisplayName("Should read only the maximum input length of a reader, plus a buffer, before giving up")
+	@Order(5)
+	public void shouldReadOnlyMaximumInputLengthOfReader() throws IOException {
+		RepairOptions options = RepairOptions.builder().muteLog(true).maxInputLength(1000).build();
+		AtomicLong charsRead = new AtomicLong();
+		Reader endlessLine = new Reader() {
+
+			@Override
+			public int read(char[] buffer, int offset, int length) {
+				Arrays.fill(buffer, offset, offset + length, 'x');
+				charsRead.addAndGet(length);
+				return length;
+			}
+
+			@Override
+			public void close() {
+				//nothing to close
+			}
+		};
+
+		RepairResult result = formatter.repair(new BufferedReader(endlessLine), options);
+		assertEquals("Error: repair gave up. Input larger than the maximum length. Position: 1000", result.getError().getMessage());
+		assertTrue(charsRead.get() < 20_000);
+		assertEquals(RepairOutcomeEnum.INPUT_TOO_LARGE, formatter.repairWithOutcome(new BufferedReader(endlessLine), options).getCode());
+
+		//the lines within the maximum length are read as readLine() does
+		StringBuilder json = new StringBuilder("{id:1,text:");
+		while(json.length() < 999) json.append('x');
+		assertTrue(formatter.repair(new BufferedReader(new StringReader(json.append('}').toString())), options).isValid());
+		assertEquals("1", formatter.repair(new BufferedReader(new StringReader("{id:1}\r\n{id:2}")), options).getValidJson()
+				.getAsJsonObject().get("id").getAsString());
+		assertEquals("2", formatter.repair(new BufferedReader(new StringReader("{id:2}\n{id:3}")), options).getValidJson()
+				.getAsJsonObject().get("id").getAsString());
+		assertEquals(formatter.repairWithOutcome(new BufferedReader(new StringReader("")), RepairOptions.DEFAULT).getCode(),
+				formatter.repairWithOutcome(new BufferedReader(new StringReader("")), options).getCode());
+		assertEquals(formatter.repairWithOutcome(new BufferedReader(new StringReader("\n")), RepairOptions.DEFAULT).getCode(),
+				formatter.repairWithOutcome(new BufferedReader(new StringReader("\n")), options).getCode());
+	}
+
+	@Test
+	@DisplayName("Should give up when the repair doesn't finish before the deadline, on both engines")
+	@Order(6)
+	public void shouldGiveUpWhenDeadlineIsExceeded() throws IOException {
+		RepairOptions options = RepairOptions.builder().muteLog(true).timeout(Duration.ofNanos(1)).build();
+
+		assertTrue(formatter.repair(largeJson, options).getError().getMessage().startsWith("Error: repair gave up. Repair didn't finish before the deadline."));
+		assertTrue(tokenizerFormatter.repair(largeJson, options).getError().getMessage().startsWith("Error: repair gave up. Repair didn't finish before the deadline."));
+		assertEquals(RepairOutcomeEnum.DEADLINE_EXCEEDED, formatter.repairWithOutcome(largeJson, options).getCode());
+
+		//a single regular expression that reads a long text also checks the deadline
+		StringBuilder longValue = new StringBuilder("{text:");
+		for (int i = 0; i < 10_000; i++) longValue.append('x');
+		assertTrue(formatter.repair(longValue.append('}').toString(), options).getError().getMessage()
+				.startsWith("Error: repair gave up. Repair didn't finish before the deadline."));
+
+		RepairOptions timeout = RepairOptions.builder().muteLog(true).timeout(Duration.ofMinutes(1)).build();
+		assertEquals(formatter.repair(largeJson, true).getValidJson(), formatter.repair(largeJson, timeout).getValidJson());
+		assertEquals(tokenizerFormatter.repair(largeJson, true).getValidJson(), tokenizerFormatter.repair(largeJson, timeout).getValidJson());
+	}
+
+	@Test
+	@DisplayName("Should validate the limits of the options")
+	@Order(7)
+	public void shouldValidateLimitsOfOptions() {
+		assertThrows(IllegalArgumentException.class, () -> RepairOptions.builder().maxInputLength(0));
+		assertThrows(IllegalArgumentException.class, () -> RepairOptions.builder().maxDepth(-1));
+		assertThrows(IllegalArgumentException.class, () -> RepairOptions.builder().maxIterations(0));
+		assertThrows(IllegalArgumentException.class, () -> RepairOptions.builder().timeout(Duration.ZERO));
+		assertThrows(IllegalArgumentException.class, () -> RepairOptions.builder().timeout(Duration.ofMillis(-1)));
+		assertThrows(NullPointerException.class, () -> formatter.repairWithOutcome("{id:1}", (RepairOptions) null));
+
+		assertFalse(RepairOptions.DEFAULT.hasLimits());
+		assertFalse(RepairOptions.builder().timeout(null).build().hasLimits());
+		assertTrue(RepairOptions.builder().maxInputLength(10).build().hasLimits());
+		assertTrue(RepairOptions.builder().maxDepth(10).build().hasLimits());
+		assertTrue(RepairOptions.builder().maxIterations(10).build().hasLimits());
+
+		RepairOptions options = RepairOptions.builder().timeout(Duration.ofSeconds(1)).build();
+		assertTrue(options.hasLimits());
+		assertEquals(Duration.ofSeconds(1), options.getTimeout());
+		assertTrue(options.toString().contains("timeout=PT1S"));
+	}
+
+	@AfterAll
+	public void tearDown() {
+		formatter = null;
+		tokenizerFormatter = null;
+		largeJson = null;
+	}
+}
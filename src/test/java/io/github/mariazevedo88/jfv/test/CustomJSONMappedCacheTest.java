@@ -0,0 +1,221 @@
+package io.github.mariazevedo88.jfv.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.mariazevedo88.jfv.model.RepairResult;
+import io.github.mariazevedo88.jfv.model.enumeration.RepairEngineEnum;
+import io.github.mariazevedo88.jfv.service.CustomJSONFormatterService;
+import io.github.mariazevedo88.jfv.service.MappedRepairCache;
+import io.github.mariazevedo88.jfv.service.RepairCache;
+
+/**
+ * Test class of the cache of the results of the repair on a memory-mapped file
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ *
+ */
+@DisplayName("CustomJSONMappedCacheTest")
+@TestInstance(Lifecycle.PER_CLASS)
+@TestMethodOrder(OrderAnnotation.class)
+public class CustomJSONMappedCacheTest {
+
+	@TempDir
+	Path directory;
+
+	private CustomJSONFormatterService formatter;
+	private List<String> malformedJsons;
+
+	@BeforeAll
+	public void setUp() {
+		formatter = new CustomJSONFormatterService();
+		malformedJsons = CustomJSONTokenizerTest.malformedJsons().map(String.class::cast).collect(Collectors.toList());
+	}
+
+	@Test
+	@DisplayName("Should read the results from the file after a restart, without repairing them again")
+	@Order(1)
+	public void shouldReadResultsFromFileAfterRestart() throws IOException {
+		Path file = directory.resolve("restart.cache");
+
+		try(MappedRepairCache mapped = new MappedRepairCache(file, 1024, 1 << 20)){
+			CustomJSONFormatterService cached = new CustomJSONFormatterService(RepairEngineEnum.REGEX, new RepairCache(100, 100_000, mapped));
+			for (String json : malformedJsons) cached.repair(json, true);
+		}
+
+		try(MappedRepairCache mapped = new MappedRepairCache(file, 1, 1024)){
+			CustomJSONFormatterService restarted = new CustomJSONFormatterService(RepairEngineEnum.REGEX, new RepairCache(100, 100_000, mapped));
+			long valid = 0;
+			for (String json : malformedJsons) {
+				RepairResult expected = formatter.repair(json, true);
+				RepairResult result = restarted.repair(json, true);
+				assertEquals(expected.getValidJson(), result.getValidJson());
+				assertEquals(expected.isRepaired(), result.isRepaired());
+				if(expected.getValidJson() != null) valid++;
+			}
+
+			//the sizes of the file are kept, and the invalid JSONs are not on it
+			assertEquals(1024, mapped.getSlotCount());
+			assertEquals(1 << 20, mapped.getDataCapacity());
+			assertEquals(valid, mapped.getHitCount());
+			assertEquals(malformedJsons.size() - valid, restarted.getRepairCount() + restarted.getFastPathCount());
+			assertTrue(restarted.getRepairCache().getMappedCache() == mapped);
+		}
+	}
+
+	@Test
+	@DisplayName("Should share the results with another cache on the same file")
+	@Order(2)
+	public void shouldShareResultsWithAnotherCache() throws IOException {
+		Path file = directory.resolve("shared.cache");
+
+		try(MappedRepairCache writer = new MappedRepairCache(file, 64, 1 << 16);
+			MappedRepairCache reader = new MappedRepairCache(file, 64, 1 << 16)){
+
+			CustomJSONFormatterService first = new CustomJSONFormatterService(RepairEngineEnum.TOKENIZER, new RepairCache(10, 10_000, writer));
+			CustomJSONFormatterService second = new CustomJSONFormatterService(RepairEngineEnum.TOKENIZER, new RepairCache(10, 10_000, reader));
+
+			first.repair("{id:1,status:OK}", true);
+			assertEquals(new CustomJSONFormatterService(RepairEngineEnum.TOKENIZER).repair("{id:1,status:OK}", true).getValidJson(),
+					second.repair("{id:1,status:OK}", true).getValidJson());
+			assertEquals(1, reader.getHitCount());
+			assertEquals(0, second.getRepairCount());
+
+			//the second hit is on the memory
+			second.repair("{id:1,status:OK}", true);
+			assertEquals(1, reader.getHitCount());
+			assertEquals(1, second.getRepairCache().getHitCount());
+		}
+	}
+
+	@Test
+	@DisplayName("Should bound the file, evicting the oldest results")
+	@Order(3)
+	public void shouldBoundFileEvictingOldestResults() throws IOException {
+		Path file = directory.resolve("bounded.cache");
+
+		try(MappedRepairCache mapped = new MappedRepairCache(file, 16, 2048)){
+			CustomJSONFormatterService cached = new CustomJSONFormatterService(RepairEngineEnum.TOKENIZER, new RepairCache(1, 1, mapped));
+			long size = Files.size(file);
+
+			for (int i = 0; i < 500; i++) cached.repair("{id:" + i + ",name:user " + i + "}", true);
+			assertEquals(size, Files.size(file));
+			assertTrue(mapped.getEvictionCount() > 0);
+
+			//the oldest results were overwritten by the ring, the newest ones are on the file
+			long repairs = cached.getRepairCount();
+			cached.repair("{id:0,name:user 0}", true);
+			cached.repair("{id:499,name:user 499}", true);
+			assertEquals(repairs + 1, cached.getRepairCount());
+
+			//a JSON heavier than a quarter of the data is not kept
+			String heavy = "{name:" + new String(new char[600]).replace('\0', 'a') + "}";
+			cached.repair(heavy, true);
+			cached.repair(heavy, true);
+			assertEquals(repairs + 3, cached.getRepairCount());
+		}
+	}
+
+	@Test
+	@DisplayName("Should miss the results with corrupted bytes on the file")
+	@Order(4)
+	public void shouldMissCorruptedResults() throws IOException {
+		Path file = directory.resolve("corrupted.cache");
+
+		try(MappedRepairCache mapped = new MappedRepairCache(file, 8, 1024)){
+			new CustomJSONFormatterService(RepairEngineEnum.REGEX, new RepairCache(1, 1, mapped)).repair("{id:1}", true);
+		}
+
+		//the entry is at the start of the data region, after the header and the slots
+		try(RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")){
+			raw.seek(64 + 8 * 16 + 20);
+			raw.write('X');
+		}
+
+		try(MappedRepairCache mapped = new MappedRepairCache(file, 8, 1024)){
+			CustomJSONFormatterService cached = new CustomJSONFormatterService(RepairEngineEnum.REGEX, new RepairCache(1, 1, mapped));
+			assertEquals("{\"id\":\"1\"}", cached.repair("{id:1}", true).getValidJson().toString());
+			assertEquals(1, mapped.getMissCount());
+			assertEquals(1, cached.getRepairCount());
+			assertTrue(mapped.toString().startsWith("MappedRepairCache [file=" + file));
+			assertEquals(file, mapped.getFile());
+		}
+	}
+
+	@Test
+	@DisplayName("Should validate the sizes and the file of the cache")
+	@Order(5)
+	public void shouldValidateSizesAndFile() throws IOException {
+		Path file = directory.resolve("invalid.cache");
+		Files.write(file, "not a cache".getBytes(StandardCharsets.UTF_8));
+
+		assertThrows(IOException.class, () -> new MappedRepairCache(file, 8, 1024));
+		assertThrows(IllegalArgumentException.class, () -> new MappedRepairCache(file, 0, 1024));
+		assertThrows(IllegalArgumentException.class, () -> new MappedRepairCache(file, 8, 1023));
+		assertThrows(IllegalArgumentException.class, () -> new MappedRepairCache(file, Integer.MAX_VALUE / 16, Integer.MAX_VALUE / 2));
+		assertNull(new RepairCache(1, 1).getMappedCache());
+
+		MappedRepairCache closed = new MappedRepairCache(directory.resolve("closed.cache"), 8, 1024);
+		CustomJSONFormatterService cached = new CustomJSONFormatterService(RepairEngineEnum.REGEX, new RepairCache(1, 1, closed));
+		closed.close();
+		closed.close();
+		cached.repair("{id:1}", true);
+		cached.repair("{id:1}", true);
+		assertEquals(0, closed.getHitCount());
+		assertEquals(2, cached.getRepairCount());
+	}
+
+	@Test
+	@DisplayName("Should count the results not written while another cache of the process holds the lock")
+	@Order(6)
+	public void shouldCountDroppedWritesWhileLockIsHeld() throws IOException {
+		Path file = directory.resolve("locked.cache");
+
+		try(MappedRepairCache mapped = new MappedRepairCache(file, 8, 1024);
+			FileChannel other = FileChannel.open(file, StandardOpenOption.WRITE)){
+
+			CustomJSONFormatterService cached = new CustomJSONFormatterService(RepairEngineEnum.REGEX, new RepairCache(1, 1, mapped));
+			other.lock(0, 64, false);
+			cached.repair("{id:1}", true);
+			assertEquals(1, mapped.getDroppedWriteCount());
+
+			//the lock is released with the channel, and the next write is kept
+			other.close();
+			cached.repair("{id:2}", true);
+			cached.repair("{id:1}", true);
+			assertEquals(1, mapped.getDroppedWriteCount());
+			assertEquals(0, mapped.getHitCount());
+			assertTrue(mapped.toString().endsWith("droppedWriteCount=1]"));
+		}
+	}
+
+	@AfterAll
+	public void tearDown() {
+		formatter = null;
+		malformedJsons = null;
+	}
+}
@@ -0,0 +1,110 @@
+package io.github.mariazevedo88.jfv.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.mariazevedo88.jfv.model.RepairResult;
+import io.github.mariazevedo88.jfv.service.CustomJSONFormatterService;
+
+/**
+ * Test class of the repair of large files with many JSONs
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ *
+ */
+@DisplayName("CustomJSONMappedFileTest")
+@TestInstance(Lifecycle.PER_CLASS)
+@TestMethodOrder(OrderAnnotation.class)
+public class CustomJSONMappedFileTest {
+
+	@TempDir
+	Path directory;
+
+	private CustomJSONFormatterService formatter;
+
+	@BeforeAll
+	public void setUp() {
+		formatter = new CustomJSONFormatterService();
+	}
+
+	@Test
+	@DisplayName("Should repair a file of many chunks keeping the order of the JSONs and skipping the invalid ones")
+	@Order(1)
+	public void shouldRepairFileOfManyChunksInOrder() throws IOException {
+		Path source = directory.resolve("records.ndjson");
+		Path destination = directory.resolve("records-repaired.ndjson");
+
+		try(Writer writer = Files.newBufferedWriter(source, StandardCharsets.UTF_8)){
+			for(int i = 0; i < 60_000; i++) {
+				String record = i % 1000 == 0 ? "{blablablabla}" : "{id:" + i + ",city:São Paulo,reference:Ao lado, perto da praca}";
+				writer.write(i % 7 == 0 ? record + "{id:" + i + "}\r\n" : record + "\n");
+			}
+		}
+
+		List<String> expectedLines = new ArrayList<>();
+		formatter.repairRecords(Files.newBufferedReader(source, StandardCharsets.UTF_8), result -> addValidJson(expectedLines, result));
+		assertTrue(Files.size(source) > 3 * (1 << 20));
+
+		long written = formatter.repairFile(source, destination, 4);
+		List<String> lines = Files.readAllLines(destination, StandardCharsets.UTF_8);
+
+		assertEquals(expectedLines.size(), written);
+		assertEquals(expectedLines, lines);
+	}
+
+	@Test
+	@DisplayName("Should repair an empty file and a file without line break at the end")
+	@Order(2)
+	public void shouldRepairEmptyFileAndFileWithoutLastLineBreak() throws IOException {
+		Path empty = Files.createFile(directory.resolve("empty.ndjson"));
+		Path destination = directory.resolve("empty-repaired.ndjson");
+		assertEquals(0, formatter.repairFile(empty, destination));
+		assertEquals(0, Files.size(destination));
+
+		Path source = Files.write(directory.resolve("one.ndjson"), "{id:1}\n{id:2}".getBytes(StandardCharsets.UTF_8));
+		assertEquals(2, formatter.repairFile(source, destination));
+		assertEquals("{\"id\":\"1\"}\n{\"id\":\"2\"}\n", new String(Files.readAllBytes(destination), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	@DisplayName("Should throws exceptions from null files, missing files and invalid parallelism")
+	@Order(3)
+	public void shouldThrowsExceptionsFromInvalidParameters() {
+		Path destination = directory.resolve("invalid.ndjson");
+
+		assertThrows(NullPointerException.class, () -> formatter.repairFile(null, destination));
+		assertThrows(NullPointerException.class, () -> formatter.repairFile(destination, null));
+		assertThrows(IllegalArgumentException.class, () -> formatter.repairFile(destination, destination, 0));
+		assertThrows(IOException.class, () -> formatter.repairFile(directory.resolve("missing.ndjson"), destination));
+	}
+
+	private static void addValidJson(List<String> lines, RepairResult result) {
+		if(result.isValid()) lines.add(result.getValidJson().toString());
+	}
+
+	@AfterAll
+	public void tearDown() {
+		formatter = null;
+	}
+}
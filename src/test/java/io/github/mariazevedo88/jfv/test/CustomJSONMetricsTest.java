@@ -0,0 +1,219 @@
+package io.github.mariazevedo88.jfv.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import com.google.gson.JsonSyntaxException;
+
+import io.github.mariazevedo88.jfv.model.enumeration.RepairEngineEnum;
+import io.github.mariazevedo88.jfv.model.enumeration.RepairRuleEnum;
+import io.github.mariazevedo88.jfv.model.enumeration.RepairStageEnum;
+import io.github.mariazevedo88.jfv.service.CustomJSONFormatterService;
+import io.github.mariazevedo88.jfv.service.RepairMetrics;
+import io.github.mariazevedo88.jfv.service.RepairOptions;
+import io.github.mariazevedo88.jfv.service.RepairPipeline;
+import io.github.mariazevedo88.jfv.service.RepairRule;
+
+/**
+ * Test class of the metrics of the repair, and of their MXBean
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ *
+ */
+@DisplayName("CustomJSONMetricsTest")
+@TestInstance(Lifecycle.PER_CLASS)
+@TestMethodOrder(OrderAnnotation.class)
+public class CustomJSONMetricsTest {
+
+	private CustomJSONFormatterService formatter;
+	private CustomJSONFormatterService tokenizerFormatter;
+
+	@BeforeAll
+	public void setUp() {
+		formatter = new CustomJSONFormatterService();
+		tokenizerFormatter = new CustomJSONFormatterService(RepairEngineEnum.TOKENIZER);
+	}
+
+	@Test
+	@DisplayName("Should count the calls, fast paths, repairs and failures")
+	@Order(1)
+	public void shouldCountCallsFastPathsRepairsAndFailures() throws IOException {
+		RepairMetrics metrics = formatter.getMetrics();
+
+		formatter.repair("{\"id\":1}", true);
+		formatter.repair("{id:1}", true);
+		formatter.repair("{id}", true);
+		formatter.repair(null, true);
+
+		assertEquals(4, metrics.getCallCount());
+		assertEquals(1, metrics.getFastPathCount());
+		assertEquals(2, metrics.getRepairCount());
+		assertEquals(2, metrics.getFailureCount());
+		assertEquals(metrics.getFastPathCount(), formatter.getFastPathCount());
+		assertEquals(metrics.getRepairCount(), formatter.getRepairCount());
+	}
+
+	@Test
+	@DisplayName("Should time the stages of the regex engine, and count the hits of the rules")
+	@Order(2)
+	public void shouldTimeStagesOfRegexEngineAndCountRuleHits() throws IOException {
+		RepairMetrics metrics = formatter.getMetrics();
+		metrics.reset();
+
+		formatter.repair("{name:Maria (admin),id:1}", true);
+		formatter.repair("{hora:10:30,id:2}", true);
+
+		Map<String, Long> counts = metrics.getStageCounts();
+		assertEquals(Arrays.stream(RepairStageEnum.values()).map(Enum::name).collect(Collectors.toList()),
+				new ArrayList<>(counts.keySet()));
+		assertEquals(2, counts.get(RepairStageEnum.RULES.name()));
+		assertEquals(2, counts.get(RepairStageEnum.MAIN_REGEX.name()));
+		assertEquals(2, counts.get(RepairStageEnum.COMMA_FIX.name()));
+		assertEquals(2, counts.get(RepairStageEnum.PARSE.name()));
+		assertEquals(0, counts.get(RepairStageEnum.TOKENIZER.name()));
+
+		long[] histogram = metrics.getStageHistograms().get(RepairStageEnum.RULES.name());
+		assertEquals(2, Arrays.stream(histogram).sum());
+		assertTrue(metrics.getStageTotalNanos().get(RepairStageEnum.RULES.name()) >= metrics.getStageMaxNanos().get(RepairStageEnum.RULES.name()));
+		assertTrue(metrics.percentileNanos(RepairStageEnum.RULES.name(), 99) >= metrics.percentileNanos(RepairStageEnum.RULES.name(), 0));
+		assertTrue(metrics.percentileNanos(RepairStageEnum.RULES.name(), 50) > 0);
+		assertEquals(0, metrics.percentileNanos(RepairStageEnum.TOKENIZER.name(), 50));
+
+		Map<String, Long> hits = metrics.getRuleHitCounts();
+		assertEquals(1, hits.get(RepairRuleEnum.LEFT_PARENTHESES.name()));
+		assertEquals(1, hits.get(RepairRuleEnum.RIGHT_PARENTHESES.name()));
+		assertEquals(1, hits.get(RepairRuleEnum.HOURS.name()));
+		assertNull(hits.get(RepairRuleEnum.TRAILING_COMMA.name()));
+
+		RepairRule noMatch = RepairRule.regex("NO_MATCH", "xyz", "abc");
+		RepairRule notAvailable = new RepairRule() {
+
+			@Override
+			public String getName() {
+				return "NOT_AVAILABLE";
+			}
+
+			@Override
+			public String apply(String json) {
+				return json.replace("N/A", "");
+			}
+		};
+		RepairOptions options = RepairOptions.builder().muteLog(true).rules(RepairPipeline.builder().add(noMatch).add(notAvailable).build()).build();
+		formatter.repair("{id:1,status:N/A}", options);
+		formatter.repair("{id:1,status:OK}", options);
+		assertEquals(1, metrics.getRuleHitCounts().get("NOT_AVAILABLE"));
+		assertNull(metrics.getRuleHitCounts().get("NO_MATCH"));
+	}
+
+	@Test
+	@DisplayName("Should time the stages of the tokenizer engine and of the plans")
+	@Order(3)
+	public void shouldTimeStagesOfTokenizerEngineAndPlans() throws IOException {
+		RepairMetrics metrics = tokenizerFormatter.getMetrics();
+
+		tokenizerFormatter.repair("{id:1,status:OK}", true);
+		tokenizerFormatter.repairWithOutcome("{id:1,status:OK}", true);
+		tokenizerFormatter.repairWithOutcome("{id:1,status:", true);
+		tokenizerFormatter.repairWithOutcome(null, true);
+		tokenizerFormatter.repairToBytes("{id:1}".getBytes(StandardCharsets.UTF_8), 0, 6);
+		tokenizerFormatter.repairToBytes("{\"id\":1}".getBytes(StandardCharsets.UTF_8), 0, 8);
+		tokenizerFormatter.repairLazy("{id:1}", true);
+		tokenizerFormatter.repairLazy("{\"id\":1}", true);
+		assertThrows(JsonSyntaxException.class, () -> tokenizerFormatter.repairToBytes("{id}".getBytes(StandardCharsets.UTF_8), 0, 4));
+		assertThrows(JsonSyntaxException.class, () -> tokenizerFormatter.repairLazy("{id}", true));
+
+		assertEquals(10, metrics.getCallCount());
+		assertEquals(2, metrics.getFastPathCount());
+		assertEquals(7, metrics.getRepairCount());
+		assertEquals(4, metrics.getFailureCount());
+		assertEquals(7, metrics.getStageCounts().get(RepairStageEnum.TOKENIZER.name()));
+		assertEquals(3, metrics.getStageCounts().get(RepairStageEnum.PARSE.name()));
+		assertEquals(0, metrics.getStageCounts().get(RepairStageEnum.RULES.name()));
+
+		CustomJSONFormatterService planned = new CustomJSONFormatterService();
+		for (int i = 0; i < 3; i++) planned.repair("{id:" + i + ",status:OK}", true);
+		assertEquals(1, planned.getMetrics().getStageCounts().get(RepairStageEnum.PLAN_REPLAY.name()));
+		assertEquals(1, planned.getReplayCount());
+	}
+
+	@Test
+	@DisplayName("Should expose the metrics as an MXBean on the platform MBean server")
+	@Order(4)
+	public void shouldExposeMetricsAsMXBean() throws JMException {
+		RepairMetrics metrics = formatter.getMetrics();
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+		ObjectName name = metrics.register("metrics-test");
+		try {
+			assertEquals(name, metrics.getObjectName());
+			assertEquals("metrics-test", ObjectName.unquote(name.getKeyProperty("name")));
+			assertEquals(metrics.getCallCount(), server.getAttribute(name, "CallCount"));
+			assertTrue(server.getAttribute(name, "RuleHitCounts") instanceof TabularData);
+			assertTrue(server.getAttribute(name, "StageHistograms") instanceof TabularData);
+			assertEquals(metrics.percentileNanos("PARSE", 50), server.invoke(name, "percentileNanos", new Object[] {"PARSE", 50.0},
+					new String[] {String.class.getName(), double.class.getName()}));
+
+			assertThrows(IllegalStateException.class, () -> metrics.register("metrics-test"));
+			assertThrows(InstanceAlreadyExistsException.class, () -> tokenizerFormatter.getMetrics().register("metrics-test"));
+		}finally {
+			metrics.unregister();
+		}
+
+		assertNull(metrics.getObjectName());
+		assertTrue(!server.isRegistered(name));
+		metrics.unregister();
+	}
+
+	@Test
+	@DisplayName("Should reset the metrics, and validate the percentiles")
+	@Order(5)
+	public void shouldResetMetricsAndValidatePercentiles() {
+		RepairMetrics metrics = tokenizerFormatter.getMetrics();
+		metrics.reset();
+
+		assertEquals(0, metrics.getCallCount());
+		assertEquals(0, metrics.getFailureCount());
+		assertTrue(metrics.getRuleHitCounts().isEmpty());
+		assertArrayEquals(new long[32], metrics.getStageHistograms().get(RepairStageEnum.TOKENIZER.name()));
+		assertEquals(0, metrics.getStageMaxNanos().get(RepairStageEnum.TOKENIZER.name()));
+		assertTrue(metrics.toString().startsWith("RepairMetrics [callCount=0, fastPathCount=0, repairCount=0, failureCount=0"));
+
+		assertThrows(IllegalArgumentException.class, () -> metrics.percentileNanos("PARSE", 101));
+		assertThrows(IllegalArgumentException.class, () -> metrics.percentileNanos("PARSE", -1));
+		assertThrows(IllegalArgumentException.class, () -> metrics.percentileNanos("UNKNOWN", 50));
+	}
+
+	@AfterAll
+	public void tearDown() {
+		formatter = null;
+		tokenizerFormatter = null;
+	}
+}
@@ -0,0 +1,147 @@
+package io.github.mariazevedo88.jfv.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+
+import io.github.mariazevedo88.jfv.model.RepairOutcome;
+import io.github.mariazevedo88.jfv.model.enumeration.RepairEngineEnum;
+import io.github.mariazevedo88.jfv.model.enumeration.RepairOutcomeEnum;
+import io.github.mariazevedo88.jfv.service.CustomJSONFormatterService;
+
+/**
+ * Test class of the outcomes of the repair, that report the failures without exceptions
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ *
+ */
+@DisplayName("CustomJSONOutcomeTest")
+@TestInstance(Lifecycle.PER_CLASS)
+@TestMethodOrder(OrderAnnotation.class)
+public class CustomJSONOutcomeTest {
+
+	private CustomJSONFormatterService formatter;
+	private CustomJSONFormatterService tokenizerFormatter;
+
+	@BeforeAll
+	public void setUp() {
+		formatter = new CustomJSONFormatterService();
+		tokenizerFormatter = new CustomJSONFormatterService(RepairEngineEnum.TOKENIZER);
+	}
+
+	@ParameterizedTest
+	@MethodSource("io.github.mariazevedo88.jfv.test.CustomJSONTokenizerTest#malformedJsons")
+	@DisplayName("Should return the same JSON and the same outcome of the tokenizer engine")
+	@Order(1)
+	public void shouldReturnSameJSONOfTokenizerEngine(String malformedJson) throws IOException {
+		RepairOutcome outcome = formatter.repairWithOutcome(malformedJson, true);
+
+		assertTrue(outcome.isValid());
+		assertEquals(tokenizerFormatter.repair(malformedJson, true).isRepaired(), outcome.isRepaired());
+		assertEquals(-1, outcome.getErrorOffset());
+		assertNull(outcome.getReason());
+		assertEquals(tokenizerFormatter.repair(malformedJson, true).getValidJson(), outcome.getValidJson());
+	}
+
+	@ParameterizedTest
+	@CsvSource(delimiter = '|', value = {
+		"''|EMPTY_INPUT|0",
+		"'   '|EMPTY_INPUT|3",
+		"id:1|INVALID_START|0",
+		"{id:1}}|TRAILING_CHARACTERS|6",
+		"{id:1|UNCLOSED_OBJECT|5",
+		"{id:1,payment:[{value:2}|UNCLOSED_ARRAY|24",
+		"{\"name\":\"abc|UNCLOSED_STRING|8",
+		"{id}|KEY_WITHOUT_VALUE|1",
+		"{a:[1] b:2}|MISSING_COMMA_IN_OBJECT|7",
+		"[{a:1} 2]|MISSING_COMMA_IN_ARRAY|7"
+	})
+	@DisplayName("Should return the code, the offset and the reason of the failures")
+	@Order(2)
+	public void shouldReturnCodeOffsetAndReasonOfFailures(String invalidJson, RepairOutcomeEnum code, int offset) throws IOException {
+		RepairOutcome outcome = formatter.repairWithOutcome(invalidJson, false);
+
+		assertEquals(code, outcome.getCode());
+		assertEquals(offset, outcome.getErrorOffset());
+		assertEquals(code.getReason(), outcome.getReason());
+		assertFalse(outcome.isValid());
+		assertFalse(outcome.isRepaired());
+		assertNull(outcome.getValidJson());
+		assertTrue(outcome.toString().contains("errorOffset=" + offset));
+	}
+
+	@Test
+	@DisplayName("Should return the valid JSONs on the fast path, and the JSON elements as they are")
+	@Order(3)
+	public void shouldReturnValidJsons() throws IOException {
+		CustomJSONFormatterService service = new CustomJSONFormatterService();
+		JsonElement json = JsonParser.parseString("{\"id\":1,\"tags\":[\"a\"]}");
+
+		RepairOutcome outcome = service.repairWithOutcome("{\"id\":1,\"tags\":[\"a\"]}", false);
+		assertEquals(RepairOutcomeEnum.VALID, outcome.getCode());
+		assertTrue(outcome.isValid());
+		assertFalse(outcome.isRepaired());
+		assertEquals(json, outcome.getValidJson());
+
+		assertSame(json, service.repairWithOutcome(json, true).getValidJson());
+		assertEquals(RepairOutcomeEnum.VALID, service.repairWithOutcome(json.getAsJsonObject().get("tags"), true).getCode());
+
+		assertEquals(1, service.getFastPathCount());
+		assertEquals(0, service.getRepairCount());
+	}
+
+	@Test
+	@DisplayName("Should return the outcome of readers and UTF-8 bytes, with the offset of the byte")
+	@Order(4)
+	public void shouldReturnOutcomeOfReadersAndBytes() throws IOException {
+		assertEquals("São Paulo", formatter.repairWithOutcome("{cidade:São Paulo}".getBytes(StandardCharsets.UTF_8), true).getValidJson()
+				.getAsJsonObject().get("cidade").getAsString());
+		assertEquals(RepairOutcomeEnum.REPAIRED, formatter.repairWithOutcome(new BufferedReader(new StringReader("{id:1}")), true).getCode());
+
+		RepairOutcome outcome = formatter.repairWithOutcome("{cidade:São Paulo}}".getBytes(StandardCharsets.UTF_8), true);
+		assertEquals(RepairOutcomeEnum.TRAILING_CHARACTERS, outcome.getCode());
+		assertEquals(19, outcome.getErrorOffset());
+	}
+
+	@Test
+	@DisplayName("Should return NULL_INPUT if the JSON is null")
+	@Order(5)
+	public void shouldReturnNullInputIfJSONIsNull() throws IOException {
+		RepairOutcome outcome = formatter.repairWithOutcome(null, false);
+
+		assertEquals(RepairOutcomeEnum.NULL_INPUT, outcome.getCode());
+		assertEquals("Object to validated is null.", outcome.getReason());
+		assertEquals(-1, outcome.getErrorOffset());
+		assertEquals(RepairOutcomeEnum.NULL_INPUT, formatter.repairWithOutcome(new BufferedReader(new StringReader("")), true).getCode());
+	}
+
+	@AfterAll
+	public void tearDown() {
+		formatter = null;
+		tokenizerFormatter = null;
+	}
+}
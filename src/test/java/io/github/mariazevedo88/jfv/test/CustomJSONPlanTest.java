@@ -0,0 +1,149 @@
+package io.github.mariazevedo88.jfv.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.google.gson.JsonElement;
+
+import io.github.mariazevedo88.jfv.model.RepairResult;
+import io.github.mariazevedo88.jfv.model.enumeration.RepairEngineEnum;
+import io.github.mariazevedo88.jfv.service.CustomJSONFormatterService;
+import io.github.mariazevedo88.jfv.service.RepairOptions;
+import io.github.mariazevedo88.jfv.service.RepairPipeline;
+
+/**
+ * Test class of the plans of repair memoized per shape of JSON
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ *
+ */
+@DisplayName("CustomJSONPlanTest")
+@TestInstance(Lifecycle.PER_CLASS)
+@TestMethodOrder(OrderAnnotation.class)
+public class CustomJSONPlanTest {
+
+	private CustomJSONFormatterService formatter;
+	private RepairOptions withoutPlans;
+
+	@BeforeAll
+	public void setUp() {
+		formatter = new CustomJSONFormatterService();
+		//a pipeline equal to the default one, but that is not the default instance, is never replayed
+		withoutPlans = RepairOptions.builder().muteLog(true).rules(RepairPipeline.builder().build()).build();
+	}
+
+	@ParameterizedTest
+	@MethodSource("io.github.mariazevedo88.jfv.test.CustomJSONTokenizerTest#malformedJsons")
+	@DisplayName("Should return the same JSON with the plan of the shape")
+	@Order(1)
+	public void shouldReturnSameJSONWithPlan(String malformedJson) throws IOException {
+		JsonElement expected = formatter.repair(malformedJson, withoutPlans).getValidJson();
+
+		for (int i = 0; i < 3; i++) {
+			assertEquals(expected, formatter.repair(malformedJson, true).getValidJson());
+		}
+	}
+
+	@Test
+	@DisplayName("Should replay the plan for the records with the same shape")
+	@Order(2)
+	public void shouldReplayPlanForSameShape() throws IOException {
+		CustomJSONFormatterService planned = new CustomJSONFormatterService();
+
+		for (int i = 0; i < 10; i++) {
+			String json = "{id:" + i + ",name:user " + i + ",active:true,hour:10:3" + i + ",payment:[{value:" + i + ".5,currency:BRL}]}";
+			RepairResult result = planned.repair(json, true);
+
+			assertEquals(formatter.repair(json, withoutPlans).getValidJson(), result.getValidJson());
+			assertEquals("user " + i, result.getValidJson().getAsJsonObject().get("name").getAsString());
+		}
+
+		//the first record is repaired by the engine, and the second one learns the plan
+		assertEquals(8, planned.getReplayCount());
+		assertEquals(10, planned.getRepairCount());
+	}
+
+	@Test
+	@DisplayName("Should repair with the engine the JSONs without a shape, or with other options")
+	@Order(3)
+	public void shouldRepairWithEngineJSONsWithoutShape() throws IOException {
+		CustomJSONFormatterService planned = new CustomJSONFormatterService();
+		CustomJSONFormatterService tokenizer = new CustomJSONFormatterService(RepairEngineEnum.TOKENIZER);
+		RepairOptions limited = RepairOptions.builder().muteLog(true).maxDepth(10).build();
+
+		for (int i = 0; i < 3; i++) {
+			planned.repair("{id:1,name:Maria (admin)}", true);
+			planned.repair("{id:1,value:70,53}", true);
+			planned.repair("{id:1,name:'Maria'}", true);
+			planned.repair("{id:1,name:Maria}", limited);
+			planned.repair("{id:1,name:Maria}", withoutPlans);
+			planned.repair("{id:1,name:Maria}".getBytes(StandardCharsets.UTF_8), true);
+			tokenizer.repair("{id:1,name:Maria}", true);
+		}
+
+		assertEquals(0, planned.getReplayCount());
+		assertEquals(0, tokenizer.getReplayCount());
+	}
+
+	@Test
+	@DisplayName("Should return the same JSON or error for the edge cases of the shape")
+	@Order(4)
+	public void shouldReturnSameJSONForEdgeCases() throws IOException {
+		String[] jsons = {"{a:[],b:{},c:x}", "[{a:1},{b:x}]", "{a:1]", "{a:1}x", "{a:1,}", "{a: 1}", "{a:b c }",
+				"{a-b:1}", "{a:1:2:3:4}", "{a:x:1}", "{k1:2}", "{k1:x}", "[1,x2,3y,z]", "{a:-1,b:-2.5e3,c:01,d:1.}",
+				"{a:1e,b:1.5E+2}", "{a:null,b:false,c:x}", "{a:[[x]]}", "{a:x]", "[x}", "{a:x", "{a:x,}", "x"};
+
+		CustomJSONFormatterService planned = new CustomJSONFormatterService();
+		for (String json : jsons) {
+			RepairResult expected = formatter.repair(json, withoutPlans);
+			for (int i = 0; i < 3; i++) {
+				RepairResult result = planned.repair(json, true);
+				assertEquals(expected.getValidJson(), result.getValidJson(), json);
+				assertEquals(expected.getError() == null, result.getError() == null, json);
+			}
+		}
+		assertTrue(planned.getReplayCount() > 0);
+	}
+
+	@Test
+	@DisplayName("Should share the plans between threads")
+	@Order(5)
+	public void shouldSharePlansBetweenThreads() throws IOException {
+		CustomJSONFormatterService planned = new CustomJSONFormatterService();
+
+		List<String> jsons = new ArrayList<>();
+		for (int i = 0; i < 2000; i++) {
+			jsons.add(i % 2 == 0 ? "{id:" + i + ",status:OK,items:[" + i + ",x]}" : "[{id:" + i + ",date:2018-07-15}]");
+		}
+		List<RepairResult> results = planned.repairAll(jsons);
+
+		for (int i = 0; i < jsons.size(); i++) {
+			assertEquals(formatter.repair(jsons.get(i), withoutPlans).getValidJson(), results.get(i).getValidJson());
+		}
+		assertTrue(planned.getReplayCount() >= 1990);
+	}
+
+	@AfterAll
+	public void tearDown() {
+		formatter = null;
+		withoutPlans = null;
+	}
+}
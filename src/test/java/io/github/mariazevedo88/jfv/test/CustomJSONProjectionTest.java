@@ -0,0 +1,192 @@
+package io.github.mariazevedo88.jfv.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.google.gson.JsonObject;
+
+import io.github.mariazevedo88.jfv.service.CompiledProjection;
+import io.github.mariazevedo88.jfv.service.CustomJSONFormatterService;
+import io.github.mariazevedo88.jfv.service.CustomJSONValidatorFiltersService;
+
+/**
+ * Test class of the compiled projections with nested paths
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ *
+ */
+@DisplayName("CustomJSONProjectionTest")
+@TestInstance(Lifecycle.PER_CLASS)
+@TestMethodOrder(OrderAnnotation.class)
+public class CustomJSONProjectionTest {
+
+	private static final String ORDER = "{id:267107086801,person:{name:Mariana, document:0123},reference:Ao lado, perto da praca,"
+			+ "payment:[{sequential:1,id:CREDIT_CARD,value:188},{sequential:2,id:VOUCHER,value:70,53}],totalAmount:258.53}";
+
+	private static final String VALID_ORDER = "{\"id\":\"1\", \"person\":{\"name\":\"Silva, Mariana}\",\"document\":\"0123\"},"
+			+ "\"payment\":[{\"value\":\"188\"},{\"id\":\"2\"},3]}";
+
+	private CustomJSONValidatorFiltersService validator;
+	private CustomJSONFormatterService formatter;
+
+	@BeforeAll
+	public void setUp() {
+		validator = new CustomJSONValidatorFiltersService();
+		formatter = new CustomJSONFormatterService();
+	}
+
+	@Test
+	@DisplayName("Should filter nested paths, matching each attribute only on its depth")
+	@Order(1)
+	public void shouldFilterNestedPaths() throws IOException {
+		CompiledProjection projection = CompiledProjection.compile("payment[*].id", "person.name", "reference");
+		String filtered = validator.filterJSONObjectsFromString(ORDER, projection);
+
+		assertEquals("{person:{name:Mariana},reference:Ao lado, perto da praca,payment:[{id:CREDIT_CARD},{id:VOUCHER}]}", filtered);
+
+		JsonObject json = formatter.checkValidityAndFormatObject(filtered, true, false).getAsJsonObject();
+		assertEquals("Ao lado, perto da praca", json.get("reference").getAsString());
+		assertEquals("VOUCHER", json.getAsJsonArray("payment").get(1).getAsJsonObject().get("id").getAsString());
+	}
+
+	@Test
+	@DisplayName("Should remove nested paths, keeping the attributes with the same name on other depths")
+	@Order(2)
+	public void shouldRemoveNestedPaths() throws IOException {
+		CompiledProjection projection = CompiledProjection.compile("payment[*].value", "person.document", "totalAmount");
+		String removed = validator.removeJSONObjectsFromString(ORDER, projection);
+
+		assertEquals("{id:267107086801,person:{name:Mariana},reference:Ao lado, perto da praca,"
+				+ "payment:[{sequential:1,id:CREDIT_CARD},{sequential:2,id:VOUCHER}]}", removed);
+		assertTrue(formatter.checkValidityAndFormatObject(removed, true, false).isJsonObject());
+	}
+
+	@Test
+	@DisplayName("Should project a valid JSON, with quoted keys and delimiters inside quotes")
+	@Order(3)
+	public void shouldProjectValidJson() {
+		CompiledProjection projection = CompiledProjection.compile("person.name", "payment[*].value");
+
+		assertEquals("{\"person\":{\"name\":\"Silva, Mariana}\"},\"payment\":[{\"value\":\"188\"},{}]}",
+				validator.filterJSONObjectsFromString(VALID_ORDER, projection));
+		assertEquals("{\"id\":\"1\", \"person\":{\"document\":\"0123\"},\"payment\":[{},{\"id\":\"2\"},3]}",
+				validator.removeJSONObjectsFromString(VALID_ORDER, projection));
+	}
+
+	@Test
+	@DisplayName("Should select whole values, arrays and the elements of a JSON array")
+	@Order(4)
+	public void shouldSelectWholeValuesAndArrays() {
+		String array = "[{id:1,value:2},{value:3},4]";
+
+		assertEquals("{person:{name:Mariana, document:0123}}", validator.filterJSONObjectsFromString(ORDER, CompiledProjection.compile("person", "person.name")));
+		assertEquals("[{value:2},{value:3}]", validator.filterJSONObjectsFromString(array, CompiledProjection.compile("[*].value")));
+		assertEquals("[{id:1},{},4]", validator.removeJSONObjectsFromString(array, CompiledProjection.compile("[*].value")));
+		assertEquals("{id:267107086801,person:{name:Mariana, document:0123},reference:Ao lado, perto da praca,payment:[],totalAmount:258.53}",
+				validator.removeJSONObjectsFromString(ORDER, CompiledProjection.compile("payment[*]")));
+	}
+
+	@Test
+	@DisplayName("Should return an empty object if no path is found and keep the string if nothing is removed")
+	@Order(5)
+	public void shouldReturnEmptyObjectIfNoPathIsFound() {
+		CompiledProjection projection = CompiledProjection.compile("customer.name", "id.value", "payment.id");
+
+		assertEquals("{}", validator.filterJSONObjectsFromString(ORDER, projection));
+		assertEquals("{}", validator.filterJSONObjectsFromString("blablablabla", projection));
+		assertEquals(ORDER, validator.removeJSONObjectsFromString(ORDER, projection));
+	}
+
+	@Test
+	@DisplayName("Should project truncated strings, arrays of arrays and fragments without colon")
+	@Order(6)
+	public void shouldProjectTruncatedStrings() {
+		String json = "{a:1, {x}, stray, b:{c:2,d:3}, e:[[{f:1,g:2}],[{f:3}, 5]], \"q\\\"k\":\"v\\\"}\" , h:{c:1} ";
+		CompiledProjection projection = CompiledProjection.compile("b.c", "e[*][*].f", "q\\\"k", "h.x", "a");
+
+		assertEquals("CompiledProjection [paths=[b.c, e[*][*].f, q\\\"k, h.x, a]]", projection.toString());
+		assertEquals("{a:1,b:{c:2},e:[[{f:1}],[{f:3}]],\"q\\\"k\":\"v\\\"}\"}", validator.filterJSONObjectsFromString(json, projection));
+		assertEquals("{{x}, stray, b:{d:3}, e:[[{g:2}],[{}, 5]], h:{c:1} ", validator.removeJSONObjectsFromString(json, projection));
+		assertEquals("{b:2 }", validator.removeJSONObjectsFromString("{a:1 , b:2 }", projection));
+		assertEquals("{b:{c:2}}", validator.filterJSONObjectsFromString("{b:{c:2]], a:1", projection));
+	}
+
+	@Test
+	@DisplayName("Should share a compiled projection between many threads")
+	@Order(7)
+	public void shouldShareProjectionBetweenThreads() {
+		CompiledProjection projection = CompiledProjection.compile("payment[*].value");
+
+		List<String> results = IntStream.range(0, 10_000).parallel()
+				.mapToObj(i -> validator.filterJSONObjectsFromString("{id:" + i + ",payment:[{value:" + i + "}]}", projection))
+				.collect(Collectors.toList());
+
+		for (int i = 0; i < results.size(); i++) {
+			assertEquals("{payment:[{value:" + i + "}]}", results.get(i));
+		}
+		assertEquals(Arrays.asList("payment[*].value"), projection.getPaths());
+	}
+
+	@ParameterizedTest
+	@DisplayName("Should throws IllegalArgumentException if a path is invalid")
+	@Order(8)
+	@ValueSource(strings = {"", ".id", "person.", "person..name", "payment[0].value", "payment]", "payment[*]value"})
+	public void shouldThrowsIllegalArgumentExceptionIfPathIsInvalid(String path) {
+		assertThrows(IllegalArgumentException.class, () -> CompiledProjection.compile(path));
+	}
+
+	@Test
+	@DisplayName("Should throws NullPointerException if the paths or the projection are null")
+	@Order(9)
+	public void shouldThrowsNullPointerExceptionIfPathIsNull() {
+		assertThrows(NullPointerException.class, () -> CompiledProjection.compile((String[]) null));
+		assertThrows(NullPointerException.class, () -> CompiledProjection.compile("id", null));
+		assertThrows(NullPointerException.class, () -> validator.filterJSONObjectsFromString(ORDER, (CompiledProjection) null));
+		assertThrows(NullPointerException.class, () -> validator.removeJSONObjectsFromString(ORDER, (CompiledProjection) null));
+	}
+
+	@Test
+	@DisplayName("Should keep the hours and the uppercase labels after a comma inside the value")
+	@Order(10)
+	public void shouldKeepHoursAndUppercaseLabelsInsideValue() {
+		String jsonWithHours = "{id:268862679704,productCode:02-688626797,purchaseDate:2019-02-03,address:{street:Rua Cinco,number:240,"
+				+ "additionalInfo:Teste,reference:Ao lado lotus, Recebimento 7:15 as 17:00,neighborhood:Centro,city:Lavras,state:MG,zipcode:00000000}}";
+		String jsonWithLabel = "{id:268856993701,productCode:02-688569937,purchaseDate:2019-02-02,address:{street:Rua Pachecao,number:2019,"
+				+ "additionalInfo:casa FRENTE. 21965307587,reference:depois do ponto de onibus 666, no seguno numero. Procurar fulano  TELE: 35 981149567 .,"
+				+ "neighborhood:Jardim Floresta,city:Lavras,state:MG,zipcode:37200000}}";
+		CompiledProjection projection = CompiledProjection.compile("address.reference");
+
+		assertEquals("{address:{reference:Ao lado lotus, Recebimento 7:15 as 17:00}}", validator.filterJSONObjectsFromString(jsonWithHours, projection));
+		assertEquals("{address:{reference:depois do ponto de onibus 666, no seguno numero. Procurar fulano  TELE: 35 981149567 .}}",
+				validator.filterJSONObjectsFromString(jsonWithLabel, projection));
+		assertEquals("{id:268862679704,productCode:02-688626797,purchaseDate:2019-02-03,address:{street:Rua Cinco,number:240,"
+				+ "additionalInfo:Teste,neighborhood:Centro,city:Lavras,state:MG,zipcode:00000000}}", validator.removeJSONObjectsFromString(jsonWithHours, projection));
+		assertEquals("{address:{city:Lavras}}", validator.filterJSONObjectsFromString(jsonWithLabel, CompiledProjection.compile("address.city")));
+	}
+
+	@AfterAll
+	public void tearDown() {
+		validator = null;
+		formatter = null;
+	}
+}
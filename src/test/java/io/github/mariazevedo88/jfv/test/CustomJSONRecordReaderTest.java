@@ -0,0 +1,181 @@
+package io.github.mariazevedo88.jfv.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import com.google.gson.JsonElement;
+
+import io.github.mariazevedo88.jfv.model.RepairResult;
+import io.github.mariazevedo88.jfv.service.CustomJSONFormatterService;
+
+/**
+ * Test class of the repair of readers with many JSONs (NDJSON and concatenated objects)
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ *
+ */
+@DisplayName("CustomJSONRecordReaderTest")
+@TestInstance(Lifecycle.PER_CLASS)
+@TestMethodOrder(OrderAnnotation.class)
+public class CustomJSONRecordReaderTest {
+
+	private CustomJSONFormatterService formatter;
+
+	@BeforeAll
+	public void setUp() {
+		formatter = new CustomJSONFormatterService();
+	}
+
+	@Test
+	@DisplayName("Should repair each line of a NDJSON reader, skipping blank lines")
+	@Order(1)
+	public void shouldRepairEachLineOfReader() {
+		String ndjson = "{id:1,reference:Ao lado, perto da praca}\n\n{\"id\":\"2\"}\r\n  {id:3,address:{city:Lavras}}\n";
+		Iterator<RepairResult> results = formatter.repairRecords(new StringReader(ndjson));
+
+		assertEquals("Ao lado, perto da praca", getField(results.next().getValidJson(), "reference"));
+		assertEquals("2", getField(results.next().getValidJson(), "id"));
+		assertEquals("3", getField(results.next().getValidJson(), "id"));
+		assertFalse(results.hasNext());
+		assertThrows(NoSuchElementException.class, results::next);
+	}
+
+	@Test
+	@DisplayName("Should split concatenated objects, ignoring braces inside quotes")
+	@Order(2)
+	public void shouldSplitConcatenatedObjects() {
+		String concatenated = "{id:1}{id:2},{\"id\":\"}{\\\"\"} [{id:4}]{id:5}";
+		List<JsonElement> jsons = new ArrayList<>();
+		formatter.repairRecords(new StringReader(concatenated)).forEachRemaining(result -> jsons.add(result.getValidJson()));
+
+		assertEquals(5, jsons.size());
+		assertEquals("1", getField(jsons.get(0), "id"));
+		assertEquals("2", getField(jsons.get(1), "id"));
+		assertEquals("}{\"", getField(jsons.get(2), "id"));
+		assertTrue(jsons.get(3).isJsonArray());
+		assertEquals("5", getField(jsons.get(4), "id"));
+	}
+
+	@Test
+	@DisplayName("Should keep a bad record on its own result and continue on the next record")
+	@Order(3)
+	public void shouldSkipBadRecordToNextBoundary() throws IOException {
+		String ndjson = "{id:1}\n{blablablabla}\n{id:3}}\n{id:4, reference:\"unclosed}{id:5}\n{id:6}";
+		List<RepairResult> results = new ArrayList<>();
+
+		assertEquals(6, formatter.repairRecords(new StringReader(ndjson), results::add));
+		assertEquals("1", getField(results.get(0).getValidJson(), "id"));
+		assertTrue(results.get(1).getError() instanceof StringIndexOutOfBoundsException);
+		assertEquals("3", getField(results.get(2).getValidJson(), "id"));
+		assertFalse(results.get(3).isValid());
+		assertFalse(results.get(4).isValid());
+		assertEquals("6", getField(results.get(5).getValidJson(), "id"));
+	}
+
+	@Test
+	@DisplayName("Should repair the records of a large stream keeping only one record in memory")
+	@Order(4)
+	public void shouldRepairRecordsOfLargeStream() throws IOException {
+		int numberOfRecords = 200_000;
+		long[] sum = new long[1];
+
+		long count = formatter.repairRecords(new GeneratedRecordsReader(numberOfRecords),
+				result -> sum[0] += result.getValidJson().getAsJsonObject().get("id").getAsLong());
+
+		assertEquals(numberOfRecords, count);
+		assertEquals((long) numberOfRecords * (numberOfRecords - 1) / 2, sum[0]);
+	}
+
+	@Test
+	@DisplayName("Should repair the records of an UTF-8 input stream")
+	@Order(5)
+	public void shouldRepairRecordsOfInputStream() throws IOException {
+		byte[] ndjson = "{city:São Paulo}\n{city:Brasília}".getBytes(StandardCharsets.UTF_8);
+		List<RepairResult> results = new ArrayList<>();
+
+		assertEquals(2, formatter.repairRecords(new ByteArrayInputStream(ndjson), results::add));
+		assertEquals("São Paulo", getField(results.get(0).getValidJson(), "city"));
+		assertEquals("Brasília", getField(results.get(1).getValidJson(), "city"));
+	}
+
+	@Test
+	@DisplayName("Should throws exceptions from null parameters and from readers that fail")
+	@Order(6)
+	public void shouldThrowsExceptionsFromNullParametersAndFailingReaders() throws IOException {
+		Reader closedReader = new StringReader("{id:1}");
+		closedReader.close();
+
+		assertThrows(NullPointerException.class, () -> formatter.repairRecords((Reader) null));
+		assertThrows(NullPointerException.class, () -> formatter.repairRecords(new StringReader(""), null));
+		assertThrows(NullPointerException.class, () -> formatter.repairRecords((ByteArrayInputStream) null, result -> {}));
+		assertThrows(IOException.class, () -> formatter.repairRecords(closedReader, result -> {}));
+		assertThrows(UncheckedIOException.class, () -> formatter.repairRecords(closedReader).hasNext());
+	}
+
+	private static String getField(JsonElement json, String field) {
+		return json.getAsJsonObject().get(field).getAsString();
+	}
+
+	@AfterAll
+	public void tearDown() {
+		formatter = null;
+	}
+
+	/**
+	 * Reader that generates malformed records on demand, without keeping the whole input in memory
+	 */
+	private static final class GeneratedRecordsReader extends Reader {
+
+		private final int numberOfRecords;
+		private int currentRecord;
+		private String record = "";
+		private int position;
+
+		GeneratedRecordsReader(int numberOfRecords) {
+			this.numberOfRecords = numberOfRecords;
+		}
+
+		@Override
+		public int read(char[] buffer, int offset, int length) {
+			if(position == record.length()) {
+				if(currentRecord == numberOfRecords) return -1;
+				record = "{id:" + currentRecord++ + ",reference:Ao lado, perto da praca}\n";
+				position = 0;
+			}
+
+			int count = Math.min(length, record.length() - position);
+			record.getChars(position, position + count, buffer, offset);
+			position += count;
+			return count;
+		}
+
+		@Override
+		public void close() {
+			currentRecord = numberOfRecords;
+		}
+	}
+}
@@ -0,0 +1,369 @@
+package io.github.mariazevedo88.jfv.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+
+import io.github.mariazevedo88.jfv.model.RepairResult;
+import io.github.mariazevedo88.jfv.model.enumeration.RepairEngineEnum;
+import io.github.mariazevedo88.jfv.service.CompiledProjection;
+import io.github.mariazevedo88.jfv.service.CustomJSONFormatterService;
+import io.github.mariazevedo88.jfv.service.RepairOptions;
+
+/**
+ * Test class of the stateless repair API of the formatter
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ *
+ */
+@DisplayName("CustomJSONRepairTest")
+@TestInstance(Lifecycle.PER_CLASS)
+@TestMethodOrder(OrderAnnotation.class)
+public class CustomJSONRepairTest {
+
+	private static final String MALFORMED_JSON = "{id:267107086801,productCode:02-671070868,address:{reference:Ao lado, perto da praca,city:Lavras}}";
+
+	private CustomJSONFormatterService formatter;
+
+	@BeforeAll
+	public void setUp() {
+		formatter = new CustomJSONFormatterService();
+	}
+
+	@Test
+	@DisplayName("Should get a repaired JSON on the result of a malformed String")
+	@Order(1)
+	public void shouldGetRepairedJsonOnResult() throws IOException {
+		RepairResult result = formatter.repair(MALFORMED_JSON, true);
+		assertTrue(result.isValid());
+		assertTrue(result.isRepaired());
+		assertNull(result.getError());
+		assertNull(result.getErrorMessage());
+		assertEquals("Ao lado, perto da praca", result.getValidJson().getAsJsonObject().getAsJsonObject("address").get("reference").getAsString());
+		assertNull(formatter.getCustomJson().getValidJson());
+	}
+
+	@Test
+	@DisplayName("Should get a not repaired JSON on the result of valid JSONs")
+	@Order(2)
+	public void shouldGetNotRepairedJsonOnResultOfValidJson() throws IOException {
+		JsonObject jsonObject = new JsonObject();
+		jsonObject.addProperty("name", "Mariana");
+
+		RepairResult result = formatter.repair(jsonObject, false);
+		assertSame(jsonObject, result.getValidJson());
+		assertFalse(result.isRepaired());
+
+		result = formatter.repair(new BufferedReader(new StringReader(jsonObject.toString())), false);
+		assertEquals(jsonObject, result.getValidJson());
+		assertFalse(result.isRepaired());
+	}
+
+	@Test
+	@DisplayName("Should get the errors on the result instead of throwing them")
+	@Order(3)
+	public void shouldGetErrorsOnResult() throws IOException {
+		assertTrue(formatter.repair(null, true).getError() instanceof NullPointerException);
+		assertTrue(formatter.repair("", false).getError() instanceof JsonParseException);
+
+		RepairResult result = formatter.repair("{blablablabla}", false);
+		assertFalse(result.isValid());
+		assertTrue(result.isRepaired());
+		assertTrue(result.getError() instanceof StringIndexOutOfBoundsException);
+		assertTrue(result.toString().contains(result.getErrorMessage()));
+
+		result = new CustomJSONFormatterService(RepairEngineEnum.TOKENIZER).repair("{a:b}}", true);
+		assertTrue(result.getError() instanceof JsonSyntaxException);
+		assertTrue(result.getErrorMessage().contains("Position: "));
+	}
+
+	@Test
+	@DisplayName("Should get a result without JSON if the repaired String is not a JSON object or array")
+	@Order(4)
+	public void shouldGetResultWithoutJsonFromPrimitive() throws IOException {
+		RepairResult result = formatter.repair("\"a:b\"", true);
+		assertFalse(result.isValid());
+		assertNull(result.getError());
+	}
+
+	@Test
+	@DisplayName("Should repair the same JSONs with one service shared by many threads")
+	@Order(5)
+	public void shouldRepairWithServiceSharedByManyThreads() throws Exception {
+		JsonElement expected = formatter.repair(MALFORMED_JSON, true).getValidJson();
+		String validJson = "{\"id\":1,\"values\":[1,2,3]}";
+
+		ExecutorService executor = Executors.newFixedThreadPool(16);
+		try {
+			List<Callable<Boolean>> tasks = new ArrayList<>();
+			for(int i = 0; i < 64; i++) {
+				tasks.add(() -> {
+					for(int j = 0; j < 50; j++) {
+						if(!expected.equals(formatter.repair(MALFORMED_JSON, true).getValidJson())) return false;
+						if(!JsonParser.parseString(validJson).equals(formatter.repair(validJson, true).getValidJson())) return false;
+					}
+					return true;
+				});
+			}
+
+			for(Future<Boolean> future : executor.invokeAll(tasks)) {
+				assertTrue(future.get());
+			}
+		}finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("Should repair a batch of JSONs keeping the order and the failures on their own results")
+	@Order(6)
+	public void shouldRepairBatchKeepingOrderAndFailures() {
+		List<Object> jsons = new ArrayList<>();
+		for(int i = 0; i < 1000; i++) {
+			jsons.add(i % 10 == 0 ? "{blablablabla}" : "{id:" + i + ",reference:Ao lado, perto da praca}");
+		}
+		jsons.add(null);
+
+		List<RepairResult> results = formatter.repairAll(jsons);
+		assertEquals(jsons.size(), results.size());
+		for(int i = 0; i < 1000; i++) {
+			if(i % 10 == 0) {
+				assertTrue(results.get(i).getError() instanceof StringIndexOutOfBoundsException);
+			}else {
+				assertEquals(String.valueOf(i), results.get(i).getValidJson().getAsJsonObject().get("id").getAsString());
+			}
+		}
+		assertTrue(results.get(1000).getError() instanceof NullPointerException);
+	}
+
+	@Test
+	@DisplayName("Should repair a batch of JSONs with capped parallelism, on a given pool, from a linked list and from a stream")
+	@Order(7)
+	public void shouldRepairBatchWithCappedParallelismAndStream() {
+		List<Object> jsons = new LinkedList<>();
+		for(int i = 0; i < 100; i++) jsons.add("{id:" + i + "}");
+
+		List<RepairResult> capped = formatter.repairAll(jsons, 2);
+		List<RepairResult> sequential = formatter.repairAll(jsons, 1);
+		List<RepairResult> cappedAgain = formatter.repairAll(jsons, 2);
+		List<RepairResult> fromStream = formatter.repairAll(jsons.stream());
+
+		List<RepairResult> fromPool;
+		ForkJoinPool pool = new ForkJoinPool(3);
+		try {
+			fromPool = formatter.repairAll(jsons, pool);
+			assertFalse(pool.isShutdown());
+		}finally {
+			pool.shutdown();
+		}
+
+		for(int i = 0; i < 100; i++) {
+			assertEquals(String.valueOf(i), capped.get(i).getValidJson().getAsJsonObject().get("id").getAsString());
+			assertEquals(capped.get(i).getValidJson(), sequential.get(i).getValidJson());
+			assertEquals(capped.get(i).getValidJson(), cappedAgain.get(i).getValidJson());
+			assertEquals(capped.get(i).getValidJson(), fromStream.get(i).getValidJson());
+			assertEquals(capped.get(i).getValidJson(), fromPool.get(i).getValidJson());
+		}
+		assertTrue(formatter.repairAll(new ArrayList<>()).isEmpty());
+		assertTrue(formatter.repairAll(Stream.empty()).isEmpty());
+	}
+
+	@Test
+	@DisplayName("Should repair a stream longer than a chunk keeping its order")
+	@Order(8)
+	public void shouldRepairStreamLongerThanChunk() {
+		int size = CustomJSONFormatterService.STREAM_CHUNK_SIZE * 2 + 1;
+		List<RepairResult> results = formatter.repairAll(IntStream.range(0, size).mapToObj(i -> "{id:" + i + "}"));
+
+		assertEquals(size, results.size());
+		for(int i = 0; i < size; i++) {
+			assertEquals(String.valueOf(i), results.get(i).getValidJson().getAsJsonObject().get("id").getAsString());
+		}
+	}
+
+	@Test
+	@DisplayName("Should keep an IOException of a reader on its own result of the batch")
+	@Order(9)
+	public void shouldKeepIOExceptionOnResultOfBatch() throws IOException {
+		BufferedReader closedReader = new BufferedReader(new StringReader("{id:1}"));
+		closedReader.close();
+
+		List<RepairResult> results = formatter.repairAll(Arrays.asList(closedReader, "{id:2}"));
+		assertTrue(results.get(0).getError() instanceof UncheckedIOException);
+		assertTrue(results.get(1).isValid());
+	}
+
+	@Test
+	@DisplayName("Should throws exceptions from a null batch or an invalid parallelism")
+	@Order(10)
+	public void shouldThrowsExceptionsFromNullBatchOrInvalidParallelism() {
+		assertThrows(NullPointerException.class, () -> formatter.repairAll((List<?>) null));
+		assertThrows(NullPointerException.class, () -> formatter.repairAll((Stream<?>) null));
+		assertThrows(IllegalArgumentException.class, () -> formatter.repairAll(new ArrayList<>(), 0));
+		assertThrows(NullPointerException.class, () -> formatter.repairAll(new ArrayList<>(), (ForkJoinPool) null));
+		assertThrows(NullPointerException.class, () -> formatter.repairAll((List<?>) null, ForkJoinPool.commonPool()));
+	}
+
+	@Test
+	@DisplayName("Should repair only the paths selected on the options")
+	@Order(11)
+	public void shouldRepairOnlySelectedPaths() throws IOException {
+		StringBuilder json = new StringBuilder("{id:267107086801,");
+		for (int i = 0; i < 200; i++) json.append("field").append(i).append(":Ao lado, perto da praca ").append(i).append(',');
+		json.append("note:Ao lado, perto da praca,address:{reference:Ao lado, perto da praca,city:Lavras},payment:[{id:VOUCHER,value:70.53},{id:CREDIT_CARD,value:188}]}");
+
+		RepairOptions options = RepairOptions.builder().paths("address.city", "payment[*].value", "note").muteLog(true).build();
+		RepairResult result = formatter.repair(json.toString(), options);
+
+		assertTrue(result.isRepaired());
+		assertEquals(JsonParser.parseString("{\"note\":\"Ao lado, perto da praca\",\"address\":{\"city\":\"Lavras\"},"
+				+ "\"payment\":[{\"value\":\"70.53\"},{\"value\":\"188\"}]}"), result.getValidJson());
+	}
+
+	@Test
+	@DisplayName("Should project valid JSONs, JSON objects and readers without repairing them")
+	@Order(12)
+	public void shouldProjectValidJsonsWithoutRepair() throws IOException {
+		JsonObject jsonObject = JsonParser.parseString("{\"id\":\"1\",\"person\":{\"name\":\"Mariana\",\"document\":\"0123\"}}").getAsJsonObject();
+		RepairOptions options = RepairOptions.builder().projection(CompiledProjection.compile("person.name")).build();
+		JsonElement expected = JsonParser.parseString("{\"person\":{\"name\":\"Mariana\"}}");
+
+		RepairResult result = formatter.repair(jsonObject, options);
+		assertEquals(expected, result.getValidJson());
+		assertFalse(result.isRepaired());
+
+		result = formatter.repair(new BufferedReader(new StringReader(jsonObject.toString())), options);
+		assertEquals(expected, result.getValidJson());
+		assertEquals(jsonObject, formatter.repair(jsonObject.toString(), RepairOptions.DEFAULT).getValidJson());
+		assertEquals(new JsonObject(), formatter.repair(MALFORMED_JSON, RepairOptions.builder().paths("customer.name").build()).getValidJson());
+	}
+
+	@Test
+	@DisplayName("Should throws NullPointerException if the options are null and keep the error of a null JSON")
+	@Order(13)
+	public void shouldThrowsNullPointerExceptionIfOptionsAreNull() throws IOException {
+		RepairOptions options = RepairOptions.builder().paths("id").muteLog(true).build();
+
+		assertThrows(NullPointerException.class, () -> formatter.repair(MALFORMED_JSON, (RepairOptions) null));
+		assertTrue(formatter.repair(null, options).getError() instanceof NullPointerException);
+		assertEquals("RepairOptions [projection=CompiledProjection [paths=[id]], muteLog=true]", options.toString());
+		assertNull(RepairOptions.DEFAULT.getProjection());
+	}
+
+	@Test
+	@DisplayName("Should get the same values of the full repair when only the selected paths are repaired")
+	@Order(14)
+	public void shouldGetSameValuesOfFullRepairOnSelectedPaths() throws IOException {
+		List<String> mismatches = new ArrayList<>();
+
+		for (RepairEngineEnum engine : RepairEngineEnum.values()) {
+			CustomJSONFormatterService engineFormatter = new CustomJSONFormatterService(engine);
+
+			for (String json : (Iterable<String>) CustomJSONTokenizerTest.malformedJsons()::iterator) {
+				JsonElement full = engineFormatter.repair(json, true).getValidJson();
+				if(full == null || !full.isJsonObject()) continue;
+
+				List<String> paths = new ArrayList<>();
+				addPaths(full.getAsJsonObject(), "", paths);
+				for (String path : paths) {
+					JsonElement selected = engineFormatter.repair(json, RepairOptions.builder().paths(path).muteLog(true).build()).getValidJson();
+					JsonElement expected = select(full.getAsJsonObject(), Arrays.asList(path.split("\\.")));
+					if(!(expected == null ? new JsonObject() : expected).equals(selected)) {
+						mismatches.add(engine + " " + path + ": " + selected + " instead of " + expected);
+					}
+				}
+			}
+		}
+
+		assertEquals(new ArrayList<>(), mismatches);
+	}
+
+	private static void addPaths(JsonObject object, String prefix, List<String> paths) {
+		for (Map.Entry<String, JsonElement> member : object.entrySet()) {
+			String path = prefix + member.getKey();
+			paths.add(path);
+
+			JsonElement value = member.getValue();
+			if(value.isJsonObject()) {
+				addPaths(value.getAsJsonObject(), path + ".", paths);
+			}else if(value.isJsonArray()) {
+				for (JsonElement element : value.getAsJsonArray()) {
+					if(element.isJsonObject()) addPaths(element.getAsJsonObject(), path + "[*].", paths);
+				}
+			}
+		}
+	}
+
+	//selects the path as the filter of a projection does: objects without it are removed, except the elements of arrays
+	private static JsonElement select(JsonObject object, List<String> path) {
+
+		String key = path.get(0);
+		boolean elements = key.endsWith("[*]");
+		if(elements) key = key.substring(0, key.length() - 3);
+
+		JsonElement value = object.get(key);
+		if(value == null) return null;
+
+		JsonElement selected = value;
+		if(elements) {
+			JsonArray array = new JsonArray();
+			for (JsonElement element : value.getAsJsonArray()) {
+				if(!element.isJsonObject()) continue;
+				JsonElement child = select(element.getAsJsonObject(), path.subList(1, path.size()));
+				array.add(child == null ? new JsonObject() : child);
+			}
+			selected = array;
+		}else if(path.size() > 1) {
+			if(!value.isJsonObject()) return null;
+			selected = select(value.getAsJsonObject(), path.subList(1, path.size()));
+			if(selected == null) return null;
+		}
+
+		JsonObject result = new JsonObject();
+		result.add(key, selected);
+		return result;
+	}
+
+	@AfterAll
+	public void tearDown() {
+		formatter = null;
+	}
+}
@@ -0,0 +1,176 @@
+package io.github.mariazevedo88.jfv.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.google.gson.JsonParseException;
+
+import io.github.mariazevedo88.jfv.model.enumeration.RepairRuleEnum;
+import io.github.mariazevedo88.jfv.service.CustomJSONFormatterService;
+import io.github.mariazevedo88.jfv.service.RepairOptions;
+import io.github.mariazevedo88.jfv.service.RepairPipeline;
+import io.github.mariazevedo88.jfv.service.RepairRule;
+
+/**
+ * Test class of the pipeline of rules of the regex engine
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ *
+ */
+@DisplayName("CustomJSONRulesTest")
+@TestInstance(Lifecycle.PER_CLASS)
+@TestMethodOrder(OrderAnnotation.class)
+public class CustomJSONRulesTest {
+
+	private CustomJSONFormatterService formatter;
+	private RepairRule notAvailable;
+
+	@BeforeAll
+	public void setUp() {
+		formatter = new CustomJSONFormatterService();
+		notAvailable = new RepairRule() {
+
+			@Override
+			public String getName() {
+				return "NOT_AVAILABLE";
+			}
+
+			@Override
+			public String apply(String json) {
+				return json.replace("N/A", "");
+			}
+		};
+	}
+
+	@ParameterizedTest
+	@MethodSource("io.github.mariazevedo88.jfv.test.CustomJSONTokenizerTest#malformedJsons")
+	@DisplayName("Should repair the same JSON with the default pipeline")
+	@Order(1)
+	public void shouldRepairSameJSONWithDefaultPipeline(String malformedJson) throws IOException {
+		RepairOptions options = RepairOptions.builder().muteLog(true).rules(RepairPipeline.builder().build()).build();
+
+		assertEquals(formatter.repair(malformedJson, true).getValidJson(), formatter.repair(malformedJson, options).getValidJson());
+	}
+
+	@Test
+	@DisplayName("Should have the rules of RepairRuleEnum on the default pipeline")
+	@Order(2)
+	public void shouldHaveRulesOfEnumOnDefaultPipeline() {
+		assertEquals(Arrays.stream(RepairRuleEnum.values()).map(Enum::name).collect(Collectors.toList()), RepairPipeline.DEFAULT.getRuleNames());
+		assertEquals("{\"hora\":10;;30}", RepairPipeline.DEFAULT.apply("{\"hora\":10:30,}"));
+		assertTrue(RepairOptions.DEFAULT.getRules() == RepairPipeline.DEFAULT);
+	}
+
+	@Test
+	@DisplayName("Should keep the parentheses of the values when their rules are disabled")
+	@Order(3)
+	public void shouldKeepParenthesesWhenRulesAreDisabled() throws IOException {
+		RepairPipeline rules = RepairPipeline.builder().disable(RepairRuleEnum.LEFT_PARENTHESES.name(), RepairRuleEnum.RIGHT_PARENTHESES.name()).build();
+		RepairOptions options = RepairOptions.builder().muteLog(true).rules(rules).build();
+
+		assertEquals("Maria ,admin,", formatter.repair("{name:Maria (admin),id:1}", true).getValidJson().getAsJsonObject().get("name").getAsString());
+		assertEquals("Maria (admin)", formatter.repair("{name:Maria (admin),id:1}", options).getValidJson().getAsJsonObject().get("name").getAsString());
+		assertEquals(RepairRuleEnum.values().length - 2, rules.getRuleNames().size());
+
+		RepairPipeline enabled = RepairPipeline.builder().disable(RepairRuleEnum.LEFT_PARENTHESES.name()).enable(RepairRuleEnum.LEFT_PARENTHESES.name()).build();
+		assertEquals(RepairPipeline.DEFAULT.getRuleNames(), enabled.getRuleNames());
+	}
+
+	@Test
+	@DisplayName("Should apply the rules added and reordered")
+	@Order(4)
+	public void shouldApplyRulesAddedAndReordered() throws IOException {
+		RepairPipeline rules = RepairPipeline.builder().add(notAvailable).add(RepairRule.regex("LOWERCASE_STATUS", "ACTIVE", "active"))
+				.order("LOWERCASE_STATUS", "NOT_AVAILABLE").build();
+		RepairOptions options = RepairOptions.builder().muteLog(true).rules(rules).build();
+
+		assertEquals("LOWERCASE_STATUS", rules.getRuleNames().get(0));
+		assertEquals("NOT_AVAILABLE", rules.getRuleNames().get(1));
+		assertEquals(RepairRuleEnum.DOUBLE_COMMAS_WITH_SPACE.name(), rules.getRuleNames().get(2));
+		assertEquals(RepairRuleEnum.TRAILING_COMMA.name(), rules.getRuleNames().get(rules.getRuleNames().size() - 1));
+		assertTrue(rules.toString().startsWith("RepairPipeline [rules=[LOWERCASE_STATUS, NOT_AVAILABLE"));
+		assertTrue(options.toString().contains("rules=[LOWERCASE_STATUS"));
+
+		assertEquals("{\"id\":\"1\",\"status\":\"active\",\"reason\":\"\"}", formatter.repair("{id:1,status:ACTIVE,reason:N/A}", options).getValidJson().toString());
+	}
+
+	@Test
+	@DisplayName("Should count the rules as iterations of the limits")
+	@Order(5)
+	public void shouldCountRulesAsIterations() throws IOException {
+		RepairPipeline rules = RepairPipeline.builder().disable(RepairRuleEnum.DOUBLE_COMMAS_WITH_SPACE.name()).add(notAvailable).build();
+		RepairOptions options = RepairOptions.builder().muteLog(true).rules(rules).maxIterations(2).build();
+
+		//the main regex has one match and the comma fix-up reads one field, and the rule is another iteration
+		assertEquals("{\"id\":\"1\"}", formatter.repair("{id:1}", RepairOptions.builder().muteLog(true).maxIterations(2).build()).getValidJson().toString());
+		assertTrue(formatter.repair("{id:1}", options).getError() instanceof JsonParseException);
+	}
+
+	@Test
+	@DisplayName("Should return the error of a rule that returns null, and validate the builder")
+	@Order(6)
+	public void shouldValidateRulesAndBuilder() {
+		RepairRule nullRule = new RepairRule() {
+
+			@Override
+			public String getName() {
+				return "NULL";
+			}
+
+			@Override
+			public String apply(String json) {
+				return null;
+			}
+		};
+		RepairOptions options = RepairOptions.builder().muteLog(true).rules(RepairPipeline.builder().add(nullRule).build()).build();
+
+		assertThrows(NullPointerException.class, () -> formatter.checkValidityAndFormatObject("{id:1}", options));
+		assertThrows(IllegalArgumentException.class, () -> RepairPipeline.builder().add(RepairRule.regex(RepairRuleEnum.HOURS.name(), "x", "y")));
+		assertThrows(IllegalArgumentException.class, () -> RepairPipeline.builder().disable("UNKNOWN"));
+		assertThrows(NullPointerException.class, () -> RepairPipeline.builder().add(null));
+		assertThrows(NullPointerException.class, () -> RepairPipeline.builder().order((String[]) null));
+		assertThrows(NullPointerException.class, () -> RepairRule.regex(null, "x", "y"));
+		assertThrows(NullPointerException.class, () -> RepairRule.regex("X", "x", null));
+		assertThrows(NullPointerException.class, () -> RepairOptions.builder().rules(null));
+		assertTrue(RepairRule.regex("X", "x", "y").toString().contains("regex=x"));
+	}
+
+	@Test
+	@DisplayName("Should throw or mute the errors with the options")
+	@Order(7)
+	public void shouldThrowOrMuteErrorsWithOptions() throws IOException {
+		RepairOptions muted = RepairOptions.builder().muteLog(true).muteException(true).build();
+
+		assertNull(formatter.checkValidityAndFormatObject("{id}", muted));
+		assertNull(formatter.getCustomJson().getValidJson());
+		assertTrue(muted.isMuteException());
+		assertTrue(muted.toString().contains("muteException=true"));
+		assertThrows(RuntimeException.class, () -> formatter.checkValidityAndFormatObject("{id}", RepairOptions.builder().muteLog(true).build()));
+		assertEquals("1", formatter.checkValidityAndFormatObject("{id:1}", muted).getAsJsonObject().get("id").getAsString());
+	}
+
+	@AfterAll
+	public void tearDown() {
+		formatter = null;
+		notAvailable = null;
+	}
+}
@@ -0,0 +1,260 @@
+package io.github.mariazevedo88.jfv.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+
+import io.github.mariazevedo88.jfv.model.enumeration.RepairEngineEnum;
+import io.github.mariazevedo88.jfv.service.CustomJSONFormatterService;
+
+/**
+ * Test class of the repair of JSONs from a Reader to a Writer, and from an InputStream to an OutputStream
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ *
+ */
+@DisplayName("CustomJSONStreamTest")
+@TestInstance(Lifecycle.PER_CLASS)
+@TestMethodOrder(OrderAnnotation.class)
+public class CustomJSONStreamTest {
+
+	private static final int ORDERS = 200_000;
+
+	private CustomJSONFormatterService formatter;
+	private CustomJSONFormatterService tokenizerFormatter;
+
+	@BeforeAll
+	public void setUp() {
+		formatter = new CustomJSONFormatterService();
+		tokenizerFormatter = new CustomJSONFormatterService(RepairEngineEnum.TOKENIZER);
+	}
+
+	@ParameterizedTest
+	@MethodSource("io.github.mariazevedo88.jfv.test.CustomJSONTokenizerTest#malformedJsons")
+	@DisplayName("Should write the same JSON of the tokenizer engine, reading one char at a time")
+	@Order(1)
+	public void shouldWriteSameJSONOfTokenizerEngine(String malformedJson) throws IOException {
+		StringWriter out = new StringWriter();
+		formatter.repairTo(new OneCharReader(malformedJson), out);
+
+		JsonElement fromTokenizer = tokenizerFormatter.checkValidityAndFormatObject(malformedJson, true, false);
+		assertEquals(fromTokenizer, JsonParser.parseString(out.toString()));
+	}
+
+	@Test
+	@DisplayName("Should repair a large JSON generated on demand, without keeping it in memory")
+	@Order(2)
+	public void shouldRepairLargeJSONGeneratedOnDemand() throws IOException {
+		CountingWriter out = new CountingWriter();
+		formatter.repairTo(new OrdersReader(ORDERS), out);
+
+		assertEquals(ORDERS, out.orders);
+		assertTrue(out.count > ORDERS * 60L);
+		assertTrue(out.lastChunk.endsWith("\"reference\":\"Ao lado, perto da praca\"}]}"));
+	}
+
+	@Test
+	@DisplayName("Should repair a JSON with a value larger than the buffers of the reader and of the writer")
+	@Order(3)
+	public void shouldRepairValueLargerThanBuffers() throws IOException {
+		StringBuilder note = new StringBuilder();
+		for (int i = 0; i < 10_000; i++) note.append("Ao lado, perto da praca ").append(i).append(' ');
+
+		String malformedJson = "{id:1,note:" + note + ",items:[" + note + "],value:70,53}";
+		StringWriter out = new StringWriter();
+		formatter.repairTo(new StringReader(malformedJson), out);
+
+		JsonObject json = JsonParser.parseString(out.toString()).getAsJsonObject();
+		assertEquals(note.toString(), json.get("note").getAsString());
+		assertEquals(10_001, json.getAsJsonArray("items").size());
+		assertEquals("70.53", json.get("value").getAsString());
+		assertEquals(tokenizerFormatter.checkValidityAndFormatObject(malformedJson, true, false), json);
+	}
+
+	@Test
+	@DisplayName("Should repair a JSON from an InputStream to an OutputStream in UTF-8")
+	@Order(4)
+	public void shouldRepairFromInputStreamToOutputStream() throws IOException {
+		String malformedJson = "{cidade:São Paulo,endereço:{rua:Avenida Paulista, 1000,número:1,5},tags:[café, ação, 12]}";
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		formatter.repairTo(new ByteArrayInputStream(malformedJson.getBytes(StandardCharsets.UTF_8)), out);
+
+		JsonObject json = JsonParser.parseString(new String(out.toByteArray(), StandardCharsets.UTF_8)).getAsJsonObject();
+		assertEquals("São Paulo", json.get("cidade").getAsString());
+		assertEquals("Avenida Paulista, 1000", json.getAsJsonObject("endereço").get("rua").getAsString());
+		assertEquals("1.5", json.getAsJsonObject("endereço").get("número").getAsString());
+
+		JsonArray tags = json.getAsJsonArray("tags");
+		assertEquals("ação", tags.get(1).getAsString());
+		assertEquals(12, tags.get(2).getAsInt());
+	}
+
+	@Test
+	@DisplayName("Should throws JsonSyntaxException if the JSON can't be repaired")
+	@Order(5)
+	public void shouldThrowsJsonSyntaxExceptionIfJSONCantBeRepaired() {
+		JsonSyntaxException e = assertThrows(JsonSyntaxException.class,
+				() -> formatter.repairTo(new StringReader("{id:1,payment:[{value:2}"), new StringWriter()));
+		assertTrue(e.getMessage().endsWith("Array without right bracket. Position: 24"));
+
+		assertThrows(JsonSyntaxException.class, () -> formatter.repairTo(new StringReader(" "), new StringWriter()));
+		assertThrows(JsonSyntaxException.class, () -> formatter.repairTo(new StringReader("{id:1}}"), new StringWriter()));
+		assertThrows(JsonSyntaxException.class, () -> formatter.repairTo(new ByteArrayInputStream("id:1".getBytes(StandardCharsets.UTF_8)),
+				new ByteArrayOutputStream()));
+	}
+
+	@Test
+	@DisplayName("Should throws the IOException of the reader and of the writer")
+	@Order(6)
+	public void shouldThrowsIOExceptionOfReaderAndWriter() {
+		Reader failingReader = new Reader() {
+			@Override
+			public int read(char[] buffer, int offset, int length) throws IOException {
+				throw new IOException("Reader failed.");
+			}
+
+			@Override
+			public void close() {}
+		};
+
+		Writer failingWriter = new Writer() {
+			@Override
+			public void write(char[] buffer, int offset, int length) throws IOException {
+				throw new IOException("Writer failed.");
+			}
+
+			@Override
+			public void flush() {}
+
+			@Override
+			public void close() {}
+		};
+
+		assertEquals("Reader failed.", assertThrows(IOException.class, () -> formatter.repairTo(failingReader, new StringWriter())).getMessage());
+		assertEquals("Writer failed.", assertThrows(IOException.class,
+				() -> formatter.repairTo(new StringReader("{id:1}"), failingWriter)).getMessage());
+		assertEquals("Writer failed.", assertThrows(IOException.class,
+				() -> formatter.repairTo(new OrdersReader(1000), failingWriter)).getMessage());
+	}
+
+	@Test
+	@DisplayName("Should throws NullPointerException if the streams are null")
+	@Order(7)
+	public void shouldThrowsNullPointerExceptionIfStreamsAreNull() {
+		assertThrows(NullPointerException.class, () -> formatter.repairTo(null, new StringWriter()));
+		assertThrows(NullPointerException.class, () -> formatter.repairTo(new StringReader("{}"), null));
+		assertThrows(NullPointerException.class, () -> formatter.repairTo(null, new ByteArrayOutputStream()));
+		assertThrows(NullPointerException.class, () -> formatter.repairTo(new ByteArrayInputStream(new byte[0]), null));
+	}
+
+	@AfterAll
+	public void tearDown() {
+		formatter = null;
+		tokenizerFormatter = null;
+	}
+
+	/**
+	 * Reader that returns one char at each read
+	 */
+	private static final class OneCharReader extends StringReader {
+
+		OneCharReader(String text) {
+			super(text);
+		}
+
+		@Override
+		public int read(char[] buffer, int offset, int length) throws IOException {
+			return super.read(buffer, offset, Math.min(length, 1));
+		}
+	}
+
+	/**
+	 * Reader of an array of malformed orders, generated while it is read
+	 */
+	private static final class OrdersReader extends Reader {
+
+		private final int orders;
+		private int next;
+		private String chunk = "{orders:[";
+		private int chunkPosition;
+
+		OrdersReader(int orders) {
+			this.orders = orders;
+		}
+
+		@Override
+		public int read(char[] buffer, int offset, int length) {
+
+			if(chunkPosition == chunk.length()) {
+				if(next > orders) return -1;
+				chunk = next == orders ? "]}" : (next > 0 ? "," : "") + "{id:" + next + ",status:NEW,value:70,53,reference:Ao lado, perto da praca}";
+				chunkPosition = 0;
+				next++;
+			}
+
+			int read = Math.min(length, chunk.length() - chunkPosition);
+			chunk.getChars(chunkPosition, chunkPosition + read, buffer, offset);
+			chunkPosition += read;
+			return read;
+		}
+
+		@Override
+		public void close() {}
+	}
+
+	/**
+	 * Writer that only counts the chars and the orders written, keeping the last chunk
+	 */
+	private static final class CountingWriter extends Writer {
+
+		private long count;
+		private int orders;
+		private String lastChunk;
+
+		@Override
+		public void write(char[] buffer, int offset, int length) {
+			write(new String(buffer, offset, length));
+		}
+
+		@Override
+		public void write(String text) {
+			count += text.length();
+			lastChunk = text;
+			for (int i = text.indexOf("\"status\""); i >= 0; i = text.indexOf("\"status\"", i + 1)) orders++;
+		}
+
+		@Override
+		public void flush() {}
+
+		@Override
+		public void close() {}
+	}
+}
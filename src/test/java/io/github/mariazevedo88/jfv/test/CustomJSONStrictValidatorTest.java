@@ -0,0 +1,102 @@
+package io.github.mariazevedo88.jfv.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+
+import io.github.mariazevedo88.jfv.service.CustomJSONFormatterService;
+import io.github.mariazevedo88.jfv.service.CustomJSONStrictValidatorService;
+
+/**
+ * Test class of the strict validator, used as fast path for strings that are already valid JSONs
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ *
+ */
+@DisplayName("CustomJSONStrictValidatorTest")
+@TestInstance(Lifecycle.PER_CLASS)
+@TestMethodOrder(OrderAnnotation.class)
+public class CustomJSONStrictValidatorTest {
+
+	@ParameterizedTest
+	@ValueSource(strings = {"{}", "[]", " { } ", "\t[\r\n]\n", "{\"id\":1}", "[1,-2.5,3e10,0.5E-3,-0,true,false,null,\"a\"]",
+			"{\"a\" : {\"b\":[{}, [], \"\\\"\\\\\\/\\b\\f\\n\\r\\t\\u00e3\"]} , \"c\" : null}", "[[[[[[[[[[1]]]]]]]]]]"})
+	@DisplayName("Should verify that strict JSON objects and arrays are valid")
+	@Order(1)
+	public void shouldVerifyStrictJsonIsValid(String json) {
+		assertTrue(CustomJSONStrictValidatorService.isValidJson(json));
+		assertTrue(CustomJSONStrictValidatorService.isValidJson(json.toCharArray(), 0, json.length()));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"", "  ", "1", "\"a\"", "true", "{", "[", "{}}", "[] []", "{id:1}", "{'id':1}", "{\"id\"}", "{\"id\":}",
+			"{\"id\":1,}", "[1,]", "[,1]", "{\"id\" 1}", "{\"id\":1 \"b\":2}", "[1 2]", "[01]", "[1.]", "[.5]", "[-]", "[1e]", "[+1]",
+			"[tru]", "[nul]", "[falsy]", "[\"a]", "[\"\\x\"]", "[\"\\u00g0\"]", "[\"\\u00\"]", "[\"a\\", "[\"tab\t\"]", "{\"a\":1", "[1",
+			"{id:267107086801,productCode:02-671070868,purchaseDate:2018-07-15}"})
+	@DisplayName("Should verify that malformed or not strict JSONs are invalid")
+	@Order(2)
+	public void shouldVerifyMalformedJsonIsInvalid(String json) {
+		assertFalse(CustomJSONStrictValidatorService.isValidJson(json));
+	}
+
+	@Test
+	@DisplayName("Should verify that null and JSONs deeper than the maximum depth are invalid")
+	@Order(3)
+	public void shouldVerifyNullAndDeepJsonIsInvalid() {
+		StringBuilder deepJson = new StringBuilder();
+		for(int i = 0; i <= CustomJSONStrictValidatorService.MAX_DEPTH; i++) deepJson.append('[');
+		for(int i = 0; i <= CustomJSONStrictValidatorService.MAX_DEPTH; i++) deepJson.append(']');
+
+		assertFalse(CustomJSONStrictValidatorService.isValidJson(deepJson));
+		assertTrue(CustomJSONStrictValidatorService.isValidJson(deepJson.substring(1, deepJson.length() - 1)));
+		assertFalse(CustomJSONStrictValidatorService.isValidJson((CharSequence) null));
+		assertFalse(CustomJSONStrictValidatorService.isValidJson(null, 0, 0));
+	}
+
+	@Test
+	@DisplayName("Should validate a range of a char array, in place, and reject ranges out of the array")
+	@Order(4)
+	public void shouldValidateRangeOfCharArray() {
+		char[] buffer = "xx{\"id\":1}yy".toCharArray();
+		assertTrue(CustomJSONStrictValidatorService.isValidJson(buffer, 2, 8));
+		assertFalse(CustomJSONStrictValidatorService.isValidJson(buffer, 0, 10));
+		assertFalse(CustomJSONStrictValidatorService.isValidJson(buffer, 2, 7));
+		assertThrows(IndexOutOfBoundsException.class, () -> CustomJSONStrictValidatorService.isValidJson(buffer, -1, 8));
+		assertThrows(IndexOutOfBoundsException.class, () -> CustomJSONStrictValidatorService.isValidJson(buffer, 2, -1));
+		assertThrows(IndexOutOfBoundsException.class, () -> CustomJSONStrictValidatorService.isValidJson(buffer, 5, 8));
+	}
+
+	@Test
+	@DisplayName("Should parse valid strings without the repair engine and count the fast path")
+	@Order(5)
+	public void shouldParseValidStringsOnFastPath() throws IOException {
+		CustomJSONFormatterService formatter = new CustomJSONFormatterService();
+		String validJson = "{\"id\":\"1\",\"reference\":\"Ao lado, perto da praca\",\"values\":[1,2]}";
+
+		JsonElement json = formatter.checkValidityAndFormatObject(validJson, true, false);
+		assertEquals(JsonParser.parseString(validJson), json);
+		assertEquals(1, formatter.getFastPathCount());
+		assertEquals(0, formatter.getRepairCount());
+
+		formatter.checkValidityAndFormatObject("{id:1,reference:Ao lado, perto da praca}", true, false);
+		assertEquals(1, formatter.getFastPathCount());
+		assertEquals(1, formatter.getRepairCount());
+	}
+}
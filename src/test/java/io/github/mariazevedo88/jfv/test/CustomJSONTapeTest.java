@@ -0,0 +1,226 @@
+package io.github.mariazevedo88.jfv.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+
+import io.github.mariazevedo88.jfv.model.TapeJson;
+import io.github.mariazevedo88.jfv.model.enumeration.RepairEngineEnum;
+import io.github.mariazevedo88.jfv.service.CustomJSONFormatterService;
+
+/**
+ * Test class of the JSONs kept as a compact tape instead of a tree
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ *
+ */
+@DisplayName("CustomJSONTapeTest")
+@TestInstance(Lifecycle.PER_CLASS)
+@TestMethodOrder(OrderAnnotation.class)
+public class CustomJSONTapeTest {
+
+	private static final String ORDER = "{id:267111784501,status:APPROVED,deliveryAddress:{street:Rua Wanderlin Vieira,number:216,"
+			+ "city:Conselheiro Lafaiete,reference:Ao lado, perto da praca},paymentMethods:[{sequential:1,id:CREDIT_CARD,value:1216.03},"
+			+ "{sequential:2,id:VOUCHER,value:70,53}],tags:[1, true, null, Rua B]}";
+
+	private CustomJSONFormatterService formatter;
+	private CustomJSONFormatterService tokenizerFormatter;
+
+	@BeforeAll
+	public void setUp() {
+		formatter = new CustomJSONFormatterService();
+		tokenizerFormatter = new CustomJSONFormatterService(RepairEngineEnum.TOKENIZER);
+	}
+
+	@ParameterizedTest
+	@MethodSource("io.github.mariazevedo88.jfv.test.CustomJSONTokenizerTest#malformedJsons")
+	@DisplayName("Should keep on the tape the same JSON of the tree, with both engines")
+	@Order(1)
+	public void shouldKeepSameJSONOfTree(String malformedJson) throws IOException {
+		for (CustomJSONFormatterService service : new CustomJSONFormatterService[] {formatter, tokenizerFormatter}) {
+			JsonObject tree = service.repair(malformedJson, true).getValidJson().getAsJsonObject();
+			TapeJson tape = service.repairToTape(malformedJson, true);
+
+			assertEquals(tree, tape.asJsonElement());
+			assertEquals(tree, JsonParser.parseString(tape.toString()));
+			for (Entry<String, JsonElement> member : tree.entrySet()) {
+				assertEquals(member.getValue(), tape.get(member.getKey()).asJsonElement());
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("Should navigate and iterate over objects and arrays of the tape")
+	@Order(2)
+	public void shouldNavigateAndIterateOverTape() throws IOException {
+		TapeJson order = tokenizerFormatter.repairToTape(ORDER, true);
+
+		assertTrue(order.isJsonObject());
+		assertEquals(5, order.size());
+		assertEquals(Arrays.asList("id", "status", "deliveryAddress", "paymentMethods", "tags"), order.keys());
+		assertEquals(267111784501L, order.get("id").getAsLong());
+		assertEquals("APPROVED", order.get("status").getAsString());
+		assertTrue(order.has("deliveryAddress"));
+		assertFalse(order.has("customer"));
+		assertNull(order.get("customer"));
+
+		assertEquals("Ao lado, perto da praca", order.get("deliveryAddress").get("reference").getAsString());
+
+		TapeJson payments = order.get("paymentMethods");
+		assertTrue(payments.isJsonArray());
+		assertEquals(2, payments.size());
+		assertEquals(70.53, payments.get(1).get("value").getAsDouble());
+
+		List<String> values = new ArrayList<>();
+		for (TapeJson value : order.get("deliveryAddress")) values.add(value.getAsString());
+		assertEquals(Arrays.asList("Rua Wanderlin Vieira", "216", "Conselheiro Lafaiete", "Ao lado, perto da praca"), values);
+
+		Iterator<TapeJson> tags = order.get("tags").iterator();
+		assertEquals(1, tags.next().getAsLong());
+		assertTrue(tags.next().getAsBoolean());
+		assertTrue(tags.next().isJsonNull());
+		assertTrue(tags.next().isJsonPrimitive());
+		assertFalse(tags.hasNext());
+		assertThrows(NoSuchElementException.class, tags::next);
+	}
+
+	@Test
+	@DisplayName("Should keep strict JSONs with blanks, escapes, unicode, numbers and repeated keys")
+	@Order(3)
+	public void shouldKeepStrictJsons() {
+		String json = " { \"a\\\"b\" : \"x}\\n\\t\\/\\\\\\b\\f\\r\" , \"list\" : [ [ 1 , 2 ] , { } , \"]\" , -1.5e3, 12345678901234567890 ] ,"
+				+ "\"id\":1, \"caf\\u00e9\":true, \"ok\":false, \"emoji\":\"\\ud83d\\ude00 😀 ação € \\ud83d \\ude00\", \"id\" : 2 } ";
+		TapeJson tape = TapeJson.parse(json);
+		JsonElement tree = JsonParser.parseString(json);
+
+		assertEquals(7, tape.size());
+		assertEquals("x}\n\t/\\\b\f\r", tape.get("a\"b").getAsString());
+		assertEquals(2, tape.get("id").getAsLong());
+		assertTrue(tape.get("café").getAsBoolean());
+		assertFalse(tape.get("ok").getAsBoolean());
+		assertEquals("false", tape.get("ok").getAsString());
+		assertEquals("😀 😀 ação € ? ?", tape.get("emoji").getAsString());
+
+		TapeJson list = tape.get("list");
+		assertEquals(5, list.size());
+		assertEquals(2, list.get(0).get(1).getAsNumber().intValue());
+		assertEquals(0, list.get(1).size());
+		assertEquals("]", list.get(2).getAsString());
+		assertEquals(-1500, list.get(3).getAsNumber().intValue());
+		assertEquals(-1500L, list.get(3).getAsLong());
+		assertEquals(-1500f, list.get(3).getAsNumber().floatValue());
+		assertEquals("12345678901234567890", list.get(4).getAsNumber().toString());
+		assertEquals(JsonParser.parseString("12345678901234567890").getAsInt(), list.get(4).getAsNumber().intValue());
+		assertEquals(JsonParser.parseString("[[1,2],{},\"]\",-1.5e3,12345678901234567890]"), list.asJsonElement());
+		assertEquals("[[1,2],{},\"]\",-1.5e3,12345678901234567890]", list.toString());
+
+		JsonObject withoutEmoji = tree.getAsJsonObject();
+		withoutEmoji.remove("emoji");
+		assertEquals(withoutEmoji.get("a\"b"), tape.get("a\"b").asJsonElement());
+		assertEquals(withoutEmoji.get("list"), list.asJsonElement());
+		assertEquals(2, tape.asJsonElement().getAsJsonObject().get("id").getAsInt());
+		assertTrue(tape.toString().startsWith("{\"a\\\"b\":\"x}\\n\\t/\\\\\\b\\f\\r\",\"list\""));
+		assertTrue(tape.toString().endsWith(",\"id\":2}"));
+	}
+
+	@Test
+	@DisplayName("Should keep deep and large JSONs, larger than the initial tape")
+	@Order(4)
+	public void shouldKeepDeepAndLargeJsons() {
+		StringBuilder deep = new StringBuilder();
+		for (int i = 0; i < 50; i++) deep.append(i % 2 == 0 ? "{\"a\":" : "[");
+		deep.append("\"b\"");
+		for (int i = 49; i >= 0; i--) deep.append(i % 2 == 0 ? "}" : "]");
+
+		TapeJson tape = TapeJson.parse(deep);
+		assertEquals(JsonParser.parseString(deep.toString()), tape.asJsonElement());
+		assertEquals(deep.toString(), tape.toString());
+
+		StringBuilder large = new StringBuilder("[");
+		for (int i = 0; i < 10_000; i++) large.append(i > 0 ? "," : "").append("{\"id\":").append(i).append(",\"name\":\"ação ").append(i).append("\"}");
+		large.append(']');
+
+		TapeJson items = TapeJson.parse(large.toString());
+		assertEquals(10_000, items.size());
+		assertEquals("ação 9999", items.get(9999).get("name").getAsString());
+		assertEquals(JsonParser.parseString(large.toString()), items.asJsonElement());
+	}
+
+	@Test
+	@DisplayName("Should keep on the tape JSONs from readers, UTF-8 bytes and trees")
+	@Order(5)
+	public void shouldKeepJsonsFromOtherInputs() throws IOException {
+		CustomJSONFormatterService service = new CustomJSONFormatterService(RepairEngineEnum.TOKENIZER);
+
+		assertEquals("São Paulo", service.repairToTape("{cidade:São Paulo}".getBytes(StandardCharsets.UTF_8), false).get("cidade").getAsString());
+		assertEquals("São Paulo", service.repairToTape("{\"cidade\":\"São Paulo\"}".getBytes(StandardCharsets.UTF_8), false).get("cidade")
+				.getAsString());
+		assertEquals(1, service.repairToTape(new BufferedReader(new StringReader("{id:1}")), true).get("id").getAsLong());
+		assertEquals(1, service.repairToTape(JsonParser.parseString("{\"id\":1}"), true).get("id").getAsLong());
+
+		assertEquals(1, service.getFastPathCount());
+		assertEquals(2, service.getRepairCount());
+	}
+
+	@Test
+	@DisplayName("Should throws exceptions if the JSON can't be repaired or the access doesn't match the JSON")
+	@Order(6)
+	public void shouldThrowsExceptionsIfJSONIsInvalidOrAccessDoesntMatch() {
+		TapeJson tape = TapeJson.parse("{\"id\":1,\"list\":[1],\"name\":null}");
+		TapeJson list = tape.get("list");
+
+		assertThrows(JsonSyntaxException.class, () -> tokenizerFormatter.repairToTape("{id:1,payment:[{value:2}", true));
+		assertThrows(JsonSyntaxException.class, () -> TapeJson.parse("{id:1}"));
+		assertThrows(NullPointerException.class, () -> formatter.repairToTape(null, true));
+		assertThrows(NullPointerException.class, () -> TapeJson.parse(null));
+		assertThrows(NullPointerException.class, () -> tape.get(null));
+
+		assertThrows(IllegalStateException.class, () -> tape.get(0));
+		assertThrows(IllegalStateException.class, () -> list.get("id"));
+		assertThrows(IllegalStateException.class, list::keys);
+		assertThrows(IllegalStateException.class, () -> tape.get("id").size());
+		assertThrows(IllegalStateException.class, () -> tape.get("id").iterator());
+		assertThrows(IllegalStateException.class, () -> tape.get("name").getAsString());
+		assertThrows(IllegalStateException.class, () -> tape.get("name").getAsNumber());
+		assertThrows(IllegalStateException.class, () -> list.getAsLong());
+		assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+		assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+	}
+
+	@AfterAll
+	public void tearDown() {
+		formatter = null;
+		tokenizerFormatter = null;
+	}
+}
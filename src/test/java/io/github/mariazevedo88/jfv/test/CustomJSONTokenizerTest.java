@@ -0,0 +1,219 @@
+package io.github.mariazevedo88.jfv.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+
+import io.github.mariazevedo88.jfv.model.enumeration.RepairEngineEnum;
+import io.github.mariazevedo88.jfv.service.CustomJSONFormatterService;
+
+/**
+ * Test class of the tokenizer engine, that must repair the same strings as the regex engine
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ *
+ */
+@DisplayName("CustomJSONTokenizerTest")
+@TestInstance(Lifecycle.PER_CLASS)
+@TestMethodOrder(OrderAnnotation.class)
+public class CustomJSONTokenizerTest {
+
+	private CustomJSONFormatterService regexFormatter;
+	private CustomJSONFormatterService tokenizerFormatter;
+
+	@BeforeAll
+	public void setUp() {
+		regexFormatter = new CustomJSONFormatterService();
+		tokenizerFormatter = new CustomJSONFormatterService(RepairEngineEnum.TOKENIZER);
+	}
+
+	/**
+	 * Malformed strings of the CustomJSONFormatterTest class
+	 *
+	 * @return Stream<String>
+	 */
+	static Stream<String> malformedJsons() {
+		return Stream.of(
+			"{id:267107086801,productCode:02-671070868,purchaseDate:2018-07-15}",
+			"{id:267107086801,productCode:02-671070868,lastUpdate:2018-07-15,payment:[{sequential:1,id:CREDIT_CARD,value:188,installments:9}]}",
+			"{id:267111784501,productCode:02-671117845,purchaseDate:2018-07-15,status:APPROVED,estimatedDeliveryDate:2018-09-26,deliveryAddress:{street:Rua Wanderlin Vieira,number:216,reference:,neighborhood:Cachoeira,city:Conselheiro Lafaiete,state:MG,zipcode:36408106,additionalInfo:},paymentMethods:[{sequential:1,id:CREDIT_CARD,value:1216.03,installments:10}]}",
+			"{id:267590641902,productCode:02-675906419,purchaseDate:2018-09-17,status:NEW,estimatedDeliveryDate:2018-12-03,deliveryAddress:{street:Rua Baru00e3o do Flamengo,number:35,additionalInfo:311,reference:Entregar na entrada de serviu00e7o, na parte de tru00e1s do pru00e9dio, na rua Senador Vergueiro, num 5.,neighborhood:Flamengo,city:RIO DE JANEIRO,state:RJ,zipcode:22220080},telephones:{main:{ddd:21,number:00026310},secondary:{ddd:21,number:00015462},business:{ddd:21,number:632154789}},billingAddress:{street:Rua Baru00e3o do Flamengo,number:500,additionalInfo:311,reference:Entregar na entrada de serviu00e7o, na parte de tru00e1s do pru00e9dio, na rua Senador Vergueiro, num 5.,neighborhood:Flamengo,city:RIO DE JANEIRO,state:RJ,zipcode:22220080},telephones:{main:{ddd:21,number:00026310},secondary:{ddd:21,number:981405949},business:{ddd:21,number:981405949}},paymentMethods:[{sequential:1,id:VOUCHER,value:70.53,installments:1,idAutorization:null,cardIssuer:null},{sequential:2,id:VOUCHER,value:40.62,installments:1,idAutorization:null,cardIssuer:null}]}",
+			"{id:267034342303,productCode:02-670343423,purchaseDate:2018-07-02,customer:{name:Juliano, Thais Ou Lourdes,deliveryAddress:{street:Rua Landel de Moura,number:1212,additionalInfo:CASA,reference:PRu00d3XIMO DA AV. WENCESLAU ESCOBAR.,neighborhood:Tristeza,city:Porto Alegre,state:RS,zipcode:91920150}},billingAddress:{street:Avenida Alberto Bins,number:9687,additionalInfo:conj. 23651,reference:em frente ao sesc,neighborhood:Centro Histu00f3rico,city:Porto Alegre,state:RS,zipcode:90030140},telephones:{main:{ddd:51,number:00032146},secondary:{ddd:51,number:025412333},business:{ddd:51,number:003214541}},totalAmount:578.79,totalFreight:58.99,totalDiscount:0,totalInterest:0,quantity:2,price:259.9,freight:58.99,discount:0,paymentMethods:[{sequential:1,id:CREDIT_CARD,value:578.79,installments:10}]}",
+			"{id:267133121501,productCode:02-671331215,purchaseDate:2018-07-18,estimatedDeliveryDate:2018-09-17,deliveryAddress:{street:Rua Au00e7au00ed,,number:451,additionalInfo:Frente u00e0 Av. Sucupira,,reference:Garagem pequena,,neighborhood:Morada do Sol,city:Presidente Figueiredo,state:AM,zipcode:69735000},totalAmount:169.88,totalFreight:14.99,totalDiscount:0,totalInterest:0,paymentMethods:[{sequential:1,id:CREDIT_CARD,value:169.88,installments:5}]}",
+			"{id:267180636401,productCode:02-671806364,purchaseDate:2018-07-26,lastUpdate:2018-07-26,purchaseTimestamp:2018-07-26 18:00:31,lastUpdateTimestamp:2018-07-26 18:09:22,status:NEW,estimatedDeliveryDate:2018-10-31,deliveryAddress:{street:Av. Eugu00eanio Krause, 3034/02,number:3034,reference:zazzazaaa,neighborhood:Armau00e7u00e3o,city:Penha,state:SC,zipcode:88385000},telephones:{main:{ddd:47,number:02020312},secondary:{ddd:47,number:085246321},business:{ddd:47,number:065234187}},billingAddress:{street:Av. Eugu00eanio Krause, 3034/02,number:3034,reference:zazadazaa,neighborhood:Armau00e7u00e3o,city:Penha,state:SC,zipcode:88385000},telephones:{main:{ddd:47,number:001321456},secondary:{ddd:47,number:465413100},business:{ddd:47,number:789798745}},totalAmount:463.89,totalFreight:63.99,totalDiscount:0,totalInterest:0,quantity:1,price:399.9,freight:63.99,discount:0,warehouse:98,paymentMethods:[{sequential:1,id:CREDIT_CARD,value:463.89,installments:10}]}",
+			"{paymentMethods:[{sequential:1,id:CREDIT_CARD,value:169.89,installments:2}]}",
+			"{id:1234567890, productCode:02-671806364}",
+			"{id:268852005101,productCode:02-688520051,address:{street:Rua B,number:666,additionalInfo:Apto 666 , Bloco 1 ,,reference:Organizacoes Tabajara,neighborhood:Tabajara,city:São Paulo,state:SP,zipcode:12345678}}",
+			"{id:268862679704,productCode:02-688626797,purchaseDate:2019-02-03,address:{street:Rua Cinco,number:240,additionalInfo:Teste,reference:Ao lado lotus, Recebimento 7:15 as 17:00,neighborhood:Centro,city:Lavras,state:MG,zipcode:00000000}}",
+			"{id:266861122901,productCode:02-668611229,address:{street:Rua Teste,number:22,additionalInfo:Apto 01,reference:Em frente a padaria ( a casa nao tem porteiro, ou campainha) ligar avisando que chegou,neighborhood:Teste,city:Lavras,state:MG,zipcode:37200000}}",
+			"{id:268856993701,productCode:02-688569937,purchaseDate:2019-02-02,address:{street:Rua Pachecao,number:2019,additionalInfo:casa FRENTE. 21965307587,reference:depois do ponto de onibus 666, no seguno numero. Procurar fulano  TELE: 35 981149567 .,neighborhood:Jardim Floresta,city:Lavras,state:MG,zipcode:37200000}}",
+			"{pf:{cpf:11122233385,name:MARIANA DE AZEVEDO SANTOS}, localDate:2019-02-01}",
+			"{totalAmount:326.98,totalFreight:79.99,totalDiscount:0,products:[{link:{id:BLABLABLA-1,rel:sku},quantity:1,price:246.99,freight:79.99,discount:0}, {link:{id:BLABLABLA-2,rel:sku},quantity:1,price:246.99,freight:79.99,discount:0}]}",
+			"{id:106946382801,billingAddress:{street:Rua Pastor Blablabla,additionalInfo:Bloco B, pru00e9dio vermelho.,neighborhood:Jardim Imperador (Zona Leste)},totalAmount:169.89,paymentMethods:[{sequential:1,id:CREDIT_CARD,value:169.89,installments:2}]}",
+			"{id: ,}",
+			"{\"user\":{\"date_created\":\"2019-02-26T00:07:18.151\",\"final_time\":\"2019-01-01T03:00\",\"name\":\"Mariana\"}}",
+			"{\"id\":1, \"active\" : true ,\"parent\":null,\"score\":-1.5e3}");
+	}
+
+	@ParameterizedTest
+	@MethodSource("malformedJsons")
+	@DisplayName("Should get the same JSON from the regex and the tokenizer engines")
+	@Order(1)
+	public void shouldGetSameJSONFromRegexAndTokenizerEngines(String malformedJson) throws IOException {
+		JsonElement fromRegex = regexFormatter.checkValidityAndFormatObject(malformedJson, true, false);
+		JsonElement fromTokenizer = tokenizerFormatter.checkValidityAndFormatObject(malformedJson, true, false);
+		assertEquals(fromRegex, fromTokenizer);
+	}
+
+	@Test
+	@DisplayName("Should keep values with commas and dots of a malformed String with the tokenizer engine")
+	@Order(2)
+	public void shouldKeepValuesWithCommasAndDotsWithTokenizer() throws IOException {
+		String jsonWithDotBeforeComma = "{id:106946382801,deliveryAddress:{additionalInfo:Apto 14, bloco B, pru00e9dio vermelho,neighborhood:Jardim Imperador (Zona Leste)},billingAddress:{additionalInfo:Bloco B, pru00e9dio vermelho.},totalAmount:169.89,totalFreight:1,5}";
+		JsonObject json = tokenizerFormatter.checkValidityAndFormatObject(jsonWithDotBeforeComma, false, false).getAsJsonObject();
+
+		assertEquals("Apto 14, bloco B, pru00e9dio vermelho", json.getAsJsonObject("deliveryAddress").get("additionalInfo").getAsString());
+		assertEquals("Jardim Imperador ,Zona Leste,", json.getAsJsonObject("deliveryAddress").get("neighborhood").getAsString());
+		assertEquals("Bloco B, pru00e9dio vermelho.", json.getAsJsonObject("billingAddress").get("additionalInfo").getAsString());
+		assertEquals("169.89", json.get("totalAmount").getAsString());
+		assertEquals("1.5", json.get("totalFreight").getAsString());
+	}
+
+	@Test
+	@DisplayName("Should keep hours and remove uppercase words followed by colon with the tokenizer engine")
+	@Order(3)
+	public void shouldKeepHoursAndRemoveUppercaseWordsWithTokenizer() throws IOException {
+		String jsonWithColons = "{reference:Recebimento 7:15 as 17:00:30, TELE: 35, fooBAR:1,name:Joe}";
+		JsonObject json = tokenizerFormatter.checkValidityAndFormatObject(jsonWithColons, true, false).getAsJsonObject();
+
+		assertEquals("Recebimento 7:15 as 17:00:30,  35, foo1", json.get("reference").getAsString());
+		assertEquals("Joe", json.get("name").getAsString());
+	}
+
+	@Test
+	@DisplayName("Should escape quotes, backslashes and control characters with the tokenizer engine")
+	@Order(4)
+	public void shouldEscapeSpecialCharactersWithTokenizer() throws IOException {
+		String jsonWithSpecialCharacters = "{name:Joe \"JJ\" O''Neil,path:dir\\x\\u00e3,\"quoted\":\"a\tb\\\"c\",tab:a\tb\r\n\u0001,single:it's}";
+		JsonObject json = tokenizerFormatter.checkValidityAndFormatObject(jsonWithSpecialCharacters, true, false).getAsJsonObject();
+
+		assertEquals("Joe \"JJ\" ONeil", json.get("name").getAsString());
+		assertEquals("dir\\x\u00e3", json.get("path").getAsString());
+		assertEquals("a\tb\"c", json.get("quoted").getAsString());
+		assertEquals("a\tb\r\n\u0001", json.get("tab").getAsString());
+		assertEquals("it's", json.get("single").getAsString());
+	}
+
+	@Test
+	@DisplayName("Should write numbers, booleans and null of arrays as JSON literals with the tokenizer engine")
+	@Order(5)
+	public void shouldWriteLiteralsOfArraysWithTokenizer() throws IOException {
+		String jsonWithArrays = "[1, -2.5E+3, true, false, null, 0123, 1., Rua B , \"x\", {a:b}, [], [,]]";
+		JsonArray json = tokenizerFormatter.checkValidityAndFormatObject(jsonWithArrays, true, false).getAsJsonArray();
+
+		assertEquals(JsonParser.parseString("[1,-2.5E+3,true,false,null,\"0123\",\"1.\",\"Rua B\",\"x\",{\"a\":\"b\"},[],[]]"), json);
+	}
+
+	@Test
+	@DisplayName("Should get an empty JSON Object and an empty JSON Array with the tokenizer engine")
+	@Order(6)
+	public void shouldGetEmptyObjectAndArrayWithTokenizer() throws IOException {
+		assertEquals(new JsonObject(), tokenizerFormatter.checkValidityAndFormatObject(" {} ", true, false));
+		assertEquals(new JsonArray(), tokenizerFormatter.checkValidityAndFormatObject("[]", true, false));
+		assertEquals(JsonParser.parseString("{\"a\":\"\",\"b\":\"\"}"), tokenizerFormatter.checkValidityAndFormatObject("{a:,,b:}", true, false));
+	}
+
+	/**
+	 * Malformed strings and the JSONs expected from the tokenizer engine
+	 *
+	 * @return Stream<Arguments>
+	 */
+	static Stream<Arguments> malformedJsonsAndExpectedJsons() {
+		return Stream.of(
+			Arguments.of("{ first name :Mariana}", "{\"first name\":\"Mariana\"}"),
+			Arguments.of("{\"id\":1 ,\"a\":1x,\"b\":2 }", "{\"id\":1,\"a\":\"1x\",\"b\":2}"),
+			Arguments.of("{\"value\":1,5}", "{\"value\":\"1.5\"}"),
+			Arguments.of("{a:x', b:x'' }", "{\"a\":\"x'\",\"b\":\"x \"}"),
+			Arguments.of("{a:1,5 , b:AB}", "{\"a\":\"1.5 \",\"b\":\"AB\"}"),
+			Arguments.of("{a:b,:c,d:e}", "{\"a\":\"b,:c\",\"d\":\"e\"}"),
+			Arguments.of("{a:b, c d:e, key :f}", "{\"a\":\"b, c d:e\",\"key\":\"f\"}"),
+			Arguments.of("{a:b, TELE :c}", "{\"a\":\"b\",\"TELE\":\"c\"}"),
+			Arguments.of("{a:b, 7:15 x, 7:a}", "{\"a\":\"b, 7:15 x\",\"7\":\"a\"}"),
+			Arguments.of("{a:b,1:}", "{\"a\":\"b\",\"1\":\"\"}"),
+			Arguments.of("{a:x\\}", "{\"a\":\"x\\\\\"}"),
+			Arguments.of("{a:\\u12,b:\\u12zz,c:\\n}", "{\"a\":\"\\\\u12\",\"b\":\"\\\\u12zz\",\"c\":\"\\n\"}"),
+			Arguments.of("[ a b , -, -a, 1.x, 1e, 1e5, 1E-5, 1e+, 01, 10, -0.5 ]", 
+					"[\"a b\",\"-\",\"-a\",\"1.x\",\"1e\",1e5,1E-5,\"1e+\",\"01\",10,-0.5]"),
+			Arguments.of("{\"a\":\"x\\\"\"}", "{\"a\":\"x\\\"\"}"));
+	}
+
+	@ParameterizedTest
+	@MethodSource("malformedJsonsAndExpectedJsons")
+	@DisplayName("Should get the expected JSON from malformed strings with the tokenizer engine")
+	@Order(7)
+	public void shouldGetExpectedJSONWithTokenizer(String malformedJson, String expectedJson) throws IOException {
+		JsonElement json = tokenizerFormatter.checkValidityAndFormatObject(malformedJson, true, false);
+		assertEquals(JsonParser.parseString(expectedJson), json);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"", "   ", "id:1", "{blablablabla}", "{id:1", "{id:1,name:", "{\"id\":\"1}", "{id:1}x",
+			"[1,2", "[1,", "[a}", "[{a:b} 2]", "{\"id\" 1}", "{id:\"1\" 2}", "{id:{a:b},[}", "{\"id\"", "{id:1,", 
+			"{\"id", "{abc", "{a:ABC", "{a:x ", "{a:x'", "{\"a\":1", "{\"a\":1 ", "{\"a\\", "{a:b,[c],d:e}"})
+	@DisplayName("Should throws JsonSyntaxException from strings that can not be repaired with the tokenizer engine")
+	@Order(8)
+	public void shouldThrowsJsonSyntaxExceptionWithTokenizer(String invalidJson) throws IOException {
+		JsonSyntaxException exception = assertThrows(JsonSyntaxException.class, () -> {
+			tokenizerFormatter.checkValidityAndFormatObject(invalidJson, true, false);
+		});
+		assertTrue(exception.getMessage().contains("Position: "));
+	}
+
+	@Test
+	@DisplayName("Should get a null JSON from a string that can not be repaired with the tokenizer engine, muting exception")
+	@Order(9)
+	public void shouldGetNullJSONWithTokenizerMutingException() throws IOException {
+		assertNull(tokenizerFormatter.checkValidityAndFormatObject("{blablablabla}", false, true));
+		assertNull(tokenizerFormatter.getCustomJson().getValidJson());
+	}
+
+	@Test
+	@DisplayName("Should throws NullPointerException if the repair engine is null")
+	@Order(10)
+	public void shouldThrowsNullPointerExceptionIfRepairEngineIsNull() {
+		assertThrows(NullPointerException.class, () -> new CustomJSONFormatterService(null));
+		assertEquals(RepairEngineEnum.TOKENIZER, tokenizerFormatter.getRepairEngine());
+	}
+
+	@AfterAll
+	public void tearDown() {
+		regexFormatter = null;
+		tokenizerFormatter = null;
+	}
+
+}
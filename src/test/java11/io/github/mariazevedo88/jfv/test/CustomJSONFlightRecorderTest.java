@@ -0,0 +1,192 @@
+package io.github.mariazevedo88.jfv.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.gson.JsonSyntaxException;
+
+import io.github.mariazevedo88.jfv.model.enumeration.RepairEngineEnum;
+import io.github.mariazevedo88.jfv.service.CompiledProjection;
+import io.github.mariazevedo88.jfv.service.CustomJSONFormatterService;
+import io.github.mariazevedo88.jfv.service.CustomJSONValidatorFiltersService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Test class of the Java Flight Recorder events of the repair
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ *
+ */
+@DisplayName("CustomJSONFlightRecorderTest")
+@TestInstance(Lifecycle.PER_CLASS)
+@TestMethodOrder(OrderAnnotation.class)
+public class CustomJSONFlightRecorderTest {
+
+	private static final String REPAIR = "io.github.mariazevedo88.jfv.Repair";
+	private static final String COMMA_FIX = "io.github.mariazevedo88.jfv.CommaFix";
+	private static final String FILTER = "io.github.mariazevedo88.jfv.Filter";
+	private static final String PARSE = "io.github.mariazevedo88.jfv.Parse";
+
+	@TempDir
+	Path directory;
+
+	private CustomJSONFormatterService formatter;
+	private CustomJSONValidatorFiltersService validator;
+
+	@BeforeAll
+	public void setUp() {
+		formatter = new CustomJSONFormatterService();
+		validator = new CustomJSONValidatorFiltersService();
+	}
+
+	@Test
+	@DisplayName("Should record the repairs, with the engine, the length and the error")
+	@Order(1)
+	public void shouldRecordRepairs() throws IOException {
+		CustomJSONFormatterService tokenizerFormatter = new CustomJSONFormatterService(RepairEngineEnum.TOKENIZER);
+
+		List<RecordedEvent> events = record(() -> {
+			formatter.checkValidityAndFormatObject("{id:1,name:Maria}", true, true);
+			formatter.checkValidityAndFormatObject("{\"id\":1}".getBytes(StandardCharsets.UTF_8), true, true);
+			formatter.checkValidityAndFormatObject(new BufferedReader(new StringReader("{id:2}")), true, true);
+			tokenizerFormatter.checkValidityAndFormatObject("{id}", true, true);
+		}, REPAIR);
+
+		assertEquals(4, events.size());
+		assertEquals("REGEX", events.get(0).getString("engine"));
+		assertEquals(17, events.get(0).getInt("inputLength"));
+		assertTrue(events.get(0).getBoolean("repaired"));
+		assertNull(events.get(0).getString("error"));
+
+		assertEquals(8, events.get(1).getInt("inputLength"));
+		assertFalse(events.get(1).getBoolean("repaired"));
+		assertEquals(-1, events.get(2).getInt("inputLength"));
+
+		assertEquals("TOKENIZER", events.get(3).getString("engine"));
+		assertEquals(JsonSyntaxException.class.getName(), events.get(3).getString("error"));
+		assertTrue(events.stream().allMatch(event -> event.getStackTrace() == null));
+	}
+
+	@Test
+	@DisplayName("Should record the stages of a repair inside its event")
+	@Order(2)
+	public void shouldRecordStagesInsideRepair() throws IOException {
+		List<RecordedEvent> events = record(() -> {
+			formatter.checkValidityAndFormatObject("{id:1,name:Silva, Maria,city:Recife}", true, true);
+			assertThrows(StringIndexOutOfBoundsException.class,
+					() -> formatter.checkValidityAndFormatObject("{one, two}", true, false));
+		}, REPAIR, COMMA_FIX, PARSE);
+
+		List<String> names = events.stream().map(event -> event.getEventType().getName()).collect(Collectors.toList());
+		assertEquals(List.of(COMMA_FIX, PARSE, REPAIR, COMMA_FIX, REPAIR), names);
+
+		RecordedEvent commaFix = events.get(0);
+		assertEquals(4, commaFix.getInt("iterations"));
+		assertTrue(commaFix.getInt("inputLength") > 36);
+		assertEquals(1, events.get(3).getInt("iterations"));
+
+		RecordedEvent repair = events.get(2);
+		assertFalse(commaFix.getStartTime().isBefore(repair.getStartTime()));
+		assertFalse(commaFix.getEndTime().isAfter(repair.getEndTime()));
+	}
+
+	@Test
+	@DisplayName("Should record the filters of the strings")
+	@Order(3)
+	public void shouldRecordFilters() throws IOException {
+		String json = "{id:1,name:Maria,document:123}";
+		CompiledProjection projection = CompiledProjection.compile("name");
+
+		String[] filtered = new String[4];
+
+		List<RecordedEvent> events = record(() -> {
+			filtered[0] = validator.removeJSONObjectsFromString(json, new String[] {"document:"});
+			filtered[1] = validator.filterJSONObjectsFromString(json, new String[] {"name:"});
+			filtered[2] = validator.removeJSONObjectsFromString(json, projection);
+			filtered[3] = validator.filterJSONObjectsFromString(json, projection);
+		}, FILTER);
+
+		assertEquals(List.of("remove", "filter", "remove", "filter"),
+				events.stream().map(event -> event.getString("operation")).collect(Collectors.toList()));
+		assertTrue(events.stream().allMatch(event -> event.getInt("inputLength") == json.length()));
+		for (int i = 0; i < filtered.length; i++) assertEquals(filtered[i].length(), events.get(i).getInt("outputLength"));
+	}
+
+	@Test
+	@DisplayName("Should not record the disabled events and the events under the threshold")
+	@Order(4)
+	public void shouldNotRecordDisabledEvents() throws IOException {
+		try(Recording recording = new Recording()) {
+			recording.enable(REPAIR).withThreshold(Duration.ofHours(1));
+			recording.disable(PARSE);
+			recording.start();
+			formatter.checkValidityAndFormatObject("{id:1}", true, true);
+			recording.stop();
+
+			Path file = directory.resolve("disabled.jfr");
+			recording.dump(file);
+			assertTrue(RecordingFile.readAllEvents(file).stream()
+					.noneMatch(event -> event.getEventType().getName().startsWith("io.github.mariazevedo88.jfv")));
+		}
+	}
+
+	/**
+	 * Method that records the events of the task, without threshold, and returns them in the order that they ended
+	 *
+	 * @param task
+	 * @param names
+	 * @return List
+	 */
+	private List<RecordedEvent> record(RecordedTask task, String... names) throws IOException {
+		try(Recording recording = new Recording()) {
+			for (String name : names) recording.enable(name).withThreshold(Duration.ZERO);
+			recording.start();
+			task.run();
+			recording.stop();
+
+			Path file = directory.resolve("events.jfr");
+			recording.dump(file);
+			return RecordingFile.readAllEvents(file).stream()
+					.filter(event -> List.of(names).contains(event.getEventType().getName()))
+					.sorted((first, second) -> first.getEndTime().compareTo(second.getEndTime()))
+					.collect(Collectors.toList());
+		}
+	}
+
+	@FunctionalInterface
+	private interface RecordedTask {
+		void run() throws IOException;
+	}
+
+	@AfterAll
+	public void tearDown() {
+		formatter = null;
+		validator = null;
+	}
+}
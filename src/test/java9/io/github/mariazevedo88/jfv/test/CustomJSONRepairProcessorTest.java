@@ -0,0 +1,446 @@
+package io.github.mariazevedo88.jfv.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import io.github.mariazevedo88.jfv.model.RepairResult;
+import io.github.mariazevedo88.jfv.service.CustomJSONFormatterService;
+import io.github.mariazevedo88.jfv.service.CustomJSONRepairProcessor;
+
+/**
+ * Test class of the reactive stage that repairs JSONs
+ *
+ * @author Mariana Azevedo
+ * @since 18/10/2026
+ *
+ */
+@DisplayName("CustomJSONRepairProcessorTest")
+@TestInstance(Lifecycle.PER_CLASS)
+@TestMethodOrder(OrderAnnotation.class)
+public class CustomJSONRepairProcessorTest {
+
+	private CustomJSONFormatterService formatter;
+	private ExecutorService executor;
+
+	@BeforeAll
+	public void setUp() {
+		formatter = new CustomJSONFormatterService();
+		executor = Executors.newCachedThreadPool();
+	}
+
+	@Test
+	@DisplayName("Should publish the repaired JSONs in the same order of the upstream publisher")
+	@Order(1)
+	public void shouldPublishRepairedJsonsInOrder() throws InterruptedException {
+		CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+		CustomJSONRepairProcessor processor = new CustomJSONRepairProcessor(formatter);
+		processor.subscribe(subscriber);
+
+		try(SubmissionPublisher<String> publisher = new SubmissionPublisher<>()){
+			publisher.subscribe(processor);
+			for(int i = 0; i < 1000; i++) {
+				publisher.submit(i % 100 == 0 ? "{blablablabla}" : "{id:" + i + ",reference:Ao lado, perto da praca}");
+			}
+		}
+
+		assertTrue(subscriber.completed.await(30, TimeUnit.SECONDS));
+		assertEquals(1000, subscriber.results.size());
+		for(int i = 0; i < 1000; i++) {
+			RepairResult result = subscriber.results.get(i);
+			if(i % 100 == 0) {
+				assertTrue(result.getError() instanceof StringIndexOutOfBoundsException);
+			}else {
+				assertEquals(String.valueOf(i), result.getValidJson().getAsJsonObject().get("id").getAsString());
+			}
+		}
+		assertNull(subscriber.error);
+	}
+
+	@Test
+	@DisplayName("Should request from upstream only the JSONs demanded by a slow subscriber, up to its buffer")
+	@Order(2)
+	public void shouldThrottleUpstreamWithSlowSubscriber() throws InterruptedException {
+		CollectingSubscriber subscriber = new CollectingSubscriber(0);
+		CustomJSONRepairProcessor processor = new CustomJSONRepairProcessor(formatter, 10, executor, 16);
+		processor.subscribe(subscriber);
+
+		DemandPublisher publisher = new DemandPublisher(200);
+		publisher.subscribe(processor);
+
+		Thread.sleep(200);
+		assertEquals(0, publisher.requested.get());
+
+		//a batch (10) and a partial one (5), that is published when upstream sent all the requested JSONs
+		subscriber.awaitSubscription().request(15);
+		assertTrue(subscriber.waitResults(15));
+		Thread.sleep(200);
+		assertEquals(15, publisher.requested.get());
+		assertEquals(15, publisher.emitted.get());
+		assertEquals(15, subscriber.results.size());
+
+		subscriber.subscription.request(Long.MAX_VALUE);
+		assertTrue(subscriber.completed.await(30, TimeUnit.SECONDS));
+		assertEquals(200, subscriber.results.size());
+		assertTrue(publisher.requested.get() <= 200 + 16);
+	}
+
+	@Test
+	@DisplayName("Should publish the last batch and the error of the upstream publisher")
+	@Order(3)
+	public void shouldPublishLastBatchAndErrorOfUpstream() throws InterruptedException {
+		CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+		CustomJSONRepairProcessor processor = new CustomJSONRepairProcessor(formatter);
+		processor.subscribe(subscriber);
+		subscriber.awaitSubscription();
+
+		processor.onSubscribe(new TestSubscription());
+		processor.onNext("{id:1}");
+		processor.onNext("{id:2}");
+		processor.onError(new IllegalStateException("Upstream error"));
+
+		assertTrue(subscriber.completed.await(30, TimeUnit.SECONDS));
+		assertEquals(2, subscriber.results.size());
+		assertEquals("Upstream error", subscriber.error.getMessage());
+	}
+
+	@Test
+	@DisplayName("Should cancel a second subscription and throws exceptions from invalid parameters")
+	@Order(4)
+	public void shouldCancelSecondSubscriptionAndValidateParameters() {
+		CustomJSONRepairProcessor processor = new CustomJSONRepairProcessor(formatter);
+		processor.onSubscribe(new TestSubscription());
+
+		TestSubscription second = new TestSubscription();
+		processor.onSubscribe(second);
+		assertTrue(second.cancelled.get());
+
+		assertThrows(NullPointerException.class, () -> processor.onNext(null));
+		assertThrows(NullPointerException.class, () -> new CustomJSONRepairProcessor(null));
+		assertThrows(IllegalArgumentException.class, () -> new CustomJSONRepairProcessor(formatter, 0, ForkJoinPool.commonPool(), 16));
+		assertThrows(NullPointerException.class, () -> processor.subscribe(null));
+		assertThrows(NullPointerException.class, () -> processor.isSubscribed(null));
+
+		CollectingSubscriber subscriber = new CollectingSubscriber(0);
+		processor.subscribe(subscriber);
+		assertTrue(processor.isSubscribed(subscriber));
+		assertEquals(List.of(subscriber), processor.getSubscribers());
+		processor.close();
+	}
+
+	@Test
+	@DisplayName("Should publish a partial batch when the subscribers consumed all the results")
+	@Order(5)
+	public void shouldPublishPartialBatchWhenSubscribersAreIdle() throws InterruptedException {
+		CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+		CustomJSONRepairProcessor processor = new CustomJSONRepairProcessor(formatter);
+		processor.subscribe(subscriber);
+		subscriber.awaitSubscription();
+
+		TestSubscription subscription = new TestSubscription();
+		processor.onSubscribe(subscription);
+		assertEquals(Flow.defaultBufferSize(), subscription.requested.get());
+
+		processor.onNext("{id:1}");
+		assertTrue(subscriber.waitResults(1));
+		processor.onNext("{id:2}");
+		assertTrue(subscriber.waitResults(2));
+		assertEquals(1, subscriber.completed.getCount());
+
+		processor.onComplete();
+		assertTrue(subscriber.completed.await(30, TimeUnit.SECONDS));
+		assertNull(subscriber.error);
+	}
+
+	@Test
+	@DisplayName("Should cancel the upstream subscription when the last subscriber cancels")
+	@Order(6)
+	public void shouldCancelUpstreamWhenLastSubscriberCancels() throws InterruptedException {
+		CollectingSubscriber first = new CollectingSubscriber(Long.MAX_VALUE);
+		CollectingSubscriber second = new CollectingSubscriber(Long.MAX_VALUE);
+		CustomJSONRepairProcessor processor = new CustomJSONRepairProcessor(formatter, 10, executor, 16);
+		processor.subscribe(first);
+		processor.subscribe(second);
+
+		DemandPublisher publisher = new DemandPublisher(Integer.MAX_VALUE);
+		publisher.subscribe(processor);
+
+		assertTrue(first.waitResults(50));
+		first.subscription.cancel();
+		Thread.sleep(200);
+		assertEquals(1, publisher.cancelled.getCount());
+
+		second.subscription.cancel();
+		assertTrue(publisher.cancelled.await(30, TimeUnit.SECONDS));
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+		while(!processor.isClosed() && System.nanoTime() < deadline) Thread.sleep(10);
+		assertTrue(processor.isClosed());
+
+		TestSubscription subscription = new TestSubscription();
+		processor.onSubscribe(subscription);
+		assertTrue(subscription.cancelled.get());
+	}
+
+	@Test
+	@DisplayName("Should publish the error of upstream without waiting for a subscriber without demand")
+	@Order(7)
+	public void shouldPublishErrorWithoutWaitingForSubscriberWithoutDemand() throws InterruptedException {
+		CollectingSubscriber subscriber = new CollectingSubscriber(0);
+		CustomJSONRepairProcessor processor = new CustomJSONRepairProcessor(formatter, 10, executor, 16);
+		processor.subscribe(subscriber);
+
+		TestSubscription subscription = new TestSubscription();
+		processor.onSubscribe(subscription);
+		processor.onNext("{id:1}");
+		processor.onError(new IllegalStateException("Upstream error"));
+
+		assertTrue(subscriber.completed.await(30, TimeUnit.SECONDS));
+		assertEquals("Upstream error", subscriber.error.getMessage());
+		assertEquals(0, subscriber.results.size());
+		assertEquals(0, subscription.requested.get());
+	}
+
+	@Test
+	@DisplayName("Should publish the results on the thread of upstream, with an executor that runs the tasks on the caller")
+	@Order(8)
+	public void shouldPublishResultsOnThreadOfUpstream() {
+		CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+		CustomJSONRepairProcessor processor = new CustomJSONRepairProcessor(formatter, 2, Runnable::run, 16);
+		processor.subscribe(subscriber);
+
+		TestSubscription subscription = new TestSubscription();
+		processor.onSubscribe(subscription);
+		for(int i = 0; i < 5; i++) processor.onNext("{id:" + i + "}");
+		processor.onComplete();
+
+		assertEquals(0, subscriber.completed.getCount());
+		assertEquals(5, subscriber.results.size());
+		for(int i = 0; i < 5; i++) {
+			assertEquals(String.valueOf(i), subscriber.results.get(i).getValidJson().getAsJsonObject().get("id").getAsString());
+		}
+		assertTrue(subscription.requested.get() - 5 <= 16);
+	}
+
+	@Test
+	@DisplayName("Should publish an error to a duplicate subscriber and to a subscriber that requests zero results")
+	@Order(9)
+	public void shouldPublishErrorToInvalidSubscribers() throws InterruptedException {
+		CollectingSubscriber duplicate = new CollectingSubscriber(0);
+		CustomJSONRepairProcessor processor = new CustomJSONRepairProcessor(formatter, 10, executor, 16);
+		processor.subscribe(duplicate);
+		processor.subscribe(duplicate);
+
+		assertTrue(duplicate.completed.await(30, TimeUnit.SECONDS));
+		assertTrue(duplicate.error instanceof IllegalStateException);
+
+		CollectingSubscriber subscriber = new CollectingSubscriber(0);
+		CustomJSONRepairProcessor other = new CustomJSONRepairProcessor(formatter, 10, executor, 16);
+		other.subscribe(subscriber);
+		subscriber.awaitSubscription().request(0);
+
+		assertTrue(subscriber.completed.await(30, TimeUnit.SECONDS));
+		assertTrue(subscriber.error instanceof IllegalArgumentException);
+	}
+
+	@Test
+	@DisplayName("Should receive the signals of upstream and of the subscribers while a batch is repaired on the given pool")
+	@Order(10)
+	public void shouldReceiveSignalsWhileBatchIsRepaired() throws Exception {
+		CountDownLatch repairing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		List<ForkJoinPool> pools = new CopyOnWriteArrayList<>();
+		CustomJSONFormatterService blockingFormatter = new CustomJSONFormatterService() {
+
+			@Override
+			public List<RepairResult> repairAll(List<?> jsons, ForkJoinPool pool) {
+				pools.add(pool);
+				repairing.countDown();
+				try {
+					release.await(30, TimeUnit.SECONDS);
+				}catch(InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return super.repairAll(jsons, pool);
+			}
+		};
+
+		ForkJoinPool repairPool = new ForkJoinPool(2);
+		try {
+			CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+			CustomJSONRepairProcessor processor = new CustomJSONRepairProcessor(blockingFormatter, 2, repairPool, executor, 16);
+			processor.subscribe(subscriber);
+			subscriber.awaitSubscription();
+
+			//the subscriber is idle, so the first JSON is repaired at once
+			TestSubscription subscription = new TestSubscription();
+			processor.onSubscribe(subscription);
+			Future<?> firstBatch = executor.submit(() -> processor.onNext("{id:0}"));
+			assertTrue(repairing.await(30, TimeUnit.SECONDS));
+
+			//the repair of the first batch is blocked, but the signals still return
+			executor.submit(() -> {
+				processor.onNext("{id:1}");
+				processor.onNext("{id:2}");
+				subscriber.subscription.request(1);
+				processor.onComplete();
+			}).get(30, TimeUnit.SECONDS);
+			assertEquals(1, subscriber.completed.getCount());
+
+			release.countDown();
+			firstBatch.get(30, TimeUnit.SECONDS);
+			assertTrue(subscriber.completed.await(30, TimeUnit.SECONDS));
+			assertEquals(3, subscriber.results.size());
+			for(int i = 0; i < 3; i++) {
+				assertEquals(String.valueOf(i), subscriber.results.get(i).getValidJson().getAsJsonObject().get("id").getAsString());
+			}
+			assertEquals(List.of(repairPool, repairPool), pools);
+			assertFalse(repairPool.isShutdown());
+		}finally {
+			repairPool.shutdown();
+		}
+	}
+
+	@AfterAll
+	public void tearDown() {
+		executor.shutdownNow();
+		formatter = null;
+	}
+
+	/**
+	 * Subscriber that keeps all the results
+	 */
+	private static final class CollectingSubscriber implements Flow.Subscriber<RepairResult> {
+
+		private final List<RepairResult> results = new CopyOnWriteArrayList<>();
+		private final CountDownLatch completed = new CountDownLatch(1);
+		private final long initialDemand;
+
+		private volatile Flow.Subscription subscription;
+		private volatile Throwable error;
+
+		CollectingSubscriber(long initialDemand) {
+			this.initialDemand = initialDemand;
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			if(initialDemand > 0) subscription.request(initialDemand);
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(RepairResult result) {
+			results.add(result);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			error = throwable;
+			completed.countDown();
+		}
+
+		@Override
+		public void onComplete() {
+			completed.countDown();
+		}
+
+		Flow.Subscription awaitSubscription() throws InterruptedException {
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+			while(subscription == null && System.nanoTime() < deadline) Thread.sleep(10);
+			return subscription;
+		}
+
+		boolean waitResults(int count) throws InterruptedException {
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+			while(results.size() < count && System.nanoTime() < deadline) Thread.sleep(10);
+			return results.size() >= count;
+		}
+	}
+
+	/**
+	 * Publisher that emits malformed JSONs on its own thread, only while there is demand
+	 */
+	private final class DemandPublisher implements Flow.Publisher<String> {
+
+		private final int total;
+		private final AtomicLong requested = new AtomicLong();
+		private final AtomicLong emitted = new AtomicLong();
+		private final CountDownLatch cancelled = new CountDownLatch(1);
+
+		DemandPublisher(int total) {
+			this.total = total;
+		}
+
+		@Override
+		public void subscribe(Flow.Subscriber<? super String> subscriber) {
+			subscriber.onSubscribe(new Flow.Subscription() {
+				@Override
+				public void request(long n) {
+					requested.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+				}
+
+				@Override
+				public void cancel() {
+					cancelled.countDown();
+				}
+			});
+
+			executor.execute(() -> {
+				while(emitted.get() < total) {
+					if(cancelled.getCount() == 0) return;
+					if(emitted.get() < requested.get()) {
+						subscriber.onNext("{id:" + emitted.getAndIncrement() + "}");
+					}else {
+						Thread.onSpinWait();
+					}
+				}
+				subscriber.onComplete();
+			});
+		}
+	}
+
+	/**
+	 * Subscription that only records the demand and the cancellation
+	 */
+	private static final class TestSubscription implements Flow.Subscription {
+
+		private final AtomicBoolean cancelled = new AtomicBoolean();
+		private final AtomicLong requested = new AtomicLong();
+
+		@Override
+		public void request(long n) {
+			//no items are emitted
+			requested.addAndGet(n);
+		}
+
+		@Override
+		public void cancel() {
+			cancelled.set(true);
+		}
+	}
+}